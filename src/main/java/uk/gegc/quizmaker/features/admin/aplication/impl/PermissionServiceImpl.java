@@ -2,9 +2,11 @@ package uk.gegc.quizmaker.features.admin.aplication.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gegc.quizmaker.features.admin.aplication.PermissionService;
+import uk.gegc.quizmaker.features.user.domain.event.UserAuthoritiesChangedEvent;
 import uk.gegc.quizmaker.features.user.domain.model.Permission;
 import uk.gegc.quizmaker.features.user.domain.model.PermissionName;
 import uk.gegc.quizmaker.features.user.domain.model.Role;
@@ -23,6 +25,7 @@ public class PermissionServiceImpl implements PermissionService {
 
     private final PermissionRepository permissionRepository;
     private final RoleRepository roleRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Permission createPermission(String permissionName, String description, String resource, String action) {
@@ -78,6 +81,7 @@ public class PermissionServiceImpl implements PermissionService {
 
         role.getPermissions().add(permission);
         roleRepository.save(role);
+        eventPublisher.publishEvent(UserAuthoritiesChangedEvent.forAllUsers(this));
         log.info("Assigned permission {} to role {}", permission.getPermissionName(), role.getRoleName());
     }
 
@@ -91,6 +95,7 @@ public class PermissionServiceImpl implements PermissionService {
 
         role.getPermissions().remove(permission);
         roleRepository.save(role);
+        eventPublisher.publishEvent(UserAuthoritiesChangedEvent.forAllUsers(this));
         log.info("Removed permission {} from role {}", permission.getPermissionName(), role.getRoleName());
     }
 
@@ -145,6 +150,7 @@ public class PermissionServiceImpl implements PermissionService {
         }
 
         permissionRepository.delete(permission);
+        eventPublisher.publishEvent(UserAuthoritiesChangedEvent.forAllUsers(this));
         log.info("Deleted permission: {}", permission.getPermissionName());
     }
 
@@ -2,6 +2,7 @@ package uk.gegc.quizmaker.features.admin.aplication.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,7 @@ import uk.gegc.quizmaker.features.admin.aplication.PermissionService;
 import uk.gegc.quizmaker.features.admin.application.PolicyReconciliationService;
 import uk.gegc.quizmaker.features.admin.aplication.RoleService;
 import uk.gegc.quizmaker.features.admin.application.RolePermissionAuditService;
+import uk.gegc.quizmaker.features.user.domain.event.UserAuthoritiesChangedEvent;
 import uk.gegc.quizmaker.features.user.domain.model.*;
 import uk.gegc.quizmaker.features.user.domain.repository.PermissionRepository;
 import uk.gegc.quizmaker.features.user.domain.repository.RoleRepository;
@@ -42,6 +44,7 @@ public class RoleServiceImpl implements RoleService {
     private final RoleMapper roleMapper;
     private final RolePermissionAuditService auditService;
     private final PermissionUtil permissionUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public RoleDto createRole(CreateRoleRequest request) {
@@ -176,6 +179,7 @@ public class RoleServiceImpl implements RoleService {
 
         user.getRoles().add(role);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserAuthoritiesChangedEvent.forUser(this, user.getId()));
         
         // Log audit trail
         User currentUser = permissionUtil.getCurrentUser();
@@ -204,6 +208,7 @@ public class RoleServiceImpl implements RoleService {
 
         user.getRoles().remove(role);
         userRepository.save(user);
+        eventPublisher.publishEvent(UserAuthoritiesChangedEvent.forUser(this, user.getId()));
         
         // Log audit trail
         User currentUser = permissionUtil.getCurrentUser();
@@ -4,11 +4,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gegc.quizmaker.features.admin.application.PolicyReconciliationService;
 import uk.gegc.quizmaker.features.admin.aplication.PermissionService;
+import uk.gegc.quizmaker.features.user.domain.event.UserAuthoritiesChangedEvent;
 import uk.gegc.quizmaker.features.user.domain.model.Permission;
 import uk.gegc.quizmaker.features.user.domain.model.PermissionName;
 import uk.gegc.quizmaker.features.user.domain.model.Role;
@@ -31,6 +33,7 @@ public class PolicyReconciliationServiceImpl implements PolicyReconciliationServ
     private final PermissionService permissionService;
     private final ObjectMapper objectMapper;
     private final XssSanitizer xssSanitizer;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String MANIFEST_PATH = "policy/role-permission-manifest.json";
 
@@ -123,6 +126,9 @@ public class PolicyReconciliationServiceImpl implements PolicyReconciliationServ
 
             // Update role-permission mappings
             rolePermissionMappingsUpdated = updateRolePermissions(roleName, roleNode, errors);
+            if (rolePermissionMappingsUpdated > 0) {
+                eventPublisher.publishEvent(UserAuthoritiesChangedEvent.forAllUsers(this));
+            }
 
             return new ReconciliationResult(true, "Role reconciliation completed", 0, 0, 
                 rolesAdded, rolesUpdated, rolePermissionMappingsUpdated, errors);
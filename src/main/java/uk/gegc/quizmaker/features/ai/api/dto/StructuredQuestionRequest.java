@@ -58,6 +58,12 @@ public class StructuredQuestionRequest {
     @Positive(message = "Question count must be positive")
     private int questionCount;
     
+    /**
+     * Number of questions to generate per type, for composite requests that ask for several
+     * types in one call. Takes the place of questionType and questionCount when set.
+     */
+    private Map<QuestionType, Integer> questionsPerType;
+    
     /**
      * Difficulty level for questions
      */
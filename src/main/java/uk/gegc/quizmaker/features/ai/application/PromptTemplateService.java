@@ -3,6 +3,8 @@ package uk.gegc.quizmaker.features.ai.application;
 import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 
+import java.util.Map;
+
 /**
  * Service for building AI prompts for quiz generation
  */
@@ -38,6 +40,31 @@ public interface PromptTemplateService {
         return buildPromptForChunk(chunkContent, questionType, questionCount, difficulty, "en");
     }
 
+    /**
+     * Build a prompt for generating several question types from a document chunk in one response
+     *
+     * @param chunkContent     The content of the document chunk
+     * @param questionsPerType The number of questions to generate per type; types with no questions are skipped
+     * @param difficulty       The difficulty level for the questions
+     * @param targetLanguage   The language the AI should use for generated content
+     * @return Formatted prompt string for AI
+     */
+    String buildCompositePromptForChunk(
+            String chunkContent,
+            Map<QuestionType, Integer> questionsPerType,
+            Difficulty difficulty,
+            String targetLanguage
+    );
+
+    /**
+     * Fingerprint of every template that goes into a single-type prompt for the given question type,
+     * so callers can tell when a prompt would change without rendering it
+     *
+     * @param questionType The type of questions the prompt is built for
+     * @return Hex digest that changes whenever any of those templates changes
+     */
+    String templateVersion(QuestionType questionType);
+
     /**
      * Load a prompt template from resources
      *
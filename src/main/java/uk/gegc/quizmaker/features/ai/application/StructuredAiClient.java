@@ -33,6 +33,19 @@ public interface StructuredAiClient {
      */
     StructuredQuestionResponse generateQuestions(StructuredQuestionRequest request);
     
+    /**
+     * Generate questions for several types with one structured call per attempt.
+     * 
+     * The request's {@code questionsPerType} lists the requested types and counts. The response
+     * may hold fewer questions than requested for some types; callers top those up with
+     * {@link #generateQuestions} for the affected types only.
+     * 
+     * @param request The generation request, with {@code questionsPerType} set
+     * @return Response with validated questions of the requested types
+     * @throws uk.gegc.quizmaker.shared.exception.AiServiceException if generation fails
+     */
+    StructuredQuestionResponse generateCompositeQuestions(StructuredQuestionRequest request);
+    
     /**
      * Regenerate questions for specific missing types.
      * Used in redistribution logic when initial generation didn't produce all requested types.
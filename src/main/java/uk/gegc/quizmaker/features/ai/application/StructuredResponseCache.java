@@ -0,0 +1,25 @@
+package uk.gegc.quizmaker.features.ai.application;
+
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestionResponse;
+
+import java.util.Optional;
+
+/**
+ * Content-addressed cache of validated structured generation responses.
+ * <p>
+ * The cache is an optimization only: implementations treat lookup and store failures as misses and
+ * never fail the generation that consulted them.
+ * </p>
+ */
+public interface StructuredResponseCache {
+
+    /**
+     * @return the stored response for the key, or empty when absent, expired or unreadable
+     */
+    Optional<StructuredQuestionResponse> get(StructuredResponseCacheKey key);
+
+    /**
+     * Stores a validated response under the key, replacing any previous entry.
+     */
+    void put(StructuredResponseCacheKey key, StructuredQuestionResponse response);
+}
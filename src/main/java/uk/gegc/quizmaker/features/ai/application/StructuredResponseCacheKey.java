@@ -0,0 +1,70 @@
+package uk.gegc.quizmaker.features.ai.application;
+
+import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
+import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * SHA-256 digest of every input that shapes a structured generation answer: prompt templates,
+ * response schema, model, chunk content and the requested type, count, difficulty and language.
+ * Any change to one of them yields a different key, so stale entries are never served.
+ */
+public record StructuredResponseCacheKey(String digest) {
+
+    /**
+     * Bumped whenever the stored payload format changes.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    public StructuredResponseCacheKey {
+        if (digest == null || digest.length() != 64) {
+            throw new IllegalArgumentException("digest must be a 64-character SHA-256 hex string");
+        }
+    }
+
+    public static StructuredResponseCacheKey of(
+            String promptTemplateVersion,
+            String schemaJson,
+            String model,
+            String chunkContent,
+            QuestionType questionType,
+            int questionCount,
+            Difficulty difficulty,
+            String language
+    ) {
+        Objects.requireNonNull(questionType, "questionType must not be null");
+        Objects.requireNonNull(difficulty, "difficulty must not be null");
+        MessageDigest digest = sha256();
+        update(digest, String.valueOf(FORMAT_VERSION));
+        update(digest, promptTemplateVersion);
+        update(digest, schemaJson);
+        update(digest, model);
+        update(digest, chunkContent);
+        update(digest, questionType.name());
+        update(digest, String.valueOf(questionCount));
+        update(digest, difficulty.name());
+        update(digest, language);
+        return new StructuredResponseCacheKey(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    // Length-prefixed so adjacent fields cannot run into each other
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value == null ? -1 : bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -42,10 +42,13 @@ import uk.gegc.quizmaker.features.quiz.domain.model.GenerationStatus;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationJob;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationJobRepository;
 import uk.gegc.quizmaker.features.quiz.application.generation.ProviderUsageService;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCancellationRegistry;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
 import uk.gegc.quizmaker.features.billing.application.InternalBillingService;
 import uk.gegc.quizmaker.features.quiz.domain.model.BillingState;
+import uk.gegc.quizmaker.shared.config.AiGenerationConfig;
 import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
 import uk.gegc.quizmaker.shared.exception.AiServiceException;
 import uk.gegc.quizmaker.shared.exception.DocumentNotFoundException;
@@ -56,9 +59,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -86,6 +91,9 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
     private final QuestionContentValidationService questionContentValidationService;
     private final ProviderUsageService providerUsageService;
     private final AiProviderTaskScheduler aiProviderTaskScheduler;
+    private final QuizGenerationCheckpointService checkpointService;
+    private final QuizGenerationCancellationRegistry cancellationRegistry;
+    private final AiGenerationConfig generationConfig;
 
     // In-memory tracking for generation progress (will be replaced with database in Phase 2)
     private final Map<UUID, GenerationProgress> generationProgress = new ConcurrentHashMap<>();
@@ -101,7 +109,7 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
             finishCancelledGeneration(jobId);
             return;
         } catch (RuntimeException exception) {
-            if (isJobCancelled(jobId)) {
+            if (isJobCancellationPersisted(jobId)) {
                 finishCancelledGeneration(jobId);
                 return;
             }
@@ -123,8 +131,10 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
         log.info("Starting quiz generation for job {} with document {}", jobId, request.documentId());
         log.info("Thread: {}, Transaction: {}", Thread.currentThread().getName(), 
                 org.springframework.transaction.support.TransactionSynchronizationManager.isActualTransactionActive() ? "ACTIVE" : "NONE");
-        List<CompletableFuture<List<Question>>> chunkFutures = new ArrayList<>();
+        Map<Integer, CompletableFuture<List<Question>>> chunkFutures = new HashMap<>();
         ChunkFutureCancellationGroup chunkCancellationGroup = new ChunkFutureCancellationGroup(jobId);
+        // A cancel request handled on this node aborts in-flight provider tasks without waiting for a poll
+        cancellationRegistry.open(jobId).onCancel(chunkCancellationGroup::cancelIncomplete);
 
         try {
             // Get the job from database and update status in a short transaction
@@ -164,38 +174,50 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
             log.info("Processing {} chunks for document {} with {} total tasks ({} question types requested)", 
                     chunks.size(), request.documentId(), totalTasks, requestedTypeCount);
 
-            // Process chunks asynchronously
-            for (DocumentChunk chunk : chunks) {
+            // Chunks checkpointed by an earlier run of this job are reused instead of regenerated
+            Map<Integer, List<Question>> chunkQuestions = new HashMap<>();
+            loadCheckpointedChunks(jobId, chunks.size())
+                    .forEach((chunkIndex, questions) -> chunkQuestions.put(chunkIndex, new ArrayList<>(questions)));
+            int processedChunks = chunkQuestions.size();
+            if (processedChunks > 0) {
+                log.info("Resuming job {} with {} of {} chunks already checkpointed", jobId, processedChunks, chunks.size());
+                updateJobChunkProgressSafely(jobId, processedChunks,
+                    String.format("Resumed %d/%d checkpointed chunks", processedChunks, chunks.size()));
+            }
+
+            // Process chunks asynchronously; results are queued as each chunk finishes
+            BlockingQueue<Integer> completedChunks = new LinkedBlockingQueue<>();
+            for (int chunkIndex = 0; chunkIndex < chunks.size(); chunkIndex++) {
+                if (chunkQuestions.containsKey(chunkIndex)) {
+                    continue;
+                }
                 throwIfJobCancelled(jobId);
                 CompletableFuture<List<Question>> chunkFuture = generateQuestionsFromChunkWithJob(
-                        chunk,
+                        chunks.get(chunkIndex),
                         request.questionsPerType(),
                         request.difficulty(),
                         jobId,
                         request.language()
                 );
-                chunkFutures.add(chunkFuture);
+                chunkFutures.put(chunkIndex, chunkFuture);
                 chunkCancellationGroup.track(chunkFuture);
+                int completedIndex = chunkIndex;
+                chunkFuture.whenComplete((ignored, failure) -> completedChunks.add(completedIndex));
                 if (chunkCancellationGroup.isCancellationObserved()) {
                     throw new QuizGenerationCancelledException();
                 }
             }
 
-            // Collect all generated questions with enhanced tracking
-            List<Question> allQuestions = new ArrayList<>();
-            Map<Integer, List<Question>> chunkQuestions = new HashMap<>();
-
-            int processedChunks = 0;
-
-            // Collect results from all chunks
-            for (int chunkIndex = 0; chunkIndex < chunkFutures.size(); chunkIndex++) {
+            // Collect results in completion order so one slow chunk does not hold back the others
+            for (int remaining = chunkFutures.size(); remaining > 0; remaining--) {
+                int chunkIndex = awaitNextCompletedChunk(completedChunks);
                 try {
-                    CompletableFuture<List<Question>> future = chunkFutures.get(chunkIndex);
-                    List<Question> chunkQuestionsList = future.get();
+                    // Already complete; get() keeps the exception shape the handlers below expect
+                    List<Question> chunkQuestionsList = chunkFutures.get(chunkIndex).get();
                     
                     if (!chunkQuestionsList.isEmpty()) {
-                        allQuestions.addAll(chunkQuestionsList);
                         chunkQuestions.put(chunkIndex, chunkQuestionsList);
+                        checkpointChunk(jobId, chunkIndex, chunkQuestionsList);
                     }
                     
                     processedChunks++;
@@ -208,7 +230,7 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
                     propagateProviderUsagePersistenceFailure(e);
                     propagateGenerationCancellation(e);
                     if (chunkCancellationGroup.isCancellationObserved()
-                            || (containsFutureCancellation(e) && isJobCancelled(jobId))) {
+                            || (containsFutureCancellation(e) && isJobCancellationPersisted(jobId))) {
                         throw new QuizGenerationCancelledException();
                     }
                     log.error("Error processing chunk {} for job {}", chunkIndex, jobId, e);
@@ -222,7 +244,7 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
 
             throwIfJobCancelled(jobId);
 
-            if (allQuestions.isEmpty()) {
+            if (chunkQuestions.isEmpty()) {
                 throw new AiServiceException("Failed to generate any questions for job " + jobId + ". All generation attempts failed.");
             }
 
@@ -251,7 +273,6 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
                         missingTypes,
                         request.difficulty(),
                         chunkQuestions,
-                        allQuestions,
                         generatedByType,
                         jobId,
                         request.language()
@@ -332,7 +353,7 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
             finishCancelledGeneration(jobId);
         } catch (Exception e) {
             propagateProviderUsagePersistenceFailure(e);
-            if (isJobCancelled(jobId)) {
+            if (isJobCancellationPersisted(jobId)) {
                 chunkCancellationGroup.cancelIncomplete();
                 finishCancelledGeneration(jobId);
                 return;
@@ -381,6 +402,8 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
             generationProgress.remove(jobId);
 
             throw new AiServiceException("Failed to generate quiz: " + e.getMessage(), e);
+        } finally {
+            cancellationRegistry.close(jobId);
         }
     }
 
@@ -423,6 +446,10 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
                             chunk.getChunkIndex(), chunk.getContent().length());
                 }
 
+                Map<QuestionType, List<Question>> compositeQuestions = generationConfig.getCompositeCalls().isEnabled()
+                        ? generateCompositeQuestionsForChunk(chunk, questionsPerType, difficulty, jobId, language)
+                        : Map.of();
+
                 for (Map.Entry<QuestionType, Integer> entry : questionsPerType.entrySet()) {
                     throwIfJobCancelled(jobId);
                     QuestionType questionType = entry.getKey();
@@ -432,15 +459,20 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
                         boolean success = false;
                         boolean cancelled = false;
                         try {
-                            List<Question> questions = generateQuestionsByTypeWithFallbacks(
-                                    chunk.getContent(),
-                                    questionType,
-                                    questionCount,
-                                    difficulty,
-                                    chunk.getChunkIndex(),
-                                    jobId,
-                                    language
-                            );
+                            List<Question> questions = new ArrayList<>(
+                                    compositeQuestions.getOrDefault(questionType, List.of()));
+                            if (questions.size() < questionCount) {
+                                // Only the shortfall goes through the per-type path
+                                questions.addAll(generateQuestionsByTypeWithFallbacks(
+                                        chunk.getContent(),
+                                        questionType,
+                                        questionCount - questions.size(),
+                                        difficulty,
+                                        chunk.getChunkIndex(),
+                                        jobId,
+                                        language
+                                ));
+                            }
                             
                             if (!questions.isEmpty()) {
                                 allQuestions.addAll(questions);
@@ -496,6 +528,88 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
         });
     }
 
+    /**
+     * Generates every requested type of a chunk with one composite structured call and splits the
+     * result per type, capped at each type's requested count. Returns an empty map when fewer than
+     * two types are requested or the call fails, leaving the per-type path to cover the chunk.
+     */
+    private Map<QuestionType, List<Question>> generateCompositeQuestionsForChunk(
+            DocumentChunk chunk,
+            Map<QuestionType, Integer> questionsPerType,
+            Difficulty difficulty,
+            UUID jobId,
+            String language
+    ) {
+        Map<QuestionType, Integer> requested = new EnumMap<>(QuestionType.class);
+        questionsPerType.forEach((type, count) -> {
+            if (type != null && count != null && count > 0) {
+                requested.put(type, count);
+            }
+        });
+        if (requested.size() < 2) {
+            return Map.of();
+        }
+
+        try {
+            throwIfJobCancelled(jobId);
+            if (jobId != null) {
+                recordAiCallStarted(jobId);
+            }
+            throwIfJobCancelled(jobId);
+            updateJobStatusSafely(jobId, "Generating " + requested.keySet() + " questions for chunk "
+                    + chunk.getChunkIndex());
+
+            StructuredQuestionRequest structuredRequest = StructuredQuestionRequest.builder()
+                    .chunkContent(chunk.getContent())
+                    .chunkIndex(chunk.getChunkIndex())
+                    .questionsPerType(requested)
+                    .difficulty(difficulty)
+                    .language(language)
+                    .metadata(jobId != null ? Map.of("jobId", jobId.toString()) : Map.of())
+                    .cancellationChecker(jobId != null ? () -> isJobCancelled(jobId) : null)
+                    .providerAttemptBudget(new ProviderAttemptBudget(rateLimitConfig.getMaxAttemptsPerTask()))
+                    .providerUsageObserver(jobId != null ? usage -> recordProviderUsage(jobId, usage) : null)
+                    .build();
+
+            StructuredQuestionResponse structuredResponse =
+                    structuredAiClient.generateCompositeQuestions(structuredRequest);
+            throwIfJobCancelled(jobId);
+            if (structuredResponse == null || structuredResponse.getQuestions() == null) {
+                return Map.of();
+            }
+
+            if (structuredResponse.getWarnings() != null && !structuredResponse.getWarnings().isEmpty()) {
+                log.warn("Composite generation completed with {} warnings for chunk {}: {}",
+                        structuredResponse.getWarnings().size(), chunk.getChunkIndex(),
+                        structuredResponse.getWarnings());
+            }
+
+            Map<QuestionType, List<Question>> questionsByType = new EnumMap<>(QuestionType.class);
+            for (Question question : convertStructuredQuestions(structuredResponse.getQuestions())) {
+                List<Question> typed = questionsByType.computeIfAbsent(question.getType(), type -> new ArrayList<>());
+                if (typed.size() < requested.getOrDefault(question.getType(), 0)) {
+                    typed.add(question);
+                }
+            }
+
+            log.info("Composite generation for chunk {} returned {} of requested {}",
+                    chunk.getChunkIndex(),
+                    questionsByType.entrySet().stream()
+                            .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().size())),
+                    requested);
+            return questionsByType;
+
+        } catch (QuizGenerationCancelledException exception) {
+            throw exception;
+        } catch (Exception e) {
+            propagateProviderUsagePersistenceFailure(e);
+            throwIfJobCancelled(jobId);
+            log.warn("Composite generation failed for chunk {}, falling back to per-type calls: {}",
+                    chunk.getChunkIndex(), e.getMessage());
+            return Map.of();
+        }
+    }
+
     public CompletableFuture<List<Question>> generateQuestionsFromChunkWithJob(
             DocumentChunk chunk,
             Map<QuestionType, Integer> questionsPerType,
@@ -875,7 +989,6 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
             Map<QuestionType, Integer> missingTypes,
             Difficulty difficulty,
             Map<Integer, List<Question>> chunkQuestions,
-            List<Question> allQuestions,
             Map<QuestionType, Integer> generatedByType,
             UUID jobId,
             String targetLanguage) {
@@ -925,8 +1038,6 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
                     );
 
                     if (!redistributedQuestions.isEmpty()) {
-                        allQuestions.addAll(redistributedQuestions);
-                        
                         // Add to chunk questions (append to existing)
                         chunkQuestions.computeIfAbsent(chunk.getChunkIndex(), k -> new ArrayList<>())
                                      .addAll(redistributedQuestions);
@@ -1499,24 +1610,25 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
     /**
      * Check if a job has been cancelled.
      * Used for cooperative cancellation - the generator checks this before each LLM call
-     * and stops processing if the job is cancelled.
+     * and stops processing if the job is cancelled. Reads the in-memory token, so it is cheap
+     * enough for hot paths; cancellation from another node is seen within the status poll interval.
      */
     private boolean isJobCancelled(UUID jobId) {
         if (jobId == null) {
             return false;
         }
-        
-        try {
-            Optional<QuizGenerationJob> job = jobRepository.findById(jobId);
-            if (job.isEmpty()) {
-                return false;
-            }
-            
-            return job.get().getStatus() == GenerationStatus.CANCELLED;
-        } catch (Exception e) {
-            log.error("Error checking cancellation status for job {}", jobId, e);
-            return false; // On error, continue processing rather than aborting
+        return cancellationRegistry.isCancelled(jobId);
+    }
+
+    /**
+     * Check the persisted job status. Used where the worker decides between failing a job and
+     * treating it as cancelled, so a throttled view never turns a cancellation into a failure.
+     */
+    private boolean isJobCancellationPersisted(UUID jobId) {
+        if (jobId == null) {
+            return false;
         }
+        return cancellationRegistry.isCancelledPersisted(jobId);
     }
 
     private void throwIfJobCancelled(UUID jobId) {
@@ -1525,6 +1637,41 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
         }
     }
 
+    private int awaitNextCompletedChunk(BlockingQueue<Integer> completedChunks) {
+        try {
+            return completedChunks.take();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new AiServiceException("Interrupted while waiting for chunk results", exception);
+        }
+    }
+
+    /**
+     * Chunk checkpoints only speed up a re-dispatched job, so failing to read or write one never fails generation.
+     */
+    private Map<Integer, List<Question>> loadCheckpointedChunks(UUID jobId, int chunkCount) {
+        try {
+            Map<Integer, List<Question>> checkpointed = new HashMap<>();
+            checkpointService.findChunks(jobId).forEach((chunkIndex, questions) -> {
+                if (chunkIndex < chunkCount && !questions.isEmpty()) {
+                    checkpointed.put(chunkIndex, questions);
+                }
+            });
+            return checkpointed;
+        } catch (RuntimeException exception) {
+            log.warn("Unable to load chunk checkpoints for job {}; regenerating all chunks", jobId, exception);
+            return Map.of();
+        }
+    }
+
+    private void checkpointChunk(UUID jobId, int chunkIndex, List<Question> questions) {
+        try {
+            checkpointService.saveChunk(jobId, chunkIndex, questions);
+        } catch (RuntimeException exception) {
+            log.warn("Unable to checkpoint chunk {} for job {}", chunkIndex, jobId, exception);
+        }
+    }
+
     private void finishCancelledGeneration(UUID jobId) {
         generationProgress.remove(jobId);
         log.info("Generation worker stopped because cancellation won for job {}", jobId);
@@ -1585,7 +1732,7 @@ public class AiQuizGenerationServiceImpl implements AiQuizGenerationService {
             future.whenComplete((ignored, failure) -> {
                 if (hasGenerationCancellation(failure)
                         || (future.isCancelled()
-                            && (isCancellationObserved() || isJobCancelled(jobId)))) {
+                            && (isCancellationObserved() || isJobCancellationPersisted(jobId)))) {
                     cancelIncomplete();
                 }
             });
@@ -0,0 +1,194 @@
+package uk.gegc.quizmaker.features.ai.application.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestion;
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestionResponse;
+import uk.gegc.quizmaker.features.ai.application.StructuredResponseCache;
+import uk.gegc.quizmaker.features.ai.application.StructuredResponseCacheKey;
+import uk.gegc.quizmaker.features.ai.domain.model.StructuredResponseCacheEntry;
+import uk.gegc.quizmaker.features.ai.domain.repository.StructuredResponseCacheEntryRepository;
+import uk.gegc.quizmaker.shared.config.AiResponseCacheConfig;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Database-backed {@link StructuredResponseCache}, shared by every node. Entries expire after the
+ * configured TTL; a scheduled sweep removes expired rows and then the least recently used rows
+ * beyond the configured entry bound.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "ai.response-cache.enabled", havingValue = "true")
+public class DatabaseStructuredResponseCache implements StructuredResponseCache {
+
+    private static final TypeReference<List<StructuredQuestion>> QUESTIONS_TYPE = new TypeReference<>() {
+    };
+
+    private final StructuredResponseCacheEntryRepository repository;
+    private final ObjectMapper objectMapper;
+    private final AiResponseCacheConfig config;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter storedCounter;
+    private final Counter errorCounter;
+    private final Counter expiredCounter;
+    private final Counter evictedCounter;
+
+    public DatabaseStructuredResponseCache(
+            StructuredResponseCacheEntryRepository repository,
+            ObjectMapper objectMapper,
+            AiResponseCacheConfig config,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("systemClock") Clock clock,
+            MeterRegistry meterRegistry
+    ) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.config = config;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.hitCounter = counter(meterRegistry, "hit");
+        this.missCounter = counter(meterRegistry, "miss");
+        this.storedCounter = counter(meterRegistry, "stored");
+        this.errorCounter = counter(meterRegistry, "error");
+        this.expiredCounter = counter(meterRegistry, "expired");
+        this.evictedCounter = counter(meterRegistry, "evicted");
+        Gauge.builder("ai.response.cache.hit.ratio", this, DatabaseStructuredResponseCache::hitRatio)
+                .description("Share of structured generation cache lookups served from the cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<StructuredQuestionResponse> get(StructuredResponseCacheKey key) {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            Optional<String> payload = transactionTemplate.execute(status -> {
+                Optional<StructuredResponseCacheEntry> entry = repository.findById(key.digest());
+                if (entry.isEmpty() || entry.get().isExpired(now)) {
+                    return Optional.<String>empty();
+                }
+                repository.touch(key.digest(), now);
+                return Optional.of(entry.get().getPayload());
+            });
+            if (payload == null || payload.isEmpty()) {
+                recordMiss();
+                return Optional.empty();
+            }
+
+            List<StructuredQuestion> questions = objectMapper.readValue(payload.get(), QUESTIONS_TYPE);
+            hits.incrementAndGet();
+            hitCounter.increment();
+            // No provider tokens are spent on a hit
+            return Optional.of(StructuredQuestionResponse.builder()
+                    .questions(new ArrayList<>(questions))
+                    .warnings(new ArrayList<>())
+                    .tokensUsed(0L)
+                    .schemaValid(true)
+                    .build());
+        } catch (Exception e) {
+            errorCounter.increment();
+            recordMiss();
+            log.warn("Structured response cache lookup failed; generating without the cache: {}",
+                    e.getClass().getSimpleName());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(StructuredResponseCacheKey key, StructuredQuestionResponse response) {
+        if (response == null || response.getQuestions() == null || response.getQuestions().isEmpty()) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(response.getQuestions());
+            int questionCount = response.getQuestions().size();
+            LocalDateTime now = LocalDateTime.now(clock);
+            LocalDateTime expiresAt = now.plus(config.getTtl());
+            transactionTemplate.executeWithoutResult(status -> repository.findById(key.digest()).ifPresentOrElse(
+                    entry -> entry.refresh(payload, questionCount, now, expiresAt),
+                    () -> repository.save(new StructuredResponseCacheEntry(
+                            key.digest(), payload, questionCount, now, expiresAt))));
+            storedCounter.increment();
+        } catch (JsonProcessingException e) {
+            errorCounter.increment();
+            log.warn("Structured response could not be serialized for the cache");
+        } catch (Exception e) {
+            // A concurrent generation for the same key may have stored it first
+            errorCounter.increment();
+            log.debug("Structured response cache store skipped: {}", e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Removes expired entries, then the least recently used entries beyond the configured bound.
+     *
+     * @return number of removed entries
+     */
+    @Scheduled(fixedDelayString = "${ai.response-cache.eviction-fixed-delay-seconds:600}000")
+    public int evict() {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            Integer expired = transactionTemplate.execute(status -> repository.deleteExpired(now));
+            int expiredCount = expired == null ? 0 : expired;
+            expiredCounter.increment(expiredCount);
+
+            long overflow = repository.count() - config.getMaxEntries();
+            int evictedCount = 0;
+            if (overflow > 0) {
+                List<String> keys = repository.findLeastRecentlyUsedKeys(
+                        PageRequest.of(0, (int) Math.min(overflow, Integer.MAX_VALUE)));
+                transactionTemplate.executeWithoutResult(status -> repository.deleteAllByIdInBatch(keys));
+                evictedCount = keys.size();
+                evictedCounter.increment(evictedCount);
+            }
+
+            if (expiredCount + evictedCount > 0) {
+                log.info("Structured response cache removed {} expired and {} least recently used entries",
+                        expiredCount, evictedCount);
+            }
+            return expiredCount + evictedCount;
+        } catch (Exception e) {
+            log.error("Unable to evict structured response cache entries", e);
+            return 0;
+        }
+    }
+
+    double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private void recordMiss() {
+        misses.incrementAndGet();
+        missCounter.increment();
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("ai.response.cache.operations")
+                .description("Structured generation response cache operations")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -12,10 +12,15 @@ import uk.gegc.quizmaker.shared.validation.GenerationLanguagePolicy;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of PromptTemplateService for building AI prompts
@@ -41,6 +46,7 @@ public class PromptTemplateServiceImpl implements PromptTemplateService {
 
     private final ResourceLoader resourceLoader;
     private final Map<String, String> templateCache = new ConcurrentHashMap<>();
+    private final Map<QuestionType, String> templateVersions = new ConcurrentHashMap<>();
 
     @Override
     public String buildPromptForChunk(
@@ -97,6 +103,98 @@ public class PromptTemplateServiceImpl implements PromptTemplateService {
                 + delimiters.end();
     }
 
+    @Override
+    public String buildCompositePromptForChunk(
+            String chunkContent,
+            Map<QuestionType, Integer> questionsPerType,
+            Difficulty difficulty,
+            String targetLanguage
+    ) {
+        if (chunkContent == null) {
+            throw new IllegalArgumentException("Chunk content cannot be null");
+        }
+        if (chunkContent.trim().isEmpty()) {
+            throw new IllegalArgumentException("Chunk content cannot be empty");
+        }
+        if (difficulty == null) {
+            throw new IllegalArgumentException("Difficulty cannot be null");
+        }
+        if (questionsPerType == null) {
+            throw new IllegalArgumentException("Questions per type cannot be null");
+        }
+
+        Map<QuestionType, Integer> plan = new EnumMap<>(QuestionType.class);
+        questionsPerType.forEach((questionType, questionCount) -> {
+            if (questionType != null && questionCount != null && questionCount > 0) {
+                plan.put(questionType, questionCount);
+            }
+        });
+        if (plan.isEmpty()) {
+            throw new IllegalArgumentException("At least one question type with a positive count is required");
+        }
+
+        String language = GenerationLanguagePolicy.requireSupportedOrDefault(targetLanguage);
+        int totalCount = plan.values().stream().mapToInt(Integer::intValue).sum();
+
+        String context = renderTrustedTemplate(
+                loadPromptTemplate("base/composite-context-template.txt"),
+                Map.of(
+                        "{questionType}", plan.keySet().stream().map(Enum::name).collect(Collectors.joining(", ")),
+                        "{questionCount}", String.valueOf(totalCount),
+                        "{difficulty}", difficulty.name(),
+                        "{language}", language
+                ),
+                "base/composite-context-template.txt");
+
+        StringBuilder prompt = new StringBuilder(context).append("\n\nQUESTION PLAN:");
+        plan.forEach((questionType, questionCount) -> prompt
+                .append("\n- ").append(questionType.name())
+                .append(": exactly ").append(questionCount)
+                .append(" questions in the \"").append(questionType.name()).append("\" array"));
+
+        plan.forEach((questionType, questionCount) -> prompt
+                .append("\n\nQUESTION TYPE CONTRACT (").append(questionType.name()).append("):\n")
+                .append(renderTrustedTemplate(
+                        loadPromptTemplate("question-types/" + getQuestionTypeTemplateName(questionType)),
+                        Map.of(
+                                "{questionType}", questionType.name(),
+                                "{questionCount}", String.valueOf(questionCount),
+                                "{difficulty}", difficulty.name(),
+                                "{language}", language
+                        ),
+                        "question type " + questionType)));
+
+        SourceDelimiters delimiters = createSourceDelimiters(chunkContent);
+        return prompt
+                .append("\n\nUNTRUSTED DOCUMENT SOURCE:\n")
+                .append(delimiters.start())
+                .append("\n")
+                .append(chunkContent)
+                .append("\n")
+                .append(delimiters.end())
+                .toString();
+    }
+
+    @Override
+    public String templateVersion(QuestionType questionType) {
+        if (questionType == null) {
+            throw new IllegalArgumentException("Question type cannot be null");
+        }
+        return templateVersions.computeIfAbsent(questionType, type -> {
+            MessageDigest digest = sha256();
+            for (String templateName : List.of(
+                    "base/system-prompt.txt",
+                    "base/context-template.txt",
+                    "question-types/" + getQuestionTypeTemplateName(type))) {
+                digest.update(templateName.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(loadPromptTemplate(templateName).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        });
+    }
+
     @Override
     public String loadPromptTemplate(String templateName) {
         return templateCache.computeIfAbsent(templateName, this::loadTemplateFromResources);
@@ -152,6 +250,14 @@ public class PromptTemplateServiceImpl implements PromptTemplateService {
         }
     }
 
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
     private String getQuestionTypeTemplateName(QuestionType questionType) {
         return switch (questionType) {
             case MCQ_SINGLE -> "mcq-single.txt";
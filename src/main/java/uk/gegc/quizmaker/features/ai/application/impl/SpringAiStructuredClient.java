@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.messages.SystemMessage;
@@ -28,6 +29,8 @@ import uk.gegc.quizmaker.features.ai.application.ProviderAttemptBudgetExhaustedE
 import uk.gegc.quizmaker.features.ai.application.ProviderUsageObservation;
 import uk.gegc.quizmaker.features.ai.application.ProviderUsagePersistenceException;
 import uk.gegc.quizmaker.features.ai.application.StructuredAiClient;
+import uk.gegc.quizmaker.features.ai.application.StructuredResponseCache;
+import uk.gegc.quizmaker.features.ai.application.StructuredResponseCacheKey;
 import uk.gegc.quizmaker.features.ai.infra.schema.QuestionSchemaRegistry;
 import uk.gegc.quizmaker.features.question.application.FillGapContentValidator;
 import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
@@ -35,13 +38,16 @@ import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
 import uk.gegc.quizmaker.shared.exception.AIResponseParseException;
 import uk.gegc.quizmaker.shared.exception.AiServiceException;
+import uk.gegc.quizmaker.shared.validation.GenerationLanguagePolicy;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -84,19 +90,92 @@ public class SpringAiStructuredClient implements StructuredAiClient {
      */
     @Value("${spring.ai.openai.chat.options.max-completion-tokens:16000}")
     private Integer maxCompletionTokens;
+
+    /**
+     * Model the prompts are sent to; part of the response cache key.
+     */
+    @Value("${spring.ai.openai.chat.options.model:}")
+    private String model;
+
+    /**
+     * Present only when ai.response-cache.enabled is set.
+     */
+    @Autowired(required = false)
+    private StructuredResponseCache responseCache;
     
     @Override
     public StructuredQuestionResponse generateQuestions(StructuredQuestionRequest request) {
         validateRequest(request);
-        
+
+        StructuredResponseCacheKey cacheKey = responseCacheKey(request);
+        if (cacheKey != null) {
+            Optional<StructuredQuestionResponse> cached = responseCache.get(cacheKey);
+            if (cached.isPresent()) {
+                log.info("Served {} structured questions of type {} from the response cache",
+                        cached.get().getQuestions().size(), request.getQuestionType());
+                return cached.get();
+            }
+        }
+
+        StructuredQuestionResponse response = generateWithRetries(
+                request,
+                request.getQuestionCount() + " " + request.getQuestionType(),
+                this::attemptGeneration);
+
+        // Short responses are left out so a retry asks the provider again instead of replaying them
+        if (cacheKey != null && response.getQuestions().size() >= request.getQuestionCount()) {
+            responseCache.put(cacheKey, response);
+        }
+        return response;
+    }
+
+    /**
+     * Key under which the response to this request is cached, or {@code null} when caching is off.
+     */
+    private StructuredResponseCacheKey responseCacheKey(StructuredQuestionRequest request) {
+        if (responseCache == null) {
+            return null;
+        }
+        try {
+            return StructuredResponseCacheKey.of(
+                    promptTemplateService.templateVersion(request.getQuestionType()),
+                    schemaRegistry.getAiSchema(request.getQuestionType(), request.getDifficulty()).json(),
+                    model,
+                    request.getChunkContent(),
+                    request.getQuestionType(),
+                    request.getQuestionCount(),
+                    request.getDifficulty(),
+                    GenerationLanguagePolicy.requireSupportedOrDefault(request.getLanguage()));
+        } catch (RuntimeException exception) {
+            log.debug("Structured response cache bypassed: {}", exception.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    @Override
+    public StructuredQuestionResponse generateCompositeQuestions(StructuredQuestionRequest request) {
+        validateCompositeRequest(request);
+        return generateWithRetries(
+                request,
+                "composite " + request.getQuestionsPerType(),
+                this::attemptCompositeGeneration);
+    }
+
+    /**
+     * Run structured generation attempts with the shared retry, backoff, budget and cancellation rules.
+     */
+    private StructuredQuestionResponse generateWithRetries(
+            StructuredQuestionRequest request,
+            String requestSummary,
+            Function<StructuredQuestionRequest, StructuredQuestionResponse> attempt) {
         int maxRetries = rateLimitConfig.getMaxRetries();
         int retryCount = 0;
         
         while (retryCount < maxRetries) {
             // Positive retry waits poll this same cooperative cancellation signal.
             if (isCancellationRequested(request.getCancellationChecker())) {
-                log.info("Generation cancelled before attempt {} for {} type {}",
-                        retryCount + 1, request.getQuestionCount(), request.getQuestionType());
+                log.info("Generation cancelled before attempt {} for {}",
+                        retryCount + 1, requestSummary);
                 return cancelledResponse();
             }
 
@@ -106,7 +185,7 @@ public class SpringAiStructuredClient implements StructuredAiClient {
             }
             
             try {
-                return attemptGeneration(request);
+                return attempt.apply(request);
             } catch (ProviderUsagePersistenceException exception) {
                 throw exception;
             } catch (ProviderAttemptBudgetExhaustedException exception) {
@@ -134,10 +213,9 @@ public class SpringAiStructuredClient implements StructuredAiClient {
                         if (!waitForRetry(
                                 retryDecision.delayMs(),
                                 request.getCancellationChecker())) {
-                            log.info("Generation cancelled during retry wait after attempt {} for {} type {}",
+                            log.info("Generation cancelled during retry wait after attempt {} for {}",
                                     retryCount + 1,
-                                    request.getQuestionCount(),
-                                    request.getQuestionType());
+                                    requestSummary);
                             return cancelledResponse();
                         }
                     }
@@ -249,22 +327,92 @@ public class SpringAiStructuredClient implements StructuredAiClient {
             throw new PromptConstructionException();
         }
         
-        // Get AI-safe JSON schema for this question type (media stripped)
-        JsonNode schema = schemaRegistry.getSchemaForQuestionTypeAi(
+        // Get AI-safe JSON schema for this question type (media stripped), precompiled by the registry
+        QuestionSchemaRegistry.AiSchema aiSchema = schemaRegistry.getAiSchema(
                 request.getQuestionType(),
                 request.getDifficulty());
 
         if (log.isDebugEnabled()) {
+            String schemaJson = aiSchema.json();
             log.debug("Sending structured generation request for {} {} questions (schema enforced)",
                     request.getQuestionCount(), request.getQuestionType());
             log.debug("Schema snapshot for {}: {}", request.getQuestionType(),
-                    schema.toString().length() > 500
-                            ? schema.toString().substring(0, 500) + "..."
-                            : schema.toString());
+                    schemaJson.length() > 500
+                            ? schemaJson.substring(0, 500) + "..."
+                            : schemaJson);
+        }
+
+        OpenAiChatOptions chatOptions = buildChatOptions(aiSchema);
+        ChatResponse response = callProvider(request, buildPrompt(systemPrompt, userPrompt, chatOptions));
+        String rawResponse = response.getResult().getOutput().getText();
+
+        // Parse and validate response
+        StructuredQuestionResponse structuredResponse = parseStructuredResponse(
+                rawResponse, 
+                request.getQuestionType()
+        );
+        retainRequestedDifficulty(structuredResponse, request.getDifficulty());
+        
+        // Add token usage metadata if available
+        if (response.getMetadata() != null && response.getMetadata().getUsage() != null) {
+            Long totalTokens = Long.valueOf(response.getMetadata().getUsage().getTotalTokens());
+            structuredResponse.setTokensUsed(totalTokens);
+        }
+        
+        log.info("Successfully generated {} structured questions of type {}",
+                structuredResponse.getQuestions().size(), request.getQuestionType());
+        
+        return structuredResponse;
+    }
+
+    /**
+     * Attempt to generate questions for several types with one structured call
+     */
+    private StructuredQuestionResponse attemptCompositeGeneration(StructuredQuestionRequest request) {
+        Map<QuestionType, Integer> questionsPerType = request.getQuestionsPerType();
+        String userPrompt;
+        String systemPrompt;
+        try {
+            userPrompt = promptTemplateService.buildCompositePromptForChunk(
+                    request.getChunkContent(),
+                    questionsPerType,
+                    request.getDifficulty(),
+                    request.getLanguage()
+            );
+            systemPrompt = promptTemplateService.buildSystemPrompt();
+        } catch (RuntimeException exception) {
+            throw new PromptConstructionException();
+        }
+
+        // One array property per requested type; memoized by the registry per type set
+        QuestionSchemaRegistry.AiSchema aiSchema = schemaRegistry.getCompositeAiSchema(
+                questionsPerType.keySet(),
+                request.getDifficulty());
+
+        if (log.isDebugEnabled()) {
+            log.debug("Sending composite structured generation request for {} (schema enforced)",
+                    questionsPerType);
+        }
+
+        OpenAiChatOptions chatOptions = buildChatOptions(aiSchema);
+        ChatResponse response = callProvider(request, buildPrompt(systemPrompt, userPrompt, chatOptions));
+        String rawResponse = response.getResult().getOutput().getText();
+
+        StructuredQuestionResponse structuredResponse = parseCompositeResponse(rawResponse, questionsPerType);
+        retainRequestedDifficulty(structuredResponse, request.getDifficulty());
+
+        if (response.getMetadata() != null && response.getMetadata().getUsage() != null) {
+            Long totalTokens = Long.valueOf(response.getMetadata().getUsage().getTotalTokens());
+            structuredResponse.setTokensUsed(totalTokens);
         }
 
-        OpenAiChatOptions chatOptions = buildChatOptions(request.getQuestionType(), schema);
+        log.info("Successfully generated {} structured questions in one composite call for {}",
+                structuredResponse.getQuestions().size(), questionsPerType.keySet());
+
+        return structuredResponse;
+    }
 
+    private Prompt buildPrompt(String systemPrompt, String userPrompt, OpenAiChatOptions chatOptions) {
         Prompt prompt = chatOptions != null
                 ? new Prompt(List.of(
                         new SystemMessage(systemPrompt),
@@ -282,7 +430,14 @@ public class SpringAiStructuredClient implements StructuredAiClient {
                             ? chatOptions.getResponseFormat().getJsonSchema().getName()
                             : "n/a");
         }
+        return prompt;
+    }
 
+    /**
+     * Send the prompt to the provider, charging the attempt budget and reporting usage.
+     * Returns a response with a non-empty text result.
+     */
+    private ChatResponse callProvider(StructuredQuestionRequest request, Prompt prompt) {
         ProviderAttemptBudget providerAttemptBudget = request.getProviderAttemptBudget();
         if (providerAttemptBudget != null && !providerAttemptBudget.tryAcquire()) {
             throw new ProviderAttemptBudgetExhaustedException();
@@ -326,24 +481,7 @@ public class SpringAiStructuredClient implements StructuredAiClient {
             throw new AiServiceException("Empty response received from AI service");
         }
 
-        // Parse and validate response
-        StructuredQuestionResponse structuredResponse = parseStructuredResponse(
-                rawResponse, 
-                request.getQuestionType(),
-                schema
-        );
-        retainRequestedDifficulty(structuredResponse, request.getDifficulty());
-        
-        // Add token usage metadata if available
-        if (response.getMetadata() != null && response.getMetadata().getUsage() != null) {
-            Long totalTokens = Long.valueOf(response.getMetadata().getUsage().getTotalTokens());
-            structuredResponse.setTokensUsed(totalTokens);
-        }
-        
-        log.info("Successfully generated {} structured questions of type {}",
-                structuredResponse.getQuestions().size(), request.getQuestionType());
-        
-        return structuredResponse;
+        return response;
     }
 
     private void observeProviderResponse(
@@ -377,36 +515,23 @@ public class SpringAiStructuredClient implements StructuredAiClient {
         }
     }
 
-    private OpenAiChatOptions buildChatOptions(QuestionType questionType, JsonNode schema) {
-        try {
-            String schemaJson = objectMapper.writeValueAsString(schema);
-            ResponseFormat.JsonSchema jsonSchema = ResponseFormat.JsonSchema.builder()
-                    .name(questionType.name().toLowerCase() + "_schema")
-                    .schema(schemaJson)
-                    .strict(true)
-                    .build();
-
-            ResponseFormat responseFormat = ResponseFormat.builder()
-                    .type(ResponseFormat.Type.JSON_SCHEMA)
-                    .jsonSchema(jsonSchema)
-                    .build();
-
-            OpenAiChatOptions options = OpenAiChatOptions.builder()
-                    .responseFormat(responseFormat)
-                    .maxCompletionTokens(maxCompletionTokens)
-                    .build();
-
-            if (log.isDebugEnabled()) {
-                log.debug("Configured structured response format for {} with schema name '{}', maxCompletionTokens={}",
-                        questionType, jsonSchema.getName(), maxCompletionTokens);
-            }
-
-            return options;
+    /**
+     * Build chat options around a precompiled schema, reusing the response format the registry
+     * built for it.
+     */
+    private OpenAiChatOptions buildChatOptions(QuestionSchemaRegistry.AiSchema aiSchema) {
+        ResponseFormat responseFormat = aiSchema.responseFormat();
+        OpenAiChatOptions options = OpenAiChatOptions.builder()
+                .responseFormat(responseFormat)
+                .maxCompletionTokens(maxCompletionTokens)
+                .build();
 
-        } catch (Exception e) {
-            log.error("Failed to build JSON schema response format for {}", questionType);
-            return null;
+        if (log.isDebugEnabled()) {
+            log.debug("Configured structured response format with schema name '{}', maxCompletionTokens={}",
+                    responseFormat.getJsonSchema().getName(), maxCompletionTokens);
         }
+
+        return options;
     }
     
     /**
@@ -414,8 +539,7 @@ public class SpringAiStructuredClient implements StructuredAiClient {
      */
     private StructuredQuestionResponse parseStructuredResponse(
             String rawResponse, 
-            QuestionType expectedType,
-            JsonNode schema) {
+            QuestionType expectedType) {
         
         List<String> warnings = new ArrayList<>();
         
@@ -488,6 +612,65 @@ public class SpringAiStructuredClient implements StructuredAiClient {
         }
     }
 
+    /**
+     * Parse a composite response holding one question array per requested type. Questions beyond
+     * a type's requested count are dropped; types that come back short are left to the caller.
+     */
+    private StructuredQuestionResponse parseCompositeResponse(
+            String rawResponse,
+            Map<QuestionType, Integer> questionsPerType) {
+
+        List<String> warnings = new ArrayList<>();
+
+        JsonNode responseNode;
+        try {
+            responseNode = objectMapper.readTree(cleanJsonResponse(rawResponse));
+        } catch (JsonProcessingException e) {
+            log.error("Rejected composite structured response with invalid JSON");
+            throw new AIResponseParseException("Invalid JSON in structured response");
+        }
+
+        List<StructuredQuestion> questions = new ArrayList<>();
+        for (Map.Entry<QuestionType, Integer> entry : questionsPerType.entrySet()) {
+            QuestionType expectedType = entry.getKey();
+            JsonNode questionsNode = responseNode.get(expectedType.name());
+            if (questionsNode == null || !questionsNode.isArray()) {
+                warnings.add("Response missing '" + expectedType.name() + "' array");
+                continue;
+            }
+
+            int accepted = 0;
+            for (JsonNode questionNode : questionsNode) {
+                if (accepted >= entry.getValue()) {
+                    break;
+                }
+                try {
+                    StructuredQuestion question = parseQuestion(questionNode);
+                    if (question.getType() != expectedType) {
+                        warnings.add("Question type mismatch: expected " + expectedType
+                                + " but got " + question.getType());
+                        continue;
+                    }
+                    questions.add(question);
+                    accepted++;
+                } catch (Exception e) {
+                    warnings.add("Failed to parse question: INVALID_STRUCTURE");
+                    log.warn("Rejected malformed structured question");
+                }
+            }
+        }
+
+        if (questions.isEmpty()) {
+            throw new AIResponseParseException("No valid questions parsed from response");
+        }
+
+        return StructuredQuestionResponse.builder()
+                .questions(questions)
+                .warnings(warnings)
+                .schemaValid(true)
+                .build();
+    }
+
     private void retainRequestedDifficulty(
             StructuredQuestionResponse response,
             Difficulty expectedDifficulty) {
@@ -665,6 +848,33 @@ public class SpringAiStructuredClient implements StructuredAiClient {
         }
     }
     
+    /**
+     * Validate a composite request before processing
+     */
+    private void validateCompositeRequest(StructuredQuestionRequest request) {
+        if (request.getChunkContent() == null || request.getChunkContent().trim().isEmpty()) {
+            throw new IllegalArgumentException("Chunk content cannot be empty");
+        }
+
+        Map<QuestionType, Integer> questionsPerType = request.getQuestionsPerType();
+        if (questionsPerType == null || questionsPerType.isEmpty()) {
+            throw new IllegalArgumentException("Questions per type cannot be empty");
+        }
+
+        for (Map.Entry<QuestionType, Integer> entry : questionsPerType.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new IllegalArgumentException("Question type cannot be null");
+            }
+            if (entry.getValue() == null || entry.getValue() <= 0) {
+                throw new IllegalArgumentException("Question count must be positive");
+            }
+        }
+
+        if (request.getDifficulty() == null) {
+            throw new IllegalArgumentException("Difficulty cannot be null");
+        }
+    }
+
     /**
      * Check if exception is a rate limit error
      */
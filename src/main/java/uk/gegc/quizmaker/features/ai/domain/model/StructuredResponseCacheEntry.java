@@ -0,0 +1,86 @@
+package uk.gegc.quizmaker.features.ai.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A validated structured generation response, stored under the digest of the inputs that produced it
+ * so identical requests can skip the provider until the entry expires or is evicted.
+ */
+@Entity
+@Table(name = "ai_structured_response_cache")
+@Getter
+@NoArgsConstructor
+public class StructuredResponseCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64, nullable = false, updatable = false, columnDefinition = "CHAR(64)")
+    private String cacheKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Column(name = "question_count", nullable = false)
+    private int questionCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "last_accessed_at", nullable = false)
+    private LocalDateTime lastAccessedAt;
+
+    public StructuredResponseCacheEntry(
+            String cacheKey,
+            String payload,
+            int questionCount,
+            LocalDateTime createdAt,
+            LocalDateTime expiresAt
+    ) {
+        if (cacheKey == null || cacheKey.length() != 64) {
+            throw new IllegalArgumentException("cacheKey must be a 64-character digest");
+        }
+        if (payload == null || payload.isBlank()) {
+            throw new IllegalArgumentException("payload must not be blank");
+        }
+        if (questionCount <= 0) {
+            throw new IllegalArgumentException("questionCount must be positive");
+        }
+        this.cacheKey = cacheKey;
+        this.payload = payload;
+        this.questionCount = questionCount;
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt must not be null");
+        this.expiresAt = Objects.requireNonNull(expiresAt, "expiresAt must not be null");
+        this.lastAccessedAt = createdAt;
+    }
+
+    /**
+     * Replaces the stored response, e.g. when a concurrent generation for the same key finished later.
+     */
+    public void refresh(String payload, int questionCount, LocalDateTime now, LocalDateTime expiresAt) {
+        if (payload == null || payload.isBlank()) {
+            throw new IllegalArgumentException("payload must not be blank");
+        }
+        if (questionCount <= 0) {
+            throw new IllegalArgumentException("questionCount must be positive");
+        }
+        this.payload = payload;
+        this.questionCount = questionCount;
+        this.createdAt = Objects.requireNonNull(now, "now must not be null");
+        this.expiresAt = Objects.requireNonNull(expiresAt, "expiresAt must not be null");
+        this.lastAccessedAt = now;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gegc.quizmaker.features.ai.domain.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import uk.gegc.quizmaker.features.ai.domain.model.StructuredResponseCacheEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StructuredResponseCacheEntryRepository extends JpaRepository<StructuredResponseCacheEntry, String> {
+
+    @Modifying
+    @Query("""
+            UPDATE StructuredResponseCacheEntry e
+            SET e.lastAccessedAt = :accessedAt
+            WHERE e.cacheKey = :cacheKey
+            """)
+    int touch(@Param("cacheKey") String cacheKey, @Param("accessedAt") LocalDateTime accessedAt);
+
+    @Modifying
+    @Query("DELETE FROM StructuredResponseCacheEntry e WHERE e.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    @Query("SELECT e.cacheKey FROM StructuredResponseCacheEntry e ORDER BY e.lastAccessedAt ASC")
+    List<String> findLeastRecentlyUsedKeys(Pageable pageable);
+}
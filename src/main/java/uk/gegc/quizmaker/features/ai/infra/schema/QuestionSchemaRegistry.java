@@ -1,15 +1,22 @@
 package uk.gegc.quizmaker.features.ai.infra.schema;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.openai.api.ResponseFormat;
 import org.springframework.stereotype.Component;
 import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static uk.gegc.quizmaker.features.question.application.FillGapContentValidator.MAX_OPTION_COUNT;
 import static uk.gegc.quizmaker.features.question.application.FillGapContentValidator.MIN_DISTRACTOR_COUNT;
 
@@ -20,14 +27,83 @@ import static uk.gegc.quizmaker.features.question.application.FillGapContentVali
  * Phase 1 of structured output migration - centralizes schema definitions.
  * 
  * Design decision: Using dynamic schema generation rather than static files
- * for easier maintenance and type safety.
+ * for easier maintenance and type safety. AI schemas are sent with every provider
+ * call, so each (type, difficulty) variant is built, serialized and wrapped in its
+ * provider response format once when the registry is created and served from
+ * {@link #getAiSchema}.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class QuestionSchemaRegistry {
     
     private final ObjectMapper objectMapper;
+
+    /**
+     * Indexed by question type ordinal, then by difficulty ordinal + 1; slot 0 holds the type-only variant.
+     */
+    private final AiSchema[][] aiSchemas;
+
+    private static final String COMPOSITE_SCHEMA_NAME = "composite";
+
+    private final Map<CompositeKey, AiSchema> compositeAiSchemas = new ConcurrentHashMap<>();
+
+    public QuestionSchemaRegistry(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.aiSchemas = compileAiSchemas();
+    }
+
+    /**
+     * Precompiled AI generation schema for a request contract.
+     *
+     * @param questionType requested question type
+     * @param difficulty requested difficulty, or {@code null} when only the type is known
+     * @return shared, pre-serialized schema
+     */
+    public AiSchema getAiSchema(QuestionType questionType, Difficulty difficulty) {
+        return aiSchemas[questionType.ordinal()][difficulty == null ? 0 : difficulty.ordinal() + 1];
+    }
+
+    /**
+     * AI generation schema for producing several question types in one response. The response holds
+     * one array per requested type, keyed by type name, each using that type's precompiled item schema,
+     * so answers split back per type without guessing. There are too many type sets to build them all
+     * up front, so each one is built with its response format on first use and shared afterwards.
+     *
+     * @param questionTypes requested question types, at least one
+     * @param difficulty requested difficulty, or {@code null} when only the types are known
+     * @return shared, pre-serialized schema whose {@link AiSchema#questionType()} is {@code null}
+     */
+    public AiSchema getCompositeAiSchema(Collection<QuestionType> questionTypes, Difficulty difficulty) {
+        if (questionTypes == null || questionTypes.isEmpty()) {
+            throw new IllegalArgumentException("At least one question type is required");
+        }
+        CompositeKey key = new CompositeKey(EnumSet.copyOf(questionTypes), difficulty);
+        return compositeAiSchemas.computeIfAbsent(key, this::compileCompositeAiSchema);
+    }
+
+    private AiSchema compileCompositeAiSchema(CompositeKey key) {
+        ObjectNode schema = objectMapper.createObjectNode();
+        schema.put("$schema", "http://json-schema.org/draft-07/schema#");
+        schema.put("type", "object");
+        schema.put("additionalProperties", false);
+
+        ArrayNode required = objectMapper.createArrayNode();
+        ObjectNode properties = objectMapper.createObjectNode();
+        for (QuestionType questionType : key.questionTypes()) {
+            required.add(questionType.name());
+            properties.set(questionType.name(),
+                    getAiSchema(questionType, key.difficulty()).schema.path("properties").path("questions").deepCopy());
+        }
+        schema.set("required", required);
+        schema.set("properties", properties);
+
+        try {
+            log.debug("Generated AI composite schema for question types {}", key.questionTypes());
+            return newAiSchema(null, key.difficulty(), schema, objectMapper.writeValueAsString(schema));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize composite AI schema for " + key.questionTypes(), e);
+        }
+    }
     
     /**
      * Get the JSON schema for a specific question type.
@@ -73,6 +149,55 @@ public class QuestionSchemaRegistry {
      * @return AI-safe JSON schema as JsonNode
      */
     public JsonNode getSchemaForQuestionTypeAi(QuestionType questionType, Difficulty difficulty) {
+        // Callers own the returned tree, so the cached one is never handed out
+        return getAiSchema(questionType, difficulty).schema();
+    }
+
+    private AiSchema[][] compileAiSchemas() {
+        QuestionType[] questionTypes = QuestionType.values();
+        Difficulty[] difficulties = Difficulty.values();
+        AiSchema[][] compiled = new AiSchema[questionTypes.length][difficulties.length + 1];
+        for (QuestionType questionType : questionTypes) {
+            for (int slot = 0; slot <= difficulties.length; slot++) {
+                Difficulty difficulty = slot == 0 ? null : difficulties[slot - 1];
+                compiled[questionType.ordinal()][slot] = compileAiSchema(questionType, difficulty);
+            }
+        }
+        log.debug("Precompiled {} AI schemas", questionTypes.length * (difficulties.length + 1));
+        return compiled;
+    }
+
+    private AiSchema compileAiSchema(QuestionType questionType, Difficulty difficulty) {
+        ObjectNode schema = buildSchemaForQuestionTypeAi(questionType, difficulty);
+        try {
+            String json = objectMapper.writeValueAsString(schema);
+            // Fail startup rather than send a payload that differs from what the builder describes
+            if (!objectMapper.readTree(json).equals(buildSchemaForQuestionTypeAi(questionType, difficulty))) {
+                throw new IllegalStateException("Precompiled AI schema does not match the dynamic schema for "
+                        + questionType + "/" + difficulty);
+            }
+            return newAiSchema(questionType, difficulty, schema, json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize AI schema for " + questionType + "/" + difficulty, e);
+        }
+    }
+
+    private static AiSchema newAiSchema(QuestionType questionType, Difficulty difficulty, JsonNode schema, String json) {
+        String schemaName = questionType != null
+                ? questionType.name().toLowerCase(Locale.ROOT)
+                : COMPOSITE_SCHEMA_NAME;
+        ResponseFormat responseFormat = ResponseFormat.builder()
+                .type(ResponseFormat.Type.JSON_SCHEMA)
+                .jsonSchema(ResponseFormat.JsonSchema.builder()
+                        .name(schemaName + "_schema")
+                        .schema(json)
+                        .strict(true)
+                        .build())
+                .build();
+        return new AiSchema(questionType, difficulty, schema, json, responseFormat);
+    }
+
+    private ObjectNode buildSchemaForQuestionTypeAi(QuestionType questionType, Difficulty difficulty) {
         JsonNode requestSchema = getSchemaForQuestionType(questionType);
         ObjectNode aiSchema = toAiSchema(requestSchema);
         constrainQuestionEnum(aiSchema, "type", questionType.name());
@@ -82,7 +207,6 @@ public class QuestionSchemaRegistry {
         if (questionType == QuestionType.FILL_GAP) {
             requireFillGapOptions(aiSchema);
         }
-        log.debug("Generated AI schema for question type: {}", questionType);
         return aiSchema;
     }
 
@@ -967,4 +1091,53 @@ public class QuestionSchemaRegistry {
         content.set("properties", properties);
         return content;
     }
+
+    private record CompositeKey(EnumSet<QuestionType> questionTypes, Difficulty difficulty) {
+    }
+
+    /**
+     * An AI generation schema together with its serialized form and the strict JSON-schema response
+     * format that carries it to the provider. Instances are shared between callers, so the tree is
+     * only handed out as a copy. Equality is identity, which keeps instances cheap to use as cache keys.
+     */
+    public static final class AiSchema {
+
+        private final QuestionType questionType;
+        private final Difficulty difficulty;
+        private final JsonNode schema;
+        private final String json;
+        private final ResponseFormat responseFormat;
+
+        private AiSchema(QuestionType questionType, Difficulty difficulty, JsonNode schema, String json,
+                         ResponseFormat responseFormat) {
+            this.questionType = questionType;
+            this.difficulty = difficulty;
+            this.schema = schema;
+            this.json = json;
+            this.responseFormat = responseFormat;
+        }
+
+        public QuestionType questionType() {
+            return questionType;
+        }
+
+        public Difficulty difficulty() {
+            return difficulty;
+        }
+
+        /**
+         * @return a copy of the schema tree that the caller may modify
+         */
+        public JsonNode schema() {
+            return schema.deepCopy();
+        }
+
+        public String json() {
+            return json;
+        }
+
+        public ResponseFormat responseFormat() {
+            return responseFormat;
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package uk.gegc.quizmaker.features.article.application.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -8,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import uk.gegc.quizmaker.features.article.api.dto.*;
 import uk.gegc.quizmaker.features.article.application.ArticleService;
+import uk.gegc.quizmaker.features.article.domain.events.ArticleCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.article.domain.model.Article;
 import uk.gegc.quizmaker.features.article.domain.model.ArticleContentType;
 import uk.gegc.quizmaker.features.article.domain.model.ArticleStatus;
@@ -36,6 +38,7 @@ public class ArticleServiceImpl implements ArticleService {
     private final TagRepository tagRepository;
     private final ArticleMapper articleMapper;
     private final AppPermissionEvaluator permissionEvaluator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -102,6 +105,7 @@ public class ArticleServiceImpl implements ArticleService {
         Set<Tag> tags = resolveTags(request.tags());
         Article article = articleMapper.toEntity(request, tags);
         Article saved = articleRepository.save(article);
+        eventPublisher.publishEvent(new ArticleCatalogueChangedEvent(this));
         return articleMapper.toDto(saved);
     }
 
@@ -121,6 +125,7 @@ public class ArticleServiceImpl implements ArticleService {
             articles.add(article);
         }
         List<Article> saved = articleRepository.saveAll(articles);
+        eventPublisher.publishEvent(new ArticleCatalogueChangedEvent(this));
         return saved.stream().map(articleMapper::toDto).toList();
     }
 
@@ -133,6 +138,7 @@ public class ArticleServiceImpl implements ArticleService {
         assertSlugAvailable(normalizedSlug, articleId);
         articleMapper.applyUpsert(article, request, resolveTags(request.tags()));
         Article saved = articleRepository.save(article);
+        eventPublisher.publishEvent(new ArticleCatalogueChangedEvent(this));
         return articleMapper.toDto(saved);
     }
 
@@ -166,6 +172,7 @@ public class ArticleServiceImpl implements ArticleService {
             articleMapper.applyUpsert(article, request, resolveTagsFromPool(request.tags(), tagPool));
             results.add(articleMapper.toDto(articleRepository.save(article)));
         }
+        eventPublisher.publishEvent(new ArticleCatalogueChangedEvent(this));
         return results;
     }
 
@@ -175,6 +182,7 @@ public class ArticleServiceImpl implements ArticleService {
             throw new ResourceNotFoundException("Article " + articleId + " not found");
         }
         articleRepository.deleteById(articleId);
+        eventPublisher.publishEvent(new ArticleCatalogueChangedEvent(this));
     }
 
     @Override
@@ -188,6 +196,7 @@ public class ArticleServiceImpl implements ArticleService {
             }
         }
         articleRepository.deleteAllById(articleIds);
+        eventPublisher.publishEvent(new ArticleCatalogueChangedEvent(this));
     }
 
     @Override
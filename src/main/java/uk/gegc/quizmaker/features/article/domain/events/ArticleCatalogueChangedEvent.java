@@ -0,0 +1,14 @@
+package uk.gegc.quizmaker.features.article.domain.events;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when articles are created, updated or deleted, i.e. when published article listings
+ * such as the article sitemap may have changed.
+ */
+public class ArticleCatalogueChangedEvent extends ApplicationEvent {
+
+    public ArticleCatalogueChangedEvent(Object source) {
+        super(source);
+    }
+}
@@ -17,8 +17,10 @@ import uk.gegc.quizmaker.features.attempt.application.ScoringService;
 import uk.gegc.quizmaker.features.attempt.domain.event.AttemptCompletedEvent;
 import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.attempt.domain.model.AttemptMode;
+import uk.gegc.quizmaker.features.attempt.domain.model.AttemptQuestionOrder;
 import uk.gegc.quizmaker.features.attempt.domain.model.AttemptStatus;
 import uk.gegc.quizmaker.features.attempt.domain.repository.AttemptRepository;
+import uk.gegc.quizmaker.features.attempt.domain.repository.projection.QuestionAnswerStatsProjection;
 import uk.gegc.quizmaker.features.attempt.infra.mapping.AttemptMapper;
 import uk.gegc.quizmaker.features.question.application.CorrectAnswerExtractor;
 import uk.gegc.quizmaker.features.question.application.SafeQuestionContentBuilder;
@@ -104,10 +106,13 @@ public class AttemptServiceImpl implements AttemptService {
         attempt.setQuiz(quiz);
         attempt.setMode(mode);
         attempt.setStatus(AttemptStatus.IN_PROGRESS);
+        snapshotQuestionOrder(attempt);
 
         Attempt saved = attemptRepository.saveAndFlush(attempt);
 
-        int totalQuestions = (int) questionRepository.countByQuizId_Id(quiz.getId());
+        int totalQuestions = attempt.getQuestionOrder() != null
+                ? AttemptQuestionOrder.size(attempt.getQuestionOrder())
+                : (int) questionRepository.countByQuizId_Id(quiz.getId());
         Integer timeLimitMinutes = Boolean.TRUE.equals(quiz.getIsTimerEnabled())
                 ? quiz.getTimerDuration()
                 : null;
@@ -172,10 +177,13 @@ public class AttemptServiceImpl implements AttemptService {
         attempt.setShareLink(shareLink);
         attempt.setMode(mode);
         attempt.setStatus(AttemptStatus.IN_PROGRESS);
+        snapshotQuestionOrder(attempt);
 
         Attempt saved = attemptRepository.saveAndFlush(attempt);
 
-        int totalQuestions = (int) questionRepository.countByQuizId_Id(quiz.getId());
+        int totalQuestions = attempt.getQuestionOrder() != null
+                ? AttemptQuestionOrder.size(attempt.getQuestionOrder())
+                : (int) questionRepository.countByQuizId_Id(quiz.getId());
         Integer timeLimitMinutes = Boolean.TRUE.equals(quiz.getIsTimerEnabled())
                 ? quiz.getTimerDuration()
                 : null;
@@ -256,7 +264,33 @@ public class AttemptServiceImpl implements AttemptService {
             throw new IllegalStateException("Can only get current question for attempts that are in progress");
         }
 
-        // Get all questions for the quiz from Question side
+        byte[] order = attempt.getQuestionOrder();
+        if (order != null) {
+            int totalQuestions = AttemptQuestionOrder.size(order);
+            if (totalQuestions == 0) {
+                throw new IllegalStateException("Quiz has no questions");
+            }
+            int cursor = attempt.getQuestionCursor();
+            if (cursor >= totalQuestions) {
+                throw new IllegalStateException("All questions have already been answered");
+            }
+            // Questions deleted since the snapshot are skipped and stay unanswered
+            for (int index = cursor; index < totalQuestions; index++) {
+                Optional<Question> currentQuestion =
+                        questionRepository.findById(AttemptQuestionOrder.idAt(order, index));
+                if (currentQuestion.isPresent()) {
+                    return new CurrentQuestionDto(
+                            safeQuestionMapper.toSafeDto(currentQuestion.get()),
+                            index + 1, // 1-based question number
+                            totalQuestions,
+                            attempt.getStatus()
+                    );
+                }
+            }
+            throw new IllegalStateException("All questions have already been answered");
+        }
+
+        // Legacy attempts without a snapshot: get all questions for the quiz from Question side
         List<Question> allQuestions = questionRepository.findAllByQuizId_IdOrderById(attempt.getQuiz().getId());
         int totalQuestions = allQuestions.size();
         
@@ -310,6 +344,10 @@ public class AttemptServiceImpl implements AttemptService {
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Question " + request.questionId() + " not found"));
 
+        if (attempt.getMode() == AttemptMode.ONE_BY_ONE && attempt.getQuestionOrder() != null) {
+            return submitAgainstSnapshot(attempt, question, request);
+        }
+
         // ensure question belongs to quiz - check from Question side
         boolean belongs = questionRepository.existsByIdAndQuizId_Id(question.getId(), attempt.getQuiz().getId());
         if (!belongs) {
@@ -355,7 +393,6 @@ public class AttemptServiceImpl implements AttemptService {
         Answer answer = handler.handle(attempt, question, request);
         answer = answerRepository.save(answer);
 
-        var baseDto = answerMapper.toDto(answer);
         QuestionForAttemptDto nextQuestion = null;
         if (attempt.getMode() == AttemptMode.ONE_BY_ONE) {
             // Get all questions for the quiz from Question side
@@ -371,6 +408,143 @@ public class AttemptServiceImpl implements AttemptService {
             }
         }
 
+        return toSubmissionDto(answer, question, request, nextQuestion);
+    }
+
+    /**
+     * ONE_BY_ONE submission against the order frozen at start: validation and next-question
+     * lookup are cursor reads plus a primary-key fetch instead of reloading the whole quiz.
+     */
+    private AnswerSubmissionDto submitAgainstSnapshot(Attempt attempt,
+                                                      Question question,
+                                                      AnswerSubmissionRequest request) {
+        byte[] order = attempt.getQuestionOrder();
+        int totalQuestions = AttemptQuestionOrder.size(order);
+        int cursor = attempt.getQuestionCursor();
+
+        if (cursor >= totalQuestions) {
+            throw new IllegalStateException("All questions have already been answered");
+        }
+
+        // Step over questions deleted since the snapshot so the attempt can still move forward
+        int position = cursor;
+        UUID expectedId = AttemptQuestionOrder.idAt(order, position);
+        while (!expectedId.equals(question.getId())
+                && position + 1 < totalQuestions
+                && !questionRepository.existsById(expectedId)) {
+            position++;
+            expectedId = AttemptQuestionOrder.idAt(order, position);
+        }
+        if (!expectedId.equals(question.getId())) {
+            // Only the error path pays for the membership lookup, to keep the not-in-quiz message
+            if (!questionRepository.existsByIdAndQuizId_Id(question.getId(), attempt.getQuiz().getId())) {
+                throw new ResourceNotFoundException(
+                        "Question " + question.getId() + " is not part of Quiz " +
+                                attempt.getQuiz().getId());
+            }
+            throw new IllegalStateException(
+                    "Expected question " + expectedId +
+                    " but received " + question.getId() +
+                    " (answered count: " + cursor + ")");
+        }
+
+        var handler = handlerFactory.getHandler(question.getType());
+        Answer answer = handler.handle(attempt, question, request);
+        answer = answerRepository.save(answer);
+        attempt.setQuestionCursor(position + 1);
+
+        QuestionForAttemptDto nextQuestion = null;
+        for (int index = position + 1; index < totalQuestions && nextQuestion == null; index++) {
+            nextQuestion = questionRepository.findById(AttemptQuestionOrder.idAt(order, index))
+                    .map(safeQuestionMapper::toSafeDto)
+                    .orElse(null);
+        }
+
+        return toSubmissionDto(answer, question, request, nextQuestion);
+    }
+
+    /**
+     * Freezes the quiz's question order on a ONE_BY_ONE attempt so later steps never reload the quiz.
+     */
+    private void snapshotQuestionOrder(Attempt attempt) {
+        if (attempt.getMode() != AttemptMode.ONE_BY_ONE) {
+            return;
+        }
+        List<UUID> questionIds = questionRepository.findIdsByQuizIdOrderById(attempt.getQuiz().getId());
+        attempt.setQuestionOrder(AttemptQuestionOrder.encode(questionIds));
+        attempt.setQuestionCursor(0);
+    }
+
+    @Override
+    @Transactional
+    public List<AnswerSubmissionDto> submitBatch(String username,
+                                                 UUID attemptId,
+                                                 BatchAnswerSubmissionRequest request) {
+        Attempt attempt = attemptRepository.findFullyLoadedById(attemptId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attempt " + attemptId + " not found"));
+        enforceOwnership(attempt, username);
+
+        if (attempt.getStatus() != AttemptStatus.IN_PROGRESS) {
+            throw new IllegalStateException("Cannot submit answers to a non‐in‐progress attempt");
+        }
+        if (attempt.getMode() != AttemptMode.ALL_AT_ONCE) {
+            throw new IllegalStateException("Batch submissions only allowed in ALL_AT_ONCE mode");
+        }
+
+        List<AnswerSubmissionRequest> items = request.answers();
+        UUID quizId = attempt.getQuiz().getId();
+
+        // One query for every referenced question and one for the quiz membership id set
+        Set<UUID> requestedIds = items.stream()
+                .map(AnswerSubmissionRequest::questionId)
+                .collect(Collectors.toSet());
+        Map<UUID, Question> questionsById = questionRepository.findAllById(requestedIds).stream()
+                .collect(Collectors.toMap(Question::getId, q -> q));
+        Set<UUID> quizQuestionIds = questionRepository.findIdsByQuizId(quizId);
+
+        Set<UUID> answeredIds = attempt.getAnswers().stream()
+                .map(a -> a.getQuestion().getId())
+                .collect(Collectors.toCollection(HashSet::new));
+
+        // Validate the whole batch before scoring so a bad item leaves nothing half-applied
+        List<Question> questions = new ArrayList<>(items.size());
+        for (AnswerSubmissionRequest item : items) {
+            Question question = questionsById.get(item.questionId());
+            if (question == null) {
+                throw new ResourceNotFoundException("Question " + item.questionId() + " not found");
+            }
+            if (!quizQuestionIds.contains(question.getId())) {
+                throw new ResourceNotFoundException(
+                        "Question " + question.getId() + " is not part of Quiz " + quizId);
+            }
+            if (!answeredIds.add(question.getId())) {
+                throw new IllegalStateException(
+                        "Already answered question " + question.getId() + " in this attempt");
+            }
+            questions.add(question);
+        }
+
+        List<Answer> answers = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Question question = questions.get(i);
+            answers.add(handlerFactory.getHandler(question.getType()).handle(attempt, question, items.get(i)));
+        }
+
+        // Single JDBC batch (see hibernate.jdbc.batch_size)
+        List<Answer> saved = answerRepository.saveAll(answers);
+
+        List<AnswerSubmissionDto> results = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            results.add(toSubmissionDto(saved.get(i), questions.get(i), items.get(i), null));
+        }
+        return results;
+    }
+
+    private AnswerSubmissionDto toSubmissionDto(Answer answer,
+                                                Question question,
+                                                AnswerSubmissionRequest request,
+                                                QuestionForAttemptDto nextQuestion) {
+        var baseDto = answerMapper.toDto(answer);
         Boolean isCorrect = request.includeCorrectness() ? baseDto.isCorrect() : null;
         JsonNode correctAnswer = null;
         if (request.includeCorrectAnswer()) {
@@ -396,27 +570,6 @@ public class AttemptServiceImpl implements AttemptService {
         );
     }
 
-    @Override
-    @Transactional
-    public List<AnswerSubmissionDto> submitBatch(String username,
-                                                 UUID attemptId,
-                                                 BatchAnswerSubmissionRequest request) {
-        Attempt attempt = attemptRepository.findFullyLoadedById(attemptId)
-                .orElseThrow(() -> new ResourceNotFoundException("Attempt " + attemptId + " not found"));
-        enforceOwnership(attempt, username);
-
-        if (attempt.getStatus() != AttemptStatus.IN_PROGRESS) {
-            throw new IllegalStateException("Cannot submit answers to a non‐in‐progress attempt");
-        }
-        if (attempt.getMode() != AttemptMode.ALL_AT_ONCE) {
-            throw new IllegalStateException("Batch submissions only allowed in ALL_AT_ONCE mode");
-        }
-
-        return request.answers().stream()
-                .map(req -> submitAnswer(username, attemptId, req))
-                .collect(Collectors.toList());
-    }
-
     @Override
     @Transactional
     public AttemptResultDto completeAttempt(String username, UUID attemptId) {
@@ -428,9 +581,11 @@ public class AttemptServiceImpl implements AttemptService {
             throw new IllegalStateException("Cannot complete attempt with status " + attempt.getStatus());
         }
 
-        scoringService.computeAndPersistScore(attempt);
+        double totalScore = scoringService.computeAndPersistScore(attempt);
         long correctCount = scoringService.countCorrect(attempt);
-        int totalQ = (int) questionRepository.countByQuizId_Id(attempt.getQuiz().getId());
+        int totalQ = attempt.getQuestionOrder() != null
+                ? AttemptQuestionOrder.size(attempt.getQuestionOrder())
+                : (int) questionRepository.countByQuizId_Id(attempt.getQuiz().getId());
 
         attempt.setStatus(AttemptStatus.COMPLETED);
         Instant completedAt = Instant.now();
@@ -442,7 +597,10 @@ public class AttemptServiceImpl implements AttemptService {
                 attempt.getId(),
                 attempt.getQuiz().getId(),
                 attempt.getUser().getId(),
-                completedAt
+                completedAt,
+                totalScore,
+                correctCount,
+                totalQ
         ));
 
         return attemptMapper.toResultDto(attempt, correctCount, totalQ);
@@ -451,7 +609,7 @@ public class AttemptServiceImpl implements AttemptService {
     @Override
     @Transactional(readOnly = true)
     public QuizResultSummaryDto getQuizResultSummary(UUID quizId, Authentication authentication) {
-        Quiz quiz = quizRepository.findByIdWithQuestions(quizId)
+        Quiz quiz = quizRepository.findById(quizId)
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz " + quizId + " not found"));
 
         // Access control: allow access if quiz is public, user is owner, or user has moderation permissions
@@ -465,22 +623,18 @@ public class AttemptServiceImpl implements AttemptService {
         double worstScore = snapshot.getWorstScore();
         double passRate = snapshot.getPassRate();
 
-        // Compute per-question stats from raw data (not cached in snapshot)
-        // Use eager loading to avoid N+1 when accessing answers
-        List<Attempt> completed = attemptRepository.findCompletedWithAnswersByQuizId(quizId);
-
-        List<QuestionStatsDto> questionStats = questionRepository.findAllByQuizId_IdOrderById(quiz.getId()).stream()
-                .map(q -> {
-                    UUID qid = q.getId();
-                    long asked = completed.stream()
-                            .filter(a -> a.getAnswers().stream()
-                                    .anyMatch(ans -> ans.getQuestion().getId().equals(qid)))
-                            .count();
-                    long correct = completed.stream()
-                            .flatMap(a -> a.getAnswers().stream())
-                            .filter(ans -> ans.getQuestion().getId().equals(qid)
-                                    && Boolean.TRUE.equals(ans.getIsCorrect()))
-                            .count();
+        // Per-question counts are aggregated in the database; memory stays proportional to the
+        // number of questions rather than attempts × answers
+        Map<UUID, QuestionAnswerStatsProjection> statsByQuestion = new HashMap<>();
+        for (QuestionAnswerStatsProjection row : attemptRepository.getQuestionAnswerStats(quizId)) {
+            statsByQuestion.put(row.getQuestionId(), row);
+        }
+
+        List<QuestionStatsDto> questionStats = questionRepository.findIdsByQuizIdOrderById(quizId).stream()
+                .map(qid -> {
+                    QuestionAnswerStatsProjection row = statsByQuestion.get(qid);
+                    long asked = row != null && row.getAskedCount() != null ? row.getAskedCount() : 0L;
+                    long correct = row != null && row.getCorrectCount() != null ? row.getCorrectCount() : 0L;
                     double rate = asked > 0 ? ((double) correct / asked) * 100.0 : 0.0;
                     return new QuestionStatsDto(qid, asked, correct, rate);
                 })
@@ -559,7 +713,9 @@ public class AttemptServiceImpl implements AttemptService {
                 : Duration.ZERO;
 
         int questionsAnswered = attempt.getAnswers().size();
-        int totalQuestions = (int) questionRepository.countByQuizId_Id(attempt.getQuiz().getId());
+        int totalQuestions = attempt.getQuestionOrder() != null
+                ? AttemptQuestionOrder.size(attempt.getQuestionOrder())
+                : (int) questionRepository.countByQuizId_Id(attempt.getQuiz().getId());
         long correctAnswers = attempt.getAnswers().stream()
                 .filter(answer -> Boolean.TRUE.equals(answer.getIsCorrect()))
                 .count();
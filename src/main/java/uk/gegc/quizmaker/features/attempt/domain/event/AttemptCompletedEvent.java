@@ -15,6 +15,11 @@ import java.util.UUID;
  * Event is published synchronously by default. For heavy processing, consider configuring
  * async event listeners.
  * </p>
+ * <p>
+ * When published with the attempt's score and correct-answer count, listeners can apply the
+ * attempt as an incremental delta instead of re-reading every attempt of the quiz. Events
+ * created without those numbers report {@link #hasScore()} as {@code false}.
+ * </p>
  */
 public class AttemptCompletedEvent extends ApplicationEvent {
 
@@ -22,13 +27,24 @@ public class AttemptCompletedEvent extends ApplicationEvent {
     private final UUID quizId;
     private final UUID userId;
     private final Instant completedAt;
+    private final Double totalScore;
+    private final long correctCount;
+    private final int totalQuestions;
 
     public AttemptCompletedEvent(Object source, UUID attemptId, UUID quizId, UUID userId, Instant completedAt) {
+        this(source, attemptId, quizId, userId, completedAt, null, 0L, 0);
+    }
+
+    public AttemptCompletedEvent(Object source, UUID attemptId, UUID quizId, UUID userId, Instant completedAt,
+                                 Double totalScore, long correctCount, int totalQuestions) {
         super(source);
         this.attemptId = attemptId;
         this.quizId = quizId;
         this.userId = userId;
         this.completedAt = completedAt;
+        this.totalScore = totalScore;
+        this.correctCount = correctCount;
+        this.totalQuestions = totalQuestions;
     }
 
     public UUID getAttemptId() {
@@ -46,5 +62,32 @@ public class AttemptCompletedEvent extends ApplicationEvent {
     public Instant getCompletedAt() {
         return completedAt;
     }
-}
 
+    public Double getTotalScore() {
+        return totalScore;
+    }
+
+    public long getCorrectCount() {
+        return correctCount;
+    }
+
+    public int getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    /**
+     * @return {@code true} if the event carries the attempt's final score
+     */
+    public boolean hasScore() {
+        return totalScore != null;
+    }
+
+    /**
+     * Same rule as the full recomputation: at least half of the quiz's questions answered correctly.
+     *
+     * @return {@code true} if the attempt counts towards the quiz pass rate
+     */
+    public boolean isPassing() {
+        return totalQuestions > 0 && ((double) correctCount / totalQuestions) >= 0.5;
+    }
+}
@@ -8,6 +8,7 @@ import uk.gegc.quizmaker.features.question.domain.model.Answer;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.ShareLink;
 import uk.gegc.quizmaker.features.user.domain.model.User;
+import uk.gegc.quizmaker.shared.persistence.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -21,7 +22,7 @@ import java.util.UUID;
 public class Attempt {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -58,4 +59,17 @@ public class Attempt {
     @Column(name = "total_score")
     private Double totalScore;
 
+    /**
+     * Question ids frozen at start for ONE_BY_ONE attempts, encoded by {@link AttemptQuestionOrder}.
+     * Null for attempts that predate the snapshot; those fall back to the live quiz order.
+     */
+    @Column(name = "question_order", columnDefinition = "MEDIUMBLOB")
+    private byte[] questionOrder;
+
+    /**
+     * Number of questions from {@link #questionOrder} that have been answered.
+     */
+    @Column(name = "question_cursor", nullable = false)
+    private int questionCursor;
+
 }
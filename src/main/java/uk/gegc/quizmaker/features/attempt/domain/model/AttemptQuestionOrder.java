@@ -0,0 +1,39 @@
+package uk.gegc.quizmaker.features.attempt.domain.model;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact encoding of an attempt's question order: each question id is stored as
+ * 16 big-endian bytes, so a 200-question quiz costs 3.2 KB on the attempt row and
+ * any position can be read without decoding the whole list.
+ */
+public final class AttemptQuestionOrder {
+
+    private static final int ID_BYTES = 16;
+
+    private AttemptQuestionOrder() {
+    }
+
+    public static byte[] encode(List<UUID> questionIds) {
+        ByteBuffer buffer = ByteBuffer.allocate(questionIds.size() * ID_BYTES);
+        for (UUID id : questionIds) {
+            buffer.putLong(id.getMostSignificantBits());
+            buffer.putLong(id.getLeastSignificantBits());
+        }
+        return buffer.array();
+    }
+
+    public static int size(byte[] order) {
+        return order.length / ID_BYTES;
+    }
+
+    public static UUID idAt(byte[] order, int index) {
+        if (index < 0 || index >= size(order)) {
+            throw new IndexOutOfBoundsException("Question position " + index + " out of " + size(order));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(order, index * ID_BYTES, ID_BYTES);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.attempt.domain.model.AttemptStatus;
+import uk.gegc.quizmaker.features.attempt.domain.repository.projection.QuestionAnswerStatsProjection;
 
 import java.time.Instant;
 import java.util.List;
@@ -68,6 +69,23 @@ public interface AttemptRepository extends JpaRepository<Attempt, UUID> {
             """)
     List<Attempt> findCompletedWithAnswersByQuizId(@Param("quizId") UUID quizId);
 
+    /**
+     * Per-question answer counts over the completed attempts of a quiz, aggregated in the database.
+     * askedCount is the number of attempts that answered the question; correctCount is the number
+     * of correct answers to it. Questions nobody answered are absent from the result.
+     */
+    @Query("""
+            SELECT ans.question.id AS questionId,
+                   COUNT(DISTINCT a.id) AS askedCount,
+                   SUM(CASE WHEN ans.isCorrect = true THEN 1 ELSE 0 END) AS correctCount
+            FROM Attempt a
+            JOIN a.answers ans
+            WHERE a.quiz.id = :quizId
+              AND a.status = 'COMPLETED'
+            GROUP BY ans.question.id
+            """)
+    List<QuestionAnswerStatsProjection> getQuestionAnswerStats(@Param("quizId") UUID quizId);
+
     /**
      * Load attempt with answers and their questions for answer submission flow.
      * NOTE: Do NOT include "quiz.questions" in attributePaths - causes cartesian product
@@ -0,0 +1,11 @@
+package uk.gegc.quizmaker.features.attempt.domain.repository.projection;
+
+import java.util.UUID;
+
+public interface QuestionAnswerStatsProjection {
+    UUID getQuestionId();
+
+    Long getAskedCount();
+
+    Long getCorrectCount();
+}
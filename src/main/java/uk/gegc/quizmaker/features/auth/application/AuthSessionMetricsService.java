@@ -19,5 +19,9 @@ public interface AuthSessionMetricsService {
 
     void recordSessionStoreFailure();
 
+    void recordSessionCacheHit();
+
+    void recordSessionCacheMiss();
+
     void recordExpiredSessionsPurged(int count);
 }
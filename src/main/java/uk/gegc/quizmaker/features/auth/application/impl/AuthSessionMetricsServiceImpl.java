@@ -43,6 +43,16 @@ public class AuthSessionMetricsServiceImpl implements AuthSessionMetricsService
         counter("auth.sessions.store.failures").increment();
     }
 
+    @Override
+    public void recordSessionCacheHit() {
+        cacheCounter("hit").increment();
+    }
+
+    @Override
+    public void recordSessionCacheMiss() {
+        cacheCounter("miss").increment();
+    }
+
     @Override
     public void recordExpiredSessionsPurged(int count) {
         if (count > 0) {
@@ -56,6 +66,13 @@ public class AuthSessionMetricsServiceImpl implements AuthSessionMetricsService
                 .register(meterRegistry);
     }
 
+    private Counter cacheCounter(String result) {
+        return Counter.builder("auth.sessions.cache.lookups")
+                .description("Access-token session cache lookups")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
     private Counter rejectionCounter(String operation, AuthSessionRejectionReason reason) {
         return Counter.builder("auth.sessions.rejected")
                 .description("Rejected authentication session operations")
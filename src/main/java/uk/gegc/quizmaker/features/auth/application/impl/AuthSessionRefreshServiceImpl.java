@@ -11,6 +11,7 @@ import uk.gegc.quizmaker.features.auth.domain.model.AuthSession;
 import uk.gegc.quizmaker.features.auth.domain.model.AuthSessionRejectionReason;
 import uk.gegc.quizmaker.features.auth.domain.model.AuthSessionRevocationReason;
 import uk.gegc.quizmaker.features.auth.domain.repository.AuthSessionRepository;
+import uk.gegc.quizmaker.features.auth.infra.security.AuthenticatedSessionCache;
 import uk.gegc.quizmaker.features.auth.infra.security.JwtTokenService;
 import uk.gegc.quizmaker.features.auth.infra.security.ValidatedJwt;
 
@@ -30,6 +31,7 @@ public class AuthSessionRefreshServiceImpl implements AuthSessionRefreshService
 
     private final AuthSessionRepository authSessionRepository;
     private final JwtTokenService jwtTokenService;
+    private final AuthenticatedSessionCache authenticatedSessionCache;
 
     @Qualifier("utcClock")
     private final Clock utcClock;
@@ -58,6 +60,7 @@ public class AuthSessionRefreshServiceImpl implements AuthSessionRefreshService
         if (!constantTimeEquals(session.getRefreshTokenHash(), presentedHash)) {
             session.revoke(now, AuthSessionRevocationReason.REFRESH_TOKEN_REPLAY);
             authSessionRepository.saveAndFlush(session);
+            authenticatedSessionCache.invalidateSession(session.getId());
             return RefreshResult.rejected(AuthSessionRejectionReason.REPLAYED_TOKEN);
         }
 
@@ -77,6 +80,7 @@ public class AuthSessionRefreshServiceImpl implements AuthSessionRefreshService
                 nextExpiresAt
         );
         authSessionRepository.saveAndFlush(session);
+        authenticatedSessionCache.invalidateSession(session.getId());
 
         return RefreshResult.rotated(tokenResponse(
                 nextAccessToken,
@@ -17,6 +17,7 @@ import uk.gegc.quizmaker.features.auth.domain.model.AuthSession;
 import uk.gegc.quizmaker.features.auth.domain.model.AuthSessionRejectionReason;
 import uk.gegc.quizmaker.features.auth.domain.model.AuthSessionRevocationReason;
 import uk.gegc.quizmaker.features.auth.domain.repository.AuthSessionRepository;
+import uk.gegc.quizmaker.features.auth.infra.security.AuthenticatedSessionCache;
 import uk.gegc.quizmaker.features.auth.infra.security.JwtTokenService;
 import uk.gegc.quizmaker.features.auth.infra.security.ValidatedJwt;
 import uk.gegc.quizmaker.features.user.domain.model.User;
@@ -43,6 +44,7 @@ public class AuthSessionServiceImpl implements AuthSessionService {
     private final JwtTokenService jwtTokenService;
     private final AuthSessionRefreshService authSessionRefreshService;
     private final AuthSessionMetricsService authSessionMetricsService;
+    private final AuthenticatedSessionCache authenticatedSessionCache;
 
     @Qualifier("utcClock")
     private final Clock utcClock;
@@ -118,6 +120,7 @@ public class AuthSessionServiceImpl implements AuthSessionService {
             authSessionRepository.save(session);
             log.info("Authentication session revoked by logout");
         }
+        authenticatedSessionCache.invalidateSession(session.getId());
         authSessionMetricsService.recordLogoutSucceeded();
     }
 
@@ -131,6 +134,15 @@ public class AuthSessionServiceImpl implements AuthSessionService {
         }
 
         ValidatedJwt claims = accessClaims.get();
+        Optional<Authentication> cached = authenticatedSessionCache.get(claims.sessionId(), claims.userId());
+        if (cached.isPresent()) {
+            authSessionMetricsService.recordSessionCacheHit();
+            return cached.get();
+        }
+        authSessionMetricsService.recordSessionCacheMiss();
+
+        // Read before the lookup so an invalidation racing with it prevents caching stale state
+        long cacheGeneration = authenticatedSessionCache.generation();
         LocalDateTime now = LocalDateTime.now(utcClock);
         if (!authSessionRepository.existsActiveSession(claims.sessionId(), claims.userId(), now)) {
             log.debug("Rejected access token for inactive authentication session");
@@ -138,7 +150,9 @@ public class AuthSessionServiceImpl implements AuthSessionService {
             return null;
         }
 
-        return jwtTokenService.getAuthentication(claims);
+        Authentication authentication = jwtTokenService.getAuthentication(claims);
+        authenticatedSessionCache.put(claims.sessionId(), claims.userId(), authentication, cacheGeneration);
+        return authentication;
     }
 
     @Override
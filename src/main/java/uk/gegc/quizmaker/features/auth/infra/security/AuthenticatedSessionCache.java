@@ -0,0 +1,157 @@
+package uk.gegc.quizmaker.features.auth.infra.security;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gegc.quizmaker.features.user.domain.event.UserAuthoritiesChangedEvent;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Short-lived cache of validated access sessions, keyed by session ID.
+ * <p>
+ * An entry records that the session was active and holds the user's resolved {@link UserDetails},
+ * so repeated bearer requests within the TTL skip the session lookup and the user/roles query.
+ * Entries are dropped on logout, revocation, refresh-token rotation and authority changes; each
+ * invalidation is repeated after the surrounding transaction completes and bumps a generation
+ * counter, so a lookup that raced with it cannot re-insert what it read before the commit.
+ * Revocations made on another node become visible here once the TTL has passed. The map is
+ * access-ordered and bounded, so a full cache drops its least recently used session on insert.
+ * </p>
+ */
+@Component
+public class AuthenticatedSessionCache {
+
+    private final Map<UUID, Entry> entries;
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlMillis;
+    private final Clock clock;
+
+    public AuthenticatedSessionCache(
+            @Value("${app.auth.session-cache.ttl-ms:5000}") long ttlMillis,
+            @Value("${app.auth.session-cache.max-entries:10000}") int maxEntries,
+            @Qualifier("utcClock") Clock utcClock
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.clock = utcClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns a fresh authentication for a cached, still-valid session owned by {@code userId}.
+     */
+    public Optional<Authentication> get(UUID sessionId, UUID userId) {
+        UserDetails userDetails;
+        synchronized (entries) {
+            Entry entry = entries.get(sessionId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAtMillis <= clock.millis() || !entry.userId.equals(userId)) {
+                entries.remove(sessionId);
+                return Optional.empty();
+            }
+            userDetails = entry.userDetails;
+        }
+        return Optional.of(new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    /**
+     * Current invalidation generation; read it before loading the session so {@link #put} can
+     * tell whether an invalidation happened in between.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(UUID sessionId, UUID userId, Authentication authentication, long observedGeneration) {
+        if (ttlMillis <= 0 || !(authentication.getPrincipal() instanceof UserDetails userDetails)) {
+            return;
+        }
+        if (observedGeneration != generation.get()) {
+            return;
+        }
+        Entry entry = new Entry(userId, userDetails, clock.millis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(sessionId, entry);
+        }
+        if (observedGeneration != generation.get()) {
+            synchronized (entries) {
+                entries.remove(sessionId, entry);
+            }
+        }
+    }
+
+    public void invalidateSession(UUID sessionId) {
+        invalidate(() -> {
+            synchronized (entries) {
+                entries.remove(sessionId);
+            }
+        });
+    }
+
+    public void invalidateUser(UUID userId) {
+        invalidate(() -> {
+            synchronized (entries) {
+                entries.values().removeIf(entry -> entry.userId.equals(userId));
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        invalidate(() -> {
+            synchronized (entries) {
+                entries.clear();
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserAuthoritiesChanged(UserAuthoritiesChangedEvent event) {
+        if (event.affectsAllUsers()) {
+            invalidateAll();
+        } else {
+            invalidateUser(event.getUserId());
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void invalidate(Runnable eviction) {
+        generation.incrementAndGet();
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private record Entry(UUID userId, UserDetails userDetails, long expiresAtMillis) {
+    }
+}
@@ -11,6 +11,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
+import uk.gegc.quizmaker.shared.security.AuthenticatedUser;
+import uk.gegc.quizmaker.shared.security.EffectivePermissions;
 
 import java.util.List;
 
@@ -63,14 +65,13 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                         .distinct()
                         .toList());
 
-        return new org.springframework.security.core.userdetails.User(
+        return new AuthenticatedUser(
+                user.getId(),
                 user.getUsername(),
                 user.getHashedPassword(),
                 user.isActive(),
-                true,
-                true,
-                true,
-                authorities
+                authorities,
+                EffectivePermissions.of(user.getRoles())
         );
     }
 }
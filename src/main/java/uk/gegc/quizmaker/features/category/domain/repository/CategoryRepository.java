@@ -1,9 +1,13 @@
 package uk.gegc.quizmaker.features.category.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gegc.quizmaker.features.category.domain.model.Category;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +16,7 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
     Optional<Category> findByName(String general);
     Optional<Category> findByNameIgnoreCase(String name);
 
+    @Query("SELECT c.id FROM Category c WHERE LOWER(c.name) IN :lowerNames")
+    List<UUID> findIdsByNameInIgnoreCase(@Param("lowerNames") Collection<String> lowerNames);
+
 }
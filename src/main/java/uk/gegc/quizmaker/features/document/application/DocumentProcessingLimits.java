@@ -36,6 +36,8 @@ public class DocumentProcessingLimits {
     private static final Duration DEFAULT_PARSE_TIMEOUT = Duration.ofSeconds(60);
     private static final long DEFAULT_PARSER_WORKER_MAX_HEAP_BYTES = 384L * 1024 * 1024;
     private static final long DEFAULT_PARSER_WORKER_MAX_OUTPUT_BYTES = 16L * 1024 * 1024;
+    private static final int DEFAULT_PARSER_WORKER_POOL_SIZE = 0;
+    private static final Duration DEFAULT_PARSER_WORKER_POOL_IDLE_LIFETIME = Duration.ofMinutes(10);
     private static final Duration DEFAULT_PARSER_TERMINATION_GRACE = Duration.ofSeconds(1);
     private static final Duration DEFAULT_PARSER_FORCE_KILL_TIMEOUT = Duration.ofSeconds(5);
     private static final Duration DEFAULT_PARSER_SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
@@ -88,6 +90,16 @@ public class DocumentProcessingLimits {
     @Max(1L * 1024 * 1024 * 1024)
     private long parserWorkerMaxOutputBytes = DEFAULT_PARSER_WORKER_MAX_OUTPUT_BYTES;
 
+    /** Pre-started single-use parser processes kept waiting for work; zero starts every worker on demand. */
+    @Min(0)
+    @Max(32)
+    private int parserWorkerPoolSize = DEFAULT_PARSER_WORKER_POOL_SIZE;
+
+    private Duration parserWorkerPoolIdleLifetime = DEFAULT_PARSER_WORKER_POOL_IDLE_LIFETIME;
+
+    /** Optional AppCDS archive of the parser classpath passed to every worker JVM when readable. */
+    private String parserWorkerClassDataArchive = "";
+
     private Duration parserTerminationGrace = DEFAULT_PARSER_TERMINATION_GRACE;
 
     private Duration parserForceKillTimeout = DEFAULT_PARSER_FORCE_KILL_TIMEOUT;
@@ -114,6 +126,7 @@ public class DocumentProcessingLimits {
                 && isPositive(parserForceKillTimeout)
                 && isPositive(parserShutdownTimeout)
                 && isPositive(stagingRetention)
+                && isPositive(parserWorkerPoolIdleLifetime)
                 && parserWorkerMaxHeapBytes >= maxPdfMainMemoryBytes
                 && parserWorkerMaxOutputBytes >= maxExtractedCharacters;
     }
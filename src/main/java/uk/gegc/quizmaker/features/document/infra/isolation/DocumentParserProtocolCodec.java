@@ -4,24 +4,47 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import uk.gegc.quizmaker.features.document.application.ConvertedDocument;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * File protocol between the parent and one parser worker. The small request stays JSON; the response
+ * is a length-prefixed binary frame whose text fields are raw UTF-8 segments, so the worker never
+ * escapes document text and the parent decodes it straight from a memory-mapped file.
+ */
 final class DocumentParserProtocolCodec {
 
-    static final int PROTOCOL_VERSION = 1;
+    static final int PROTOCOL_VERSION = 2;
     static final String REQUEST_FILE = "request.json";
-    static final String RESPONSE_FILE = "response.json";
+    static final String RESPONSE_FILE = "response.bin";
     static final String INPUT_FILE = "input.document";
     private static final long MAX_REQUEST_BYTES = 64 * 1024;
     private static final int MAX_PROTOCOL_STRING = 100_000_000;
+    private static final int RESPONSE_MAGIC = 0x514D4450;
+    private static final int RESPONSE_END = 0x454E4421;
+    private static final byte DOCUMENT_FRAME = 1;
+    private static final byte ERROR_FRAME = 2;
+    private static final int NULL_LENGTH = -1;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
 
     private final ObjectMapper objectMapper;
 
@@ -48,19 +71,29 @@ final class DocumentParserProtocolCodec {
     }
 
     void writeResponse(Path responsePath, DocumentParserWorkerResponse response, long maxBytes) throws IOException {
-        writeAtomically(responsePath, response, maxBytes);
+        writeAtomically(responsePath, maxBytes, output -> writeResponseFrame(new DataOutputStream(output), response));
     }
 
     DocumentParserWorkerResponse readResponse(Path responsePath, long maxBytes) throws IOException {
         validateReadableFile(responsePath, maxBytes);
-        return objectMapper.readValue(responsePath.toFile(), DocumentParserWorkerResponse.class);
+        try (FileChannel channel = FileChannel.open(responsePath, StandardOpenOption.READ)) {
+            MappedByteBuffer frame = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return readResponseFrame(frame);
+        } catch (BufferUnderflowException | IllegalArgumentException malformedFrame) {
+            throw new IOException("Parser protocol response is malformed");
+        }
     }
 
     private void writeAtomically(Path destination, Object value, long maxBytes) throws IOException {
+        writeAtomically(destination, maxBytes, output -> objectMapper.writeValue(output, value));
+    }
+
+    private void writeAtomically(Path destination, long maxBytes, FrameWriter writer) throws IOException {
         Path temporary = destination.resolveSibling(destination.getFileName() + ".tmp");
         Files.deleteIfExists(temporary);
-        try (OutputStream output = new LimitedOutputStream(Files.newOutputStream(temporary), maxBytes)) {
-            objectMapper.writeValue(output, value);
+        try (OutputStream output = new BufferedOutputStream(
+                new LimitedOutputStream(Files.newOutputStream(temporary), maxBytes), WRITE_BUFFER_BYTES)) {
+            writer.write(output);
         } catch (IOException failure) {
             Files.deleteIfExists(temporary);
             throw failure;
@@ -72,6 +105,203 @@ final class DocumentParserProtocolCodec {
         }
     }
 
+    private static void writeResponseFrame(DataOutputStream output, DocumentParserWorkerResponse response)
+            throws IOException {
+        output.writeInt(RESPONSE_MAGIC);
+        output.writeInt(response.protocolVersion());
+        if (response.error() != null) {
+            output.writeByte(ERROR_FRAME);
+            writeText(output, response.error().name());
+        } else {
+            output.writeByte(DOCUMENT_FRAME);
+            writeDocument(output, response.document());
+        }
+        output.writeInt(RESPONSE_END);
+        output.flush();
+    }
+
+    private static void writeDocument(DataOutputStream output, ConvertedDocument document) throws IOException {
+        writeText(output, document.getTitle());
+        writeText(output, document.getAuthor());
+        writeText(output, document.getOriginalFilename());
+        writeText(output, document.getContentType());
+        writeInteger(output, document.getTotalPages());
+        writeLong(output, document.getFileSize());
+        writeText(output, document.getFullContent());
+        writeText(output, document.getMetadata());
+        writeText(output, document.getConverterType());
+        writeText(output, document.getProcessingNotes());
+        List<ConvertedDocument.Chapter> chapters = document.getChapters();
+        output.writeInt(chapters == null ? NULL_LENGTH : chapters.size());
+        if (chapters == null) {
+            return;
+        }
+        for (ConvertedDocument.Chapter chapter : chapters) {
+            writeText(output, chapter.getTitle());
+            writeText(output, chapter.getContent());
+            writeInteger(output, chapter.getStartPage());
+            writeInteger(output, chapter.getEndPage());
+            List<ConvertedDocument.Section> sections = chapter.getSections();
+            output.writeInt(sections == null ? NULL_LENGTH : sections.size());
+            if (sections == null) {
+                continue;
+            }
+            for (ConvertedDocument.Section section : sections) {
+                writeText(output, section.getTitle());
+                writeText(output, section.getContent());
+                writeInteger(output, section.getStartPage());
+                writeInteger(output, section.getEndPage());
+                writeText(output, section.getChapterTitle());
+                writeInteger(output, section.getChapterNumber());
+                writeInteger(output, section.getSectionNumber());
+            }
+        }
+    }
+
+    private static void writeText(DataOutputStream output, String value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static void writeInteger(DataOutputStream output, Integer value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeInt(value);
+        }
+    }
+
+    private static void writeLong(DataOutputStream output, Long value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeLong(value);
+        }
+    }
+
+    private static DocumentParserWorkerResponse readResponseFrame(ByteBuffer frame) throws IOException {
+        if (frame.getInt() != RESPONSE_MAGIC) {
+            throw new IOException("Parser protocol response is malformed");
+        }
+        int protocolVersion = frame.getInt();
+        if (protocolVersion != PROTOCOL_VERSION) {
+            // Later fields are only meaningful for this version; the caller rejects the mismatch.
+            return new DocumentParserWorkerResponse(protocolVersion, null, null);
+        }
+        byte frameType = frame.get();
+        DocumentParserWorkerResponse response = switch (frameType) {
+            case DOCUMENT_FRAME -> new DocumentParserWorkerResponse(protocolVersion, readDocument(frame), null);
+            case ERROR_FRAME -> new DocumentParserWorkerResponse(
+                    protocolVersion, null, DocumentParserWorkerError.valueOf(requireText(frame)));
+            default -> throw new IOException("Parser protocol response is malformed");
+        };
+        if (frame.getInt() != RESPONSE_END || frame.hasRemaining()) {
+            throw new IOException("Parser protocol response is malformed");
+        }
+        return response;
+    }
+
+    private static ConvertedDocument readDocument(ByteBuffer frame) throws IOException {
+        ConvertedDocument document = new ConvertedDocument();
+        document.setTitle(readText(frame));
+        document.setAuthor(readText(frame));
+        document.setOriginalFilename(readText(frame));
+        document.setContentType(readText(frame));
+        document.setTotalPages(readInteger(frame));
+        document.setFileSize(readLong(frame));
+        document.setFullContent(readText(frame));
+        document.setMetadata(readText(frame));
+        document.setConverterType(readText(frame));
+        document.setProcessingNotes(readText(frame));
+        int chapterCount = readCount(frame);
+        if (chapterCount == NULL_LENGTH) {
+            document.setChapters(null);
+            return document;
+        }
+        // Lists grow as records are decoded, so a forged count cannot pre-allocate beyond the file.
+        List<ConvertedDocument.Chapter> chapters = new ArrayList<>();
+        for (int index = 0; index < chapterCount; index++) {
+            ConvertedDocument.Chapter chapter = new ConvertedDocument.Chapter();
+            chapter.setTitle(readText(frame));
+            chapter.setContent(readText(frame));
+            chapter.setStartPage(readInteger(frame));
+            chapter.setEndPage(readInteger(frame));
+            int sectionCount = readCount(frame);
+            if (sectionCount == NULL_LENGTH) {
+                chapter.setSections(null);
+            } else {
+                List<ConvertedDocument.Section> sections = new ArrayList<>();
+                for (int sectionIndex = 0; sectionIndex < sectionCount; sectionIndex++) {
+                    ConvertedDocument.Section section = new ConvertedDocument.Section();
+                    section.setTitle(readText(frame));
+                    section.setContent(readText(frame));
+                    section.setStartPage(readInteger(frame));
+                    section.setEndPage(readInteger(frame));
+                    section.setChapterTitle(readText(frame));
+                    section.setChapterNumber(readInteger(frame));
+                    section.setSectionNumber(readInteger(frame));
+                    sections.add(section);
+                }
+                chapter.setSections(sections);
+            }
+            chapters.add(chapter);
+        }
+        document.setChapters(chapters);
+        return document;
+    }
+
+    private static String requireText(ByteBuffer frame) throws IOException {
+        String value = readText(frame);
+        if (value == null) {
+            throw new IOException("Parser protocol response is malformed");
+        }
+        return value;
+    }
+
+    private static String readText(ByteBuffer frame) throws IOException {
+        int length = frame.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > frame.remaining() || length > MAX_PROTOCOL_STRING) {
+            throw new IOException("Parser protocol response is malformed");
+        }
+        ByteBuffer segment = frame.slice(frame.position(), length);
+        frame.position(frame.position() + length);
+        return StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(segment)
+                .toString();
+    }
+
+    private static int readCount(ByteBuffer frame) throws IOException {
+        int count = frame.getInt();
+        if (count < NULL_LENGTH || count > frame.remaining()) {
+            throw new IOException("Parser protocol response is malformed");
+        }
+        return count;
+    }
+
+    private static Integer readInteger(ByteBuffer frame) {
+        return readPresence(frame) ? frame.getInt() : null;
+    }
+
+    private static Long readLong(ByteBuffer frame) {
+        return readPresence(frame) ? frame.getLong() : null;
+    }
+
+    private static boolean readPresence(ByteBuffer frame) {
+        byte presence = frame.get();
+        if (presence != 0 && presence != 1) {
+            throw new IllegalArgumentException("Parser protocol presence flag is invalid");
+        }
+        return presence == 1;
+    }
+
     private void validateReadableFile(Path path, long maxBytes) throws IOException {
         if (!Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS)) {
             throw new IOException("Parser protocol file is missing or invalid");
@@ -82,6 +312,12 @@ final class DocumentParserProtocolCodec {
         }
     }
 
+    @FunctionalInterface
+    private interface FrameWriter {
+
+        void write(OutputStream output) throws IOException;
+    }
+
     static final class OutputLimitExceededException extends IOException {
 
         private OutputLimitExceededException() {
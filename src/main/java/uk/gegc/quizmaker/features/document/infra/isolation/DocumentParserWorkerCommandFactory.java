@@ -5,14 +5,23 @@ import uk.gegc.quizmaker.features.document.application.DocumentProcessingLimits;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @FunctionalInterface
 interface DocumentParserWorkerCommandFactory {
 
     List<String> create(Path operationDirectory, DocumentProcessingLimits limits);
 
+    /** Command for a pooled worker that waits in its operation directory until a request is handed over. */
+    default List<String> createStandby(Path operationDirectory, DocumentProcessingLimits limits, Duration maxWait) {
+        List<String> command = new ArrayList<>(create(operationDirectory, limits));
+        command.add(DocumentParserWorkerMain.STANDBY_ARGUMENT + Math.max(1, maxWait.toMillis()));
+        return List.copyOf(command);
+    }
+
     static DocumentParserWorkerCommandFactory currentApplication() {
         return (operationDirectory, limits) -> {
             List<String> command = new ArrayList<>();
@@ -22,6 +31,10 @@ interface DocumentParserWorkerCommandFactory {
             command.add("-XX:+ExitOnOutOfMemoryError");
             command.add("-Djava.awt.headless=true");
             command.add("-Djava.io.tmpdir=" + operationDirectory);
+            classDataArchive(limits).ifPresent(archive -> {
+                command.add("-Xshare:auto");
+                command.add("-XX:SharedArchiveFile=" + archive);
+            });
 
             String testClasspath = System.getProperty("surefire.test.class.path");
             String runtimeClasspath = System.getProperty("java.class.path");
@@ -39,6 +52,16 @@ interface DocumentParserWorkerCommandFactory {
         };
     }
 
+    private static Optional<Path> classDataArchive(DocumentProcessingLimits limits) {
+        String configured = limits.getParserWorkerClassDataArchive();
+        if (configured == null || configured.isBlank()) {
+            return Optional.empty();
+        }
+        Path archive = Path.of(configured).toAbsolutePath().normalize();
+        // A missing archive only costs start-up time, so workers still start without it
+        return Files.isRegularFile(archive) && Files.isReadable(archive) ? Optional.of(archive) : Optional.empty();
+    }
+
     private static boolean isExecutableJar(String classpath) {
         if (classpath == null || classpath.isBlank() || classpath.contains(File.pathSeparator)) {
             return false;
@@ -15,14 +15,19 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 /** Minimal non-Spring entry point for one isolated document conversion. */
 public final class DocumentParserWorkerMain {
 
     public static final String WORKER_ARGUMENT = "--document-parser-worker=";
+    public static final String STANDBY_ARGUMENT = "--document-parser-standby=";
     private static final int INVALID_PROTOCOL_EXIT = 64;
     private static final int PARENT_GONE_EXIT = 70;
+    private static final int STANDBY_EXPIRED_EXIT = 75;
+    private static final Duration REQUEST_POLL_INTERVAL = Duration.ofMillis(10);
 
     private DocumentParserWorkerMain() {
     }
@@ -48,25 +53,35 @@ public final class DocumentParserWorkerMain {
 
     public static int run(String[] args) {
         Path operationDirectory;
+        Duration standbyWait;
         try {
             operationDirectory = operationDirectory(args);
+            standbyWait = standbyWait(args);
         } catch (RuntimeException invalidArgument) {
             return INVALID_PROTOCOL_EXIT;
         }
 
         DocumentParserProtocolCodec codec = new DocumentParserProtocolCodec();
+        Path requestPath = operationDirectory.resolve(DocumentParserProtocolCodec.REQUEST_FILE);
+        if (standbyWait != null) {
+            int standbyExit = awaitHandOver(requestPath, standbyWait);
+            if (standbyExit != 0) {
+                return standbyExit;
+            }
+        }
+
         DocumentParserWorkerRequest request;
         try {
-            request = codec.readRequest(operationDirectory.resolve(DocumentParserProtocolCodec.REQUEST_FILE));
+            request = codec.readRequest(requestPath);
             validateRequest(request, operationDirectory);
         } catch (Exception invalidRequest) {
             return INVALID_PROTOCOL_EXIT;
         }
 
-        ParentProcessMonitor.start(
-                request.parentProcessId(),
-                () -> Runtime.getRuntime().halt(PARENT_GONE_EXIT)
-        );
+        // A pooled worker has been watching its parent since it started waiting
+        if (standbyWait == null) {
+            watchParent(request.parentProcessId());
+        }
 
         DocumentParserWorkerResponse response = convert(request);
         Path responsePath = operationDirectory.resolve(DocumentParserProtocolCodec.RESPONSE_FILE);
@@ -88,6 +103,56 @@ public final class DocumentParserWorkerMain {
         return 0;
     }
 
+    /**
+     * Keeps a pooled worker parked until the parent atomically publishes its request. Classes used by
+     * every conversion are loaded first, so the hand-over pays neither JVM start-up nor most class loading.
+     */
+    private static int awaitHandOver(Path requestPath, Duration maxWait) {
+        Optional<ProcessHandle> parent = ProcessHandle.current().parent();
+        if (parent.isEmpty()) {
+            return PARENT_GONE_EXIT;
+        }
+        watchParent(parent.get().pid());
+        warmUp();
+
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (!Files.isRegularFile(requestPath, LinkOption.NOFOLLOW_LINKS)) {
+            if (System.nanoTime() - deadline >= 0) {
+                return STANDBY_EXPIRED_EXIT;
+            }
+            try {
+                Thread.sleep(REQUEST_POLL_INTERVAL.toMillis());
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                return STANDBY_EXPIRED_EXIT;
+            }
+        }
+        return 0;
+    }
+
+    private static void watchParent(long parentProcessId) {
+        ParentProcessMonitor.start(
+                parentProcessId,
+                () -> Runtime.getRuntime().halt(PARENT_GONE_EXIT)
+        );
+    }
+
+    private static void warmUp() {
+        try {
+            DocumentProcessingLimits defaults = DocumentProcessingLimits.defaults();
+            new DocumentConverterFactory(List.of(
+                    new PdfDocumentConverter(defaults),
+                    new EpubDocumentConverter(defaults),
+                    new TextDocumentConverter(defaults)
+            ));
+            Class.forName("org.apache.pdfbox.pdmodel.PDDocument");
+            Class.forName("org.apache.pdfbox.text.PDFTextStripper");
+            Class.forName("org.apache.tika.Tika");
+        } catch (Exception | LinkageError ignored) {
+            // Warm-up is best effort; the conversion loads anything still missing.
+        }
+    }
+
     private static DocumentParserWorkerResponse convert(DocumentParserWorkerRequest request) {
         try {
             DocumentProcessingLimits limits = request.parserLimits().toProcessingLimits();
@@ -148,6 +213,23 @@ public final class DocumentParserWorkerMain {
         return operationDirectory;
     }
 
+    private static Duration standbyWait(String[] args) {
+        Duration standbyWait = null;
+        for (String argument : args) {
+            if (argument != null && argument.startsWith(STANDBY_ARGUMENT)) {
+                if (standbyWait != null) {
+                    throw new IllegalArgumentException("Only one parser worker standby window is allowed");
+                }
+                long millis = Long.parseLong(argument.substring(STANDBY_ARGUMENT.length()));
+                if (millis <= 0) {
+                    throw new IllegalArgumentException("Parser worker standby window is invalid");
+                }
+                standbyWait = Duration.ofMillis(millis);
+            }
+        }
+        return standbyWait;
+    }
+
     private static void validateRequest(
             DocumentParserWorkerRequest request,
             Path operationDirectory
@@ -1,8 +1,11 @@
 package uk.gegc.quizmaker.features.document.infra.isolation;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import uk.gegc.quizmaker.features.document.application.DocumentParseRequest;
 import uk.gegc.quizmaker.features.document.application.DocumentParserWorker;
@@ -18,14 +21,21 @@ import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFileAttributeView;
 import java.nio.file.attribute.PosixFilePermission;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.stream.Stream;
 
-/** Local child-JVM adapter for the document parser worker port. */
+/**
+ * Local child-JVM adapter for the document parser worker port. When a standby pool is configured,
+ * requests are handed to pre-started workers and only fall back to starting a JVM on demand.
+ */
+@Slf4j
 @Component
 public class LocalDocumentParserWorkerFactory implements DocumentParserWorkerFactory {
 
@@ -50,6 +60,8 @@ public class LocalDocumentParserWorkerFactory implements DocumentParserWorkerFac
     private final DocumentParserProcessStarter processStarter;
     private final Clock clock;
     private final Set<Path> activeOperations = ConcurrentHashMap.newKeySet();
+    private final Deque<StandbyWorker> standbyWorkers = new ConcurrentLinkedDeque<>();
+    private volatile boolean accepting = true;
 
     @Autowired
     public LocalDocumentParserWorkerFactory(
@@ -82,11 +94,17 @@ public class LocalDocumentParserWorkerFactory implements DocumentParserWorkerFac
     @PostConstruct
     void initialize() {
         prepareRootAndCleanExpired();
+        replenishStandbyWorkers();
     }
 
     @Override
     public DocumentParserWorker start(DocumentParseRequest request) {
         Path validatedSource = validateSource(request);
+        StandbyWorker standby = takeStandbyWorker();
+        if (standby != null) {
+            return handOver(standby, request, validatedSource);
+        }
+
         Path operationDirectory = null;
         Process process = null;
         try {
@@ -94,36 +112,9 @@ public class LocalDocumentParserWorkerFactory implements DocumentParserWorkerFac
                     prepareRootAndCleanExpired(), OPERATION_PREFIX);
             activeOperations.add(operationDirectory);
             restrictPermissions(operationDirectory, OWNER_DIRECTORY_PERMISSIONS);
+            stageOperation(operationDirectory, validatedSource, request);
 
-            Path isolatedSource = operationDirectory.resolve(DocumentParserProtocolCodec.INPUT_FILE);
-            stageWorkerInput(validatedSource, isolatedSource, request.sizeBytes());
-            restrictPermissions(isolatedSource, OWNER_INPUT_PERMISSIONS);
-            DocumentParseRequest isolatedRequest = new DocumentParseRequest(
-                    isolatedSource,
-                    request.originalFilename(),
-                    request.contentType(),
-                    request.sizeBytes()
-            );
-
-            Path requestPath = operationDirectory.resolve(DocumentParserProtocolCodec.REQUEST_FILE);
-            codec.writeRequest(
-                    requestPath,
-                    DocumentParserWorkerRequest.create(isolatedRequest, limits, operationDirectory)
-            );
-            restrictPermissions(requestPath, OWNER_FILE_PERMISSIONS);
-
-            List<String> command = commandFactory.create(operationDirectory, limits);
-            ProcessBuilder processBuilder = new ProcessBuilder(command)
-                    .directory(operationDirectory.toFile())
-                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
-                    .redirectError(ProcessBuilder.Redirect.DISCARD);
-            processBuilder.environment().clear();
-            process = processStarter.start(processBuilder);
-            try {
-                process.getOutputStream().close();
-            } catch (IOException ignored) {
-                // The worker does not consume standard input.
-            }
+            process = launch(operationDirectory, commandFactory.create(operationDirectory, limits));
             Path ownedOperation = operationDirectory;
             return new LocalDocumentParserWorker(
                     process,
@@ -145,6 +136,149 @@ public class LocalDocumentParserWorkerFactory implements DocumentParserWorkerFac
         }
     }
 
+    /**
+     * Tops the standby pool up to its configured size after retiring workers that died or outlived the
+     * idle lifetime. Standby workers are single-use and sit outside the parse capacity limits until a
+     * request is handed to them.
+     */
+    @Scheduled(fixedDelayString = "${quizmaker.document.processing.parser-worker-pool-refresh-interval:PT1S}")
+    public synchronized void replenishStandbyWorkers() {
+        if (!accepting || limits.getParserWorkerPoolSize() <= 0) {
+            return;
+        }
+        Instant now = clock.instant();
+        for (StandbyWorker standby : standbyWorkers) {
+            // Only the caller that unlinks a worker may retire it; start() may be taking it concurrently.
+            if (!isUsable(standby, now) && standbyWorkers.remove(standby)) {
+                retire(standby);
+            }
+        }
+        while (standbyWorkers.size() < limits.getParserWorkerPoolSize()) {
+            try {
+                standbyWorkers.addLast(startStandbyWorker());
+            } catch (Exception spawnFailure) {
+                // Uploads fall back to on-demand workers; the next refresh retries.
+                log.warn("Could not start a standby document parser worker: {}",
+                        spawnFailure.getClass().getSimpleName());
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        accepting = false;
+        StandbyWorker standby;
+        while ((standby = standbyWorkers.pollFirst()) != null) {
+            retire(standby);
+        }
+    }
+
+    int standbyWorkerCount() {
+        return standbyWorkers.size();
+    }
+
+    private StandbyWorker takeStandbyWorker() {
+        Instant now = clock.instant();
+        StandbyWorker standby;
+        while ((standby = standbyWorkers.pollFirst()) != null) {
+            if (isUsable(standby, now)) {
+                return standby;
+            }
+            retire(standby);
+        }
+        return null;
+    }
+
+    private DocumentParserWorker handOver(
+            StandbyWorker standby,
+            DocumentParseRequest request,
+            Path validatedSource
+    ) {
+        Path operationDirectory = standby.operationDirectory();
+        try {
+            // The request file is published last; its appearance is the worker's signal to start.
+            stageOperation(operationDirectory, validatedSource, request);
+            return new LocalDocumentParserWorker(
+                    standby.process(),
+                    operationDirectory,
+                    request,
+                    limits,
+                    codec,
+                    () -> cleanCompletedOperation(operationDirectory)
+            );
+        } catch (Exception handOverFailure) {
+            retire(standby);
+            throw new DocumentProcessingException("Document parser process could not be started");
+        }
+    }
+
+    private StandbyWorker startStandbyWorker() throws IOException {
+        Path operationDirectory = Files.createTempDirectory(prepareRootAndCleanExpired(), OPERATION_PREFIX);
+        activeOperations.add(operationDirectory);
+        try {
+            restrictPermissions(operationDirectory, OWNER_DIRECTORY_PERMISSIONS);
+            // The worker outlives the pool's idle lifetime so the pool, not the worker, retires it.
+            Duration maxWait = limits.getParserWorkerPoolIdleLifetime().multipliedBy(2);
+            Process process = launch(
+                    operationDirectory,
+                    commandFactory.createStandby(operationDirectory, limits, maxWait)
+            );
+            return new StandbyWorker(process, operationDirectory, clock.instant());
+        } catch (IOException | RuntimeException spawnFailure) {
+            cleanCompletedOperation(operationDirectory);
+            throw spawnFailure;
+        }
+    }
+
+    private boolean isUsable(StandbyWorker standby, Instant now) {
+        return standby.process().isAlive()
+                && standby.startedAt().plus(limits.getParserWorkerPoolIdleLifetime()).isAfter(now);
+    }
+
+    private void retire(StandbyWorker standby) {
+        standby.process().destroyForcibly();
+        cleanCompletedOperation(standby.operationDirectory());
+    }
+
+    private void stageOperation(
+            Path operationDirectory,
+            Path validatedSource,
+            DocumentParseRequest request
+    ) throws IOException {
+        Path isolatedSource = operationDirectory.resolve(DocumentParserProtocolCodec.INPUT_FILE);
+        stageWorkerInput(validatedSource, isolatedSource, request.sizeBytes());
+        restrictPermissions(isolatedSource, OWNER_INPUT_PERMISSIONS);
+        DocumentParseRequest isolatedRequest = new DocumentParseRequest(
+                isolatedSource,
+                request.originalFilename(),
+                request.contentType(),
+                request.sizeBytes()
+        );
+
+        Path requestPath = operationDirectory.resolve(DocumentParserProtocolCodec.REQUEST_FILE);
+        codec.writeRequest(
+                requestPath,
+                DocumentParserWorkerRequest.create(isolatedRequest, limits, operationDirectory)
+        );
+        restrictPermissions(requestPath, OWNER_FILE_PERMISSIONS);
+    }
+
+    private Process launch(Path operationDirectory, List<String> command) throws IOException {
+        ProcessBuilder processBuilder = new ProcessBuilder(command)
+                .directory(operationDirectory.toFile())
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD);
+        processBuilder.environment().clear();
+        Process process = processStarter.start(processBuilder);
+        try {
+            process.getOutputStream().close();
+        } catch (IOException ignored) {
+            // The worker does not consume standard input.
+        }
+        return process;
+    }
+
     private Path validateSource(DocumentParseRequest request) {
         if (request == null) {
             throw new IllegalArgumentException("Document parse request is required");
@@ -251,4 +385,7 @@ public class LocalDocumentParserWorkerFactory implements DocumentParserWorkerFac
             // Crash leftovers are retried after the configured staging retention.
         }
     }
+
+    private record StandbyWorker(Process process, Path operationDirectory, Instant startedAt) {
+    }
 }
@@ -0,0 +1,338 @@
+package uk.gegc.quizmaker.features.documentProcess.application;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * One-time search index over a document's text for anchor resolution.
+ * <p>
+ * The anchor strategies in {@link AnchorOffsetCalculator} search several derived views of the document
+ * (NFC, whitespace-collapsed, JSON-quote-unescaped, lower-cased). The index builds each view at most once
+ * per document, on first use, together with the offset maps that translate between a whitespace-collapsed
+ * view and the text it was derived from. {@link #findAll} resolves any number of anchors against a view
+ * with a single Aho-Corasick pass.
+ * </p>
+ * Instances are not thread-safe; build one per document and use it from a single thread.
+ */
+public final class AnchorIndex {
+
+    /**
+     * Derived views of the document. Whitespace-collapsed views keep a reference to the view they were
+     * derived from, which is the coordinate space their offset map translates back into.
+     */
+    public enum View {
+        RAW(null),
+        RAW_UNESCAPED(null),
+        RAW_WS(RAW),
+        RAW_WS_LOWER(RAW),
+        NFC(null),
+        NFC_LOWER(null),
+        NFC_UNESCAPED(null),
+        NFC_WS(NFC),
+        NFC_UNESCAPED_WS(NFC_UNESCAPED);
+
+        private final View source;
+
+        View(View source) {
+            this.source = source;
+        }
+    }
+
+    private final String documentText;
+    private final Map<View, String> views = new EnumMap<>(View.class);
+    private final Map<View, int[]> collapsedCounts = new EnumMap<>(View.class);
+
+    private AnchorIndex(String documentText) {
+        this.documentText = documentText;
+        views.put(View.RAW, documentText);
+    }
+
+    public static AnchorIndex of(String documentText) {
+        return new AnchorIndex(Objects.requireNonNull(documentText, "documentText"));
+    }
+
+    public String documentText() {
+        return documentText;
+    }
+
+    public int length() {
+        return documentText.length();
+    }
+
+    /**
+     * Text of the given view, computed on first access.
+     */
+    public String text(View view) {
+        String text = views.get(view);
+        if (text == null) {
+            text = switch (view) {
+                case RAW -> documentText;
+                case RAW_UNESCAPED -> unescapeJsonQuotes(documentText);
+                case RAW_WS -> normalizeWhitespace(documentText);
+                case RAW_WS_LOWER -> text(View.RAW_WS).toLowerCase(Locale.ROOT);
+                case NFC -> Normalizer.normalize(documentText, Normalizer.Form.NFC);
+                case NFC_LOWER -> text(View.NFC).toLowerCase(Locale.ROOT);
+                case NFC_UNESCAPED -> unescapeJsonQuotes(text(View.NFC));
+                case NFC_WS -> normalizeWhitespace(text(View.NFC));
+                case NFC_UNESCAPED_WS -> normalizeWhitespace(text(View.NFC_UNESCAPED));
+            };
+            views.put(view, text);
+        }
+        return text;
+    }
+
+    /**
+     * Translates a position in a collapsed view's source text into the collapsed view.
+     * Every whitespace run counts as a single character; the result is clamped to the view's length.
+     */
+    public int toCollapsed(View view, int sourcePosition) {
+        if (sourcePosition <= 0) {
+            return 0;
+        }
+        int[] counts = collapsedCounts(view);
+        int collapsed = counts[Math.min(sourcePosition, counts.length - 1)];
+        return Math.min(collapsed, text(view).length());
+    }
+
+    /**
+     * Translates a position in a collapsed view back into its source text: the first source position at which
+     * {@code collapsedPosition} collapsed characters have been consumed, or the source length if never reached.
+     */
+    public int toSource(View view, int collapsedPosition) {
+        if (collapsedPosition <= 0) {
+            return 0;
+        }
+        int[] counts = collapsedCounts(view);
+        // counts is non-decreasing: binary search for the first index reaching the target
+        int low = 0;
+        int high = counts.length - 1;
+        if (counts[high] < collapsedPosition) {
+            return high;
+        }
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (counts[mid] >= collapsedPosition) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds every occurrence of every pattern in the view with one pass over its text.
+     */
+    public Occurrences findAll(View view, Collection<String> patterns) {
+        return new Occurrences(text(view), Automaton.build(patterns));
+    }
+
+    private int[] collapsedCounts(View view) {
+        if (view.source == null) {
+            throw new IllegalArgumentException(view + " is not a whitespace-collapsed view");
+        }
+        return collapsedCounts.computeIfAbsent(view.source, source -> {
+            String text = text(source);
+            int[] counts = new int[text.length() + 1];
+            int count = 0;
+            boolean inWhitespace = false;
+            for (int i = 0; i < text.length(); i++) {
+                if (Character.isWhitespace(text.charAt(i))) {
+                    if (!inWhitespace) {
+                        count++; // First whitespace of a run becomes a space
+                        inWhitespace = true;
+                    }
+                } else {
+                    count++;
+                    inWhitespace = false;
+                }
+                counts[i + 1] = count;
+            }
+            return counts;
+        });
+    }
+
+    /**
+     * Collapses whitespace runs into single spaces and trims the result.
+     */
+    static String normalizeWhitespace(String text) {
+        return text.replaceAll("\\s+", " ").trim();
+    }
+
+    /**
+     * Replaces JSON-escaped quotes (\") with plain quotes.
+     */
+    static String unescapeJsonQuotes(String text) {
+        return text.replace("\\\"", "\"");
+    }
+
+    /**
+     * Occurrence lists produced by a single scan of a view. Patterns that were not part of the scan fall back
+     * to {@link String#indexOf(String, int)} so callers can mix indexed and ad-hoc lookups.
+     */
+    public static final class Occurrences {
+
+        private final String text;
+        private final Map<String, int[]> positions;
+
+        private Occurrences(String text, Automaton automaton) {
+            this.text = text;
+            this.positions = automaton.scan(text);
+        }
+
+        /**
+         * Same contract as {@code text.indexOf(pattern, fromIndex)}.
+         */
+        public int indexOf(String pattern, int fromIndex) {
+            int[] found = positions.get(pattern);
+            if (found == null) {
+                return text.indexOf(pattern, fromIndex);
+            }
+            int from = Math.max(fromIndex, 0);
+            int idx = Arrays.binarySearch(found, from);
+            if (idx < 0) {
+                idx = -idx - 1;
+            }
+            return idx < found.length ? found[idx] : -1;
+        }
+    }
+
+    /**
+     * Aho-Corasick automaton over a set of non-empty patterns. After construction each state keeps its edges
+     * as a sorted char array for binary search, and the root, where a scan spends most of its time, gets a
+     * dense table covering every char.
+     */
+    static final class Automaton {
+
+        private final List<String> patterns;
+        private char[][] edgeChars;
+        private int[][] edgeTargets;
+        private int[] rootTable;
+        private int[] fail;
+        private int[] output;      // pattern ending at this state, or -1
+        private int[] outputLink;  // nearest proper suffix state with an output, or 0
+
+        private Automaton(List<String> patterns) {
+            this.patterns = patterns;
+        }
+
+        static Automaton build(Collection<String> candidates) {
+            List<String> patterns = candidates.stream()
+                    .filter(p -> p != null && !p.isEmpty())
+                    .distinct()
+                    .toList();
+            Automaton automaton = new Automaton(patterns);
+            automaton.buildTrie();
+            automaton.buildLinks();
+            return automaton;
+        }
+
+        private void buildTrie() {
+            List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+            trie.add(new TreeMap<>());
+            List<Integer> outputs = new ArrayList<>();
+            outputs.add(-1);
+            for (int p = 0; p < patterns.size(); p++) {
+                String pattern = patterns.get(p);
+                int state = 0;
+                for (int i = 0; i < pattern.length(); i++) {
+                    Integer next = trie.get(state).get(pattern.charAt(i));
+                    if (next == null) {
+                        next = trie.size();
+                        trie.add(new TreeMap<>());
+                        outputs.add(-1);
+                        trie.get(state).put(pattern.charAt(i), next);
+                    }
+                    state = next;
+                }
+                outputs.set(state, p);
+            }
+
+            int stateCount = trie.size();
+            edgeChars = new char[stateCount][];
+            edgeTargets = new int[stateCount][];
+            output = new int[stateCount];
+            for (int state = 0; state < stateCount; state++) {
+                TreeMap<Character, Integer> edges = trie.get(state);
+                char[] chars = new char[edges.size()];
+                int[] targets = new int[edges.size()];
+                int i = 0;
+                for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                    chars[i] = edge.getKey();
+                    targets[i++] = edge.getValue();
+                }
+                edgeChars[state] = chars;
+                edgeTargets[state] = targets;
+                output[state] = outputs.get(state);
+            }
+        }
+
+        private void buildLinks() {
+            int stateCount = output.length;
+            fail = new int[stateCount];
+            outputLink = new int[stateCount];
+
+            // Root children fail to the root; everything else is resolved breadth-first
+            Deque<Integer> queue = new ArrayDeque<>();
+            for (int child : edgeTargets[0]) {
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                for (int i = 0; i < edgeChars[state].length; i++) {
+                    char c = edgeChars[state][i];
+                    int target = edgeTargets[state][i];
+                    int f = fail[state];
+                    int next;
+                    while ((next = edge(f, c)) < 0 && f != 0) {
+                        f = fail[f];
+                    }
+                    fail[target] = Math.max(next, 0);
+                    outputLink[target] = output[fail[target]] >= 0 ? fail[target] : outputLink[fail[target]];
+                    queue.add(target);
+                }
+            }
+
+            rootTable = new int[Character.MAX_VALUE + 1];
+            for (int i = 0; i < edgeChars[0].length; i++) {
+                rootTable[edgeChars[0][i]] = edgeTargets[0][i];
+            }
+        }
+
+        private int edge(int state, char c) {
+            int idx = Arrays.binarySearch(edgeChars[state], c);
+            return idx >= 0 ? edgeTargets[state][idx] : -1;
+        }
+
+        Map<String, int[]> scan(String text) {
+            int[][] found = new int[patterns.size()][];
+            int[] counts = new int[patterns.size()];
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                int next = -1;
+                while (state != 0 && (next = edge(state, c)) < 0) {
+                    state = fail[state];
+                }
+                state = state == 0 ? rootTable[c] : next;
+                for (int s = output[state] >= 0 ? state : outputLink[state]; s != 0; s = outputLink[s]) {
+                    int p = output[s];
+                    int[] list = found[p];
+                    if (list == null) {
+                        list = found[p] = new int[2];
+                    } else if (counts[p] == list.length) {
+                        list = found[p] = Arrays.copyOf(list, list.length * 2);
+                    }
+                    list[counts[p]++] = i - patterns.get(p).length() + 1;
+                }
+            }
+
+            Map<String, int[]> result = new HashMap<>();
+            for (int p = 0; p < patterns.size(); p++) {
+                // Positions are appended in ascending order of match end, which for one pattern is ascending start
+                result.put(patterns.get(p), found[p] == null ? new int[0] : Arrays.copyOf(found[p], counts[p]));
+            }
+            return result;
+        }
+    }
+}
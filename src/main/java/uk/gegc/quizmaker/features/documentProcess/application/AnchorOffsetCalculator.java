@@ -4,11 +4,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import uk.gegc.quizmaker.features.documentProcess.domain.model.DocumentNode;
 
+import uk.gegc.quizmaker.features.documentProcess.application.AnchorIndex.View;
+
 import java.text.Normalizer;
 import java.util.*;
 
-import java.util.Arrays;
-import java.util.List;
+import static uk.gegc.quizmaker.features.documentProcess.application.AnchorIndex.normalizeWhitespace;
+import static uk.gegc.quizmaker.features.documentProcess.application.AnchorIndex.unescapeJsonQuotes;
 
 /**
  * Service for calculating character offsets from text anchors.
@@ -28,13 +30,29 @@ public class AnchorOffsetCalculator {
      * @throws AnchorNotFoundException if any anchor cannot be found and no valid fallback exists
      */
     public List<DocumentNode> calculateOffsets(List<DocumentNode> nodes, String documentText) {
+        return calculateOffsets(nodes, AnchorIndex.of(documentText));
+    }
+
+    /**
+     * Calculates offsets against a prebuilt {@link AnchorIndex}, so derived views of the document are shared
+     * across calls (e.g. one call per hierarchy level). All anchors of {@code nodes} are registered up front
+     * and each view is scanned at most once for all of them.
+     *
+     * @param nodes the nodes with anchors to calculate offsets for
+     * @param index the anchor index of the document text
+     * @return the same list with calculated offsets
+     * @throws AnchorNotFoundException if any anchor cannot be found and no valid fallback exists
+     */
+    public List<DocumentNode> calculateOffsets(List<DocumentNode> nodes, AnchorIndex index) {
+        String documentText = index.documentText();
+        AnchorLookup lookup = new AnchorLookup(index, nodes);
 
         int anchorSuccesses = 0;
         int offsetFallbacks = 0;
         
         for (DocumentNode node : nodes) {
             try {
-                calculateNodeOffsets(node, documentText);
+                calculateNodeOffsets(node, lookup);
                 anchorSuccesses++;
             } catch (AnchorNotFoundException e) {
                 // Try to use AI-provided offsets as fallback
@@ -68,7 +86,8 @@ public class AnchorOffsetCalculator {
     /**
      * Calculates start and end offsets for a single node.
      */
-    private void calculateNodeOffsets(DocumentNode node, String documentText) {
+    private void calculateNodeOffsets(DocumentNode node, AnchorLookup lookup) {
+        String documentText = lookup.index.documentText();
         String startAnchor = node.getStartAnchor();
         String endAnchor = node.getEndAnchor();
         
@@ -81,13 +100,13 @@ public class AnchorOffsetCalculator {
         }
         
         // Find start offset
-        int startOffset = findAnchorPosition(documentText, startAnchor, node.getTitle(), "start");
+        int startOffset = findAnchorPosition(lookup, startAnchor, node.getTitle(), "start", 0);
         if (startOffset == -1) {
             throw new AnchorNotFoundException("Start anchor not found");
         }
         
         // Find end offset (search from start position to avoid wrong matches)
-        int endOffset = findAnchorPosition(documentText, endAnchor, node.getTitle(), "end", startOffset);
+        int endOffset = findAnchorPosition(lookup, endAnchor, node.getTitle(), "end", startOffset);
         if (endOffset == -1) {
             // Try to find a reasonable fallback end position
             log.warn("End anchor not found; attempting fallback positioning");
@@ -127,81 +146,63 @@ public class AnchorOffsetCalculator {
      * Finds the position of an anchor text in the document.
      * Uses case-sensitive search first, then falls back to case-insensitive.
      * 
-     * @param documentText the full document text
+     * @param lookup indexed views of the document with the occurrences of all registered anchors
      * @param anchor the anchor text to find
      * @param nodeTitle the node title for logging
      * @param anchorType "start" or "end" for logging
      * @param fromIndex minimum position to search from (for end anchors)
      * @return the position of the anchor, or -1 if not found
      */
-    private int findAnchorPosition(String documentText, String anchor, String nodeTitle, String anchorType, int fromIndex) {
+    private int findAnchorPosition(AnchorLookup lookup, String anchor, String nodeTitle, String anchorType, int fromIndex) {
         // Validate anchor length
         if (anchor.length() < 20) {
             log.warn("{} anchor is too short ({} characters); expected at least 20",
                     anchorType, anchor.length());
         }
         
-        // Normalize both document and anchor for Unicode consistency
-        String normalizedDoc = Normalizer.normalize(documentText, Normalizer.Form.NFC);
-        String normalizedAnchor = Normalizer.normalize(anchor, Normalizer.Form.NFC);
-        
-        // Also normalize newline characters in anchors to match document format
-        String anchorNormalized = normalizedAnchor.replace("\\n", " ").replace("\n", " ");
+        AnchorIndex index = lookup.index;
+        AnchorVariants variants = AnchorVariants.of(anchor);
         
         // First try exact match from the specified position
-        int position = normalizedDoc.indexOf(normalizedAnchor, fromIndex);
+        int position = lookup.indexOf(View.NFC, variants.nfc(), fromIndex);
         if (position != -1) {
             return position;
         }
         
         // Try with newline normalization
-        position = normalizedDoc.indexOf(anchorNormalized, fromIndex);
+        position = lookup.indexOf(View.NFC, variants.newlineNormalized(), fromIndex);
         if (position != -1) {
             return position;
         }
         
         // Try with whitespace normalization (collapse multiple whitespace to single space)
-        String docWhitespaceNormalized = normalizeWhitespace(normalizedDoc);
-        String anchorWhitespaceNormalized = normalizeWhitespace(normalizedAnchor);
-        
-        // Find position in whitespace-normalized text
-        int normalizedPosition = docWhitespaceNormalized.indexOf(anchorWhitespaceNormalized, 
-                findNormalizedPosition(normalizedDoc, docWhitespaceNormalized, fromIndex));
+        int normalizedPosition = lookup.indexOf(View.NFC_WS, variants.whitespaceNormalized(),
+                index.toCollapsed(View.NFC_WS, fromIndex));
         if (normalizedPosition != -1) {
             // Convert back to original text position
-            int originalPosition = findOriginalPosition(normalizedDoc, docWhitespaceNormalized, normalizedPosition);
-            return originalPosition;
+            return index.toSource(View.NFC_WS, normalizedPosition);
         }
         
         // Try with quote normalization (unescape JSON quotes)
-        String anchorUnescaped = unescapeJsonQuotes(normalizedAnchor);
-        String docUnescaped = unescapeJsonQuotes(normalizedDoc);
-        
-        // Try exact match with unescaped quotes
-        position = docUnescaped.indexOf(anchorUnescaped, fromIndex);
+        position = lookup.indexOf(View.NFC_UNESCAPED, variants.unescaped(), fromIndex);
         if (position != -1) {
             log.debug("Found {} anchor using quote unescaping at position {}", anchorType, position);
             return position;
         }
         
         // Try whitespace normalization with unescaped quotes
-        String docUnescapedWhitespaceNormalized = normalizeWhitespace(docUnescaped);
-        String anchorUnescapedWhitespaceNormalized = normalizeWhitespace(anchorUnescaped);
-        
-        normalizedPosition = docUnescapedWhitespaceNormalized.indexOf(anchorUnescapedWhitespaceNormalized, 
-                findNormalizedPosition(docUnescaped, docUnescapedWhitespaceNormalized, fromIndex));
+        normalizedPosition = lookup.indexOf(View.NFC_UNESCAPED_WS, variants.unescapedWhitespaceNormalized(),
+                index.toCollapsed(View.NFC_UNESCAPED_WS, fromIndex));
         if (normalizedPosition != -1) {
             // Convert back to original text position
-            int originalPosition = findOriginalPosition(docUnescaped, docUnescapedWhitespaceNormalized, normalizedPosition);
+            int originalPosition = index.toSource(View.NFC_UNESCAPED_WS, normalizedPosition);
             log.debug("Found {} anchor using whitespace normalization and quote unescaping at position {}",
                     anchorType, originalPosition);
             return originalPosition;
         }
         
         // Try case-insensitive match from the specified position
-        String lowerDoc = normalizedDoc.toLowerCase(java.util.Locale.ROOT);
-        String lowerAnchor = normalizedAnchor.toLowerCase(java.util.Locale.ROOT);
-        position = lowerDoc.indexOf(lowerAnchor, fromIndex);
+        position = lookup.indexOf(View.NFC_LOWER, variants.lowerCase(), fromIndex);
         if (position != -1) {
             log.warn("Found {} anchor using case-insensitive search at position {}", anchorType, position);
             return position;
@@ -210,13 +211,13 @@ public class AnchorOffsetCalculator {
         // Note: No fallback to before start position for end anchors to avoid wrong spans
         
         // Try fallback strategy: shortened anchor search
-        int fallbackPosition = findShortenedAnchor(documentText, anchor, nodeTitle, anchorType, fromIndex);
+        int fallbackPosition = findShortenedAnchor(index, anchor, nodeTitle, anchorType, fromIndex);
         if (fallbackPosition != -1) {
             return fallbackPosition;
         }
         
         // Try fuzzy matching strategy: find the longest matching substring
-        int fuzzyPosition = findFuzzyMatch(documentText, anchor, nodeTitle, anchorType, fromIndex);
+        int fuzzyPosition = findFuzzyMatch(index, anchor, nodeTitle, anchorType, fromIndex);
         if (fuzzyPosition != -1) {
             return fuzzyPosition;
         }
@@ -227,13 +228,6 @@ public class AnchorOffsetCalculator {
         return -1;
     }
 
-    /**
-     * Overload for backward compatibility - searches from the beginning.
-     */
-    private int findAnchorPosition(String documentText, String anchor, String nodeTitle, String anchorType) {
-        return findAnchorPosition(documentText, anchor, nodeTitle, anchorType, 0);
-    }
-
     /**
      * Validates that sibling nodes don't overlap after offset calculation.
      * Parent-child overlaps are expected in a hierarchy.
@@ -305,34 +299,19 @@ public class AnchorOffsetCalculator {
         return -1;
     }
 
-    /**
-     * Normalizes whitespace by collapsing multiple whitespace characters into single spaces.
-     * This helps match AI-generated anchors that may have different line breaks.
-     */
-    private String normalizeWhitespace(String text) {
-        return text.replaceAll("\\s+", " ").trim();
-    }
-
-    /**
-     * Unescapes JSON quotes in text. AI-generated anchors may contain escaped quotes like \"Core APIs\"
-     * but the document text has regular quotes like "Core APIs".
-     */
-    private String unescapeJsonQuotes(String text) {
-        return text.replace("\\\"", "\"");
-    }
-
     /**
      * Fallback strategy: tries to find shortened versions of the anchor.
      * This helps when AI generates very long anchors that don't exist exactly in the document.
      * 
-     * @param documentText the full document text
+     * @param index indexed views of the document
      * @param anchor the original anchor text
      * @param nodeTitle the node title for logging
      * @param anchorType "start" or "end" for logging
      * @param fromIndex minimum position to search from
      * @return the position of the shortened anchor, or -1 if not found
      */
-    private int findShortenedAnchor(String documentText, String anchor, String nodeTitle, String anchorType, int fromIndex) {
+    private int findShortenedAnchor(AnchorIndex index, String anchor, String nodeTitle, String anchorType, int fromIndex) {
+        String documentText = index.documentText();
         // Try different shortened versions of the anchor
         String[] shortenedVersions = {
             anchor.substring(0, Math.min(50, anchor.length())),  // First 50 chars
@@ -378,16 +357,16 @@ public class AnchorOffsetCalculator {
             }
             
             // Try with whitespace normalization
-            String docWhitespaceNormalized = normalizeWhitespace(documentText);
+            String docWhitespaceNormalized = index.text(View.RAW_WS);
             String shortenedWhitespaceNormalized = normalizeWhitespace(shortened);
             
             int normalizedPosition = docWhitespaceNormalized.indexOf(shortenedWhitespaceNormalized, 
-                    findNormalizedPosition(documentText, docWhitespaceNormalized, fromIndex));
+                    index.toCollapsed(View.RAW_WS, fromIndex));
             if (normalizedPosition != -1) {
                 // Verify uniqueness in normalized text
                 int secondOccurrence = docWhitespaceNormalized.indexOf(shortenedWhitespaceNormalized, normalizedPosition + 1);
                 if (secondOccurrence == -1) {
-                    int originalPosition = findOriginalPosition(documentText, docWhitespaceNormalized, normalizedPosition);
+                    int originalPosition = index.toSource(View.RAW_WS, normalizedPosition);
                     log.debug("Found {} anchor using a shortened whitespace-normalized version at position {}",
                             anchorType, originalPosition);
                     return originalPosition;
@@ -396,7 +375,7 @@ public class AnchorOffsetCalculator {
             
             // Try with quote unescaping
             String shortenedUnescaped = unescapeJsonQuotes(shortened);
-            String docUnescaped = unescapeJsonQuotes(documentText);
+            String docUnescaped = index.text(View.RAW_UNESCAPED);
             
             position = docUnescaped.indexOf(shortenedUnescaped, fromIndex);
             if (position != -1) {
@@ -417,21 +396,20 @@ public class AnchorOffsetCalculator {
      * Fuzzy matching strategy: finds the longest matching substring of the anchor in the document.
      * This handles cases where AI generates anchors that are longer than the actual text.
      * 
-     * @param documentText the full document text
+     * @param index indexed views of the document
      * @param anchor the original anchor text
      * @param nodeTitle the node title for logging
      * @param anchorType "start" or "end" for logging
      * @param fromIndex minimum position to search from
      * @return the position of the fuzzy match, or -1 if not found
      */
-    private int findFuzzyMatch(String documentText, String anchor, String nodeTitle, String anchorType, int fromIndex) {
+    private int findFuzzyMatch(AnchorIndex index, String anchor, String nodeTitle, String anchorType, int fromIndex) {
         // Normalize the anchor and document text
         String normalizedAnchor = normalizeWhitespace(unescapeJsonQuotes(anchor.replace("\\n", " ").replace("\n", " ")));
-        String normalizedDoc = normalizeWhitespace(documentText);
         
         // Try case-insensitive versions
         String normalizedAnchorLower = normalizedAnchor.toLowerCase(java.util.Locale.ROOT);
-        String normalizedDocLower = normalizedDoc.toLowerCase(java.util.Locale.ROOT);
+        String normalizedDocLower = index.text(View.RAW_WS_LOWER);
         
         // Try to find overlapping substrings from different positions
         int minLength = 15; // Minimum meaningful length
@@ -439,15 +417,13 @@ public class AnchorOffsetCalculator {
         for (int length = Math.min(normalizedAnchor.length(), 80); length >= minLength; length -= 5) {
             // Try substring from start (original behavior)
             String substringFromStart = normalizedAnchor.substring(0, length);
-            int position = tryFindSubstring(normalizedDoc, normalizedDocLower, substringFromStart, 
-                    documentText, fromIndex, anchorType, nodeTitle, "from-start");
+            int position = tryFindSubstring(index, substringFromStart, fromIndex, anchorType, nodeTitle, "from-start");
             if (position != -1) return position;
             
             // Try substring from end
             if (normalizedAnchor.length() > length) {
                 String substringFromEnd = normalizedAnchor.substring(normalizedAnchor.length() - length);
-                position = tryFindSubstring(normalizedDoc, normalizedDocLower, substringFromEnd, 
-                        documentText, fromIndex, anchorType, nodeTitle, "from-end");
+                position = tryFindSubstring(index, substringFromEnd, fromIndex, anchorType, nodeTitle, "from-end");
                 if (position != -1) return position;
             }
             
@@ -455,8 +431,7 @@ public class AnchorOffsetCalculator {
             if (normalizedAnchor.length() > length + 10) {
                 int startPos = (normalizedAnchor.length() - length) / 2;
                 String substringFromMiddle = normalizedAnchor.substring(startPos, startPos + length);
-                position = tryFindSubstring(normalizedDoc, normalizedDocLower, substringFromMiddle, 
-                        documentText, fromIndex, anchorType, nodeTitle, "from-middle");
+                position = tryFindSubstring(index, substringFromMiddle, fromIndex, anchorType, nodeTitle, "from-middle");
                 if (position != -1) return position;
             }
         }
@@ -469,13 +444,13 @@ public class AnchorOffsetCalculator {
                 String wordSubstring = String.join(" ", Arrays.copyOf(anchorWords, wordCount));
                 
                 int position = normalizedDocLower.indexOf(wordSubstring, 
-                        findNormalizedPosition(documentText, normalizedDocLower, fromIndex));
+                        index.toCollapsed(View.RAW_WS_LOWER, fromIndex));
                 
                 if (position != -1) {
                     // Verify uniqueness
                     int secondOccurrence = normalizedDocLower.indexOf(wordSubstring, position + 1);
                     if (secondOccurrence == -1) {
-                        int originalPosition = findOriginalPosition(documentText, normalizedDocLower, position);
+                        int originalPosition = index.toSource(View.RAW_WS_LOWER, position);
                         log.debug("Found {} anchor using a case-insensitive {}-word fuzzy match at position {}",
                                 anchorType, wordCount, originalPosition);
                         return originalPosition;
@@ -491,20 +466,21 @@ public class AnchorOffsetCalculator {
     /**
      * Helper method to try finding a substring with both case-sensitive and case-insensitive matching.
      */
-    private int tryFindSubstring(String normalizedDoc, String normalizedDocLower, String substring, 
-                                String documentText, int fromIndex, String anchorType, String nodeTitle, String strategy) {
-        
+    private int tryFindSubstring(AnchorIndex index, String substring,
+                                int fromIndex, String anchorType, String nodeTitle, String strategy) {
+        String normalizedDoc = index.text(View.RAW_WS);
+        String normalizedDocLower = index.text(View.RAW_WS_LOWER);
         String substringLower = substring.toLowerCase(java.util.Locale.ROOT);
         
         // Try case-sensitive first
         int position = normalizedDoc.indexOf(substring, 
-                findNormalizedPosition(documentText, normalizedDoc, fromIndex));
+                index.toCollapsed(View.RAW_WS, fromIndex));
         
         if (position != -1) {
             // Verify uniqueness
             int secondOccurrence = normalizedDoc.indexOf(substring, position + 1);
             if (secondOccurrence == -1) {
-                int originalPosition = findOriginalPosition(documentText, normalizedDoc, position);
+                int originalPosition = index.toSource(View.RAW_WS, position);
                 log.debug("Found {} anchor using fuzzy-match strategy {} at position {}",
                         anchorType, strategy, originalPosition);
                 return originalPosition;
@@ -513,13 +489,13 @@ public class AnchorOffsetCalculator {
         
         // Try case-insensitive
         position = normalizedDocLower.indexOf(substringLower, 
-                findNormalizedPosition(documentText, normalizedDocLower, fromIndex));
+                index.toCollapsed(View.RAW_WS_LOWER, fromIndex));
         
         if (position != -1) {
             // Verify uniqueness in lowercase
             int secondOccurrence = normalizedDocLower.indexOf(substringLower, position + 1);
             if (secondOccurrence == -1) {
-                int originalPosition = findOriginalPosition(documentText, normalizedDocLower, position);
+                int originalPosition = index.toSource(View.RAW_WS_LOWER, position);
                 log.debug("Found {} anchor using case-insensitive fuzzy-match strategy {} at position {}",
                         anchorType, strategy, originalPosition);
                 return originalPosition;
@@ -530,58 +506,66 @@ public class AnchorOffsetCalculator {
     }
 
     /**
-     * Finds the corresponding position in whitespace-normalized text.
+     * Search variants of one anchor, one per document view they are looked up in.
      */
-    private int findNormalizedPosition(String originalText, String normalizedText, int originalPosition) {
-        if (originalPosition == 0) return 0;
-        
-        // Count characters up to originalPosition, tracking whitespace compression
-        int normalizedPos = 0;
-        boolean inWhitespace = false;
-        
-        for (int i = 0; i < Math.min(originalPosition, originalText.length()); i++) {
-            char c = originalText.charAt(i);
-            if (Character.isWhitespace(c)) {
-                if (!inWhitespace) {
-                    normalizedPos++; // First whitespace becomes a space
-                    inWhitespace = true;
-                }
-                // Subsequent whitespace is collapsed, don't increment normalizedPos
-            } else {
-                normalizedPos++;
-                inWhitespace = false;
-            }
+    private record AnchorVariants(String nfc, String newlineNormalized, String whitespaceNormalized,
+                                  String unescaped, String unescapedWhitespaceNormalized, String lowerCase) {
+
+        static AnchorVariants of(String anchor) {
+            // Normalize the anchor for Unicode consistency with the NFC document view
+            String nfc = Normalizer.normalize(anchor, Normalizer.Form.NFC);
+            String unescaped = unescapeJsonQuotes(nfc);
+            return new AnchorVariants(
+                    nfc,
+                    // Also normalize newline characters in anchors to match document format
+                    nfc.replace("\\n", " ").replace("\n", " "),
+                    normalizeWhitespace(nfc),
+                    unescaped,
+                    normalizeWhitespace(unescaped),
+                    nfc.toLowerCase(java.util.Locale.ROOT)
+            );
         }
-        
-        return Math.min(normalizedPos, normalizedText.length());
     }
 
     /**
-     * Converts a position in whitespace-normalized text back to original text position.
+     * Anchor occurrences for one batch of nodes. Every start and end anchor is registered up front; the first
+     * lookup against a view scans it once for all registered variants and later lookups are binary searches.
      */
-    private int findOriginalPosition(String originalText, String normalizedText, int normalizedPosition) {
-        if (normalizedPosition == 0) return 0;
-        
-        int originalPos = 0;
-        int normalizedPos = 0;
-        boolean inWhitespace = false;
-        
-        while (originalPos < originalText.length() && normalizedPos < normalizedPosition) {
-            char c = originalText.charAt(originalPos);
-            if (Character.isWhitespace(c)) {
-                if (!inWhitespace) {
-                    normalizedPos++; // First whitespace counts as one position
-                    inWhitespace = true;
-                }
-                // Skip additional whitespace
-            } else {
-                normalizedPos++;
-                inWhitespace = false;
+    private static final class AnchorLookup {
+        private final AnchorIndex index;
+        private final Map<View, Set<String>> patterns = new EnumMap<>(View.class);
+        private final Map<View, AnchorIndex.Occurrences> occurrences = new EnumMap<>(View.class);
+
+        private AnchorLookup(AnchorIndex index, List<DocumentNode> nodes) {
+            this.index = index;
+            for (DocumentNode node : nodes) {
+                register(node.getStartAnchor());
+                register(node.getEndAnchor());
             }
-            originalPos++;
         }
-        
-        return originalPos;
+
+        private void register(String anchor) {
+            if (anchor == null || anchor.trim().isEmpty()) {
+                return;
+            }
+            AnchorVariants variants = AnchorVariants.of(anchor);
+            add(View.NFC, variants.nfc());
+            add(View.NFC, variants.newlineNormalized());
+            add(View.NFC_WS, variants.whitespaceNormalized());
+            add(View.NFC_UNESCAPED, variants.unescaped());
+            add(View.NFC_UNESCAPED_WS, variants.unescapedWhitespaceNormalized());
+            add(View.NFC_LOWER, variants.lowerCase());
+        }
+
+        private void add(View view, String pattern) {
+            patterns.computeIfAbsent(view, v -> new LinkedHashSet<>()).add(pattern);
+        }
+
+        private int indexOf(View view, String pattern, int fromIndex) {
+            return occurrences
+                    .computeIfAbsent(view, v -> index.findAll(v, patterns.getOrDefault(v, Set.of())))
+                    .indexOf(pattern, fromIndex);
+        }
     }
 
     /**
@@ -2,13 +2,26 @@ package uk.gegc.quizmaker.features.documentProcess.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import uk.gegc.quizmaker.features.documentProcess.domain.model.DocumentNode;
 import uk.gegc.quizmaker.features.documentProcess.config.DocumentChunkingConfig;
 
 import java.math.BigDecimal;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Service for processing large documents by chunking them into manageable pieces,
@@ -19,14 +32,30 @@ import java.util.List;
 @Slf4j
 public class ChunkedStructureService {
 
+    // Only the end of the previous chunk is scanned for headings to seed a parallel extraction
+    private static final int CONTEXT_TAIL_CHARS = 4_000;
+    private static final int MAX_CONTEXT_SEED_NODES = 10;
+    private static final Pattern HEADING_LINE = Pattern.compile(
+            "^[ \\t]*((?i:part|chapter|section)\\s+\\w[^\\n]{0,80}|[A-Z][A-Z0-9 ,:'-]{2,79})[ \\t]*$",
+            Pattern.MULTILINE);
+
     private final DocumentChunker documentChunker;
     private final LlmClient llmClient;
     private final TokenCounter tokenCounter;
     private final DocumentChunkingConfig chunkingConfig;
+    private final NodeMerger nodeMerger;
+
+    /**
+     * Bounded provider executor used when structure parallelism is above 1.
+     */
+    @Autowired(required = false)
+    @Qualifier("aiProviderTaskExecutor")
+    private Executor structureExecutor;
 
     /**
-     * Processes a large document by chunking it and processing chunks sequentially with context.
-     * This ensures AI understands the continuity between chunks and avoids duplicate sections.
+     * Processes a large document by chunking it and processing chunks with context.
+     * Chunks are processed sequentially unless structure parallelism is configured, in which case
+     * they are dispatched concurrently and boundary nodes are reconciled afterwards.
      * 
      * @param text the full document text
      * @param options structure generation options
@@ -46,7 +75,7 @@ public class ChunkedStructureService {
                     documentId, text.length());
                 // Force chunking by creating smaller chunks manually
                 List<DocumentChunker.DocumentChunk> emergencyChunks = createEmergencyChunks(text, documentId);
-                return processChunksSequentialWithContext(emergencyChunks, options, documentId);
+                return processChunks(emergencyChunks, options, documentId);
             }
             
             // Small document, process normally but still apply filtering
@@ -55,8 +84,8 @@ public class ChunkedStructureService {
             return filterQuizRelevantNodes(nodes);
         }
         
-        // Step 2: Process chunks sequentially with context
-        List<DocumentNode> allNodes = processChunksSequentialWithContext(chunks, options, documentId);
+        // Step 2: Process chunks with context
+        List<DocumentNode> allNodes = processChunks(chunks, options, documentId);
         
         log.info("Successfully processed large document {}: {} chunks -> {} final nodes", 
             documentId, chunks.size(), allNodes.size());
@@ -66,6 +95,16 @@ public class ChunkedStructureService {
     
 
     
+    private List<DocumentNode> processChunks(List<DocumentChunker.DocumentChunk> chunks,
+                                             LlmClient.StructureOptions options,
+                                             String documentId) {
+        int parallelism = Math.min(chunkingConfig.getStructureParallelism(), chunks.size());
+        if (parallelism > 1 && structureExecutor != null) {
+            return processChunksInParallel(chunks, options, documentId, parallelism);
+        }
+        return processChunksSequentialWithContext(chunks, options, documentId);
+    }
+    
     /**
      * Processes document chunks sequentially with context from previous chunks.
      * This ensures AI understands the continuity and avoids generating duplicate sections.
@@ -77,57 +116,170 @@ public class ChunkedStructureService {
         List<DocumentNode> previousNodes = new ArrayList<>();
         
         for (int i = 0; i < chunks.size(); i++) {
-            DocumentChunker.DocumentChunk chunk = chunks.get(i);
+            List<DocumentNode> chunkNodes = extractChunkStructure(
+                chunks.get(i), options, previousNodes, i, chunks.size(), documentId);
+            
+            // Add to our collection
+            allNodes.addAll(chunkNodes);
+            previousNodes.addAll(chunkNodes);
+        }
+        
+        return allNodes;
+    }
+
+    /**
+     * Processes document chunks concurrently, at most {@code parallelism} at a time, on the provider
+     * executor. Each chunk is seeded with headings from the tail of the previous chunk's text rather
+     * than the previous chunk's generated structure, and nodes repeated across chunk overlaps are
+     * reconciled once every chunk has completed.
+     */
+    private List<DocumentNode> processChunksInParallel(List<DocumentChunker.DocumentChunk> chunks,
+                                                       LlmClient.StructureOptions options,
+                                                       String documentId,
+                                                       int parallelism) {
+        int totalChunks = chunks.size();
+        log.info("Processing {} chunks of document {} with parallelism {}", totalChunks, documentId, parallelism);
+        
+        Semaphore inFlight = new Semaphore(parallelism);
+        AtomicBoolean failed = new AtomicBoolean();
+        List<CompletableFuture<List<DocumentNode>>> futures = new ArrayList<>(totalChunks);
+        try {
+            // Stop dispatching once any chunk fails; the failure is rethrown below
+            for (int i = 0; i < totalChunks && !failed.get(); i++) {
+                inFlight.acquire();
+                int chunkIndex = i;
+                List<DocumentNode> contextSeed = chunkIndex == 0
+                    ? List.of()
+                    : contextSeedFromTail(chunks.get(chunkIndex - 1));
+                CompletableFuture<List<DocumentNode>> future = submitChunk(() -> extractChunkStructure(
+                    chunks.get(chunkIndex), options, contextSeed, chunkIndex, totalChunks, documentId));
+                future.whenComplete((nodes, error) -> {
+                    if (error != null) {
+                        failed.set(true);
+                    }
+                    inFlight.release();
+                });
+                futures.add(future);
+            }
             
-            log.info("Processing chunk {} of {} for document {} ({} chars)", 
-                i + 1, chunks.size(), documentId, chunk.getLength());
+            List<List<DocumentNode>> chunkResults = new ArrayList<>(totalChunks);
+            for (CompletableFuture<List<DocumentNode>> future : futures) {
+                chunkResults.add(future.join());
+            }
+            return nodeMerger.reconcileBoundaryNodes(chunkResults, chunks);
             
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(false));
+            Thread.currentThread().interrupt();
+            throw new LlmClient.LlmException("Structure generation interrupted", e);
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<List<DocumentNode>> submitChunk(Supplier<List<DocumentNode>> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, structureExecutor);
+        } catch (RejectedExecutionException e) {
+            // The provider executor is shared; when it is saturated the chunk runs on the calling thread
+            log.warn("Provider executor saturated; extracting chunk structure on the calling thread");
+            CompletableFuture<List<DocumentNode>> future = new CompletableFuture<>();
             try {
-                // Create context-aware options with previous structure
-                LlmClient.StructureOptions contextOptions = createContextOptions(options, previousNodes, i, chunks.size());
-                
-                // Generate structure for this chunk with context
-                List<DocumentNode> chunkNodes = llmClient.generateStructureWithContext(
-                    chunk.getText(), contextOptions, previousNodes, i, chunks.size());
-                
-                // Adjust offsets to global document coordinates
-                adjustNodeOffsets(chunkNodes, chunk.getStartOffset());
-                
-                // Filter out unwanted sections (author, acknowledgments, etc.)
-                List<DocumentNode> filteredNodes = filterQuizRelevantNodes(chunkNodes);
-                
-                // Add to our collection
-                allNodes.addAll(filteredNodes);
-                previousNodes.addAll(filteredNodes);
-                
-                log.info("Chunk {} completed with {} nodes ({} after filtering)", 
-                    i + 1, chunkNodes.size(), filteredNodes.size());
-                
-            } catch (Exception e) {
-                log.error("Failed to process chunk {} of document {}", i + 1, documentId);
-                
-                // If this is a "No nodes generated" error, try to create a fallback node
-                if (e.getCause() instanceof LlmClient.LlmException && 
-                    e.getCause().getMessage().contains("No nodes generated")) {
-                    log.warn("Chunk {} returned no nodes - creating fallback node to continue processing", i + 1);
-                    try {
-                        // Create a fallback node for the entire chunk
-                        List<DocumentNode> fallbackNodes = createFallbackNode(chunk, options, i, chunks.size());
-                        adjustNodeOffsets(fallbackNodes, chunk.getStartOffset());
-                        allNodes.addAll(fallbackNodes);
-                        previousNodes.addAll(fallbackNodes);
-                        log.info("Created fallback node for chunk {} with {} nodes", i + 1, fallbackNodes.size());
-                        continue;
-                    } catch (Exception fallbackError) {
-                        log.error("Failed to create fallback node for chunk {}", i + 1);
-                    }
+                future.complete(task.get());
+            } catch (RuntimeException failure) {
+                future.completeExceptionally(failure);
+            }
+            return future;
+        }
+    }
+
+    /**
+     * Generates, offsets and filters the structure of one chunk, falling back to a single node
+     * when the AI finds no structure in it.
+     */
+    private List<DocumentNode> extractChunkStructure(DocumentChunker.DocumentChunk chunk,
+                                                     LlmClient.StructureOptions options,
+                                                     List<DocumentNode> contextNodes,
+                                                     int chunkIndex,
+                                                     int totalChunks,
+                                                     String documentId) {
+        log.info("Processing chunk {} of {} for document {} ({} chars)", 
+            chunkIndex + 1, totalChunks, documentId, chunk.getLength());
+        
+        try {
+            // Create context-aware options with previous structure
+            LlmClient.StructureOptions contextOptions = createContextOptions(options, contextNodes, chunkIndex, totalChunks);
+            
+            // Generate structure for this chunk with context
+            List<DocumentNode> chunkNodes = llmClient.generateStructureWithContext(
+                chunk.getText(), contextOptions, contextNodes, chunkIndex, totalChunks);
+            
+            // Adjust offsets to global document coordinates
+            adjustNodeOffsets(chunkNodes, chunk.getStartOffset());
+            
+            // Filter out unwanted sections (author, acknowledgments, etc.)
+            List<DocumentNode> filteredNodes = filterQuizRelevantNodes(chunkNodes);
+            
+            log.info("Chunk {} completed with {} nodes ({} after filtering)", 
+                chunkIndex + 1, chunkNodes.size(), filteredNodes.size());
+            return filteredNodes;
+            
+        } catch (Exception e) {
+            log.error("Failed to process chunk {} of document {}", chunkIndex + 1, documentId);
+            
+            // If this is a "No nodes generated" error, try to create a fallback node
+            if (e.getCause() instanceof LlmClient.LlmException && 
+                e.getCause().getMessage().contains("No nodes generated")) {
+                log.warn("Chunk {} returned no nodes - creating fallback node to continue processing", chunkIndex + 1);
+                try {
+                    // Create a fallback node for the entire chunk
+                    List<DocumentNode> fallbackNodes = createFallbackNode(chunk, options, chunkIndex, totalChunks);
+                    adjustNodeOffsets(fallbackNodes, chunk.getStartOffset());
+                    log.info("Created fallback node for chunk {} with {} nodes", chunkIndex + 1, fallbackNodes.size());
+                    return fallbackNodes;
+                } catch (Exception fallbackError) {
+                    log.error("Failed to create fallback node for chunk {}", chunkIndex + 1);
                 }
-                
-                throw new RuntimeException("Chunk processing failed", e);
+            }
+            
+            throw new RuntimeException("Chunk processing failed", e);
+        }
+    }
+
+    /**
+     * Builds lightweight context for a chunk from the headings near the end of the previous chunk,
+     * so it can be dispatched without waiting for the previous chunk's generated structure.
+     */
+    List<DocumentNode> contextSeedFromTail(DocumentChunker.DocumentChunk previousChunk) {
+        String text = previousChunk.getText();
+        Matcher matcher = HEADING_LINE.matcher(text)
+            .region(Math.max(0, text.length() - CONTEXT_TAIL_CHARS), text.length())
+            .useAnchoringBounds(false);
+        
+        Deque<String> headings = new ArrayDeque<>();
+        while (matcher.find()) {
+            headings.addLast(matcher.group(1).strip());
+            if (headings.size() > MAX_CONTEXT_SEED_NODES) {
+                headings.removeFirst();
             }
         }
+        if (headings.isEmpty()) {
+            headings.add("Continuation of chunk " + (previousChunk.getChunkIndex() + 1));
+        }
         
-        return allNodes;
+        List<DocumentNode> seed = new ArrayList<>(headings.size());
+        for (String heading : headings) {
+            DocumentNode node = new DocumentNode();
+            node.setType(DocumentNode.NodeType.OTHER);
+            node.setTitle(heading);
+            node.setDepth((short) 0);
+            seed.add(node);
+        }
+        return seed;
     }
     
     /**
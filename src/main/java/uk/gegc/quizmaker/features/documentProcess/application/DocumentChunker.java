@@ -35,6 +35,21 @@ public class DocumentChunker {
     private static final Pattern SECTION_BREAK = Pattern.compile("\\n\\s*[A-Z][A-Z\\s]+\\n");
     private static final Pattern CHAPTER_BREAK = Pattern.compile("\\n\\s*Chapter\\s+\\d+", Pattern.CASE_INSENSITIVE);
 
+    // Headings that start back-matter sections; one alternation finds the earliest in a single scan
+    private static final Pattern IRRELEVANT_SECTION = Pattern.compile(
+            "\\b(?:INDEX|APPENDIX|APPENDICES|BIBLIOGRAPHY|REFERENCES|GLOSSARY|ACKNOWLEDGMENTS|ACKNOWLEDGEMENTS"
+                    + "|ABOUT THE AUTHORS?)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final String[] IRRELEVANT_KEYWORDS = {
+        "index", "appendix", "bibliography", "references", "glossary",
+        "acknowledgment", "about the author", "page", "chapter"
+    };
+
+    // A chunk is irrelevant when keywords make up more than 30% of its words, so at most
+    // IRRELEVANT_KEYWORDS.length / 0.3 words need counting before the answer is known
+    private static final int IRRELEVANT_WORD_LIMIT = (int) (IRRELEVANT_KEYWORDS.length / 0.3);
+
     /**
      * Get max chunk size in characters based on token limits.
      * Calculated lazily after dependency injection.
@@ -114,6 +129,9 @@ public class DocumentChunker {
         log.info("Document {} requires chunking ({} tokens, {} chars)", 
                 documentId, filteredTokens, filteredText.length());
         
+        // Chunks are recorded as offsets into the filtered text rather than copied while scanning;
+        // the minimum size is checked on the span's estimated tokens, which only depend on its length
+        int minChunkChars = tokenCounter.estimateMaxCharsForTokens(MIN_CHUNK_TOKENS);
         List<DocumentChunk> chunks = new ArrayList<>();
         int currentPosition = 0;
         int chunkIndex = 0;
@@ -126,7 +144,7 @@ public class DocumentChunker {
                 log.error("CRITICAL: Too many chunking loops ({}), forcing emergency chunking", loopCount);
                 return forceChunkDocument(text, documentId);
             }
-            int chunkEnd = calculateChunkEnd(filteredText, currentPosition, maxChunkSize);
+            int chunkEnd = calculateChunkEnd(filteredText, currentPosition, maxChunkSize, minChunkChars);
             
             // Safety check: ensure we're actually advancing
             if (chunkEnd <= currentPosition) {
@@ -141,19 +159,16 @@ public class DocumentChunker {
                 }
             }
             
-            // Extract chunk text
-            String chunkText = filteredText.substring(currentPosition, chunkEnd);
-            
             // Skip chunks that are too small or contain only irrelevant content
-            int chunkTokens = tokenCounter.estimateTokens(chunkText);
-            if (chunkTokens < MIN_CHUNK_TOKENS || isIrrelevantChunk(chunkText)) {
+            if (tokenCounter.estimateTokensForChars(chunkEnd - currentPosition) < MIN_CHUNK_TOKENS
+                    || isIrrelevantChunk(filteredText, currentPosition, chunkEnd)) {
                 currentPosition = chunkEnd;
                 continue;
             }
             
-            // Create chunk with metadata
-            DocumentChunk chunk = new DocumentChunk(
-                chunkText, 
+            // Create chunk with metadata; its text is sliced from the filtered text on first use
+            DocumentChunk chunk = DocumentChunk.slice(
+                filteredText, 
                 currentPosition, 
                 chunkEnd, 
                 chunkIndex++
@@ -202,23 +217,19 @@ public class DocumentChunker {
     /**
      * Calculates the optimal end position for a chunk, respecting semantic boundaries and token limits.
      */
-    private int calculateChunkEnd(String text, int startPosition, int maxChunkSize) {
+    private int calculateChunkEnd(String text, int startPosition, int maxChunkSize, int minChunkSize) {
         int maxEnd = Math.min(startPosition + maxChunkSize, text.length());
         
         // If we're near the end of the document, just use the end
-        int minChunkSize = tokenCounter.estimateMaxCharsForTokens(MIN_CHUNK_TOKENS);
         if (maxEnd >= text.length() - minChunkSize) {
             return text.length();
         }
         
         // Look for semantic boundaries within the chunk
-        String chunkText = text.substring(startPosition, maxEnd);
-        
-        // Try to find a good breaking point
-        int bestBreak = findBestBreakPoint(chunkText);
+        int bestBreak = findBestBreakPoint(text, startPosition, maxEnd);
         
-        if (bestBreak > 0) {
-            return startPosition + bestBreak;
+        if (bestBreak > startPosition) {
+            return bestBreak;
         }
         
         // Fallback: break at word boundary
@@ -226,102 +237,101 @@ public class DocumentChunker {
     }
     
     /**
-     * Finds the best semantic breaking point within a chunk.
+     * Finds the best semantic breaking point within {@code [start, end)} of the text.
+     * Matchers are bounded to the region, so the candidate chunk is never copied.
+     *
+     * @return absolute offset of the break, or -1 when none lies in the last 30% of the region
      */
-    private int findBestBreakPoint(String chunkText) {
-        // Look for paragraph breaks first
-        Matcher paragraphMatcher = PARAGRAPH_BREAK.matcher(chunkText);
-        int lastParagraphBreak = -1;
-        while (paragraphMatcher.find()) {
-            lastParagraphBreak = paragraphMatcher.end();
-        }
-        
-        // Look for section breaks
-        Matcher sectionMatcher = SECTION_BREAK.matcher(chunkText);
-        int lastSectionBreak = -1;
-        while (sectionMatcher.find()) {
-            lastSectionBreak = sectionMatcher.end();
-        }
-        
-        // Look for chapter breaks
-        Matcher chapterMatcher = CHAPTER_BREAK.matcher(chunkText);
-        int lastChapterBreak = -1;
-        while (chapterMatcher.find()) {
-            lastChapterBreak = chapterMatcher.end();
-        }
+    private int findBestBreakPoint(String text, int start, int end) {
+        int threshold = start + (int) ((end - start) * 0.7);
         
         // Prefer chapter breaks, then section breaks, then paragraph breaks
-        if (lastChapterBreak > chunkText.length() * 0.7) {
+        int lastChapterBreak = lastMatchEnd(CHAPTER_BREAK, text, start, end);
+        if (lastChapterBreak > threshold) {
             return lastChapterBreak;
         }
-        if (lastSectionBreak > chunkText.length() * 0.7) {
+        int lastSectionBreak = lastMatchEnd(SECTION_BREAK, text, start, end);
+        if (lastSectionBreak > threshold) {
             return lastSectionBreak;
         }
-        if (lastParagraphBreak > chunkText.length() * 0.7) {
+        int lastParagraphBreak = lastMatchEnd(PARAGRAPH_BREAK, text, start, end);
+        if (lastParagraphBreak > threshold) {
             return lastParagraphBreak;
         }
         
         return -1; // No good break point found
     }
+
+    private int lastMatchEnd(Pattern pattern, String text, int start, int end) {
+        Matcher matcher = pattern.matcher(text).region(start, end);
+        int lastEnd = -1;
+        while (matcher.find()) {
+            lastEnd = matcher.end();
+        }
+        return lastEnd;
+    }
     
     /**
      * Filters out irrelevant content like indexes, appendices, etc.
      */
     private String filterIrrelevantContent(String text) {
         // Find the start of irrelevant sections
-        String[] irrelevantPatterns = {
-            "\\bINDEX\\b",
-            "\\bAPPENDIX\\b",
-            "\\bAPPENDICES\\b", 
-            "\\bBIBLIOGRAPHY\\b",
-            "\\bREFERENCES\\b",
-            "\\bGLOSSARY\\b",
-            "\\bACKNOWLEDGMENTS\\b",
-            "\\bACKNOWLEDGEMENTS\\b",
-            "\\bABOUT THE AUTHOR\\b",
-            "\\bABOUT THE AUTHORS\\b"
-        };
-        
-        int earliestIrrelevantStart = text.length();
-        for (String pattern : irrelevantPatterns) {
-            java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern, java.util.regex.Pattern.CASE_INSENSITIVE);
-            java.util.regex.Matcher m = p.matcher(text);
-            if (m.find() && m.start() < earliestIrrelevantStart) {
-                earliestIrrelevantStart = m.start();
-            }
+        Matcher matcher = IRRELEVANT_SECTION.matcher(text);
+        if (!matcher.find()) {
+            return text;
         }
         
-        // If we found irrelevant content, truncate the text
-        if (earliestIrrelevantStart < text.length()) {
-            log.info("Filtering out irrelevant content starting at position {}", earliestIrrelevantStart);
-            return text.substring(0, earliestIrrelevantStart).trim();
+        // Truncate the text, trimming in the same copy
+        int irrelevantStart = matcher.start();
+        log.info("Filtering out irrelevant content starting at position {}", irrelevantStart);
+        int begin = 0;
+        int end = irrelevantStart;
+        while (begin < end && text.charAt(begin) <= ' ') {
+            begin++;
         }
-        
-        return text;
+        while (end > begin && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return text.substring(begin, end);
     }
     
     /**
-     * Checks if a chunk contains only irrelevant content.
+     * Checks if the chunk {@code [start, end)} of the text contains only irrelevant content.
      */
-    private boolean isIrrelevantChunk(String chunkText) {
-        // Check if chunk is mostly index-like content
-        String[] irrelevantKeywords = {
-            "index", "appendix", "bibliography", "references", "glossary", 
-            "acknowledgment", "about the author", "page", "chapter"
-        };
+    private boolean isIrrelevantChunk(String text, int start, int end) {
+        // Count words in one pass, stopping once keywords can no longer reach the threshold
+        int totalWords = 0;
+        boolean inWord = false;
+        for (int i = start; i < end && totalWords <= IRRELEVANT_WORD_LIMIT; i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inWord) {
+                totalWords++;
+            }
+            inWord = !whitespace;
+        }
+        if (totalWords > IRRELEVANT_WORD_LIMIT) {
+            return false;
+        }
         
-        String lowerChunk = chunkText.toLowerCase();
+        // Check if chunk is mostly index-like content
         int irrelevantCount = 0;
-        int totalWords = lowerChunk.split("\\s+").length;
-        
-        for (String keyword : irrelevantKeywords) {
-            if (lowerChunk.contains(keyword)) {
+        for (String keyword : IRRELEVANT_KEYWORDS) {
+            if (containsIgnoreCase(text, start, end, keyword)) {
                 irrelevantCount++;
             }
         }
         
         // If more than 30% of words are irrelevant keywords, consider it irrelevant
-        return irrelevantCount > 0 && (double) irrelevantCount / totalWords > 0.3;
+        return irrelevantCount > 0 && (double) irrelevantCount / Math.max(totalWords, 1) > 0.3;
+    }
+
+    private boolean containsIgnoreCase(String text, int start, int end, String keyword) {
+        for (int i = start; i <= end - keyword.length(); i++) {
+            if (text.regionMatches(true, i, keyword, 0, keyword.length())) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
@@ -360,30 +370,52 @@ public class DocumentChunker {
     
     /**
      * Represents a chunk of document text with metadata.
+     * Chunks produced by the chunker are views over the source text; the text is copied out
+     * on the first {@link #getText()} call.
      */
     public static class DocumentChunk {
-        private final String text;
+        private final String source;
+        private volatile String text;
         private final int startOffset;
         private final int endOffset;
         private final int chunkIndex;
         
         public DocumentChunk(String text, int startOffset, int endOffset, int chunkIndex) {
+            this(null, text, startOffset, endOffset, chunkIndex);
+        }
+
+        private DocumentChunk(String source, String text, int startOffset, int endOffset, int chunkIndex) {
+            this.source = source;
             this.text = text;
             this.startOffset = startOffset;
             this.endOffset = endOffset;
             this.chunkIndex = chunkIndex;
         }
+
+        /**
+         * Creates a chunk over {@code [startOffset, endOffset)} of the source without copying it.
+         */
+        static DocumentChunk slice(String source, int startOffset, int endOffset, int chunkIndex) {
+            return new DocumentChunk(source, null, startOffset, endOffset, chunkIndex);
+        }
         
-        public String getText() { return text; }
+        public String getText() {
+            String current = text;
+            if (current == null) {
+                current = source.substring(startOffset, endOffset);
+                text = current;
+            }
+            return current;
+        }
         public int getStartOffset() { return startOffset; }
         public int getEndOffset() { return endOffset; }
         public int getChunkIndex() { return chunkIndex; }
-        public int getLength() { return text.length(); }
+        public int getLength() { return source != null ? endOffset - startOffset : text.length(); }
         
         @Override
         public String toString() {
             return String.format("Chunk[%d: %d-%d, %d chars]", 
-                chunkIndex, startOffset, endOffset, text.length());
+                chunkIndex, startOffset, endOffset, getLength());
         }
     }
     
@@ -402,11 +434,9 @@ public class DocumentChunker {
         
         while (position < text.length()) {
             int end = Math.min(position + chunkSize, text.length());
-            String chunkText = text.substring(position, end);
-            
-            chunks.add(new DocumentChunk(chunkText, position, end, chunkIndex++));
+            chunks.add(DocumentChunk.slice(text, position, end, chunkIndex++));
             log.info("Forced chunk {}: {} chars at position {}-{}", 
-                    chunkIndex, chunkText.length(), position, end);
+                    chunkIndex, end - position, position, end);
             
             position = Math.max(position + 1, end - overlap);
             
@@ -5,10 +5,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gegc.quizmaker.features.documentProcess.domain.model.NormalizedDocument;
+import uk.gegc.quizmaker.features.documentProcess.domain.model.NormalizedDocumentTextSegment;
 import uk.gegc.quizmaker.features.documentProcess.domain.ValidationErrorException;
 import uk.gegc.quizmaker.features.documentProcess.infra.repository.NormalizedDocumentRepository;
+import uk.gegc.quizmaker.features.documentProcess.infra.repository.NormalizedDocumentTextSegmentRepository;
 import uk.gegc.quizmaker.shared.exception.ResourceNotFoundException;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -20,6 +23,7 @@ import java.util.UUID;
 public class DocumentQueryService {
 
     private final NormalizedDocumentRepository documentRepository;
+    private final NormalizedDocumentTextSegmentRepository segmentRepository;
 
     /**
      * Retrieves a document by ID.
@@ -46,6 +50,12 @@ public class DocumentQueryService {
      */
     @Transactional(readOnly = true)
     public String getTextSlice(UUID documentId, int start, int end) {
+        Optional<NormalizedDocumentRepository.TextLayout> layout = documentRepository.findTextLayoutById(documentId);
+        if (layout.isPresent() && layout.get().getTextSegmentCount() != null && layout.get().getCharCount() != null) {
+            return readSegments(documentId, start, end, layout.get().getCharCount());
+        }
+
+        // Documents normalized before segmentation are sliced from the full text
         NormalizedDocument document = getDocument(documentId);
         
         if (document.getNormalizedText() == null) {
@@ -53,9 +63,33 @@ public class DocumentQueryService {
         }
         
         String text = document.getNormalizedText();
-        int textLength = text.length();
-        
-        // Validate bounds
+        int actualEnd = validateBounds(start, end, text.length());
+
+        return text.substring(start, actualEnd);
+    }
+
+    private String readSegments(UUID documentId, int start, int end, int textLength) {
+        int actualEnd = validateBounds(start, end, textLength);
+        if (actualEnd == start) {
+            return "";
+        }
+
+        StringBuilder slice = new StringBuilder(actualEnd - start);
+        for (NormalizedDocumentTextSegment segment : segmentRepository.findOverlapping(documentId, start, actualEnd)) {
+            int from = Math.max(start, segment.getStartOffset()) - segment.getStartOffset();
+            int to = Math.min(actualEnd, segment.getEndOffset()) - segment.getStartOffset();
+            slice.append(segment.getContent(), from, to);
+        }
+        if (slice.length() != actualEnd - start) {
+            throw new IllegalStateException("Document text segments are incomplete: " + documentId);
+        }
+        return slice.toString();
+    }
+
+    /**
+     * Validates slice bounds and returns the end offset clamped to the text length.
+     */
+    private int validateBounds(int start, int end, int textLength) {
         if (start < 0) {
             throw new ValidationErrorException("Start offset cannot be negative: " + start);
         }
@@ -67,9 +101,7 @@ public class DocumentQueryService {
         }
         
         // Adjust end to text length if it exceeds
-        int actualEnd = Math.min(end, textLength);
-
-        return text.substring(start, actualEnd);
+        return Math.min(end, textLength);
     }
 
     /**
@@ -52,6 +52,102 @@ public class NodeMerger {
         return mergedNodes;
     }
     
+    /**
+     * Reconciles nodes produced for overlapping chunks independently of each other.
+     * A node from a later chunk that starts inside the overlap with the previous chunk and repeats a
+     * node of that chunk (same type, similar title, same start) is folded into the earlier node, which
+     * takes the later end when the later chunk saw further into the node.
+     * 
+     * @param chunkResults nodes of each chunk, in chunk order and document coordinates
+     * @param chunks the chunks the results were generated from
+     * @return the nodes of all chunks in chunk order, without boundary duplicates
+     */
+    public List<DocumentNode> reconcileBoundaryNodes(List<List<DocumentNode>> chunkResults,
+                                                     List<DocumentChunker.DocumentChunk> chunks) {
+        List<DocumentNode> reconciled = new ArrayList<>();
+        if (chunkResults.isEmpty()) {
+            return reconciled;
+        }
+        
+        reconciled.addAll(chunkResults.get(0));
+        List<DocumentNode> previous = chunkResults.get(0);
+        int duplicates = 0;
+        
+        for (int i = 1; i < chunkResults.size(); i++) {
+            DocumentChunker.DocumentChunk chunk = chunks.get(i);
+            int overlapEnd = chunks.get(i - 1).getEndOffset();
+            List<DocumentNode> current = new ArrayList<>();
+            
+            for (DocumentNode node : chunkResults.get(i)) {
+                DocumentNode earlier = startsInOverlap(node, chunk, overlapEnd)
+                    ? findBoundaryDuplicate(node, previous)
+                    : null;
+                if (earlier == null) {
+                    reconciled.add(node);
+                    current.add(node);
+                } else {
+                    extendBoundaryNode(earlier, node);
+                    // A node spanning several chunks keeps absorbing its repeats
+                    current.add(earlier);
+                    duplicates++;
+                }
+            }
+            previous = current;
+        }
+        
+        log.info("Reconciled {} chunk results into {} nodes ({} boundary duplicates folded)",
+            chunkResults.size(), reconciled.size(), duplicates);
+        return reconciled;
+    }
+    
+    private boolean startsInOverlap(DocumentNode node, DocumentChunker.DocumentChunk chunk, int overlapEnd) {
+        int overlapLength = overlapEnd - chunk.getStartOffset();
+        if (overlapLength <= 0) {
+            return false;
+        }
+        if (node.getStartOffset() != null) {
+            return node.getStartOffset() < overlapEnd;
+        }
+        if (node.getStartAnchor() == null || node.getStartAnchor().isBlank()) {
+            return false;
+        }
+        int anchorIndex = chunk.getText().indexOf(node.getStartAnchor().strip());
+        return anchorIndex >= 0 && anchorIndex < overlapLength;
+    }
+    
+    private DocumentNode findBoundaryDuplicate(DocumentNode node, List<DocumentNode> candidates) {
+        for (DocumentNode candidate : candidates) {
+            if (candidate.getType() != node.getType()
+                    || calculateSimilarity(candidate.getTitle(), node.getTitle()) < SIMILARITY_THRESHOLD) {
+                continue;
+            }
+            boolean sameStart = node.getStartOffset() != null && candidate.getStartOffset() != null
+                ? node.getStartOffset().equals(candidate.getStartOffset())
+                : sameAnchor(node.getStartAnchor(), candidate.getStartAnchor());
+            if (sameStart) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+    
+    private boolean sameAnchor(String anchor1, String anchor2) {
+        return anchor1 != null && anchor2 != null
+            && anchor1.strip().replaceAll("\\s+", " ").equalsIgnoreCase(anchor2.strip().replaceAll("\\s+", " "));
+    }
+    
+    private void extendBoundaryNode(DocumentNode earlier, DocumentNode later) {
+        boolean laterEndsFurther = later.getEndOffset() == null || earlier.getEndOffset() == null
+            ? later.getEndAnchor() != null
+            : later.getEndOffset() > earlier.getEndOffset();
+        if (laterEndsFurther) {
+            earlier.setEndAnchor(later.getEndAnchor());
+            if (later.getEndOffset() != null) {
+                earlier.setEndOffset(later.getEndOffset());
+            }
+        }
+    }
+    
     /**
      * Adjusts node offsets from chunk-relative to document-relative coordinates.
      */
@@ -278,6 +278,8 @@ public class StructureService {
                 .sorted()
                 .collect(Collectors.toList());
         
+        // One index per document: its derived text views are reused by every level
+        AnchorIndex anchorIndex = AnchorIndex.of(document.getNormalizedText());
         int totalProcessed = 0;
         
         for (Short depth : depths) {
@@ -289,7 +291,7 @@ public class StructureService {
                 List<DocumentNode> levelNodes = createFreshNodeCopies(originalLevelNodes);
                 
                 // Calculate offsets for this level (modifies the fresh copies)
-                levelNodes = anchorOffsetCalculator.calculateOffsets(levelNodes, document.getNormalizedText());
+                levelNodes = anchorOffsetCalculator.calculateOffsets(levelNodes, anchorIndex);
                 
                 // Assign parent relationships for this level by finding parents in the database
                 assignParentRelationships(levelNodes, documentId, depth);
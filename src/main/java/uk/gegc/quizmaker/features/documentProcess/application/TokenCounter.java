@@ -43,10 +43,9 @@ public class TokenCounter {
         
         // Use character count for estimation (more reliable than word count)
         int charCount = text.length();
-        int estimatedTokens = (int) Math.ceil(charCount / CHARS_PER_TOKEN);
+        int estimatedTokens = estimateTokensForChars(charCount);
         
-        // Always log token estimation for debugging
-        log.info("Token estimation: {} characters -> {} tokens (ratio: {} chars/token)", 
+        log.debug("Token estimation: {} characters -> {} tokens (ratio: {} chars/token)", 
                 charCount, estimatedTokens, CHARS_PER_TOKEN);
         
         // Extra warning for large documents using configurable threshold
@@ -59,6 +58,20 @@ public class TokenCounter {
         return estimatedTokens;
     }
     
+    /**
+     * Estimates the number of tokens in a text of the given length without copying the text.
+     * Gives the same result as {@link #estimateTokens(String)} for a text of that length.
+     * 
+     * @param charCount the number of characters
+     * @return estimated number of tokens
+     */
+    public int estimateTokensForChars(int charCount) {
+        if (charCount <= 0) {
+            return 0;
+        }
+        return (int) Math.ceil(charCount / CHARS_PER_TOKEN);
+    }
+    
     /**
      * Estimates the number of characters that would fit within a token limit.
      * 
@@ -85,7 +98,7 @@ public class TokenCounter {
         int estimatedTokens = estimateTokens(text);
         boolean exceeds = estimatedTokens > maxTokens;
         
-        log.info("Token limit check: {} characters = ~{} tokens, limit = {}, exceeds = {}", 
+        log.debug("Token limit check: {} characters = ~{} tokens, limit = {}, exceeds = {}", 
                 text != null ? text.length() : 0, estimatedTokens, maxTokens, exceeds);
         
         if (exceeds) {
@@ -124,7 +137,7 @@ public class TokenCounter {
         // Convert to characters
         int safeChars = estimateMaxCharsForTokens(safeTokens);
         
-        log.info("Calculated safe chunk size: {} chars for {} model tokens (overhead: {} tokens)", 
+        log.debug("Calculated safe chunk size: {} chars for {} model tokens (overhead: {} tokens)", 
                 safeChars, maxModelTokens, promptOverheadTokens);
         
         return safeChars;
@@ -58,4 +58,12 @@ public class DocumentChunkingConfig {
      * Default: true
      */
     private boolean enableEmergencyChunking = true;
+
+    /**
+     * Number of chunks whose structure is extracted concurrently.
+     * 1 keeps sequential extraction, where each chunk sees the structure generated for the
+     * chunks before it; higher values seed each chunk from the previous chunk's text instead.
+     * Default: 1
+     */
+    private int structureParallelism = 1;
 }
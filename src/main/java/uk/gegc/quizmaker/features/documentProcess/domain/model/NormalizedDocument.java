@@ -1,6 +1,7 @@
 package uk.gegc.quizmaker.features.documentProcess.domain.model;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.OnDelete;
@@ -8,6 +9,9 @@ import org.hibernate.annotations.OnDeleteAction;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -42,6 +46,17 @@ public class NormalizedDocument {
     @Column(name = "char_count")
     private Integer charCount;
 
+    /** Number of rows in {@link #textSegments}; null for documents normalized before segmentation. */
+    @Column(name = "text_segment_count")
+    @Setter(AccessLevel.NONE)
+    private Integer textSegmentCount;
+
+    @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id.segmentIndex ASC")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private List<NormalizedDocumentTextSegment> textSegments = new ArrayList<>();
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private DocumentStatus status;
@@ -60,6 +75,33 @@ public class NormalizedDocument {
     @OnDelete(action = OnDeleteAction.SET_NULL)
     private User owner;
 
+    public List<NormalizedDocumentTextSegment> getTextSegments() {
+        return Collections.unmodifiableList(textSegments);
+    }
+
+    /**
+     * Sets the normalized text and rewrites its segments. Existing segment rows are updated in place
+     * so a replacement never re-inserts a primary key that is still pending deletion.
+     */
+    public void setNormalizedText(String normalizedText) {
+        this.normalizedText = normalizedText;
+        List<Integer> segmentEnds = normalizedText == null
+                ? List.of()
+                : NormalizedDocumentTextSegment.segmentEnds(normalizedText);
+        int start = 0;
+        for (int index = 0; index < segmentEnds.size(); index++) {
+            if (index == textSegments.size()) {
+                textSegments.add(new NormalizedDocumentTextSegment(this, index));
+            }
+            textSegments.get(index).replaceContent(normalizedText, start, segmentEnds.get(index));
+            start = segmentEnds.get(index);
+        }
+        while (textSegments.size() > segmentEnds.size()) {
+            textSegments.remove(textSegments.size() - 1);
+        }
+        textSegmentCount = normalizedText == null ? null : segmentEnds.size();
+    }
+
     @PrePersist
     protected void onCreate() {
         createdAt = Instant.now();
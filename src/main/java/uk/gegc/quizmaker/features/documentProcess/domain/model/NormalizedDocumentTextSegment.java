@@ -0,0 +1,81 @@
+package uk.gegc.quizmaker.features.documentProcess.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One bounded slice of a document's normalized text, covering {@code [startOffset, endOffset)}.
+ * Segments are written alongside {@link NormalizedDocument#getNormalizedText()} so range reads
+ * only fetch the segments they overlap instead of the whole LONGTEXT column.
+ */
+@Entity
+@Table(name = "normalized_document_text_segments")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NormalizedDocumentTextSegment {
+
+    /** Segment length in chars; shorter only at the end of the text or to keep a surrogate pair together. */
+    public static final int SEGMENT_CHARS = 16_384;
+
+    @EmbeddedId
+    private NormalizedDocumentTextSegmentId id;
+
+    @MapsId("documentId")
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "document_id")
+    private NormalizedDocument document;
+
+    @Column(name = "start_offset", nullable = false)
+    private int startOffset;
+
+    @Column(name = "end_offset", nullable = false)
+    private int endOffset;
+
+    @Column(name = "content", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String content;
+
+    NormalizedDocumentTextSegment(NormalizedDocument document, int segmentIndex) {
+        this.id = new NormalizedDocumentTextSegmentId(null, segmentIndex);
+        this.document = document;
+    }
+
+    public int getSegmentIndex() {
+        return id.getSegmentIndex();
+    }
+
+    void replaceContent(String text, int startOffset, int endOffset) {
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.content = text.substring(startOffset, endOffset);
+    }
+
+    /**
+     * Segment end offsets for {@code text}; a segment never ends between the two chars of a
+     * surrogate pair, which MySQL could not store on its own.
+     */
+    static List<Integer> segmentEnds(String text) {
+        List<Integer> ends = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int end = Math.min(start + SEGMENT_CHARS, text.length());
+            if (end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) {
+                end--;
+            }
+            ends.add(end);
+            start = end;
+        }
+        return ends;
+    }
+}
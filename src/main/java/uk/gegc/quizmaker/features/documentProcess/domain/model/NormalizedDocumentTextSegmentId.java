@@ -0,0 +1,25 @@
+package uk.gegc.quizmaker.features.documentProcess.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedDocumentTextSegmentId implements Serializable {
+
+    @Column(name = "document_id", nullable = false, updatable = false)
+    private UUID documentId;
+
+    @Column(name = "segment_index", nullable = false, updatable = false)
+    private int segmentIndex;
+}
@@ -15,6 +15,13 @@ public interface NormalizedDocumentRepository extends JpaRepository<NormalizedDo
     @Query("select d.charCount from NormalizedDocument d where d.id = :id")
     Integer findCharCountById(@Param("id") UUID id);
 
+    @Query("""
+            select d.charCount as charCount, d.textSegmentCount as textSegmentCount
+            from NormalizedDocument d
+            where d.id = :id
+            """)
+    Optional<TextLayout> findTextLayoutById(@Param("id") UUID id);
+
     @Query(value = """
             SELECT u.username AS ownerUsername,
                    u.is_active AS ownerActive,
@@ -26,6 +33,13 @@ public interface NormalizedDocumentRepository extends JpaRepository<NormalizedDo
             """, nativeQuery = true)
     Optional<OwnerAuthorization> findOwnerForAuthorization(@Param("id") UUID id);
 
+    interface TextLayout {
+
+        Integer getCharCount();
+
+        Integer getTextSegmentCount();
+    }
+
     interface OwnerAuthorization {
 
         String getOwnerUsername();
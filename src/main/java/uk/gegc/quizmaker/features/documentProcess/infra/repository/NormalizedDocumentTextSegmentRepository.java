@@ -0,0 +1,30 @@
+package uk.gegc.quizmaker.features.documentProcess.infra.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import uk.gegc.quizmaker.features.documentProcess.domain.model.NormalizedDocumentTextSegment;
+import uk.gegc.quizmaker.features.documentProcess.domain.model.NormalizedDocumentTextSegmentId;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface NormalizedDocumentTextSegmentRepository
+        extends JpaRepository<NormalizedDocumentTextSegment, NormalizedDocumentTextSegmentId> {
+
+    /**
+     * Find the segments overlapping {@code [start, end)}, in text order
+     */
+    @Query("""
+        SELECT s FROM NormalizedDocumentTextSegment s
+        WHERE s.id.documentId = :documentId
+          AND s.startOffset < :end
+          AND s.endOffset > :start
+        ORDER BY s.id.segmentIndex ASC
+        """)
+    List<NormalizedDocumentTextSegment> findOverlapping(@Param("documentId") UUID documentId,
+                                                        @Param("start") int start,
+                                                        @Param("end") int end);
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
@@ -19,6 +20,7 @@ import uk.gegc.quizmaker.features.question.infra.factory.QuestionHandlerFactory;
 import uk.gegc.quizmaker.features.question.infra.handler.QuestionHandler;
 import uk.gegc.quizmaker.features.question.infra.mapping.QuestionMapper;
 import uk.gegc.quizmaker.features.question.infra.mapping.QuestionMediaResolver;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
@@ -35,9 +37,12 @@ import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
 import uk.gegc.quizmaker.shared.dto.MediaRefDto;
 import uk.gegc.quizmaker.features.media.application.MediaAssetService;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -54,6 +59,7 @@ public class QuestionServiceImpl implements QuestionService {
     private final UserRepository userRepository;
     private final QuestionMediaResolver questionMediaResolver;
     private final MediaAssetService mediaAssetService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UUID createQuestion(String username, CreateQuestionRequest questionDto) {
@@ -85,9 +91,11 @@ public class QuestionServiceImpl implements QuestionService {
         if (sanitizedContent != null) {
             question.setContent(sanitizedContent.toString());
         }
-        questionRepository.save(question);
+        Question savedQuestion = questionRepository.save(question);
+        questionHandler.answerKeyFor(savedQuestion);
+        publishCatalogueChange(quizzes);
 
-        return question.getId();
+        return savedQuestion.getId();
     }
 
     @Override
@@ -241,12 +249,20 @@ public class QuestionServiceImpl implements QuestionService {
                 ? null
                 : loadTagsByIds(request.getTagIds());
 
+        // Both the quizzes the question leaves and the ones it joins change their question lists
+        List<Quiz> affectedQuizzes = new ArrayList<>(linkedQuizzes(question));
+        if (quizzes != null) {
+            affectedQuizzes.addAll(quizzes);
+        }
         QuestionMapper.updateEntity(question, request, quizzes, tags);
         if (sanitizedContent != null) {
             question.setContent(sanitizedContent.toString());
         }
 
         Question updatedQuestion = questionRepository.saveAndFlush(question);
+        handlerFactory.evictAnswerKey(questionId);
+        questionHandler.answerKeyFor(updatedQuestion);
+        publishCatalogueChange(affectedQuizzes);
 
         return enrichQuestionDtoWithMedia(QuestionMapper.toDto(updatedQuestion), updatedQuestion);
     }
@@ -269,7 +285,29 @@ public class QuestionServiceImpl implements QuestionService {
             }
         }
 
+        List<Quiz> affectedQuizzes = new ArrayList<>(linkedQuizzes(question));
         questionRepository.delete(question);
+        handlerFactory.evictAnswerKey(questionId);
+        publishCatalogueChange(affectedQuizzes);
+    }
+
+    private static List<Quiz> linkedQuizzes(Question question) {
+        return question.getQuizId() != null ? question.getQuizId() : List.of();
+    }
+
+    private void publishCatalogueChange(Collection<Quiz> quizzes) {
+        if (quizzes == null || quizzes.isEmpty()) {
+            return;
+        }
+        List<UUID> quizIds = quizzes.stream()
+                .filter(Objects::nonNull)
+                .map(Quiz::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (!quizIds.isEmpty()) {
+            eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuizzes(this, quizIds));
+        }
     }
 
     /**
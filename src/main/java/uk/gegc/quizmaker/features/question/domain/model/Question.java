@@ -11,6 +11,7 @@ import org.hibernate.annotations.*;
 import org.hibernate.type.SqlTypes;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.tag.domain.model.Tag;
+import uk.gegc.quizmaker.shared.persistence.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -32,7 +33,7 @@ public class Question {
     QuestionType type;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Repository;
 import uk.gegc.quizmaker.features.question.domain.model.Question;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
@@ -22,6 +23,12 @@ public interface QuestionRepository extends JpaRepository<Question, UUID> {
     
     long countByQuizId_Id(UUID quizId);
 
+    /**
+     * Ids of all questions attached to a quiz, for in-memory membership checks.
+     */
+    @Query("SELECT q.id FROM Question q JOIN q.quizId z WHERE z.id = :quizId")
+    Set<UUID> findIdsByQuizId(@Param("quizId") UUID quizId);
+
     /**
      * Batch fetch question counts for multiple quizzes to avoid N+1 queries.
      * Returns a list of Object arrays where [0] = quizId (UUID), [1] = count (Long).
@@ -37,4 +44,10 @@ public interface QuestionRepository extends JpaRepository<Question, UUID> {
     List<Object[]> countQuestionsForQuizzes(@Param("quizIds") List<UUID> quizIds);
     
     List<Question> findAllByQuizId_IdOrderById(UUID quizId);
+
+    /**
+     * Question ids of a quiz in the same order as {@link #findAllByQuizId_IdOrderById(UUID)}.
+     */
+    @Query("SELECT q.id FROM Question q JOIN q.quizId z WHERE z.id = :quizId ORDER BY q.id")
+    List<UUID> findIdsByQuizIdOrderById(@Param("quizId") UUID quizId);
 }
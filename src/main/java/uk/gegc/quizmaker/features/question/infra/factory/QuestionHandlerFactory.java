@@ -8,6 +8,7 @@ import uk.gegc.quizmaker.features.question.infra.handler.QuestionHandler;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 @Slf4j
@@ -32,4 +33,11 @@ public class QuestionHandlerFactory {
         }
         return questionHandler;
     }
+
+    /**
+     * Evicts the compiled answer key of a question from every handler, since an update may change its type.
+     */
+    public void evictAnswerKey(UUID questionId) {
+        handlerMap.values().forEach(handler -> handler.evictAnswerKey(questionId));
+    }
 }
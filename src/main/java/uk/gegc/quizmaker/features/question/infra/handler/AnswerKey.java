@@ -0,0 +1,11 @@
+package uk.gegc.quizmaker.features.question.infra.handler;
+
+/**
+ * Compiled, immutable form of a question's correct answer.
+ * <p>
+ * Each {@link QuestionHandler} turns the validated question JSON into its own
+ * key implementation once, so that scoring a submission is a lookup against
+ * primitive arrays or normalized strings instead of a walk over the JSON tree.
+ */
+public interface AnswerKey {
+}
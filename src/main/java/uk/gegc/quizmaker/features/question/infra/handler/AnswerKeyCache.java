@@ -0,0 +1,76 @@
+package uk.gegc.quizmaker.features.question.infra.handler;
+
+import uk.gegc.quizmaker.features.question.domain.model.Question;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of compiled {@link AnswerKey}s keyed by question id.
+ * <p>
+ * Entries are versioned by {@link Question#getUpdatedAt()}: a question that was
+ * modified elsewhere (another node, import, AI generation) simply misses and is
+ * recompiled, so explicit eviction is only needed to release memory early.
+ */
+class AnswerKeyCache {
+
+    private final int maxEntries;
+    private final Map<UUID, Entry> entries;
+
+    AnswerKeyCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > AnswerKeyCache.this.maxEntries;
+            }
+        };
+    }
+
+    AnswerKey get(Question question, Function<Question, AnswerKey> compiler) {
+        UUID id = question.getId();
+        if (id == null) {
+            return compiler.apply(question);
+        }
+
+        Instant version = question.getUpdatedAt();
+        synchronized (entries) {
+            Entry cached = entries.get(id);
+            if (cached != null && Objects.equals(cached.version(), version)) {
+                return cached.key();
+            }
+        }
+
+        // Compile outside the lock; concurrent misses for the same question produce equal keys
+        AnswerKey compiled = compiler.apply(question);
+        synchronized (entries) {
+            entries.put(id, new Entry(version, compiled));
+        }
+        return compiled;
+    }
+
+    void evict(UUID questionId) {
+        if (questionId == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.remove(questionId);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(Instant version, AnswerKey key) {
+    }
+}
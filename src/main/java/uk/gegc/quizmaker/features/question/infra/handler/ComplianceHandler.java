@@ -2,16 +2,13 @@ package uk.gegc.quizmaker.features.question.infra.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
-import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.question.api.dto.QuestionContentRequest;
 import uk.gegc.quizmaker.features.question.domain.model.Answer;
-import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 @Component
@@ -70,40 +67,37 @@ public class ComplianceHandler extends QuestionHandler {
     }
 
     @Override
-    protected Answer doHandle(Attempt attempt,
-                              Question question,
-                              JsonNode content,
-                              JsonNode response) {
-        Set<Integer> correct = StreamSupport.stream(
-                        content.get("statements").spliterator(), false)
+    protected AnswerKey compileAnswerKey(JsonNode content) {
+        int[] correctIds = StreamSupport.stream(content.get("statements").spliterator(), false)
                 .filter(stmt -> stmt.path("compliant").asBoolean(false))
-                .map(stmt -> stmt.get("id").asInt())
-                .collect(Collectors.toSet());
+                .mapToInt(stmt -> stmt.get("id").asInt())
+                .distinct()
+                .sorted()
+                .toArray();
+        return new Key(correctIds);
+    }
 
+    @Override
+    protected Answer score(AnswerKey key, JsonNode response) {
         JsonNode selectedNode = response.get("selectedStatementIds");
-        List<Integer> selectedList = selectedNode != null && selectedNode.isArray()
+        int[] selected = selectedNode != null && selectedNode.isArray()
                 ? StreamSupport.stream(selectedNode.spliterator(), false)
-                        .filter(id -> id.canConvertToInt())
-                        .map(JsonNode::asInt)
-                        .toList()
-                : List.of();
-
-        // Check for duplicates in the response
-        Set<Integer> selectedSet = new java.util.HashSet<>(selectedList);
-        boolean hasDuplicates = selectedList.size() != selectedSet.size();
+                        .filter(JsonNode::canConvertToInt)
+                        .mapToInt(JsonNode::asInt)
+                        .sorted()
+                        .toArray()
+                : new int[0];
 
-        // If there are duplicates, the answer is incorrect
-        if (hasDuplicates) {
-            Answer ans = new Answer();
-            ans.setIsCorrect(false);
-            ans.setScore(0.0);
-            return ans;
+        // If there are duplicates in the response, the answer is incorrect
+        for (int i = 1; i < selected.length; i++) {
+            if (selected[i] == selected[i - 1]) {
+                return scored(false);
+            }
         }
 
-        boolean isCorrect = selectedSet.equals(correct);
-        Answer ans = new Answer();
-        ans.setIsCorrect(isCorrect);
-        ans.setScore(isCorrect ? 1.0 : 0.0);
-        return ans;
+        return scored(Arrays.equals(selected, ((Key) key).correctIds()));
+    }
+
+    record Key(int[] correctIds) implements AnswerKey {
     }
 }
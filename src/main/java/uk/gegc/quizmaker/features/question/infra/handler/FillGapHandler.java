@@ -2,11 +2,9 @@ package uk.gegc.quizmaker.features.question.infra.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
-import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.question.api.dto.QuestionContentRequest;
 import uk.gegc.quizmaker.features.question.application.FillGapContentValidator;
 import uk.gegc.quizmaker.features.question.domain.model.Answer;
-import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
 
@@ -35,16 +33,22 @@ public class FillGapHandler extends QuestionHandler {
     }
 
     @Override
-    protected Answer doHandle(Attempt attempt,
-                              Question question,
-                              JsonNode content,
-                              JsonNode response) {
-        Map<Integer, String> correct = StreamSupport.stream(content.get("gaps").spliterator(), false)
-                .collect(Collectors.toMap(
-                        gap -> gap.get("id").asInt(),
-                        gap -> gap.get("answer").asText().trim().toLowerCase()
-                ));
+    protected AnswerKey compileAnswerKey(JsonNode content) {
+        JsonNode gaps = content.get("gaps");
+        int[] gapIds = new int[gaps.size()];
+        String[] answers = new String[gaps.size()];
+        int i = 0;
+        for (JsonNode gap : gaps) {
+            gapIds[i] = gap.get("id").asInt();
+            answers[i] = gap.get("answer").asText().trim().toLowerCase();
+            i++;
+        }
+        return new Key(gapIds, answers);
+    }
 
+    @Override
+    protected Answer score(AnswerKey key, JsonNode response) {
+        Key compiled = (Key) key;
         JsonNode answersNode = response.get("answers");
         Map<Integer, String> given = answersNode != null && answersNode.isArray()
                 ? StreamSupport.stream(answersNode.spliterator(), false)
@@ -56,12 +60,14 @@ public class FillGapHandler extends QuestionHandler {
                         ))
                 : Map.of();
 
-        boolean allMatch = correct.entrySet().stream()
-                .allMatch(e -> e.getValue().equals(given.get(e.getKey())));
+        for (int i = 0; i < compiled.gapIds().length; i++) {
+            if (!compiled.answers()[i].equals(given.get(compiled.gapIds()[i]))) {
+                return scored(false);
+            }
+        }
+        return scored(true);
+    }
 
-        Answer ans = new Answer();
-        ans.setIsCorrect(allMatch);
-        ans.setScore(allMatch ? 1.0 : 0.0);
-        return ans;
+    record Key(int[] gapIds, String[] answers) implements AnswerKey {
     }
 }
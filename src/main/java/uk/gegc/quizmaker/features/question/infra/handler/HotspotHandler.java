@@ -2,15 +2,13 @@ package uk.gegc.quizmaker.features.question.infra.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
-import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.question.api.dto.QuestionContentRequest;
 import uk.gegc.quizmaker.features.question.domain.model.Answer;
-import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
 
+import java.util.Arrays;
 import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 @Component
@@ -88,23 +86,23 @@ public class HotspotHandler extends QuestionHandler {
     }
 
     @Override
-    protected Answer doHandle(Attempt attempt,
-                              Question question,
-                              JsonNode content,
-                              JsonNode response) {
-        Set<Integer> correctIds = StreamSupport.stream(
-                        content.get("regions").spliterator(), false)
+    protected AnswerKey compileAnswerKey(JsonNode content) {
+        int[] correctIds = StreamSupport.stream(content.get("regions").spliterator(), false)
                 .filter(r -> r.path("correct").asBoolean(false))
-                .map(r -> r.get("id").asInt())
-                .collect(Collectors.toSet());
+                .mapToInt(r -> r.get("id").asInt())
+                .distinct()
+                .sorted()
+                .toArray();
+        return new Key(correctIds);
+    }
 
+    @Override
+    protected Answer score(AnswerKey key, JsonNode response) {
         JsonNode selectedNode = response.get("selectedRegionId");
         int selected = selectedNode != null && selectedNode.canConvertToInt() ? selectedNode.asInt() : -1;
-        boolean isCorrect = correctIds.contains(selected);
+        return scored(Arrays.binarySearch(((Key) key).correctIds(), selected) >= 0);
+    }
 
-        Answer ans = new Answer();
-        ans.setIsCorrect(isCorrect);
-        ans.setScore(isCorrect ? 1.0 : 0.0);
-        return ans;
+    record Key(int[] correctIds) implements AnswerKey {
     }
 }
@@ -2,18 +2,16 @@ package uk.gegc.quizmaker.features.question.infra.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
-import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.question.api.dto.QuestionContentRequest;
 import uk.gegc.quizmaker.features.question.domain.model.Answer;
-import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.StreamSupport;
 
 @Component
 public class MatchingHandler extends QuestionHandler {
@@ -78,11 +76,25 @@ public class MatchingHandler extends QuestionHandler {
     }
 
     @Override
-    protected Answer doHandle(Attempt attempt, Question question, JsonNode content, JsonNode response) {
+    protected AnswerKey compileAnswerKey(JsonNode content) {
         // Build map of correct pairs: leftId -> rightId
-        Map<Integer, Integer> correctPairs = new HashMap<>();
-        StreamSupport.stream(content.get("left").spliterator(), false)
-                .forEach(l -> correctPairs.put(l.get("id").asInt(), l.get("matchId").asInt()));
+        Map<Integer, Integer> correctPairs = new LinkedHashMap<>();
+        content.get("left").forEach(l -> correctPairs.put(l.get("id").asInt(), l.get("matchId").asInt()));
+
+        int[] leftIds = new int[correctPairs.size()];
+        int[] rightIds = new int[correctPairs.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> pair : correctPairs.entrySet()) {
+            leftIds[i] = pair.getKey();
+            rightIds[i] = pair.getValue();
+            i++;
+        }
+        return new Key(leftIds, rightIds);
+    }
+
+    @Override
+    protected Answer score(AnswerKey key, JsonNode response) {
+        Key compiled = (Key) key;
 
         // Parse user matches: array of {"leftId":int, "rightId":int}
         Map<Integer, Integer> userPairs = new HashMap<>();
@@ -96,13 +108,15 @@ public class MatchingHandler extends QuestionHandler {
             });
         }
 
-        boolean allCorrect = correctPairs.entrySet().stream()
-                .allMatch(e -> e.getValue().equals(userPairs.get(e.getKey())));
+        for (int i = 0; i < compiled.leftIds().length; i++) {
+            Integer given = userPairs.get(compiled.leftIds()[i]);
+            if (given == null || given != compiled.rightIds()[i]) {
+                return scored(false);
+            }
+        }
+        return scored(true);
+    }
 
-        Answer ans = new Answer();
-        ans.setIsCorrect(allCorrect);
-        ans.setScore(allCorrect ? 1.0 : 0.0);
-        return ans;
+    record Key(int[] leftIds, int[] rightIds) implements AnswerKey {
     }
 }
-
@@ -2,16 +2,13 @@ package uk.gegc.quizmaker.features.question.infra.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
-import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.question.api.dto.QuestionContentRequest;
 import uk.gegc.quizmaker.features.question.domain.model.Answer;
-import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
 
+import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 @Component
 public class McqMultiHandler extends QuestionHandler {
@@ -58,23 +55,31 @@ public class McqMultiHandler extends QuestionHandler {
     }
 
     @Override
-    protected Answer doHandle(Attempt attempt, Question question, JsonNode content, JsonNode response) {
-        Set<String> correct = StreamSupport.stream(content.get("options").spliterator(), false)
-                .filter(option -> option.path("correct").asBoolean(false))
-                .map(option -> option.get("id").asText())
-                .collect(Collectors.toSet());
+    protected AnswerKey compileAnswerKey(JsonNode content) {
+        Set<String> correct = new HashSet<>();
+        for (JsonNode option : content.get("options")) {
+            if (option.path("correct").asBoolean(false)) {
+                correct.add(option.get("id").asText());
+            }
+        }
+        return new Key(Set.copyOf(correct));
+    }
 
+    @Override
+    protected Answer score(AnswerKey key, JsonNode response) {
+        Set<String> correct = ((Key) key).correctIds();
         JsonNode selectedNode = response.get("selectedOptionIds");
-        Set<String> selected = selectedNode != null && selectedNode.isArray() 
-                ? StreamSupport.stream(selectedNode.spliterator(), false)
-                        .map(JsonNode::asText)
-                        .collect(Collectors.toSet())
-                : Set.of();
+        if (selectedNode == null || !selectedNode.isArray()) {
+            return scored(correct.isEmpty());
+        }
+
+        Set<String> selected = new HashSet<>(selectedNode.size());
+        for (JsonNode id : selectedNode) {
+            selected.add(id.asText());
+        }
+        return scored(correct.equals(selected));
+    }
 
-        boolean isCorrect = correct.equals(selected);
-        Answer answer = new Answer();
-        answer.setIsCorrect(isCorrect);
-        answer.setScore(isCorrect ? 1.0 : 0.0);
-        return answer;
+    record Key(Set<String> correctIds) implements AnswerKey {
     }
 }
@@ -2,15 +2,12 @@ package uk.gegc.quizmaker.features.question.infra.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
-import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.question.api.dto.QuestionContentRequest;
 import uk.gegc.quizmaker.features.question.domain.model.Answer;
-import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
 
 import java.util.Set;
-import java.util.stream.StreamSupport;
 
 @Component
 public class McqSingleHandler extends QuestionHandler {
@@ -60,20 +57,23 @@ public class McqSingleHandler extends QuestionHandler {
     }
 
     @Override
-    protected Answer doHandle(Attempt attempt, Question question, JsonNode content, JsonNode response) {
-        String correctId = StreamSupport.stream(content.get("options").spliterator(), false)
-                .filter(option -> option.path("correct").asBoolean())
-                .map(option -> option.get("id").asText())
-                .findFirst()
-                .orElse("");
+    protected AnswerKey compileAnswerKey(JsonNode content) {
+        String correctId = "";
+        for (JsonNode option : content.get("options")) {
+            if (option.path("correct").asBoolean()) {
+                correctId = option.get("id").asText();
+                break;
+            }
+        }
+        return new Key(correctId);
+    }
 
+    @Override
+    protected Answer score(AnswerKey key, JsonNode response) {
         String selected = response.path("selectedOptionId").asText("");
+        return scored(selected.equals(((Key) key).correctId()));
+    }
 
-        boolean isCorrect = selected.equals(correctId);
-        Answer answer = new Answer();
-        answer.setIsCorrect(isCorrect);
-        answer.setScore(isCorrect ? 1.0 : 0.0);
-
-        return answer;
+    record Key(String correctId) implements AnswerKey {
     }
 }
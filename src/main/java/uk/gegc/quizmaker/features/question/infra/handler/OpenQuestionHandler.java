@@ -2,10 +2,8 @@ package uk.gegc.quizmaker.features.question.infra.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
-import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.question.api.dto.QuestionContentRequest;
 import uk.gegc.quizmaker.features.question.domain.model.Answer;
-import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
 
@@ -31,18 +29,17 @@ public class OpenQuestionHandler extends QuestionHandler {
     }
 
     @Override
-    protected Answer doHandle(Attempt attempt,
-                              Question question,
-                              JsonNode content,
-                              JsonNode response) {
-        String correct = content.get("answer").asText().trim().toLowerCase();
+    protected AnswerKey compileAnswerKey(JsonNode content) {
+        return new Key(content.get("answer").asText().trim().toLowerCase());
+    }
+
+    @Override
+    protected Answer score(AnswerKey key, JsonNode response) {
         JsonNode givenNode = response.get("answer");
         String given = givenNode != null && givenNode.isTextual() ? givenNode.asText().trim().toLowerCase() : "";
-        boolean isCorrect = correct.equals(given);
+        return scored(((Key) key).normalizedAnswer().equals(given));
+    }
 
-        Answer ans = new Answer();
-        ans.setIsCorrect(isCorrect);
-        ans.setScore(isCorrect ? 1.0 : 0.0);
-        return ans;
+    record Key(String normalizedAnswer) implements AnswerKey {
     }
 }
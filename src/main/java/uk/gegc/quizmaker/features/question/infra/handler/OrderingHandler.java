@@ -2,14 +2,12 @@ package uk.gegc.quizmaker.features.question.infra.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
-import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.question.api.dto.QuestionContentRequest;
 import uk.gegc.quizmaker.features.question.domain.model.Answer;
-import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.StreamSupport;
 
@@ -55,39 +53,39 @@ public class OrderingHandler extends QuestionHandler {
     }
 
     @Override
-    protected Answer doHandle(Attempt attempt,
-                              Question question,
-                              JsonNode content,
-                              JsonNode response) {
+    protected AnswerKey compileAnswerKey(JsonNode content) {
         // Support both legacy format (items order) and new format (correctOrder field)
-        List<Integer> correctOrder;
+        int[] correctOrder;
         JsonNode correctOrderNode = content.get("correctOrder");
-        
+
         if (correctOrderNode != null && correctOrderNode.isArray()) {
             // New format: use explicit correctOrder field
-            correctOrder = StreamSupport.stream(correctOrderNode.spliterator(), false)
-                    .filter(id -> id.canConvertToInt())
-                    .map(JsonNode::asInt)
-                    .toList();
+            correctOrder = toIntArray(correctOrderNode);
         } else {
             // Legacy format: use items order
             correctOrder = StreamSupport.stream(content.get("items").spliterator(), false)
-                    .map(item -> item.get("id").asInt())
-                    .toList();
+                    .mapToInt(item -> item.get("id").asInt())
+                    .toArray();
         }
+        return new Key(correctOrder);
+    }
 
+    @Override
+    protected Answer score(AnswerKey key, JsonNode response) {
         JsonNode itemIdsNode = response.get("orderedItemIds");
-        List<Integer> userOrder = itemIdsNode != null && itemIdsNode.isArray()
-                ? StreamSupport.stream(itemIdsNode.spliterator(), false)
-                        .filter(id -> id.canConvertToInt())
-                        .map(JsonNode::asInt)
-                        .toList()
-                : List.of();
+        int[] userOrder = itemIdsNode != null && itemIdsNode.isArray()
+                ? toIntArray(itemIdsNode)
+                : new int[0];
+        return scored(Arrays.equals(((Key) key).correctOrder(), userOrder));
+    }
+
+    private static int[] toIntArray(JsonNode ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+                .filter(JsonNode::canConvertToInt)
+                .mapToInt(JsonNode::asInt)
+                .toArray();
+    }
 
-        boolean isCorrect = correctOrder.equals(userOrder);
-        Answer ans = new Answer();
-        ans.setIsCorrect(isCorrect);
-        ans.setScore(isCorrect ? 1.0 : 0.0);
-        return ans;
+    record Key(int[] correctOrder) implements AnswerKey {
     }
 }
@@ -19,6 +19,9 @@ import java.util.UUID;
 
 public abstract class QuestionHandler {
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int ANSWER_KEY_CACHE_SIZE = 4096;
+
+    private final AnswerKeyCache answerKeys = new AnswerKeyCache(ANSWER_KEY_CACHE_SIZE);
 
     /**
      * Returns the question type that this handler supports
@@ -29,6 +32,31 @@ public abstract class QuestionHandler {
     public abstract void validateContent(QuestionContentRequest request) throws ValidationException;
 
     public Answer handle(Attempt attempt, Question question, AnswerSubmissionRequest request) {
+        Answer answer = score(answerKeyFor(question), request.response());
+        answer.setAttempt(attempt);
+        answer.setQuestion(question);
+        answer.setResponse(request.response().toString());
+        answer.setAnsweredAt(Instant.now());
+        attempt.getAnswers().add(answer);
+        return answer;
+    }
+
+    /**
+     * Returns the compiled answer key for the given question, parsing and validating
+     * its content only when the (id, updatedAt) pair has not been compiled before.
+     */
+    public AnswerKey answerKeyFor(Question question) {
+        return answerKeys.get(question, this::compile);
+    }
+
+    /**
+     * Drops any cached answer key for the question so that the next submission recompiles it.
+     */
+    public void evictAnswerKey(UUID questionId) {
+        answerKeys.evict(questionId);
+    }
+
+    private AnswerKey compile(Question question) {
         JsonNode content;
         try {
             content = objectMapper.readTree(question.getContent());
@@ -43,21 +71,25 @@ public abstract class QuestionHandler {
         var qc = new EntityQuestionContentRequest(question.getType(), content);
         validateContent(qc);
 
-        Answer answer = doHandle(attempt, question, content, request.response());
-        answer.setAttempt(attempt);
-        answer.setQuestion(question);
-        answer.setResponse(request.response().toString());
-        answer.setAnsweredAt(Instant.now());
-        attempt.getAnswers().add(answer);
-        return answer;
+        return compileAnswerKey(content);
     }
 
-    protected abstract Answer doHandle(
-            Attempt attempt,
-            Question question,
-            JsonNode content,
-            JsonNode response
-    );
+    /**
+     * Compiles already validated question content into an immutable answer key.
+     */
+    protected abstract AnswerKey compileAnswerKey(JsonNode content);
+
+    /**
+     * Scores a response against a key produced by {@link #compileAnswerKey(JsonNode)}.
+     */
+    protected abstract Answer score(AnswerKey key, JsonNode response);
+
+    protected static Answer scored(boolean isCorrect) {
+        Answer answer = new Answer();
+        answer.setIsCorrect(isCorrect);
+        answer.setScore(isCorrect ? 1.0 : 0.0);
+        return answer;
+    }
 
     protected void validateTextOrMedia(JsonNode node, String context) {
         boolean hasText = node != null
@@ -2,10 +2,8 @@ package uk.gegc.quizmaker.features.question.infra.handler;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.stereotype.Component;
-import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.question.api.dto.QuestionContentRequest;
 import uk.gegc.quizmaker.features.question.domain.model.Answer;
-import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
 
@@ -31,14 +29,19 @@ public class TrueFalseHandler extends QuestionHandler {
     }
 
     @Override
-    protected Answer doHandle(Attempt attempt, Question question, JsonNode content, JsonNode response) {
-        boolean correctAnswer = content.get("answer").asBoolean();
+    protected AnswerKey compileAnswerKey(JsonNode content) {
+        return content.get("answer").asBoolean() ? Key.TRUE : Key.FALSE;
+    }
+
+    @Override
+    protected Answer score(AnswerKey key, JsonNode response) {
         JsonNode userAnswerNode = response.get("answer");
-        boolean userAnswer = userAnswerNode != null && userAnswerNode.isBoolean() ? userAnswerNode.asBoolean() : false;
-        boolean isCorrect = userAnswer == correctAnswer;
-        Answer answer = new Answer();
-        answer.setIsCorrect(isCorrect);
-        answer.setScore(isCorrect ? 1.0 : 0.0);
-        return answer;
+        boolean userAnswer = userAnswerNode != null && userAnswerNode.isBoolean() && userAnswerNode.asBoolean();
+        return scored(userAnswer == ((Key) key).answer());
+    }
+
+    record Key(boolean answer) implements AnswerKey {
+        static final Key TRUE = new Key(true);
+        static final Key FALSE = new Key(false);
     }
 }
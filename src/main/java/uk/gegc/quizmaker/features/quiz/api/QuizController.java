@@ -25,6 +25,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
@@ -76,7 +77,11 @@ import uk.gegc.quizmaker.shared.util.TrustedProxyUtil;
 import uk.gegc.quizmaker.shared.validation.GenerationLanguagePolicy;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -275,6 +280,10 @@ public class QuizController {
             }
             """;
 
+    // Let clients store responses but revalidate them with If-None-Match on every use
+    private static final CacheControl REVALIDATE_PUBLIC = CacheControl.noCache().cachePublic();
+    private static final CacheControl REVALIDATE_PRIVATE = CacheControl.noCache().cachePrivate();
+
     private final QuizService quizService;
     private final AttemptService attemptService;
     private final DocumentProcessingService documentProcessingService;
@@ -312,13 +321,12 @@ public class QuizController {
 
     @Operation(
             summary = "List quizzes with pagination and optional filters",
-            description = "Returns a page of quizzes based on scope. Default scope shows only public quizzes. Use scope=me to see your own quizzes, scope=all for moderators to see all quizzes."
+            description = "Returns a page of quizzes based on scope. Default scope shows only public quizzes. Use scope=me to see your own quizzes, scope=all for moderators to see all quizzes. Without a sort, results are newest first, or ranked by full-text relevance when search is given. Any explicit sort, including sort=createdAt,desc, is honoured; sort=relevance selects ranking explicitly."
     )
     @GetMapping
     public ResponseEntity<Page<QuizDto>> getQuizzes(
             @ParameterObject
             @PageableDefault(page = 0, size = 20)
-            @SortDefault(sort = "createdAt", direction = Sort.Direction.DESC)
             Pageable pageable,
 
             @ParameterObject
@@ -347,6 +355,42 @@ public class QuizController {
         return ResponseEntity.ok().eTag(eTag).body(quizPage);
     }
 
+    @Operation(
+            summary = "Search quizzes with cursor pagination",
+            description = "Same filters and scopes as the quiz list, ordered by full-text relevance when search is given, then newest first. Pass nextCursor from the previous response to continue; deep pages cost the same as the first."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of quizzes",
+                    content = @Content(schema = @Schema(implementation = QuizCursorPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, or a cursor from a different search",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "403", description = "Scope not permitted",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    @GetMapping("/search")
+    public ResponseEntity<QuizCursorPageResponse> searchQuizzes(
+            @ParameterObject
+            @ModelAttribute
+            QuizSearchCriteria quizSearchCriteria,
+
+            @Parameter(description = "Scope of quizzes to return: public (default), me (own quizzes), all (moderators only)")
+            @RequestParam(defaultValue = "public") String scope,
+
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "Page size, capped by quiz.search.max-page-size")
+            @RequestParam(defaultValue = "20") int size,
+
+            Authentication authentication,
+            HttpServletRequest request
+    ) {
+        String clientIp = trustedProxyUtil.getClientIp(request);
+        rateLimitService.checkRateLimit("search-quizzes", clientIp, 120);
+
+        return ResponseEntity.ok(quizService.searchQuizzes(quizSearchCriteria, scope, cursor, size, authentication));
+    }
+
     @Operation(
             summary = "Get a quiz by its ID",
             description = "Returns full QuizDto; 404 if not found."
@@ -355,8 +399,16 @@ public class QuizController {
     public ResponseEntity<QuizDto> getQuiz(
             @Parameter(description = "UUID of the quiz to retrieve", required = true)
             @PathVariable UUID quizId,
-            Authentication authentication) {
-        return ResponseEntity.ok(quizService.getQuizById(quizId, authentication));
+            Authentication authentication,
+            HttpServletRequest request) {
+        QuizDto quiz = quizService.getQuizById(quizId, authentication);
+
+        // Content-derived ETag so clients revalidate instead of downloading an unchanged quiz
+        String eTag = contentETag(quiz.toString());
+        if (isNotModified(request, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE_PRIVATE).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE_PRIVATE).body(quiz);
     }
 
     @Operation(
@@ -722,12 +774,13 @@ public class QuizController {
         rateLimitService.checkRateLimit("search-quizzes-public", clientIp, 120);
 
         Page<QuizDto> page = quizService.getPublicQuizzes(pageable);
-        String eTag = ("W/\"" + page.getTotalElements() + ":" + page.getNumber() + ":" + page.getSize() + ":" + page.getSort() + "\"");
-        String ifNoneMatch = request.getHeader("If-None-Match");
-        if (ifNoneMatch != null && ifNoneMatch.equals(eTag)) {
-            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        // Derived from the page contents, so any change to a listed quiz yields a new ETag
+        String eTag = contentETag(page.getContent() + ":" + page.getTotalElements() + ":" + page.getNumber()
+                + ":" + page.getSize() + ":" + page.getSort());
+        if (isNotModified(request, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE_PUBLIC).build();
         }
-        return ResponseEntity.ok().eTag(eTag).body(page);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(REVALIDATE_PUBLIC).body(page);
     }
 
     @Operation(
@@ -1524,6 +1577,29 @@ public class QuizController {
         }
     }
 
+    private static String contentETag(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static boolean isNotModified(HttpServletRequest request, String eTag) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private void validateImportFormat(ExportFormat format) {
         if (format == null) {
             throw new ValidationException("Import format is required");
@@ -0,0 +1,20 @@
+package uk.gegc.quizmaker.features.quiz.api.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(name = "QuizCursorPageResponse", description = "A page of quiz search results addressed by cursor")
+public record QuizCursorPageResponse(
+        @ArraySchema(schema = @Schema(implementation = QuizDto.class))
+        List<QuizDto> content,
+
+        @Schema(description = "Opaque cursor for the next page; absent on the last page",
+                example = "djF8MC44NXwyMDI2LTA1LTAxVDEwOjAwOjAwWnwwMTkwYzFmMi0uLi4")
+        String nextCursor,
+
+        @Schema(description = "Whether another page follows", example = "true")
+        boolean hasNext
+) {
+}
@@ -19,6 +19,8 @@ public interface QuizService {
 
     Page<QuizDto> getQuizzes(Pageable pageable, QuizSearchCriteria quizSearchCriteria, String scope, Authentication authentication);
 
+    QuizCursorPageResponse searchQuizzes(QuizSearchCriteria quizSearchCriteria, String scope, String cursor, int size, Authentication authentication);
+
     QuizDto getQuizById(UUID id, Authentication authentication);
 
     QuizDto updateQuiz(String username, UUID id, UpdateQuizRequest updateQuizRequest);
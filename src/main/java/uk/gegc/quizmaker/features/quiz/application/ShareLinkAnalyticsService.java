@@ -14,7 +14,8 @@ import java.util.UUID;
 public interface ShareLinkAnalyticsService {
 
     /**
-     * Record a share link analytics event.
+     * Record a share link analytics event. The event is buffered and written asynchronously, so it
+     * may not be visible to the read methods immediately.
      * 
      * @param shareLinkId The share link ID
      * @param eventType The event type
@@ -82,7 +83,8 @@ public interface ShareLinkAnalyticsService {
     long getUniqueVisitorCount(UUID quizId, LocalDate startDate, LocalDate endDate);
 
     /**
-     * Clean up old analytics events.
+     * Clean up old analytics events. Daily event counters are kept, so summaries still include
+     * the removed events; unique visitor counts do not.
      * 
      * @param cutoffDate Events older than this date will be deleted
      * @return Number of deleted records
@@ -2,6 +2,7 @@ package uk.gegc.quizmaker.features.quiz.application.command.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gegc.quizmaker.features.category.domain.model.Category;
@@ -14,6 +15,7 @@ import uk.gegc.quizmaker.features.quiz.api.dto.UpdateQuizRequest;
 import uk.gegc.quizmaker.features.quiz.application.QuizHashCalculator;
 import uk.gegc.quizmaker.features.quiz.application.command.QuizCommandService;
 import uk.gegc.quizmaker.features.quiz.config.QuizDefaultsProperties;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
@@ -44,6 +46,7 @@ public class QuizCommandServiceImpl implements QuizCommandService {
     private final CategoryRepository categoryRepository;
     private final QuizDefaultsProperties quizDefaultsProperties;
     private final QuizHashCalculator quizHashCalculator;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -77,7 +80,11 @@ public class QuizCommandServiceImpl implements QuizCommandService {
             }
         }
 
-        return quizRepository.save(quiz).getId();
+        UUID quizId = quizRepository.save(quiz).getId();
+        if (quiz.getVisibility() == Visibility.PUBLIC) {
+            eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
+        }
+        return quizId;
     }
 
     @Transactional
@@ -150,7 +157,9 @@ public class QuizCommandServiceImpl implements QuizCommandService {
             quiz.setRejectionReason(null);
         }
 
-        return quizMapper.toDto(quizRepository.save(quiz));
+        Quiz saved = quizRepository.save(quiz);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, id));
+        return quizMapper.toDto(saved);
     }
 
     @Transactional
@@ -169,6 +178,7 @@ public class QuizCommandServiceImpl implements QuizCommandService {
                 PermissionName.QUIZ_ADMIN);
 
         quizRepository.deleteById(id);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, id));
     }
 
     @Transactional
@@ -198,6 +208,8 @@ public class QuizCommandServiceImpl implements QuizCommandService {
 
         if (!quizzesToDelete.isEmpty()) {
             quizRepository.deleteAll(quizzesToDelete);
+            eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuizzes(this,
+                    quizzesToDelete.stream().map(Quiz::getId).toList()));
         }
     }
 
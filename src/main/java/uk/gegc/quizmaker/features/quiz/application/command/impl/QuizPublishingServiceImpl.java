@@ -1,11 +1,13 @@
 package uk.gegc.quizmaker.features.quiz.application.command.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizDto;
 import uk.gegc.quizmaker.features.quiz.application.command.QuizPublishingService;
 import uk.gegc.quizmaker.features.quiz.application.validation.QuizPublishValidator;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
@@ -29,6 +31,7 @@ public class QuizPublishingServiceImpl implements QuizPublishingService {
     private final QuizMapper quizMapper;
     private final AccessPolicy accessPolicy;
     private final QuizPublishValidator publishValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -58,6 +61,8 @@ public class QuizPublishingServiceImpl implements QuizPublishingService {
         }
 
         quiz.setStatus(status);
-        return quizMapper.toDto(quizRepository.save(quiz));
+        Quiz saved = quizRepository.save(quiz);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
+        return quizMapper.toDto(saved);
     }
 }
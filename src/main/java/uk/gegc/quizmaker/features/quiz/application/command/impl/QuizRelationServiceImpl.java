@@ -2,6 +2,7 @@ package uk.gegc.quizmaker.features.quiz.application.command.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gegc.quizmaker.features.category.domain.model.Category;
@@ -9,6 +10,7 @@ import uk.gegc.quizmaker.features.category.domain.repository.CategoryRepository;
 import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.repository.QuestionRepository;
 import uk.gegc.quizmaker.features.quiz.application.command.QuizRelationService;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
 import uk.gegc.quizmaker.features.tag.domain.model.Tag;
@@ -32,6 +34,7 @@ public class QuizRelationServiceImpl implements QuizRelationService {
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final AccessPolicy accessPolicy;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -49,6 +52,7 @@ public class QuizRelationServiceImpl implements QuizRelationService {
 
         quiz.getQuestions().add(question);
         quizRepository.save(quiz);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
     }
 
     @Override
@@ -65,6 +69,7 @@ public class QuizRelationServiceImpl implements QuizRelationService {
 
         quiz.getQuestions().removeIf(question -> question.getId().equals(questionId));
         quizRepository.save(quiz);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
     }
 
     @Override
@@ -83,6 +88,7 @@ public class QuizRelationServiceImpl implements QuizRelationService {
 
         quiz.getTags().add(tag);
         quizRepository.save(quiz);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
     }
 
     @Override
@@ -99,6 +105,7 @@ public class QuizRelationServiceImpl implements QuizRelationService {
 
         quiz.getTags().removeIf(tag -> tag.getId().equals(tagId));
         quizRepository.save(quiz);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
     }
 
     @Override
@@ -117,6 +124,7 @@ public class QuizRelationServiceImpl implements QuizRelationService {
 
         quiz.setCategory(category);
         quizRepository.save(quiz);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
     }
 
     private User requireUser(String username) {
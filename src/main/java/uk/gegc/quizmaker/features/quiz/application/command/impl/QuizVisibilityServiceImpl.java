@@ -1,10 +1,12 @@
 package uk.gegc.quizmaker.features.quiz.application.command.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizDto;
 import uk.gegc.quizmaker.features.quiz.application.command.QuizVisibilityService;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
@@ -26,6 +28,7 @@ public class QuizVisibilityServiceImpl implements QuizVisibilityService {
     private final UserRepository userRepository;
     private final AccessPolicy accessPolicy;
     private final QuizMapper quizMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -49,6 +52,8 @@ public class QuizVisibilityServiceImpl implements QuizVisibilityService {
         }
 
         quiz.setVisibility(visibility);
-        return quizMapper.toDto(quizRepository.save(quiz));
+        Quiz saved = quizRepository.save(quiz);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
+        return quizMapper.toDto(saved);
     }
 }
@@ -3,6 +3,11 @@ package uk.gegc.quizmaker.features.quiz.application.export;
 import uk.gegc.quizmaker.features.quiz.domain.model.ExportFormat;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportFile;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportPayload;
+import uk.gegc.quizmaker.features.quiz.domain.model.export.StreamingExportPayload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 /**
  * SPI for rendering export payloads into downloadable files.
@@ -11,6 +16,16 @@ public interface ExportRenderer {
     boolean supports(ExportFormat format);
 
     ExportFile render(ExportPayload payload);
-}
-
 
+    /**
+     * Render directly into {@code output} while quizzes are being produced.
+     * The default materialises the payload and copies the buffered file; renderers that can
+     * write incrementally override this. The output stream is left open for the caller.
+     */
+    default void renderTo(StreamingExportPayload payload, OutputStream output) throws IOException {
+        ExportFile file = render(payload.materialize());
+        try (InputStream in = file.contentSupplier().get()) {
+            in.transferTo(output);
+        }
+    }
+}
@@ -12,8 +12,13 @@ import uk.gegc.quizmaker.features.quiz.domain.model.ExportFormat;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.AnswerKeyEntry;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportFile;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportPayload;
+import uk.gegc.quizmaker.features.quiz.domain.model.export.StreamingExportPayload;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -44,6 +49,17 @@ public class HtmlPrintExportRenderer implements ExportRenderer {
         );
     }
 
+    /**
+     * The print layout needs every quiz up front (cover, grouping by type, answer key), so quizzes are
+     * materialised, but the document is encoded straight into {@code output} without an intermediate byte array.
+     */
+    @Override
+    public void renderTo(StreamingExportPayload payload, OutputStream output) throws IOException {
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        writer.write(buildHtml(payload.materialize()));
+        writer.flush();
+    }
+
     private String buildHtml(ExportPayload payload) {
         StringBuilder sb = new StringBuilder();
         // Use quiz title for single quiz, or generic title for multiple
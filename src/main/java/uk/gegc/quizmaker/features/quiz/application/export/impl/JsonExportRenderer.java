@@ -1,15 +1,20 @@
 package uk.gegc.quizmaker.features.quiz.application.export.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import uk.gegc.quizmaker.features.quiz.api.dto.export.QuizExportDto;
 import uk.gegc.quizmaker.features.quiz.application.export.ExportRenderer;
 import uk.gegc.quizmaker.features.quiz.domain.model.ExportFormat;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportFile;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportPayload;
+import uk.gegc.quizmaker.features.quiz.domain.model.export.StreamingExportPayload;
 
 import java.io.ByteArrayInputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 
 @Component
 @RequiredArgsConstructor
@@ -27,9 +32,9 @@ public class JsonExportRenderer implements ExportRenderer {
         try {
             String filename = payload.filenamePrefix() + ".json";
 
-            // Emit quizzes only for round-trip shape compatibility
-            String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(payload.quizzes());
-            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            renderTo(StreamingExportPayload.of(payload), baos);
+            byte[] bytes = baos.toByteArray();
             return new ExportFile(
                     filename,
                     "application/json",
@@ -40,6 +45,20 @@ public class JsonExportRenderer implements ExportRenderer {
             throw new RuntimeException("Failed to render JSON export", e);
         }
     }
-}
 
+    @Override
+    public void renderTo(StreamingExportPayload payload, OutputStream output) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(output)) {
+            // The caller owns the output stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
 
+            // Emit quizzes only for round-trip shape compatibility, one element at a time
+            generator.writeStartArray();
+            for (QuizExportDto quiz : payload.quizzes()) {
+                objectMapper.writeValue(generator, quiz);
+            }
+            generator.writeEndArray();
+        }
+    }
+}
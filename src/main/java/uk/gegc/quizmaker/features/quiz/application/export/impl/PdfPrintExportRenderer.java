@@ -2,6 +2,8 @@ package uk.gegc.quizmaker.features.quiz.application.export.impl;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
@@ -18,10 +20,12 @@ import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.AnswerKeyEntry;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportFile;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportPayload;
+import uk.gegc.quizmaker.features.quiz.domain.model.export.StreamingExportPayload;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -54,50 +58,8 @@ public class PdfPrintExportRenderer implements ExportRenderer {
     @Override
     public ExportFile render(ExportPayload payload) {
         try (PDDocument document = new PDDocument()) {
-            PDPageContext context = new PDPageContext(document);
-
-            // Cover page if requested
-            boolean hasCover = Boolean.TRUE.equals(payload.printOptions().includeCover());
-            if (hasCover) {
-                renderCoverPage(context, payload);
-                // Start questions on a new page after cover
-                context.startNewPage();
-            }
-
-            // Group and render questions
-            List<QuizExportDto> quizzes = payload.quizzes();
-            List<QuestionExportDto> allQuestions = new ArrayList<>();
-            
-            for (QuizExportDto quiz : quizzes) {
-                // Render quiz header for multiple quizzes, OR for single quiz without cover
-                if (quizzes.size() > 1 || !hasCover) {
-                    renderQuizHeader(context, quiz, payload);
-                }
-                allQuestions.addAll(quiz.questions());
-            }
-
-            // Render questions (grouped or sequential) and track render order
-            List<QuestionExportDto> questionsInRenderOrder;
-            if (Boolean.TRUE.equals(payload.printOptions().groupQuestionsByType())) {
-                questionsInRenderOrder = renderQuestionsGroupedByType(context, allQuestions, payload);
-            } else {
-                questionsInRenderOrder = renderQuestionsSequential(context, allQuestions, payload);
-            }
-
-            // Answers on separate page - use same order as questions were rendered
-            if (Boolean.TRUE.equals(payload.printOptions().answersOnSeparatePages())) {
-                context.startNewPage();
-                renderAnswerKey(context, questionsInRenderOrder, payload);
-            }
-
-            // Ensure the last page's content stream is closed before rendering footers
-            context.close();
-            
-            // Add footer to all pages (version code + page numbers)
-            addFootersToAllPages(document, payload);
-            
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            document.save(baos);
+            writeDocument(document, payload, baos);
             byte[] bytes = baos.toByteArray();
 
             String filename = payload.filenamePrefix() + ".pdf";
@@ -112,6 +74,65 @@ public class PdfPrintExportRenderer implements ExportRenderer {
         }
     }
 
+    /**
+     * The print layout needs every quiz up front (cover totals, grouping by type, answer key, "page X of Y"),
+     * so quizzes are materialised; page content streams, however, are buffered in a scratch file instead of
+     * the heap and the finished document is saved straight to {@code output}.
+     */
+    @Override
+    public void renderTo(StreamingExportPayload payload, OutputStream output) throws IOException {
+        try (PDDocument document = new PDDocument(MemoryUsageSetting.setupTempFileOnly())) {
+            writeDocument(document, payload.materialize(), output);
+        }
+    }
+
+    private void writeDocument(PDDocument document, ExportPayload payload, OutputStream output) throws IOException {
+        PDPageContext context = new PDPageContext(document);
+
+        // Cover page if requested
+        boolean hasCover = Boolean.TRUE.equals(payload.printOptions().includeCover());
+        if (hasCover) {
+            renderCoverPage(context, payload);
+            // Start questions on a new page after cover
+            context.startNewPage();
+        }
+
+        // Group and render questions
+        List<QuizExportDto> quizzes = payload.quizzes();
+        List<QuestionExportDto> allQuestions = new ArrayList<>();
+        
+        for (QuizExportDto quiz : quizzes) {
+            // Render quiz header for multiple quizzes, OR for single quiz without cover
+            if (quizzes.size() > 1 || !hasCover) {
+                renderQuizHeader(context, quiz, payload);
+            }
+            allQuestions.addAll(quiz.questions());
+        }
+
+        // Render questions (grouped or sequential) and track render order
+        List<QuestionExportDto> questionsInRenderOrder;
+        if (Boolean.TRUE.equals(payload.printOptions().groupQuestionsByType())) {
+            questionsInRenderOrder = renderQuestionsGroupedByType(context, allQuestions, payload);
+        } else {
+            questionsInRenderOrder = renderQuestionsSequential(context, allQuestions, payload);
+        }
+
+        // Answers on separate page - use same order as questions were rendered
+        if (Boolean.TRUE.equals(payload.printOptions().answersOnSeparatePages())) {
+            context.startNewPage();
+            renderAnswerKey(context, questionsInRenderOrder, payload);
+        }
+
+        // Ensure the last page's content stream is closed before rendering footers
+        context.close();
+        
+        // Add footer to all pages (version code + page numbers)
+        addFootersToAllPages(document, payload);
+
+        // PDDocument.save closes the stream it writes to; the caller owns the output
+        document.save(CloseShieldOutputStream.wrap(output));
+    }
+
     private void renderCoverPage(PDPageContext context, ExportPayload payload) throws IOException {
         context.startNewPage();
         context.y = PDRectangle.LETTER.getHeight() - 150;
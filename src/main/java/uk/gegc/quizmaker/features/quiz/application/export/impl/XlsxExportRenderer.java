@@ -3,23 +3,37 @@ package uk.gegc.quizmaker.features.quiz.application.export.impl;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.features.quiz.api.dto.export.QuestionExportDto;
+import uk.gegc.quizmaker.features.quiz.api.dto.export.QuizExportDto;
 import uk.gegc.quizmaker.features.quiz.application.export.ExportRenderer;
 import uk.gegc.quizmaker.features.quiz.domain.model.ExportFormat;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportFile;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportPayload;
+import uk.gegc.quizmaker.features.quiz.domain.model.export.StreamingExportPayload;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 
+/**
+ * XLSX renderer built on POI's streaming SXSSF workbook.
+ * Only a small window of rows per sheet is kept in memory; older rows are flushed to temporary files,
+ * so quizzes can be written as they are fetched.
+ */
 @Component
 @RequiredArgsConstructor
 public class XlsxExportRenderer implements ExportRenderer {
 
+    /** Rows kept in memory per sheet before SXSSF flushes them to disk */
+    private static final int ROW_ACCESS_WINDOW = 200;
+    private static final int QUIZ_LAST_COLUMN = 10;
+
     @Override
     public boolean supports(ExportFormat format) {
         return format == ExportFormat.XLSX_EDITABLE;
@@ -27,20 +41,9 @@ public class XlsxExportRenderer implements ExportRenderer {
 
     @Override
     public ExportFile render(ExportPayload payload) {
-        try (Workbook workbook = new XSSFWorkbook()) {
-            // Sheet 1: Quizzes metadata
-            createQuizzesSheet(workbook, payload);
-            
-            // Group questions by type
-            Map<QuestionType, List<QuestionWithQuizId>> questionsByType = groupQuestionsByType(payload);
-            
-            // Create a sheet for each question type
-            for (Map.Entry<QuestionType, List<QuestionWithQuizId>> entry : questionsByType.entrySet()) {
-                createQuestionTypeSheet(workbook, entry.getKey(), entry.getValue());
-            }
-
+        try {
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
+            writeWorkbook(payload.quizzes(), baos);
             byte[] bytes = baos.toByteArray();
 
             String filename = payload.filenamePrefix() + ".xlsx";
@@ -55,12 +58,52 @@ public class XlsxExportRenderer implements ExportRenderer {
         }
     }
 
-    private void createQuizzesSheet(Workbook workbook, ExportPayload payload) {
-        Sheet sheet = workbook.createSheet("Quizzes");
-        int rowIdx = 0;
+    @Override
+    public void renderTo(StreamingExportPayload payload, OutputStream output) throws IOException {
+        writeWorkbook(payload.quizzes(), output);
+    }
+
+    /**
+     * Write the Quizzes sheet plus one sheet per question type in a single pass over the quizzes.
+     * Question-type sheets are created the first time a type is seen, which keeps the original sheet order.
+     */
+    private void writeWorkbook(Iterable<QuizExportDto> quizzes, OutputStream output) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        try {
+            // Sheet 1: Quizzes metadata
+            SheetCursor quizSheet = createQuizzesSheet(workbook);
+            Map<QuestionType, SheetCursor> questionSheets = new LinkedHashMap<>();
+
+            for (QuizExportDto quiz : quizzes) {
+                writeQuizRow(quizSheet.nextRow(), quiz);
+
+                if (quiz.questions() == null) {
+                    continue;
+                }
+                for (QuestionExportDto question : quiz.questions()) {
+                    SheetCursor sheet = questionSheets.computeIfAbsent(question.type(),
+                            type -> createQuestionTypeSheet(workbook, type));
+                    writeQuestionRow(sheet.nextRow(), question.type(), quiz.id(), question);
+                }
+            }
+
+            quizSheet.autoSizeColumns();
+            questionSheets.values().forEach(SheetCursor::autoSizeColumns);
+
+            workbook.write(output);
+        } finally {
+            // Remove the temporary files backing flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private SheetCursor createQuizzesSheet(SXSSFWorkbook workbook) {
+        SheetCursor cursor = new SheetCursor(workbook.createSheet("Quizzes"));
+        cursor.columnCount = QUIZ_LAST_COLUMN + 1;
 
         // Header
-        Row header = sheet.createRow(rowIdx++);
+        Row header = cursor.nextRow();
         header.createCell(0).setCellValue("Quiz ID");
         header.createCell(1).setCellValue("Title");
         header.createCell(2).setCellValue("Description");
@@ -72,71 +115,58 @@ public class XlsxExportRenderer implements ExportRenderer {
         header.createCell(8).setCellValue("Creator ID");
         header.createCell(9).setCellValue("Created At");
         header.createCell(10).setCellValue("Updated At");
+        return cursor;
+    }
 
-        // Data rows
-        for (var quiz : payload.quizzes()) {
-            Row row = sheet.createRow(rowIdx++);
-            row.createCell(0).setCellValue(quiz.id() != null ? quiz.id().toString() : "");
-            row.createCell(1).setCellValue(quiz.title() != null ? quiz.title() : "");
-            row.createCell(2).setCellValue(quiz.description() != null ? quiz.description() : "");
-            row.createCell(3).setCellValue(quiz.visibility() != null ? quiz.visibility().name() : "");
-            row.createCell(4).setCellValue(quiz.difficulty() != null ? quiz.difficulty().name() : "");
-            row.createCell(5).setCellValue(quiz.estimatedTime() != null ? quiz.estimatedTime() : 0);
-            row.createCell(6).setCellValue(quiz.tags() != null ? String.join(",", quiz.tags()) : "");
-            row.createCell(7).setCellValue(quiz.category() != null ? quiz.category() : "");
-            row.createCell(8).setCellValue(quiz.creatorId() != null ? quiz.creatorId().toString() : "");
-            row.createCell(9).setCellValue(quiz.createdAt() != null ? quiz.createdAt().toString() : "");
-            row.createCell(10).setCellValue(quiz.updatedAt() != null ? quiz.updatedAt().toString() : "");
-        }
-
-        // Autosize columns
-        for (int i = 0; i <= 10; i++) {
-            sheet.autoSizeColumn(i);
-        }
+    private void writeQuizRow(Row row, QuizExportDto quiz) {
+        row.createCell(0).setCellValue(quiz.id() != null ? quiz.id().toString() : "");
+        row.createCell(1).setCellValue(quiz.title() != null ? quiz.title() : "");
+        row.createCell(2).setCellValue(quiz.description() != null ? quiz.description() : "");
+        row.createCell(3).setCellValue(quiz.visibility() != null ? quiz.visibility().name() : "");
+        row.createCell(4).setCellValue(quiz.difficulty() != null ? quiz.difficulty().name() : "");
+        row.createCell(5).setCellValue(quiz.estimatedTime() != null ? quiz.estimatedTime() : 0);
+        row.createCell(6).setCellValue(quiz.tags() != null ? String.join(",", quiz.tags()) : "");
+        row.createCell(7).setCellValue(quiz.category() != null ? quiz.category() : "");
+        row.createCell(8).setCellValue(quiz.creatorId() != null ? quiz.creatorId().toString() : "");
+        row.createCell(9).setCellValue(quiz.createdAt() != null ? quiz.createdAt().toString() : "");
+        row.createCell(10).setCellValue(quiz.updatedAt() != null ? quiz.updatedAt().toString() : "");
     }
 
     /**
-     * Helper record to associate questions with their quiz ID
-     */
-    private record QuestionWithQuizId(UUID quizId, QuestionExportDto question) {}
-    
-    /**
-     * Group all questions by their type across all quizzes
+     * Create a sheet for a specific question type and write its header row
      */
-    private Map<QuestionType, List<QuestionWithQuizId>> groupQuestionsByType(ExportPayload payload) {
-        Map<QuestionType, List<QuestionWithQuizId>> grouped = new LinkedHashMap<>();
-        
-        for (var quiz : payload.quizzes()) {
-            for (var question : quiz.questions()) {
-                QuestionType type = question.type();
-                grouped.computeIfAbsent(type, k -> new ArrayList<>())
-                       .add(new QuestionWithQuizId(quiz.id(), question));
-            }
-        }
-        
-        return grouped;
+    private SheetCursor createQuestionTypeSheet(SXSSFWorkbook workbook, QuestionType type) {
+        SheetCursor cursor = new SheetCursor(workbook.createSheet(type.name()));
+        Row header = cursor.nextRow();
+
+        // Headers: Common before + type-specific content + Common after
+        int colIdx = createCommonHeadersBeforeContent(header);
+        colIdx = createContentHeaders(header, type, colIdx);
+        cursor.columnCount = createCommonHeadersAfterContent(header, colIdx);
+        return cursor;
     }
-    
-    /**
-     * Create a sheet for a specific question type with appropriate columns
-     */
-    private void createQuestionTypeSheet(Workbook workbook, QuestionType type, 
-                                        List<QuestionWithQuizId> questions) {
-        Sheet sheet = workbook.createSheet(type.name());
-        
-        // Create header and data rows based on question type
-        switch (type) {
-            case MCQ_SINGLE, MCQ_MULTI -> createMcqSheet(sheet, questions, type);
-            case TRUE_FALSE -> createTrueFalseSheet(sheet, questions);
-            case OPEN -> createOpenSheet(sheet, questions);
-            case FILL_GAP -> createFillGapSheet(sheet, questions);
-            case ORDERING -> createOrderingSheet(sheet, questions);
-            case MATCHING -> createMatchingSheet(sheet, questions);
-            case COMPLIANCE -> createComplianceSheet(sheet, questions);
-            case HOTSPOT -> createHotspotSheet(sheet, questions);
-        }
+
+    private void writeQuestionRow(Row row, QuestionType type, UUID quizId, QuestionExportDto question) {
+        // Common fields before content
+        int colIdx = fillCommonDataBeforeContent(row, quizId, question);
+
+        // Type-specific content
+        JsonNode content = question.content();
+        colIdx = switch (type) {
+            case MCQ_SINGLE, MCQ_MULTI -> fillMcqContent(row, content, colIdx);
+            case TRUE_FALSE -> fillTrueFalseContent(row, content, colIdx);
+            case OPEN -> fillOpenContent(row, content, colIdx);
+            case FILL_GAP -> fillFillGapContent(row, content, colIdx);
+            case ORDERING -> fillOrderingContent(row, content, colIdx);
+            case MATCHING -> fillMatchingContent(row, colIdx);
+            case COMPLIANCE -> fillComplianceContent(row, content, colIdx);
+            case HOTSPOT -> fillHotspotContent(row, content, colIdx);
+        };
+
+        // Common fields after content
+        fillCommonDataAfterContent(row, question, colIdx);
     }
-    
+
     /**
      * Create common header columns (before type-specific content)
      */
@@ -148,7 +178,53 @@ public class XlsxExportRenderer implements ExportRenderer {
         header.createCell(colIdx++).setCellValue("Question Text");
         return colIdx;
     }
-    
+
+    /**
+     * Create type-specific header columns
+     */
+    private int createContentHeaders(Row header, QuestionType type, int startCol) {
+        int colIdx = startCol;
+        switch (type) {
+            case MCQ_SINGLE, MCQ_MULTI -> {
+                // MCQ-specific columns - up to 6 options
+                for (int i = 1; i <= 6; i++) {
+                    header.createCell(colIdx++).setCellValue("Option " + i);
+                    header.createCell(colIdx++).setCellValue("Option " + i + " Correct");
+                }
+            }
+            case TRUE_FALSE -> header.createCell(colIdx++).setCellValue("Correct Answer");
+            case OPEN -> header.createCell(colIdx++).setCellValue("Sample Answer");
+            case FILL_GAP -> {
+                for (int i = 1; i <= 10; i++) {
+                    header.createCell(colIdx++).setCellValue("Gap " + i + " Answer");
+                }
+            }
+            case ORDERING -> {
+                for (int i = 1; i <= 10; i++) {
+                    header.createCell(colIdx++).setCellValue("Item " + i);
+                }
+            }
+            case MATCHING -> {
+                // Left and right columns for matching
+                for (int i = 1; i <= 8; i++) {
+                    header.createCell(colIdx++).setCellValue("Left " + i);
+                    header.createCell(colIdx++).setCellValue("Right " + i);
+                }
+            }
+            case COMPLIANCE -> {
+                for (int i = 1; i <= 10; i++) {
+                    header.createCell(colIdx++).setCellValue("Statement " + i);
+                    header.createCell(colIdx++).setCellValue("Statement " + i + " Compliant");
+                }
+            }
+            case HOTSPOT -> {
+                header.createCell(colIdx++).setCellValue("Image URL");
+                header.createCell(colIdx++).setCellValue("Hotspot Count");
+            }
+        }
+        return colIdx;
+    }
+
     /**
      * Create common header columns (after type-specific content)
      */
@@ -159,25 +235,23 @@ public class XlsxExportRenderer implements ExportRenderer {
         header.createCell(colIdx++).setCellValue("Attachment URL");
         return colIdx;
     }
-    
+
     /**
      * Fill common data columns (before type-specific content)
      */
-    private int fillCommonDataBeforeContent(Row row, QuestionWithQuizId qwq) {
-        QuestionExportDto q = qwq.question();
+    private int fillCommonDataBeforeContent(Row row, UUID quizId, QuestionExportDto q) {
         int colIdx = 0;
         row.createCell(colIdx++).setCellValue(q.id() != null ? q.id().toString() : "");
-        row.createCell(colIdx++).setCellValue(qwq.quizId() != null ? qwq.quizId().toString() : "");
+        row.createCell(colIdx++).setCellValue(quizId != null ? quizId.toString() : "");
         row.createCell(colIdx++).setCellValue(q.difficulty() != null ? q.difficulty().name() : "");
         row.createCell(colIdx++).setCellValue(q.questionText() != null ? q.questionText() : "");
         return colIdx;
     }
-    
+
     /**
      * Fill common data columns (after type-specific content)
      */
-    private int fillCommonDataAfterContent(Row row, QuestionWithQuizId qwq, int startCol) {
-        QuestionExportDto q = qwq.question();
+    private int fillCommonDataAfterContent(Row row, QuestionExportDto q, int startCol) {
         int colIdx = startCol;
         row.createCell(colIdx++).setCellValue(q.hint() != null ? q.hint() : "");
         row.createCell(colIdx++).setCellValue(q.explanation() != null ? q.explanation() : "");
@@ -185,380 +259,151 @@ public class XlsxExportRenderer implements ExportRenderer {
         return colIdx;
     }
 
-    private void createMcqSheet(Sheet sheet, List<QuestionWithQuizId> questions, QuestionType type) {
-        int rowIdx = 0;
-        Row header = sheet.createRow(rowIdx++);
-        
-        // Headers: Common before + Options + Common after
-        int colIdx = createCommonHeadersBeforeContent(header);
-        
-        // MCQ-specific columns - up to 6 options
-        for (int i = 1; i <= 6; i++) {
-            header.createCell(colIdx++).setCellValue("Option " + i);
-            header.createCell(colIdx++).setCellValue("Option " + i + " Correct");
-        }
-        
-        int lastCol = createCommonHeadersAfterContent(header, colIdx);
-        
-        // Data rows
-        for (QuestionWithQuizId qwq : questions) {
-            Row row = sheet.createRow(rowIdx++);
-            
-            // Common fields before content
-            colIdx = fillCommonDataBeforeContent(row, qwq);
-            
-            // Options
-            JsonNode content = qwq.question().content();
-            if (content != null && content.has("options")) {
-                var options = content.get("options");
-                int optionIdx = 0;
-                for (JsonNode option : options) {
-                    if (optionIdx >= 6) break;
-                    
-                    String text = option.has("text") ? option.get("text").asText() : "";
-                    boolean correct = option.has("correct") ? option.get("correct").asBoolean() : false;
-                    
-                    row.createCell(colIdx++).setCellValue(text);
-                    row.createCell(colIdx++).setCellValue(correct ? "YES" : "NO");
-                    optionIdx++;
-                }
-                // Fill empty cells for unused option slots
-                for (int i = optionIdx; i < 6; i++) {
-                    row.createCell(colIdx++).setCellValue("");
-                    row.createCell(colIdx++).setCellValue("");
-                }
-            } else {
-                // Fill all option columns as empty
-                for (int i = 0; i < 6; i++) {
-                    row.createCell(colIdx++).setCellValue("");
-                    row.createCell(colIdx++).setCellValue("");
-                }
+    private int fillMcqContent(Row row, JsonNode content, int startCol) {
+        int colIdx = startCol;
+        int optionIdx = 0;
+        if (content != null && content.has("options")) {
+            for (JsonNode option : content.get("options")) {
+                if (optionIdx >= 6) break;
+
+                String text = option.has("text") ? option.get("text").asText() : "";
+                boolean correct = option.has("correct") && option.get("correct").asBoolean();
+
+                row.createCell(colIdx++).setCellValue(text);
+                row.createCell(colIdx++).setCellValue(correct ? "YES" : "NO");
+                optionIdx++;
             }
-            
-            // Common fields after content
-            fillCommonDataAfterContent(row, qwq, colIdx);
         }
-        
-        // Autosize columns
-        for (int i = 0; i < lastCol; i++) {
-            sheet.autoSizeColumn(i);
+        // Fill empty cells for unused option slots
+        for (int i = optionIdx; i < 6; i++) {
+            row.createCell(colIdx++).setCellValue("");
+            row.createCell(colIdx++).setCellValue("");
         }
+        return colIdx;
     }
 
-    private void createTrueFalseSheet(Sheet sheet, List<QuestionWithQuizId> questions) {
-        int rowIdx = 0;
-        Row header = sheet.createRow(rowIdx++);
-        
-        // Headers: Common before + Answer + Common after
-        int colIdx = createCommonHeadersBeforeContent(header);
-        header.createCell(colIdx++).setCellValue("Correct Answer");
-        int lastCol = createCommonHeadersAfterContent(header, colIdx);
-        
-        // Data rows
-        for (QuestionWithQuizId qwq : questions) {
-            Row row = sheet.createRow(rowIdx++);
-            
-            // Common fields before content
-            colIdx = fillCommonDataBeforeContent(row, qwq);
-            
-            // Answer field
-            JsonNode content = qwq.question().content();
-            if (content != null && content.has("answer")) {
-                boolean answer = content.get("answer").asBoolean();
-                row.createCell(colIdx++).setCellValue(answer ? "True" : "False");
-            } else {
-                row.createCell(colIdx++).setCellValue(""); // Empty if missing
-            }
-            
-            // Common fields after content
-            fillCommonDataAfterContent(row, qwq, colIdx);
+    private int fillTrueFalseContent(Row row, JsonNode content, int startCol) {
+        if (content != null && content.has("answer")) {
+            boolean answer = content.get("answer").asBoolean();
+            row.createCell(startCol).setCellValue(answer ? "True" : "False");
+        } else {
+            row.createCell(startCol).setCellValue(""); // Empty if missing
         }
-        
-        // Autosize all columns
-        for (int i = 0; i < lastCol; i++) {
-            sheet.autoSizeColumn(i);
+        return startCol + 1;
+    }
+
+    private int fillOpenContent(Row row, JsonNode content, int startCol) {
+        if (content != null && content.has("answer")) {
+            row.createCell(startCol).setCellValue(content.get("answer").asText());
+        } else {
+            row.createCell(startCol).setCellValue("");
         }
+        return startCol + 1;
     }
 
-    private void createOpenSheet(Sheet sheet, List<QuestionWithQuizId> questions) {
-        int rowIdx = 0;
-        Row header = sheet.createRow(rowIdx++);
-        
-        // Headers: Common before + Sample Answer + Common after
-        int colIdx = createCommonHeadersBeforeContent(header);
-        header.createCell(colIdx++).setCellValue("Sample Answer");
-        int lastCol = createCommonHeadersAfterContent(header, colIdx);
-        
-        // Data rows
-        for (QuestionWithQuizId qwq : questions) {
-            Row row = sheet.createRow(rowIdx++);
-            
-            // Common fields before content
-            colIdx = fillCommonDataBeforeContent(row, qwq);
-            
-            // Sample answer
-            JsonNode content = qwq.question().content();
-            if (content != null && content.has("answer")) {
-                row.createCell(colIdx++).setCellValue(content.get("answer").asText());
-            } else {
-                row.createCell(colIdx++).setCellValue("");
+    private int fillFillGapContent(Row row, JsonNode content, int startCol) {
+        int colIdx = startCol;
+        int gapIdx = 0;
+        if (content != null && content.has("gaps")) {
+            for (JsonNode gap : content.get("gaps")) {
+                if (gapIdx >= 10) break;
+                String answer = gap.has("answer") ? gap.get("answer").asText() : "";
+                row.createCell(colIdx++).setCellValue(answer);
+                gapIdx++;
             }
-            
-            // Common fields after content
-            fillCommonDataAfterContent(row, qwq, colIdx);
         }
-        
-        // Autosize columns
-        for (int i = 0; i < lastCol; i++) {
-            sheet.autoSizeColumn(i);
+        // Fill empty cells for unused gaps
+        for (int i = gapIdx; i < 10; i++) {
+            row.createCell(colIdx++).setCellValue("");
         }
+        return colIdx;
     }
 
-    private void createFillGapSheet(Sheet sheet, List<QuestionWithQuizId> questions) {
-        int rowIdx = 0;
-        Row header = sheet.createRow(rowIdx++);
-        
-        // Headers: Common before + Gaps + Common after
-        int colIdx = createCommonHeadersBeforeContent(header);
-        
-        // Gap columns
-        for (int i = 1; i <= 10; i++) {
-            header.createCell(colIdx++).setCellValue("Gap " + i + " Answer");
-        }
-        
-        int lastCol = createCommonHeadersAfterContent(header, colIdx);
-        
-        // Data rows
-        for (QuestionWithQuizId qwq : questions) {
-            Row row = sheet.createRow(rowIdx++);
-            
-            // Common fields before content
-            colIdx = fillCommonDataBeforeContent(row, qwq);
-            
-            // Gaps
-            JsonNode content = qwq.question().content();
-            if (content != null && content.has("gaps")) {
-                var gaps = content.get("gaps");
-                int gapIdx = 0;
-                for (JsonNode gap : gaps) {
-                    if (gapIdx >= 10) break;
-                    String answer = gap.has("answer") ? gap.get("answer").asText() : "";
-                    row.createCell(colIdx++).setCellValue(answer);
-                    gapIdx++;
-                }
-                // Fill empty cells for unused gaps
-                for (int i = gapIdx; i < 10; i++) {
-                    row.createCell(colIdx++).setCellValue("");
-                }
-            } else {
-                // Fill all gap columns as empty
-                for (int i = 0; i < 10; i++) {
-                    row.createCell(colIdx++).setCellValue("");
-                }
+    private int fillOrderingContent(Row row, JsonNode content, int startCol) {
+        int colIdx = startCol;
+        int itemIdx = 0;
+        if (content != null && content.has("items")) {
+            for (JsonNode item : content.get("items")) {
+                if (itemIdx >= 10) break;
+                String text = item.has("text") ? item.get("text").asText() : "";
+                row.createCell(colIdx++).setCellValue(text);
+                itemIdx++;
             }
-            
-            // Common fields after content
-            fillCommonDataAfterContent(row, qwq, colIdx);
         }
-        
-        // Autosize columns
-        for (int i = 0; i < lastCol; i++) {
-            sheet.autoSizeColumn(i);
+        // Fill empty cells for unused items
+        for (int i = itemIdx; i < 10; i++) {
+            row.createCell(colIdx++).setCellValue("");
         }
+        return colIdx;
     }
 
-    private void createOrderingSheet(Sheet sheet, List<QuestionWithQuizId> questions) {
-        int rowIdx = 0;
-        Row header = sheet.createRow(rowIdx++);
-        
-        // Headers: Common before + Items + Common after
-        int colIdx = createCommonHeadersBeforeContent(header);
-        
-        // Item columns
-        for (int i = 1; i <= 10; i++) {
-            header.createCell(colIdx++).setCellValue("Item " + i);
+    private int fillMatchingContent(Row row, int startCol) {
+        int colIdx = startCol;
+        // Matching pairs (complex type - leave empty for now, could be enhanced later)
+        for (int i = 0; i < 16; i++) {
+            row.createCell(colIdx++).setCellValue("");
         }
-        
-        int lastCol = createCommonHeadersAfterContent(header, colIdx);
-        
-        // Data rows
-        for (QuestionWithQuizId qwq : questions) {
-            Row row = sheet.createRow(rowIdx++);
-            
-            // Common fields before content
-            colIdx = fillCommonDataBeforeContent(row, qwq);
-            
-            // Items
-            JsonNode content = qwq.question().content();
-            if (content != null && content.has("items")) {
-                var items = content.get("items");
-                int itemIdx = 0;
-                for (JsonNode item : items) {
-                    if (itemIdx >= 10) break;
-                    String text = item.has("text") ? item.get("text").asText() : "";
-                    row.createCell(colIdx++).setCellValue(text);
-                    itemIdx++;
-                }
-                // Fill empty cells for unused items
-                for (int i = itemIdx; i < 10; i++) {
-                    row.createCell(colIdx++).setCellValue("");
-                }
-            } else {
-                // Fill all item columns as empty
-                for (int i = 0; i < 10; i++) {
-                    row.createCell(colIdx++).setCellValue("");
-                }
+        return colIdx;
+    }
+
+    private int fillComplianceContent(Row row, JsonNode content, int startCol) {
+        int colIdx = startCol;
+        int stmtIdx = 0;
+        if (content != null && content.has("statements")) {
+            for (JsonNode stmt : content.get("statements")) {
+                if (stmtIdx >= 10) break;
+                String text = stmt.has("text") ? stmt.get("text").asText() : "";
+                boolean compliant = stmt.has("compliant") && stmt.get("compliant").asBoolean();
+                row.createCell(colIdx++).setCellValue(text);
+                row.createCell(colIdx++).setCellValue(compliant ? "Compliant" : "Non-compliant");
+                stmtIdx++;
             }
-            
-            // Common fields after content
-            fillCommonDataAfterContent(row, qwq, colIdx);
         }
-        
-        // Autosize columns
-        for (int i = 0; i < lastCol; i++) {
-            sheet.autoSizeColumn(i);
+        // Fill empty cells for unused statements
+        for (int i = stmtIdx; i < 10; i++) {
+            row.createCell(colIdx++).setCellValue("");
+            row.createCell(colIdx++).setCellValue("");
         }
+        return colIdx;
     }
 
-    private void createMatchingSheet(Sheet sheet, List<QuestionWithQuizId> questions) {
-        int rowIdx = 0;
-        Row header = sheet.createRow(rowIdx++);
-        
-        // Headers: Common before + Matching pairs + Common after
-        int colIdx = createCommonHeadersBeforeContent(header);
-        
-        // Left and right columns for matching
-        for (int i = 1; i <= 8; i++) {
-            header.createCell(colIdx++).setCellValue("Left " + i);
-            header.createCell(colIdx++).setCellValue("Right " + i);
-        }
-        
-        int lastCol = createCommonHeadersAfterContent(header, colIdx);
-        
-        // Data rows
-        for (QuestionWithQuizId qwq : questions) {
-            Row row = sheet.createRow(rowIdx++);
-            
-            // Common fields before content
-            colIdx = fillCommonDataBeforeContent(row, qwq);
-            
-            // Matching pairs (complex type - leave empty for now, could be enhanced later)
-            for (int i = 0; i < 16; i++) {
-                row.createCell(colIdx++).setCellValue("");
-            }
-            
-            // Common fields after content
-            fillCommonDataAfterContent(row, qwq, colIdx);
+    private int fillHotspotContent(Row row, JsonNode content, int startCol) {
+        int colIdx = startCol;
+        if (content != null && content.has("imageUrl")) {
+            row.createCell(colIdx++).setCellValue(content.get("imageUrl").asText());
+        } else {
+            row.createCell(colIdx++).setCellValue("");
         }
-        
-        // Autosize columns
-        for (int i = 0; i < lastCol; i++) {
-            sheet.autoSizeColumn(i);
+        if (content != null && content.has("hotspots")) {
+            row.createCell(colIdx++).setCellValue(content.get("hotspots").size());
+        } else {
+            row.createCell(colIdx++).setCellValue(0);
         }
+        return colIdx;
     }
 
-    private void createComplianceSheet(Sheet sheet, List<QuestionWithQuizId> questions) {
-        int rowIdx = 0;
-        Row header = sheet.createRow(rowIdx++);
-        
-        // Headers: Common before + Statements + Common after
-        int colIdx = createCommonHeadersBeforeContent(header);
-        
-        // Statement columns
-        for (int i = 1; i <= 10; i++) {
-            header.createCell(colIdx++).setCellValue("Statement " + i);
-            header.createCell(colIdx++).setCellValue("Statement " + i + " Compliant");
-        }
-        
-        int lastCol = createCommonHeadersAfterContent(header, colIdx);
-        
-        // Data rows
-        for (QuestionWithQuizId qwq : questions) {
-            Row row = sheet.createRow(rowIdx++);
-            
-            // Common fields before content
-            colIdx = fillCommonDataBeforeContent(row, qwq);
-            
-            // Statements
-            JsonNode content = qwq.question().content();
-            if (content != null && content.has("statements")) {
-                var statements = content.get("statements");
-                int stmtIdx = 0;
-                for (JsonNode stmt : statements) {
-                    if (stmtIdx >= 10) break;
-                    String text = stmt.has("text") ? stmt.get("text").asText() : "";
-                    boolean compliant = stmt.has("compliant") ? stmt.get("compliant").asBoolean() : false;
-                    row.createCell(colIdx++).setCellValue(text);
-                    row.createCell(colIdx++).setCellValue(compliant ? "Compliant" : "Non-compliant");
-                    stmtIdx++;
-                }
-                // Fill empty cells for unused statements
-                for (int i = stmtIdx; i < 10; i++) {
-                    row.createCell(colIdx++).setCellValue("");
-                    row.createCell(colIdx++).setCellValue("");
-                }
-            } else {
-                // Fill all statement columns as empty
-                for (int i = 0; i < 10; i++) {
-                    row.createCell(colIdx++).setCellValue("");
-                    row.createCell(colIdx++).setCellValue("");
-                }
-            }
-            
-            // Common fields after content
-            fillCommonDataAfterContent(row, qwq, colIdx);
+    /**
+     * Append-only row cursor over a streaming sheet.
+     * Column widths are tracked as rows are flushed so they can still be auto-sized at the end.
+     */
+    private static final class SheetCursor {
+        private final SXSSFSheet sheet;
+        private int columnCount;
+        private int nextRowIdx;
+
+        private SheetCursor(SXSSFSheet sheet) {
+            this.sheet = sheet;
+            sheet.trackAllColumnsForAutoSizing();
         }
-        
-        // Autosize columns
-        for (int i = 0; i < lastCol; i++) {
-            sheet.autoSizeColumn(i);
+
+        private Row nextRow() {
+            return sheet.createRow(nextRowIdx++);
         }
-    }
 
-    private void createHotspotSheet(Sheet sheet, List<QuestionWithQuizId> questions) {
-        int rowIdx = 0;
-        Row header = sheet.createRow(rowIdx++);
-        
-        // Headers: Common before + Hotspot info + Common after
-        int colIdx = createCommonHeadersBeforeContent(header);
-        header.createCell(colIdx++).setCellValue("Image URL");
-        header.createCell(colIdx++).setCellValue("Hotspot Count");
-        int lastCol = createCommonHeadersAfterContent(header, colIdx);
-        
-        // Data rows
-        for (QuestionWithQuizId qwq : questions) {
-            Row row = sheet.createRow(rowIdx++);
-            
-            // Common fields before content
-            colIdx = fillCommonDataBeforeContent(row, qwq);
-            
-            // Hotspot-specific fields
-            JsonNode content = qwq.question().content();
-            if (content != null) {
-                if (content.has("imageUrl")) {
-                    row.createCell(colIdx++).setCellValue(content.get("imageUrl").asText());
-                } else {
-                    row.createCell(colIdx++).setCellValue("");
-                }
-                if (content.has("hotspots")) {
-                    row.createCell(colIdx++).setCellValue(content.get("hotspots").size());
-                } else {
-                    row.createCell(colIdx++).setCellValue(0);
-                }
-            } else {
-                row.createCell(colIdx++).setCellValue("");
-                row.createCell(colIdx++).setCellValue(0);
+        private void autoSizeColumns() {
+            for (int i = 0; i < columnCount; i++) {
+                sheet.autoSizeColumn(i);
             }
-            
-            // Common fields after content
-            fillCommonDataAfterContent(row, qwq, colIdx);
-        }
-        
-        // Autosize columns
-        for (int i = 0; i < lastCol; i++) {
-            sheet.autoSizeColumn(i);
         }
     }
 }
-
-
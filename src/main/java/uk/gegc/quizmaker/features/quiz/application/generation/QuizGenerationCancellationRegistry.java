@@ -0,0 +1,187 @@
+package uk.gegc.quizmaker.features.quiz.application.generation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gegc.quizmaker.features.quiz.config.QuizJobProperties;
+import uk.gegc.quizmaker.features.quiz.domain.model.GenerationStatus;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationJobRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-job cancellation tokens for generation workers running on this node.
+ * <p>
+ * The cancel endpoint flips a token directly, so local workers observe cancellation without a database
+ * round trip. Cancellation committed by another node is picked up by a status-only query that runs at
+ * most once per poll interval per job. Jobs without a local token are always checked against the database.
+ * </p>
+ */
+@Component
+@Slf4j
+public class QuizGenerationCancellationRegistry {
+
+    private final QuizGenerationJobRepository jobRepository;
+    private final long pollIntervalNanos;
+    private final Map<UUID, CancellationToken> tokens = new ConcurrentHashMap<>();
+
+    @Autowired
+    public QuizGenerationCancellationRegistry(QuizGenerationJobRepository jobRepository, QuizJobProperties properties) {
+        this(jobRepository, Duration.ofMillis(properties.getCancellation().getStatusPollIntervalMillis()));
+    }
+
+    public QuizGenerationCancellationRegistry(QuizGenerationJobRepository jobRepository, Duration pollInterval) {
+        this.jobRepository = jobRepository;
+        if (pollInterval.isNegative()) {
+            throw new IllegalArgumentException("pollInterval must not be negative");
+        }
+        this.pollIntervalNanos = pollInterval.toNanos();
+    }
+
+    /**
+     * Registers the job's worker on this node. Returns the existing token if the job is already registered.
+     */
+    public CancellationToken open(UUID jobId) {
+        Objects.requireNonNull(jobId, "jobId must not be null");
+        return tokens.computeIfAbsent(jobId, ignored -> new CancellationToken());
+    }
+
+    /**
+     * Drops the job's token once its worker has stopped.
+     */
+    public void close(UUID jobId) {
+        if (jobId != null) {
+            tokens.remove(jobId);
+        }
+    }
+
+    /**
+     * Flips the job's token immediately. Has no effect when no worker for the job runs on this node.
+     */
+    public void cancel(UUID jobId) {
+        CancellationToken token = jobId != null ? tokens.get(jobId) : null;
+        if (token != null) {
+            token.cancel();
+        }
+    }
+
+    /**
+     * Flips the job's token once the current transaction commits, so a rolled-back cancellation never
+     * stops the worker. Without an active transaction the token is flipped straight away.
+     */
+    public void cancelAfterCommit(UUID jobId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cancel(jobId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cancel(jobId);
+            }
+        });
+    }
+
+    /**
+     * Cheap cancellation check for hot paths: the local token, backed by a throttled status query.
+     */
+    public boolean isCancelled(UUID jobId) {
+        if (jobId == null) {
+            return false;
+        }
+        CancellationToken token = tokens.get(jobId);
+        if (token == null) {
+            return isCancelledInDatabase(jobId);
+        }
+        if (token.isCancelled()) {
+            return true;
+        }
+        if (token.claimPoll(pollIntervalNanos) && isCancelledInDatabase(jobId)) {
+            token.cancel();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Authoritative check for decisions that must not act on a stale view, such as failing a job.
+     */
+    public boolean isCancelledPersisted(UUID jobId) {
+        if (jobId == null) {
+            return false;
+        }
+        boolean cancelled = isCancelledInDatabase(jobId);
+        if (cancelled) {
+            cancel(jobId);
+        }
+        return cancelled;
+    }
+
+    private boolean isCancelledInDatabase(UUID jobId) {
+        try {
+            return jobRepository.findStatusById(jobId)
+                    .map(status -> status == GenerationStatus.CANCELLED)
+                    .orElse(false);
+        } catch (Exception e) {
+            log.error("Error checking cancellation status for job {}", jobId, e);
+            return false; // On error, continue processing rather than aborting
+        }
+    }
+
+    public static final class CancellationToken {
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+        private volatile long nextPollNanos = System.nanoTime();
+
+        private CancellationToken() {
+        }
+
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        /**
+         * Runs {@code listener} once when the token is cancelled, or straight away if it already is.
+         */
+        public void onCancel(Runnable listener) {
+            Objects.requireNonNull(listener, "listener must not be null");
+            listeners.add(listener);
+            if (cancelled.get() && listeners.remove(listener)) {
+                listener.run();
+            }
+        }
+
+        private void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                for (Runnable listener : listeners) {
+                    if (listeners.remove(listener)) {
+                        try {
+                            listener.run();
+                        } catch (RuntimeException exception) {
+                            log.warn("Cancellation listener failed", exception);
+                        }
+                    }
+                }
+            }
+        }
+
+        private boolean claimPoll(long pollIntervalNanos) {
+            long now = System.nanoTime();
+            if (now - nextPollNanos < 0) {
+                return false;
+            }
+            nextPollNanos = now + pollIntervalNanos;
+            return true;
+        }
+    }
+}
@@ -10,6 +10,18 @@ public interface QuizGenerationCheckpointService {
 
     void save(UUID jobId, Map<Integer, List<Question>> chunkQuestions);
 
+    /**
+     * Durably records one chunk's questions while the job is still generating. Chunk checkpoints are
+     * a resume aid only; they never trigger finalization and are dropped once {@link #save} succeeds.
+     */
+    void saveChunk(UUID jobId, int chunkIndex, List<Question> questions);
+
+    /**
+     * Chunk questions recorded by {@link #saveChunk} for a job that has not produced its full output yet,
+     * keyed by chunk index.
+     */
+    Map<Integer, List<Question>> findChunks(UUID jobId);
+
     GeneratedQuizCheckpoint getRequired(UUID jobId);
 
     boolean exists(UUID jobId);
@@ -1,6 +1,7 @@
 package uk.gegc.quizmaker.features.quiz.application.generation.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gegc.quizmaker.features.category.domain.model.Category;
@@ -10,6 +11,7 @@ import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.quiz.api.dto.GenerateQuizFromDocumentRequest;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizAssemblyService;
 import uk.gegc.quizmaker.features.quiz.application.validation.QuizPublishValidator;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
@@ -30,6 +32,7 @@ public class QuizAssemblyServiceImpl implements QuizAssemblyService {
     private final QuizRepository quizRepository;
     private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Category getOrCreateAICategory() {
@@ -86,7 +89,7 @@ public class QuizAssemblyServiceImpl implements QuizAssemblyService {
         quiz.setIsRepetitionEnabled(false);
         quiz.setDifficulty(request.difficulty());
 
-        return quizRepository.save(quiz);
+        return saveAndAnnounce(quiz);
     }
 
     @Override
@@ -120,7 +123,7 @@ public class QuizAssemblyServiceImpl implements QuizAssemblyService {
         quiz.setIsRepetitionEnabled(false);
         quiz.setDifficulty(request.difficulty());
 
-        return quizRepository.save(quiz);
+        return saveAndAnnounce(quiz);
     }
 
     @Override
@@ -214,4 +217,12 @@ public class QuizAssemblyServiceImpl implements QuizAssemblyService {
         }
         return value.substring(0, end).stripTrailing();
     }
+
+    private Quiz saveAndAnnounce(Quiz quiz) {
+        Quiz saved = quizRepository.save(quiz);
+        if (saved != null && saved.getId() != null) {
+            eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, saved.getId()));
+        }
+        return saved;
+    }
 }
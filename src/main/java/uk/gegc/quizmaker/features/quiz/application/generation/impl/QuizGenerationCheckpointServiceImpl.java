@@ -14,15 +14,19 @@ import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationChec
 import uk.gegc.quizmaker.features.quiz.config.QuizJobProperties;
 import uk.gegc.quizmaker.features.quiz.domain.model.BillingState;
 import uk.gegc.quizmaker.features.quiz.domain.model.GenerationStatus;
+import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationChunkCheckpoint;
+import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationChunkCheckpointId;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationFinalizationState;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationJob;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationOutputCheckpoint;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationChunkCheckpointRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationJobRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationOutputCheckpointRepository;
 import uk.gegc.quizmaker.shared.exception.ResourceNotFoundException;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -33,6 +37,7 @@ import java.util.UUID;
 public class QuizGenerationCheckpointServiceImpl implements QuizGenerationCheckpointService {
 
     private final QuizGenerationOutputCheckpointRepository checkpointRepository;
+    private final QuizGenerationChunkCheckpointRepository chunkCheckpointRepository;
     private final QuizGenerationJobRepository jobRepository;
     private final QuizGenerationCheckpointCodec codec;
     private final QuizJobProperties properties;
@@ -43,9 +48,11 @@ public class QuizGenerationCheckpointServiceImpl implements QuizGenerationCheckp
     private final Counter deletedCounter;
     private final Counter deleteFailedCounter;
     private final Counter rejectedCounter;
+    private final Counter chunkSavedCounter;
 
     public QuizGenerationCheckpointServiceImpl(
             QuizGenerationOutputCheckpointRepository checkpointRepository,
+            QuizGenerationChunkCheckpointRepository chunkCheckpointRepository,
             QuizGenerationJobRepository jobRepository,
             QuizGenerationCheckpointCodec codec,
             QuizJobProperties properties,
@@ -53,6 +60,7 @@ public class QuizGenerationCheckpointServiceImpl implements QuizGenerationCheckp
             MeterRegistry meterRegistry
     ) {
         this.checkpointRepository = checkpointRepository;
+        this.chunkCheckpointRepository = chunkCheckpointRepository;
         this.jobRepository = jobRepository;
         this.codec = codec;
         this.properties = properties;
@@ -63,6 +71,7 @@ public class QuizGenerationCheckpointServiceImpl implements QuizGenerationCheckp
         this.deletedCounter = counter(meterRegistry, "deleted");
         this.deleteFailedCounter = counter(meterRegistry, "delete_failed");
         this.rejectedCounter = counter(meterRegistry, "rejected");
+        this.chunkSavedCounter = counter(meterRegistry, "chunk_saved");
     }
 
     @Override
@@ -102,10 +111,71 @@ public class QuizGenerationCheckpointServiceImpl implements QuizGenerationCheckp
                 encoded.questionCount(),
                 LocalDateTime.now(clock)
         ));
+        // The full output supersedes any per-chunk progress recorded while generating
+        chunkCheckpointRepository.deleteByJobId(jobId);
         savedCounter.increment();
         log.info("Checkpointed {} generated questions for job {}", encoded.questionCount(), jobId);
     }
 
+    @Override
+    @Transactional
+    public void saveChunk(UUID jobId, int chunkIndex, List<Question> questions) {
+        Objects.requireNonNull(jobId, "jobId must not be null");
+        Objects.requireNonNull(questions, "questions must not be null");
+        QuizGenerationCheckpointCodec.EncodedCheckpoint encoded = codec.encode(
+                Map.of(chunkIndex, questions),
+                properties.getFinalization().getCheckpointMaxBytes()
+        );
+        QuizGenerationJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Generation job not found: " + jobId));
+
+        if (job.isTerminal()
+                || job.getStatus() != GenerationStatus.PROCESSING
+                || job.getFinalizationState() != QuizGenerationFinalizationState.NOT_STARTED) {
+            rejectedCounter.increment();
+            throw new QuizGenerationCheckpointException("Generation job is no longer eligible for chunk checkpointing");
+        }
+        if (chunkCheckpointRepository.existsById(new QuizGenerationChunkCheckpointId(jobId, chunkIndex))) {
+            duplicateCounter.increment();
+            return;
+        }
+
+        chunkCheckpointRepository.save(new QuizGenerationChunkCheckpoint(
+                jobId,
+                chunkIndex,
+                encoded.schemaVersion(),
+                encoded.payload(),
+                encoded.questionCount(),
+                LocalDateTime.now(clock)
+        ));
+        chunkSavedCounter.increment();
+        log.debug("Checkpointed {} questions of chunk {} for job {}", encoded.questionCount(), chunkIndex, jobId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Integer, List<Question>> findChunks(UUID jobId) {
+        Objects.requireNonNull(jobId, "jobId must not be null");
+        Map<Integer, List<Question>> chunks = new LinkedHashMap<>();
+        for (QuizGenerationChunkCheckpoint checkpoint : chunkCheckpointRepository.findByJobId(jobId)) {
+            try {
+                GeneratedQuizCheckpoint decoded = codec.decode(
+                        checkpoint.getSchemaVersion(),
+                        checkpoint.getPayload(),
+                        checkpoint.getQuestionCount(),
+                        properties.getFinalization().getCheckpointMaxBytes()
+                );
+                chunks.putAll(decoded.chunkQuestions());
+                loadedCounter.increment();
+            } catch (QuizGenerationCheckpointException exception) {
+                // An unreadable chunk is simply generated again
+                rejectedCounter.increment();
+                log.warn("Ignoring unreadable checkpoint of chunk {} for job {}", checkpoint.getChunkIndex(), jobId, exception);
+            }
+        }
+        return chunks;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public GeneratedQuizCheckpoint getRequired(UUID jobId) {
@@ -141,6 +211,7 @@ public class QuizGenerationCheckpointServiceImpl implements QuizGenerationCheckp
         Objects.requireNonNull(jobId, "jobId must not be null");
         try {
             int deleted = checkpointRepository.deleteByJobId(jobId);
+            chunkCheckpointRepository.deleteByJobId(jobId);
             if (deleted > 0) {
                 deletedCounter.increment(deleted);
             }
@@ -36,6 +36,7 @@ import uk.gegc.quizmaker.features.quiz.application.QuizGenerationJobService;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizAssemblyService;
 import uk.gegc.quizmaker.features.quiz.application.generation.GeneratedQuizCheckpoint;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointException;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCancellationRegistry;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationFinalizationClaim;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationFacade;
@@ -100,6 +101,7 @@ public class QuizGenerationFacadeImpl implements QuizGenerationFacade {
     private final QuizGenerationRequestCanonicalizer requestCanonicalizer;
     private final QuizJobProperties quizJobProperties;
     private final QuizGenerationCheckpointService checkpointService;
+    private final QuizGenerationCancellationRegistry cancellationRegistry;
 
     @Override
     public QuizGenerationResponse generateQuizFromDocument(String username, GenerateQuizFromDocumentRequest request) {
@@ -577,6 +579,8 @@ public class QuizGenerationFacadeImpl implements QuizGenerationFacade {
         job.setErrorMessage("Cancelled by user");
         jobRepository.save(job);
         checkpointService.delete(jobId);
+        // Stop a worker running on this node right away; other nodes notice on their next status poll
+        cancellationRegistry.cancelAfterCommit(jobId);
 
         if (job.getBillingReservationId() != null && job.getBillingState() == BillingState.RESERVED) {
             // A cancelled job does not deliver a successful quiz. V1 charges
@@ -2,11 +2,13 @@ package uk.gegc.quizmaker.features.quiz.application.impl;
 
 import lombok.RequiredArgsConstructor;
 import org.slf4j.MDC;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gegc.quizmaker.features.quiz.api.dto.PendingReviewQuizDto;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizModerationAuditDto;
 import uk.gegc.quizmaker.features.quiz.application.ModerationService;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.*;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizModerationAuditRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
@@ -33,6 +35,7 @@ public class ModerationServiceImpl implements ModerationService {
     private final QuizMapper quizMapper;
     private final QuizModerationAuditRepository auditRepository;
     private final AppPermissionEvaluator appPermissionEvaluator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -71,6 +74,7 @@ public class ModerationServiceImpl implements ModerationService {
 
         quizRepository.saveAndFlush(quiz);
         auditRepository.save(audit);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
     }
 
     @Override
@@ -106,6 +110,7 @@ public class ModerationServiceImpl implements ModerationService {
 
         quizRepository.saveAndFlush(quiz);
         auditRepository.save(audit);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
     }
 
     @Override
@@ -138,6 +143,7 @@ public class ModerationServiceImpl implements ModerationService {
 
         quizRepository.saveAndFlush(quiz);
         auditRepository.save(audit);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
     }
 
     @Override
@@ -170,6 +176,7 @@ public class ModerationServiceImpl implements ModerationService {
 
         quizRepository.saveAndFlush(quiz);
         auditRepository.save(audit);
+        eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quizId));
     }
 
     @Override
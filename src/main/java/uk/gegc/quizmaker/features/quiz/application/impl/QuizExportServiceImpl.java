@@ -1,7 +1,10 @@
 package uk.gegc.quizmaker.features.quiz.application.impl;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +15,7 @@ import uk.gegc.quizmaker.features.quiz.application.export.ExportRenderer;
 import uk.gegc.quizmaker.features.quiz.domain.model.*;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportFile;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportPayload;
+import uk.gegc.quizmaker.features.quiz.domain.model.export.StreamingExportPayload;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizExportSpecifications;
 import uk.gegc.quizmaker.features.quiz.domain.repository.export.QuizExportRepository;
 import uk.gegc.quizmaker.features.quiz.domain.util.VersionCodeGenerator;
@@ -25,8 +29,13 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.UUID;
 
@@ -41,6 +50,16 @@ public class QuizExportServiceImpl implements QuizExportService {
     private final AppPermissionEvaluator permissionEvaluator;
     private final Clock clock;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /** Quizzes fetched per keyset page when streaming */
+    private static final int STREAM_PAGE_SIZE = 100;
+
+    private static final Comparator<Quiz> EXPORT_ORDER = Comparator
+            .comparing(Quiz::getCreatedAt)
+            .thenComparing(Quiz::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
     @Override
     @Transactional(readOnly = true)
     public ExportFile export(QuizExportFilter filter, ExportFormat format, PrintOptions printOptions, Authentication authentication) {
@@ -114,16 +133,42 @@ public class QuizExportServiceImpl implements QuizExportService {
         return prefix.toString();
     }
 
+    /**
+     * Streaming variant of {@link #export}: quizzes are read in keyset pages, assembled page by page and handed
+     * to the renderer as they arrive, so renderers that write incrementally keep memory flat regardless of export size.
+     */
     @Override
     @Transactional(readOnly = true)
     public void streamExport(QuizExportFilter filter, ExportFormat format, PrintOptions printOptions, OutputStream output, Authentication authentication) {
-        ExportFile file = export(filter, format, printOptions, authentication);
-        try (var is = file.contentSupplier().get()) {
-            is.transferTo(output);
+        Instant startTime = clock.instant();
+        enforceScopePermissions(filter, authentication);
+        ExportRenderer renderer = resolveRenderer(format);
+
+        UUID exportId = UUID.randomUUID();
+        String versionCode = VersionCodeGenerator.generateVersionCode(exportId);
+        long shuffleSeed = exportId.getMostSignificantBits() ^ exportId.getLeastSignificantBits();
+        Random rng = new Random(shuffleSeed);
+
+        ExportPageIterator pages = new ExportPageIterator(filter, rng);
+        StreamingExportPayload payload = new StreamingExportPayload(
+                () -> pages,
+                printOptions != null ? printOptions : PrintOptions.defaults(),
+                buildFilenamePrefix(filter, clock),
+                exportId,
+                versionCode,
+                shuffleSeed
+        );
+        try {
+            renderer.renderTo(payload, output);
         } catch (Exception e) {
             log.error("Failed streaming export: format={}, scope={}", format, filter != null ? filter.scope() : "public", e);
             throw new RuntimeException("Failed streaming export", e);
         }
+
+        long durationMs = java.time.Duration.between(startTime, clock.instant()).toMillis();
+        String user = authentication != null ? authentication.getName() : "anonymous";
+        log.info("Quiz export streamed: user={}, scope={}, format={}, quizCount={}, exportId={}, versionCode={}, durationMs={}",
+                 user, filter != null ? filter.scope() : "public", format, pages.emitted, exportId, versionCode, durationMs);
     }
 
     private void enforceScopePermissions(QuizExportFilter filter, Authentication authentication) {
@@ -203,6 +248,86 @@ public class QuizExportServiceImpl implements QuizExportService {
         }
     }
 
+    /**
+     * Lazily walks the export result set one keyset page at a time. Each page is fetched with its relations,
+     * converted to DTOs and then detached from the persistence context so only one page is ever held.
+     */
+    private class ExportPageIterator implements Iterator<QuizExportDto> {
+
+        private final QuizExportFilter filter;
+        private final Specification<Quiz> specification;
+        private final Random rng;
+        private Iterator<QuizExportDto> page = Collections.emptyIterator();
+        private Instant lastCreatedAt;
+        private UUID lastId;
+        private boolean exhausted;
+        private int emitted;
+
+        private ExportPageIterator(QuizExportFilter filter, Random rng) {
+            this.filter = filter;
+            this.specification = QuizExportSpecifications.build(filter);
+            this.rng = rng;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !exhausted) {
+                page = fetchNextPage().iterator();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public QuizExportDto next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            emitted++;
+            return page.next();
+        }
+
+        private List<QuizExportDto> fetchNextPage() {
+            if (filter != null && filter.quizIds() != null && !filter.quizIds().isEmpty()) {
+                // Explicit id lists are bounded by the request; keep the single fetch and its visibility rules
+                exhausted = true;
+                List<Quiz> quizzes = fetchQuizzes(filter).stream().sorted(EXPORT_ORDER).toList();
+                return assembleAndDetach(quizzes);
+            }
+
+            Specification<Quiz> pageSpec = lastCreatedAt == null
+                    ? specification
+                    : specification.and(QuizExportSpecifications.after(lastCreatedAt, lastId));
+            List<Quiz> keys = exportRepository.findExportPage(pageSpec, STREAM_PAGE_SIZE);
+            if (keys.size() < STREAM_PAGE_SIZE) {
+                exhausted = true;
+            }
+            if (keys.isEmpty()) {
+                return List.of();
+            }
+            Quiz last = keys.get(keys.size() - 1);
+            lastCreatedAt = last.getCreatedAt();
+            lastId = last.getId();
+
+            // Load relations for the page and restore the keyset order
+            List<UUID> ids = keys.stream().map(Quiz::getId).toList();
+            Map<UUID, Integer> position = new HashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                position.put(ids.get(i), i);
+            }
+            List<Quiz> quizzes = exportRepository.findAllByIdsWithCategoryTagsQuestions(ids).stream()
+                    .sorted(Comparator.comparing(quiz -> position.getOrDefault(quiz.getId(), Integer.MAX_VALUE)))
+                    .toList();
+            return assembleAndDetach(quizzes);
+        }
+
+        private List<QuizExportDto> assembleAndDetach(List<Quiz> quizzes) {
+            List<QuizExportDto> dtos = assembler.toExportDtos(quizzes, rng);
+            // Read-only transaction: dropping the page's entities keeps the persistence context from growing
+            entityManager.clear();
+            return dtos;
+        }
+    }
+
     private ExportRenderer resolveRenderer(ExportFormat format) {
         return renderers.stream()
                 .filter(r -> r.supports(format))
@@ -55,6 +55,12 @@ public class QuizServiceImpl implements QuizService {
         return quizQueryService.getQuizzes(pageable, criteria, scope, authentication);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public QuizCursorPageResponse searchQuizzes(QuizSearchCriteria criteria, String scope, String cursor, int size, Authentication authentication) {
+        return quizQueryService.searchQuizzes(criteria, scope, cursor, size, authentication);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public QuizDto getQuizById(UUID id, Authentication authentication) {
@@ -0,0 +1,118 @@
+package uk.gegc.quizmaker.features.quiz.application.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gegc.quizmaker.features.quiz.config.ShareLinkAnalyticsProperties;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkAnalyticsEvent;
+import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkAnalyticsBatchRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded in-memory buffer between share link requests and the analytics tables. Recording an
+ * event never touches the database on the request thread; a scheduled flush drains the buffer in
+ * JDBC batches. When the buffer is full new events are dropped and counted instead of blocking the
+ * request. Analytics are best effort: a failed batch is logged, counted and discarded.
+ */
+@Component
+@Slf4j
+public class ShareLinkAnalyticsBuffer {
+
+    private final ShareLinkAnalyticsBatchRepository batchRepository;
+    private final ShareLinkAnalyticsProperties properties;
+    private final BlockingQueue<ShareLinkAnalyticsEvent> queue;
+    private final Counter bufferedCounter;
+    private final Counter droppedCounter;
+    private final Counter flushedCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+
+    public ShareLinkAnalyticsBuffer(
+            ShareLinkAnalyticsBatchRepository batchRepository,
+            ShareLinkAnalyticsProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.batchRepository = batchRepository;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getBufferCapacity());
+        this.bufferedCounter = counter(meterRegistry, "buffered");
+        this.droppedCounter = counter(meterRegistry, "dropped");
+        this.flushedCounter = counter(meterRegistry, "flushed");
+        this.failedCounter = counter(meterRegistry, "failed");
+        this.flushTimer = Timer.builder("share.link.analytics.flush")
+                .description("Time spent writing one batch of share link analytics events")
+                .register(meterRegistry);
+        Gauge.builder("share.link.analytics.buffer.size", queue, BlockingQueue::size)
+                .description("Share link analytics events waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues an event for the next flush, or writes it immediately when buffering is disabled.
+     */
+    public void record(ShareLinkAnalyticsEvent event) {
+        if (!properties.isBuffered()) {
+            write(List.of(event));
+            return;
+        }
+        if (queue.offer(event)) {
+            bufferedCounter.increment();
+        } else {
+            droppedCounter.increment();
+            log.debug("Share link analytics buffer full; dropped {} event for share link {}",
+                    event.eventType(), event.shareLinkId());
+        }
+    }
+
+    /**
+     * Writes every queued event in batches of the configured size.
+     *
+     * @return number of events written
+     */
+    @Scheduled(fixedDelayString = "${quizmaker.share-links.analytics.flush-interval-millis:1000}")
+    public synchronized int flush() {
+        int written = 0;
+        List<ShareLinkAnalyticsEvent> batch = new ArrayList<>(Math.min(properties.getBatchSize(), queue.size()));
+        while (queue.drainTo(batch, properties.getBatchSize()) > 0) {
+            written += write(batch);
+            batch.clear();
+        }
+        return written;
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        int written = flush();
+        if (written > 0) {
+            log.info("Flushed {} share link analytics events on shutdown", written);
+        }
+    }
+
+    private int write(List<ShareLinkAnalyticsEvent> events) {
+        try {
+            flushTimer.record(() -> batchRepository.insertAll(events));
+            flushedCounter.increment(events.size());
+            return events.size();
+        } catch (Exception e) {
+            failedCounter.increment(events.size());
+            log.warn("Failed to write {} share link analytics events: {}", events.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("share.link.analytics.events")
+                .description("Share link analytics events by ingestion outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -9,15 +9,20 @@ import uk.gegc.quizmaker.features.quiz.api.dto.ShareLinkAnalyticsDto;
 import uk.gegc.quizmaker.features.quiz.api.dto.ShareLinkAnalyticsSummaryDto;
 import uk.gegc.quizmaker.features.quiz.application.ShareLinkAnalyticsService;
 import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkAnalytics;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkAnalyticsEvent;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkDailyEventCount;
 import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkEventType;
 import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkAnalyticsRepository;
-import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkRepository;
+import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkDailyEventCountRepository;
+import uk.gegc.quizmaker.shared.persistence.UuidV7;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,33 +38,28 @@ import java.util.stream.Collectors;
 public class ShareLinkAnalyticsServiceImpl implements ShareLinkAnalyticsService {
 
     private final ShareLinkAnalyticsRepository analyticsRepository;
-    private final ShareLinkRepository shareLinkRepository;
+    private final ShareLinkDailyEventCountRepository dailyEventCountRepository;
+    private final ShareLinkAnalyticsBuffer analyticsBuffer;
 
     @Value("${quizmaker.share-links.token-pepper:}")
     private String tokenPepper;
 
     @Override
-    @Transactional
     public void recordEvent(UUID shareLinkId, ShareLinkEventType eventType, String userAgent, 
                           String ipAddress, String referrer, String countryCode) {
         try {
-            // Find the share link
-            var shareLink = shareLinkRepository.findById(shareLinkId)
-                    .orElseThrow(() -> new IllegalArgumentException("Share link not found: " + shareLinkId));
-
-            // Create analytics event
-            ShareLinkAnalytics analytics = ShareLinkAnalytics.builder()
-                    .shareLink(shareLink)
-                    .eventType(eventType)
-                    .ipHash(computeIpHash(ipAddress))
-                    .userAgent(truncateUserAgent(userAgent))
-                    .dateBucket(LocalDate.now(ZoneOffset.UTC).toString())
-                    .countryCode(countryCode)
-                    .referrer(truncateReferrer(referrer))
-                    .build();
-
-            analyticsRepository.save(analytics);
-
+            // Queued for a background batch write; events for unknown share links are skipped there
+            analyticsBuffer.record(new ShareLinkAnalyticsEvent(
+                    UuidV7.generate(),
+                    shareLinkId,
+                    eventType,
+                    computeIpHash(ipAddress),
+                    truncateUserAgent(userAgent),
+                    LocalDate.now(ZoneOffset.UTC).toString(),
+                    countryCode,
+                    truncateReferrer(referrer),
+                    Instant.now()
+            ));
         } catch (Exception e) {
             log.error("Failed to record analytics event for share link: {}", shareLinkId, e);
             // Don't throw - analytics should not break main functionality
@@ -87,41 +87,14 @@ public class ShareLinkAnalyticsServiceImpl implements ShareLinkAnalyticsService
     @Override
     @Transactional(readOnly = true)
     public ShareLinkAnalyticsSummaryDto getShareLinkSummary(UUID shareLinkId) {
-        var events = analyticsRepository.findByShareLink_IdOrderByCreatedAtDesc(shareLinkId);
-        
-        long totalViews = analyticsRepository.countByShareLink_IdAndEventType(shareLinkId, ShareLinkEventType.VIEW);
-        long totalAttempts = analyticsRepository.countByShareLink_IdAndEventType(shareLinkId, ShareLinkEventType.ATTEMPT_START);
-        long totalConsumptions = analyticsRepository.countByShareLink_IdAndEventType(shareLinkId, ShareLinkEventType.CONSUMED);
-        
-        // Count unique visitors (by IP hash)
-        long uniqueVisitors = events.stream()
-                .map(ShareLinkAnalytics::getIpHash)
-                .distinct()
-                .count();
+        List<ShareLinkDailyEventCount> counts = dailyEventCountRepository.findByShareLinkId(shareLinkId);
+        long uniqueVisitors = analyticsRepository.countDistinctIpHashByShareLinkId(shareLinkId);
 
-        // Build event counts map
-        Map<ShareLinkEventType, Long> eventCounts = new HashMap<>();
-        for (ShareLinkEventType type : ShareLinkEventType.values()) {
-            eventCounts.put(type, analyticsRepository.countByShareLink_IdAndEventType(shareLinkId, type));
-        }
-
-        // Build daily views map
-        Map<String, Long> dailyViews = events.stream()
-                .filter(e -> e.getEventType() == ShareLinkEventType.VIEW)
-                .collect(Collectors.groupingBy(
-                        ShareLinkAnalytics::getDateBucket,
-                        Collectors.counting()
-                ));
-
-        return new ShareLinkAnalyticsSummaryDto(
+        return summarize(
                 shareLinkId,
-                events.isEmpty() ? null : events.get(0).getShareLink().getQuiz().getId(),
-                totalViews,
-                totalAttempts,
-                totalConsumptions,
-                uniqueVisitors,
-                eventCounts,
-                dailyViews
+                counts.isEmpty() ? null : counts.get(0).getQuizId(),
+                counts,
+                uniqueVisitors
         );
     }
 
@@ -141,55 +114,26 @@ public class ShareLinkAnalyticsServiceImpl implements ShareLinkAnalyticsService
     @Override
     @Transactional(readOnly = true)
     public ShareLinkAnalyticsSummaryDto getQuizSummary(UUID quizId, LocalDate startDate, LocalDate endDate) {
-        var events = analyticsRepository.findByQuizIdAndDateRange(
+        List<ShareLinkDailyEventCount> counts = dailyEventCountRepository.findByQuizIdAndDateRange(
                 quizId, 
                 startDate.toString(), 
                 endDate.toString()
         );
 
-        if (events.isEmpty()) {
+        if (counts.isEmpty()) {
             return new ShareLinkAnalyticsSummaryDto(
                     null, quizId, 0, 0, 0, 0, new HashMap<>(), new HashMap<>()
             );
         }
 
-        // Count events by type
-        Map<ShareLinkEventType, Long> eventCounts = new HashMap<>();
-        for (ShareLinkEventType type : ShareLinkEventType.values()) {
-            long count = events.stream()
-                    .filter(e -> e.getEventType() == type)
-                    .count();
-            eventCounts.put(type, count);
-        }
-
-        long totalViews = eventCounts.getOrDefault(ShareLinkEventType.VIEW, 0L);
-        long totalAttempts = eventCounts.getOrDefault(ShareLinkEventType.ATTEMPT_START, 0L);
-        long totalConsumptions = eventCounts.getOrDefault(ShareLinkEventType.CONSUMED, 0L);
-
-        // Count unique visitors
-        long uniqueVisitors = events.stream()
-                .map(ShareLinkAnalytics::getIpHash)
-                .distinct()
-                .count();
-
-        // Build daily views map
-        Map<String, Long> dailyViews = events.stream()
-                .filter(e -> e.getEventType() == ShareLinkEventType.VIEW)
-                .collect(Collectors.groupingBy(
-                        ShareLinkAnalytics::getDateBucket,
-                        Collectors.counting()
-                ));
-
-        return new ShareLinkAnalyticsSummaryDto(
-                null, // No specific share link for quiz summary
+        long uniqueVisitors = analyticsRepository.getUniqueVisitorCount(
                 quizId,
-                totalViews,
-                totalAttempts,
-                totalConsumptions,
-                uniqueVisitors,
-                eventCounts,
-                dailyViews
+                startDate.toString(),
+                endDate.toString()
         );
+
+        // No specific share link for quiz summary
+        return summarize(null, quizId, counts, uniqueVisitors);
     }
 
     @Override
@@ -208,6 +152,35 @@ public class ShareLinkAnalyticsServiceImpl implements ShareLinkAnalyticsService
         return analyticsRepository.deleteEventsOlderThan(cutoffDate.toString());
     }
 
+    /**
+     * Builds a summary from daily event counters; every event type is present in the counts map.
+     */
+    private ShareLinkAnalyticsSummaryDto summarize(UUID shareLinkId, UUID quizId,
+                                                   List<ShareLinkDailyEventCount> counts, long uniqueVisitors) {
+        Map<ShareLinkEventType, Long> eventCounts = new EnumMap<>(ShareLinkEventType.class);
+        for (ShareLinkEventType type : ShareLinkEventType.values()) {
+            eventCounts.put(type, 0L);
+        }
+        Map<String, Long> dailyViews = new HashMap<>();
+        for (ShareLinkDailyEventCount count : counts) {
+            eventCounts.merge(count.getEventType(), count.getEventCount(), Long::sum);
+            if (count.getEventType() == ShareLinkEventType.VIEW) {
+                dailyViews.merge(count.getDateBucket(), count.getEventCount(), Long::sum);
+            }
+        }
+
+        return new ShareLinkAnalyticsSummaryDto(
+                shareLinkId,
+                quizId,
+                eventCounts.get(ShareLinkEventType.VIEW),
+                eventCounts.get(ShareLinkEventType.ATTEMPT_START),
+                eventCounts.get(ShareLinkEventType.CONSUMED),
+                uniqueVisitors,
+                eventCounts,
+                dailyViews
+        );
+    }
+
     /**
      * Maps ShareLinkAnalytics entity to DTO with privacy protection.
      */
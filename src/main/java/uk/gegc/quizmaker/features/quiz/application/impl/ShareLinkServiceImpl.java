@@ -11,7 +11,6 @@ import uk.gegc.quizmaker.features.quiz.api.dto.ShareLinkDto;
 import uk.gegc.quizmaker.features.quiz.application.ShareLinkService;
 import uk.gegc.quizmaker.features.quiz.domain.model.*;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
-import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkAnalyticsRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkUsageRepository;
 import uk.gegc.quizmaker.features.user.domain.model.PermissionName;
@@ -21,6 +20,7 @@ import uk.gegc.quizmaker.shared.exception.ForbiddenException;
 import uk.gegc.quizmaker.shared.exception.ResourceNotFoundException;
 import uk.gegc.quizmaker.shared.exception.ShareLinkAlreadyUsedException;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
+import uk.gegc.quizmaker.shared.persistence.UuidV7;
 import uk.gegc.quizmaker.shared.security.AppPermissionEvaluator;
 
 import java.nio.charset.StandardCharsets;
@@ -43,7 +43,7 @@ public class ShareLinkServiceImpl implements ShareLinkService {
     private final QuizRepository quizRepository;
     private final UserRepository userRepository;
     private final ShareLinkUsageRepository usageRepository;
-    private final ShareLinkAnalyticsRepository analyticsRepository;
+    private final ShareLinkAnalyticsBuffer analyticsBuffer;
     private final AppPermissionEvaluator appPermissionEvaluator;
 
     @Value("${quizmaker.share-links.token-pepper:}")
@@ -240,15 +240,8 @@ public class ShareLinkServiceImpl implements ShareLinkService {
         String ipHash = sha256Hex(tokenPepper + ":" + bucket + ":" + ip);
         String ref = referrer == null ? null : (referrer.length() > 512 ? referrer.substring(0, 512) : referrer);
 
-        ShareLinkAnalytics analytics = ShareLinkAnalytics.builder()
-                .shareLink(link)
-                .eventType(eventType)
-                .ipHash(ipHash)
-                .userAgent(ua)
-                .dateBucket(bucket)
-                .referrer(ref)
-                .build();
-        analyticsRepository.save(analytics);
+        analyticsBuffer.record(new ShareLinkAnalyticsEvent(
+                UuidV7.generate(), link.getId(), eventType, ipHash, ua, bucket, null, ref, Instant.now()));
     }
 
     @Override
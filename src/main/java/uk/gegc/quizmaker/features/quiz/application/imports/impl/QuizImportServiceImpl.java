@@ -2,6 +2,7 @@ package uk.gegc.quizmaker.features.quiz.application.imports.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.TransactionDefinition;
@@ -24,6 +25,7 @@ import uk.gegc.quizmaker.features.quiz.application.imports.QuizImportService;
 import uk.gegc.quizmaker.features.quiz.application.imports.ReferenceResolutionService;
 import uk.gegc.quizmaker.features.quiz.application.validation.QuizImportValidationService;
 import uk.gegc.quizmaker.features.quiz.config.QuizDefaultsProperties;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.ExportFormat;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizImportOptions;
@@ -78,6 +80,7 @@ public class QuizImportServiceImpl implements QuizImportService {
     private final PlatformTransactionManager transactionManager;
     private final QuizHashCalculator quizHashCalculator;
     private final QuizMapper quizMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public ImportSummaryDto importQuizzes(InputStream input,
@@ -190,7 +193,7 @@ public class QuizImportServiceImpl implements QuizImportService {
             quiz.setImportContentHash(importContentHash);
         }
         attachQuestions(quiz, dto, UpsertStrategy.CREATE_ONLY);
-        quizRepository.save(quiz);
+        saveAndAnnounce(quiz);
         return ImportOutcome.CREATED;
     }
 
@@ -221,7 +224,7 @@ public class QuizImportServiceImpl implements QuizImportService {
             updateHashes(quiz);
             attachQuestions(quiz, dto, UpsertStrategy.UPSERT_BY_ID);
 
-            quizRepository.save(quiz);
+            saveAndAnnounce(quiz);
             return ImportOutcome.UPDATED;
         }
 
@@ -233,7 +236,7 @@ public class QuizImportServiceImpl implements QuizImportService {
         Quiz quiz = quizImportAssembler.toEntity(dto, creator, category, tags, UpsertStrategy.UPSERT_BY_ID);
         applyCreateRules(quiz, hasModerationPermissions);
         attachQuestions(quiz, dto, UpsertStrategy.UPSERT_BY_ID);
-        quizRepository.save(quiz);
+        saveAndAnnounce(quiz);
         return ImportOutcome.CREATED;
     }
 
@@ -261,7 +264,7 @@ public class QuizImportServiceImpl implements QuizImportService {
             updateHashes(quiz);
             attachQuestions(quiz, dto, UpsertStrategy.UPSERT_BY_CONTENT_HASH);
 
-            quizRepository.save(quiz);
+            saveAndAnnounce(quiz);
             return ImportOutcome.UPDATED;
         }
 
@@ -274,7 +277,7 @@ public class QuizImportServiceImpl implements QuizImportService {
         applyCreateRules(quiz, hasModerationPermissions);
         quiz.setImportContentHash(importContentHash);
         attachQuestions(quiz, dto, UpsertStrategy.UPSERT_BY_CONTENT_HASH);
-        quizRepository.save(quiz);
+        saveAndAnnounce(quiz);
         return ImportOutcome.CREATED;
     }
 
@@ -306,10 +309,21 @@ public class QuizImportServiceImpl implements QuizImportService {
         applyCreateRules(quiz, hasModerationPermissions);
         quiz.setImportContentHash(importContentHash);
         attachQuestions(quiz, dto, UpsertStrategy.SKIP_ON_DUPLICATE);
-        quizRepository.save(quiz);
+        saveAndAnnounce(quiz);
         return ImportOutcome.CREATED;
     }
 
+    /**
+     * Saves an imported quiz and announces it, so cached public catalogue views drop it once the
+     * quiz's own transaction commits.
+     */
+    private void saveAndAnnounce(Quiz quiz) {
+        quizRepository.save(quiz);
+        if (quiz.getId() != null) {
+            eventPublisher.publishEvent(QuizCatalogueChangedEvent.forQuiz(this, quiz.getId()));
+        }
+    }
+
     private void attachQuestions(Quiz quiz, QuizImportDto dto, UpsertStrategy strategy) {
         if (dto.questions() == null) {
             return;
@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gegc.quizmaker.features.quiz.api.dto.QuizCursorPageResponse;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizDto;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizGenerationStatus;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizSearchCriteria;
@@ -20,6 +21,18 @@ public interface QuizQueryService {
             Authentication authentication
     );
 
+    /**
+     * Cursor-paginated variant of {@link #getQuizzes}: results keep relevance order (for
+     * full-text searches), then newest first, and deep pages cost the same as the first.
+     */
+    QuizCursorPageResponse searchQuizzes(
+            QuizSearchCriteria criteria,
+            String scope,
+            String cursor,
+            int size,
+            Authentication authentication
+    );
+
     Page<QuizDto> getPublicQuizzes(Pageable pageable);
 
     QuizDto getQuizById(UUID quizId, Authentication authentication);
@@ -0,0 +1,186 @@
+package uk.gegc.quizmaker.features.quiz.application.query.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gegc.quizmaker.features.quiz.api.dto.QuizDto;
+import uk.gegc.quizmaker.features.quiz.config.PublicQuizCacheProperties;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
+import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
+import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-memory cache of public catalogue pages and public quiz details.
+ * <p>
+ * Entries are versioned by a catalogue generation. A {@link QuizCatalogueChangedEvent} bumps the
+ * generation after commit, which retires every cached page and evicts the changed quizzes'
+ * details. A reader records the generation before loading and {@code put} drops the result if
+ * the generation moved in between, so a load that raced with a change is never cached. Changes
+ * made on another node become visible here once the TTL has passed.
+ * </p>
+ */
+@Component
+public class PublicQuizCache {
+
+    private final PublicQuizCacheProperties properties;
+    private final Clock clock;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Map<PageKey, Entry<Page<QuizDto>>> pages;
+    private final Map<UUID, Entry<QuizDto>> details;
+    private final Counter pageHitCounter;
+    private final Counter pageMissCounter;
+    private final Counter detailHitCounter;
+    private final Counter detailMissCounter;
+
+    public PublicQuizCache(
+            PublicQuizCacheProperties properties,
+            @Qualifier("utcClock") Clock utcClock,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.clock = utcClock;
+        this.pages = lruMap(properties.getMaxPages());
+        this.details = lruMap(properties.getMaxDetails());
+        this.pageHitCounter = counter(meterRegistry, "page", "hit");
+        this.pageMissCounter = counter(meterRegistry, "page", "miss");
+        this.detailHitCounter = counter(meterRegistry, "detail", "hit");
+        this.detailMissCounter = counter(meterRegistry, "detail", "miss");
+        Gauge.builder("quiz.public.cache.hit.ratio", this, PublicQuizCache::hitRatio)
+                .description("Share of public catalogue and quiz detail reads served from memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Current catalogue generation; read it before loading so {@code put} can tell whether the
+     * catalogue changed in between.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public Optional<Page<QuizDto>> getPage(Pageable pageable) {
+        return lookup(pages, PageKey.of(pageable), pageHitCounter, pageMissCounter);
+    }
+
+    public void putPage(Pageable pageable, Page<QuizDto> page, long observedGeneration) {
+        store(pages, PageKey.of(pageable), page, observedGeneration);
+    }
+
+    public Optional<QuizDto> getDetail(UUID quizId) {
+        return lookup(details, quizId, detailHitCounter, detailMissCounter);
+    }
+
+    /**
+     * Caches a quiz detail if it is publicly visible; other quizzes depend on who is asking.
+     */
+    public void putDetail(QuizDto quiz, long observedGeneration) {
+        if (quiz.visibility() != Visibility.PUBLIC || quiz.status() != QuizStatus.PUBLISHED) {
+            return;
+        }
+        store(details, quiz.id(), quiz, observedGeneration);
+    }
+
+    public void invalidate(Collection<UUID> quizIds) {
+        generation.incrementAndGet();
+        synchronized (pages) {
+            pages.clear();
+        }
+        synchronized (details) {
+            quizIds.forEach(details::remove);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizCatalogueChanged(QuizCatalogueChangedEvent event) {
+        invalidate(event.getQuizIds());
+    }
+
+    double hitRatio() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private <K, V> Optional<V> lookup(Map<K, Entry<V>> map, K key, Counter hitCounter, Counter missCounter) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+        Entry<V> entry;
+        synchronized (map) {
+            entry = map.get(key);
+            if (entry != null && (entry.generation != generation.get() || entry.expiresAtMillis <= clock.millis())) {
+                map.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        hitCounter.increment();
+        return Optional.of(entry.value);
+    }
+
+    private <K, V> void store(Map<K, Entry<V>> map, K key, V value, long observedGeneration) {
+        if (!properties.isEnabled() || observedGeneration != generation.get()) {
+            return;
+        }
+        Entry<V> entry = new Entry<>(value, observedGeneration, clock.millis() + properties.getTtlMillis());
+        synchronized (map) {
+            map.put(key, entry);
+        }
+        // An invalidation that ran while storing may have missed this entry; lookups also compare generations
+        if (observedGeneration != generation.get()) {
+            synchronized (map) {
+                map.remove(key, entry);
+            }
+        }
+    }
+
+    private static <K, V> Map<K, V> lruMap(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cache, String outcome) {
+        return Counter.builder("quiz.public.cache.operations")
+                .description("Public catalogue and quiz detail cache lookups")
+                .tag("cache", cache)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record PageKey(int page, int size, String sort) {
+
+        static PageKey of(Pageable pageable) {
+            return pageable.isPaged()
+                    ? new PageKey(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString())
+                    : new PageKey(-1, -1, pageable.getSort().toString());
+        }
+    }
+
+    private record Entry<V>(V value, long generation, long expiresAtMillis) {
+    }
+}
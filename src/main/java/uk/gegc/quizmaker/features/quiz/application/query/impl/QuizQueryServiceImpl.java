@@ -3,11 +3,16 @@ package uk.gegc.quizmaker.features.quiz.application.query.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gegc.quizmaker.features.category.domain.repository.CategoryRepository;
+import uk.gegc.quizmaker.features.quiz.api.dto.QuizCursorPageResponse;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizDto;
 import uk.gegc.quizmaker.features.quiz.api.dto.GenerationCoverage;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizGenerationStatus;
@@ -15,11 +20,17 @@ import uk.gegc.quizmaker.features.quiz.api.dto.QuizSearchCriteria;
 import uk.gegc.quizmaker.features.quiz.application.QuizGenerationJobService;
 import uk.gegc.quizmaker.features.quiz.application.generation.GenerationCoverageSnapshot;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCoverageService;
+import uk.gegc.quizmaker.features.quiz.config.QuizSearchProperties;
 import uk.gegc.quizmaker.features.quiz.domain.model.*;
 import uk.gegc.quizmaker.features.quiz.application.query.QuizQueryService;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchCursor;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchFilter;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchHit;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSpecifications;
 import uk.gegc.quizmaker.features.quiz.infra.mapping.QuizMapper;
+import uk.gegc.quizmaker.features.tag.domain.repository.TagRepository;
 import uk.gegc.quizmaker.features.user.domain.model.PermissionName;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
@@ -31,8 +42,13 @@ import uk.gegc.quizmaker.shared.exception.ValidationException;
 import uk.gegc.quizmaker.shared.security.AppPermissionEvaluator;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -46,6 +62,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class QuizQueryServiceImpl implements QuizQueryService {
 
+    private static final String RELEVANCE_SORT = "relevance";
+
     private final QuizRepository quizRepository;
     private final QuestionRepository questionRepository;
     private final QuizMapper quizMapper;
@@ -55,9 +73,21 @@ public class QuizQueryServiceImpl implements QuizQueryService {
     private final FeatureFlags featureFlags;
     private final QuizGenerationProgressInvariantMonitor progressInvariantMonitor;
     private final QuizGenerationCoverageService generationCoverageService;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final QuizSearchRepository quizSearchRepository;
+    private final QuizSearchProperties quizSearchProperties;
+    private final PublicQuizCache publicQuizCache;
 
     @Transactional(readOnly = true)
     public QuizDto getQuizById(UUID id, Authentication authentication) {
+        // Only public quizzes are cached, and those are visible to every caller
+        Optional<QuizDto> cached = publicQuizCache.getDetail(id);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long cacheGeneration = publicQuizCache.generation();
+
         Quiz quiz = quizRepository.findByIdWithTags(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Quiz " + id + " not found"));
@@ -78,7 +108,9 @@ public class QuizQueryServiceImpl implements QuizQueryService {
 
                 // Allow access if user is owner or has moderation permissions
                 if (isOwner || hasModerationPermissions) {
-                    return quizMapper.toDto(quiz, questionCount);
+                    QuizDto dto = quizMapper.toDto(quiz, questionCount);
+                    publicQuizCache.putDetail(dto, cacheGeneration);
+                    return dto;
                 }
             }
         }
@@ -88,22 +120,32 @@ public class QuizQueryServiceImpl implements QuizQueryService {
             throw new ForbiddenException("Access denied: quiz is not public");
         }
 
-        return quizMapper.toDto(quiz, questionCount);
+        QuizDto dto = quizMapper.toDto(quiz, questionCount);
+        publicQuizCache.putDetail(dto, cacheGeneration);
+        return dto;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<QuizDto> getPublicQuizzes(Pageable pageable) {
+        Optional<Page<QuizDto>> cached = publicQuizCache.getPage(pageable);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long cacheGeneration = publicQuizCache.generation();
+
         // Enforce visibility invariants: public catalog shows PUBLISHED && PUBLIC
         Page<Quiz> quizPage = quizRepository.findAllByVisibilityAndStatus(Visibility.PUBLIC, QuizStatus.PUBLISHED, pageable);
         
         // Batch fetch question counts to avoid N+1 queries
         Map<UUID, Long> questionCounts = batchFetchQuestionCounts(quizPage.getContent());
         
-        return quizPage.map(quiz -> {
+        Page<QuizDto> page = quizPage.map(quiz -> {
             int count = questionCounts.getOrDefault(quiz.getId(), 0L).intValue();
             return quizMapper.toDto(quiz, count);
         });
+        publicQuizCache.putPage(pageable, page, cacheGeneration);
+        return page;
     }
 
     @Override
@@ -113,56 +155,68 @@ public class QuizQueryServiceImpl implements QuizQueryService {
             QuizSearchCriteria criteria,
             String scope,
             Authentication authentication) {
-        final User user;
-        if (authentication != null && authentication.isAuthenticated()) {
-            user = userRepository.findByUsername(authentication.getName())
-                    .or(() -> userRepository.findByEmail(authentication.getName()))
-                    .orElse(null);
+        Specification<Quiz> scopeSpec = scopeSpecification(scope, resolveUser(authentication));
+
+        Optional<QuizSearchFilter> filter = resolveSearchFilter(criteria);
+        if (filter.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Specification<Quiz> spec = QuizSpecifications.build(filter.get()).and(scopeSpec);
+
+        Page<Quiz> quizPage;
+        if (filter.get().isRanked() && pageable.isPaged() && isRelevanceOrder(pageable.getSort())) {
+            // Rank with the FULLTEXT index, then load only the quizzes on this page
+            long total = quizRepository.count(spec);
+            List<QuizSearchHit> hits = pageable.getOffset() >= total
+                    ? List.of()
+                    : quizSearchRepository.findHits(spec, filter.get().fullTextQuery(), null,
+                            pageable.getOffset(), pageable.getPageSize());
+            quizPage = new PageImpl<>(loadInHitOrder(hits), pageable, total);
         } else {
-            user = null;
+            quizPage = quizRepository.findAll(spec, withoutRelevanceSort(pageable));
         }
 
-        Specification<Quiz> spec = QuizSpecifications.build(criteria);
-        
-        // Apply scoping based on the scope parameter
-        switch (scope.toLowerCase()) {
-            case "me":
-                if (user == null) {
-                    throw new ForbiddenException("Authentication required for scope=me");
-                }
-                // Only return quizzes owned by the user
-                spec = spec.and((root, query, cb) -> 
-                    cb.equal(root.get("creator").get("id"), user.getId()));
-                break;
-                
-            case "all":
-                if (user == null || !(appPermissionEvaluator.hasPermission(user, PermissionName.QUIZ_MODERATE) 
-                        || appPermissionEvaluator.hasPermission(user, PermissionName.QUIZ_ADMIN))) {
-                    throw new ForbiddenException("Moderator/Admin permissions required for scope=all");
-                }
-                // Return all quizzes (no additional filtering)
-                break;
-                
-            case "public":
-            default:
-                // Only return public, published quizzes
-                spec = spec.and((root, query, cb) -> 
-                    cb.and(
-                        cb.equal(root.get("visibility"), Visibility.PUBLIC),
-                        cb.equal(root.get("status"), QuizStatus.PUBLISHED)
-                    ));
-                break;
+        List<QuizDto> content = toDtos(quizPage.getContent());
+        return new PageImpl<>(content, quizPage.getPageable(), quizPage.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public QuizCursorPageResponse searchQuizzes(
+            QuizSearchCriteria criteria,
+            String scope,
+            String cursor,
+            int size,
+            Authentication authentication) {
+        Specification<Quiz> scopeSpec = scopeSpecification(scope, resolveUser(authentication));
+        int pageSize = Math.min(Math.max(size, 1), quizSearchProperties.getMaxPageSize());
+
+        Optional<QuizSearchFilter> filter = resolveSearchFilter(criteria);
+        if (filter.isEmpty()) {
+            return new QuizCursorPageResponse(List.of(), null, false);
         }
 
-        Page<Quiz> quizPage = quizRepository.findAll(spec, pageable);
-        
-        // Batch fetch question counts to avoid N+1 queries
-        Map<UUID, Long> questionCounts = batchFetchQuestionCounts(quizPage.getContent());
-        
-        return quizPage.map(quiz -> {
-            int count = questionCounts.getOrDefault(quiz.getId(), 0L).intValue();
-            return quizMapper.toDto(quiz, count);
-        });
+        QuizSearchCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                after = QuizSearchCursor.decode(cursor);
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Invalid search cursor");
+            }
+            if ((after.relevance() != null) != filter.get().isRanked()) {
+                throw new ValidationException("Search cursor does not belong to this search");
+            }
+        }
+
+        // One extra hit tells whether another page follows without counting
+        List<QuizSearchHit> hits = quizSearchRepository.findHits(
+                QuizSpecifications.build(filter.get()).and(scopeSpec),
+                filter.get().fullTextQuery(), after, 0, pageSize + 1);
+        boolean hasNext = hits.size() > pageSize;
+        List<QuizSearchHit> pageHits = hasNext ? hits.subList(0, pageSize) : hits;
+
+        String nextCursor = hasNext ? pageHits.get(pageHits.size() - 1).toCursor().encode() : null;
+        return new QuizCursorPageResponse(toDtos(loadInHitOrder(pageHits)), nextCursor, hasNext);
     }
 
     @Transactional
@@ -228,6 +282,148 @@ public class QuizQueryServiceImpl implements QuizQueryService {
         return jobService.getJobStatistics(username);
     }
 
+    private User resolveUser(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return userRepository.findByUsername(authentication.getName())
+                .or(() -> userRepository.findByEmail(authentication.getName()))
+                .orElse(null);
+    }
+
+    private Specification<Quiz> scopeSpecification(String scope, User user) {
+        switch (scope.toLowerCase()) {
+            case "me":
+                if (user == null) {
+                    throw new ForbiddenException("Authentication required for scope=me");
+                }
+                // Only return quizzes owned by the user
+                return (root, query, cb) -> cb.equal(root.get("creator").get("id"), user.getId());
+
+            case "all":
+                if (user == null || !(appPermissionEvaluator.hasPermission(user, PermissionName.QUIZ_MODERATE)
+                        || appPermissionEvaluator.hasPermission(user, PermissionName.QUIZ_ADMIN))) {
+                    throw new ForbiddenException("Moderator/Admin permissions required for scope=all");
+                }
+                // Return all quizzes (no additional filtering)
+                return (root, query, cb) -> cb.conjunction();
+
+            case "public":
+            default:
+                // Only return public, published quizzes
+                return (root, query, cb) -> cb.and(
+                        cb.equal(root.get("visibility"), Visibility.PUBLIC),
+                        cb.equal(root.get("status"), QuizStatus.PUBLISHED)
+                );
+        }
+    }
+
+    /**
+     * Resolves category, tag and author names to ids and decides how search text is matched.
+     *
+     * @return empty when a named filter matches nothing, so no quiz can qualify
+     */
+    private Optional<QuizSearchFilter> resolveSearchFilter(QuizSearchCriteria criteria) {
+        if (criteria == null) {
+            return Optional.of(new QuizSearchFilter(null, null, null, null, null, null));
+        }
+
+        Set<UUID> categoryIds = null;
+        List<String> categoryNames = lowerCased(criteria.category());
+        if (!categoryNames.isEmpty()) {
+            categoryIds = Set.copyOf(categoryRepository.findIdsByNameInIgnoreCase(categoryNames));
+            if (categoryIds.isEmpty()) {
+                return Optional.empty();
+            }
+        }
+
+        Set<UUID> tagIds = null;
+        List<String> tagNames = lowerCased(criteria.tag());
+        if (!tagNames.isEmpty()) {
+            tagIds = Set.copyOf(tagRepository.findIdsByNameInIgnoreCase(tagNames));
+            if (tagIds.isEmpty()) {
+                return Optional.empty();
+            }
+        }
+
+        Set<UUID> creatorIds = null;
+        if (criteria.authorName() != null && !criteria.authorName().isBlank()) {
+            creatorIds = Set.copyOf(userRepository.findIdsByUsernameIgnoreCase(
+                    criteria.authorName().toLowerCase(Locale.ROOT)));
+            if (creatorIds.isEmpty()) {
+                return Optional.empty();
+            }
+        }
+
+        String fullTextQuery = null;
+        String containsText = null;
+        if (criteria.search() != null && !criteria.search().isBlank()) {
+            if (quizSearchProperties.isFullTextEnabled()) {
+                fullTextQuery = QuizSpecifications.toBooleanModeQuery(
+                        criteria.search(), quizSearchProperties.getMinTokenLength());
+            }
+            if (fullTextQuery == null) {
+                containsText = criteria.search().toLowerCase(Locale.ROOT);
+            }
+        }
+
+        return Optional.of(new QuizSearchFilter(
+                categoryIds, tagIds, creatorIds, criteria.difficulty(), fullTextQuery, containsText));
+    }
+
+    private static List<String> lowerCased(List<String> names) {
+        if (names == null) {
+            return List.of();
+        }
+        return names.stream()
+                .filter(Objects::nonNull)
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * Ranked searches order by relevance when the request is unsorted or sorts by {@code relevance};
+     * any other explicit sort, {@code createdAt,desc} included, is honoured as given.
+     */
+    private static boolean isRelevanceOrder(Sort sort) {
+        return sort.isUnsorted() || sort.getOrderFor(RELEVANCE_SORT) != null;
+    }
+
+    private static Pageable withoutRelevanceSort(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return pageable;
+        }
+        Sort sort = pageable.getSort();
+        if (sort.isSorted() && sort.getOrderFor(RELEVANCE_SORT) == null) {
+            return pageable;
+        }
+        // Relevance only exists for full-text searches; default to newest first
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    private List<Quiz> loadInHitOrder(List<QuizSearchHit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Quiz> byId = quizRepository.findByIdIn(hits.stream().map(QuizSearchHit::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Quiz::getId, Function.identity()));
+        return hits.stream()
+                .map(hit -> byId.get(hit.id()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<QuizDto> toDtos(List<Quiz> quizzes) {
+        // Batch fetch question counts to avoid N+1 queries
+        Map<UUID, Long> questionCounts = batchFetchQuestionCounts(quizzes);
+        return quizzes.stream()
+                .map(quiz -> quizMapper.toDto(quiz, questionCounts.getOrDefault(quiz.getId(), 0L).intValue()))
+                .toList();
+    }
+
     /**
      * Helper method to batch fetch question counts for multiple quizzes.
      * Prevents N+1 queries when mapping Page<Quiz> to Page<QuizDto>.
@@ -0,0 +1,46 @@
+package uk.gegc.quizmaker.features.quiz.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for the in-memory cache of public catalogue pages and public quiz
+ * details.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "quiz.public-cache")
+public class PublicQuizCacheProperties {
+
+    /**
+     * Serve public catalogue pages and public quiz details from memory.
+     * Default: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * How long an entry may be served (in milliseconds). Changes made on this node evict entries
+     * immediately; this bounds how long a change made on another node can stay invisible here.
+     * Default: 30000 ms
+     */
+    @Min(value = 1, message = "quiz.public-cache.ttl-millis must be at least 1")
+    private long ttlMillis = 30_000;
+
+    /**
+     * Maximum number of cached catalogue pages; the least recently used page is dropped first.
+     * Default: 500
+     */
+    @Min(value = 1, message = "quiz.public-cache.max-pages must be at least 1")
+    private int maxPages = 500;
+
+    /**
+     * Maximum number of cached quiz details; the least recently used quiz is dropped first.
+     * Default: 5000
+     */
+    @Min(value = 1, message = "quiz.public-cache.max-details must be at least 1")
+    private int maxDetails = 5000;
+}
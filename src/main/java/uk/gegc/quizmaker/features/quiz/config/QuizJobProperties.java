@@ -61,6 +61,13 @@ public class QuizJobProperties {
          * Default: 0
          */
         private long minStartFeeTokens = 0;
+
+        /**
+         * How often a running worker re-reads its job status to notice cancellation made on another node.
+         * Cancellation made on the same node is observed immediately.
+         * Default: 2000 ms
+         */
+        private long statusPollIntervalMillis = 2000;
     }
 
     @Data
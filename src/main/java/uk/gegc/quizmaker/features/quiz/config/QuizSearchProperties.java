@@ -0,0 +1,41 @@
+package uk.gegc.quizmaker.features.quiz.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for quiz search.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "quiz.search")
+public class QuizSearchProperties {
+
+    /**
+     * Match search text against the FULLTEXT index on quizzes(title, description) and rank by
+     * relevance. When false, or when no search term is long enough to be indexed, search falls
+     * back to a case-insensitive substring match.
+     * Default: true
+     */
+    private boolean fullTextEnabled = true;
+
+    /**
+     * Shortest word the FULLTEXT index holds; must match the server's innodb_ft_min_token_size.
+     * Default: 3
+     */
+    @Min(value = 1, message = "quiz.search.min-token-length must be at least 1")
+    private int minTokenLength = 3;
+
+    /**
+     * Largest page a cursor search may request.
+     * Default: 100
+     */
+    @Min(value = 1, message = "quiz.search.max-page-size must be at least 1")
+    @Max(value = 500, message = "quiz.search.max-page-size must be at most 500")
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,45 @@
+package uk.gegc.quizmaker.features.quiz.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration properties for share link analytics ingestion.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "quizmaker.share-links.analytics")
+public class ShareLinkAnalyticsProperties {
+
+    /**
+     * Queue events in memory and write them from a background flush. When false, each event is
+     * written on the request thread as it is recorded.
+     * Default: true
+     */
+    private boolean buffered = true;
+
+    /**
+     * Maximum number of events waiting for a flush. Events recorded while the buffer is full are
+     * dropped and counted.
+     * Default: 10000
+     */
+    @Min(value = 1, message = "quizmaker.share-links.analytics.buffer-capacity must be at least 1")
+    private int bufferCapacity = 10_000;
+
+    /**
+     * Maximum number of events written in one JDBC batch.
+     * Default: 500
+     */
+    @Min(value = 1, message = "quizmaker.share-links.analytics.batch-size must be at least 1")
+    private int batchSize = 500;
+
+    /**
+     * Fixed delay between background flushes (in milliseconds).
+     * Default: 1000 ms
+     */
+    private long flushIntervalMillis = 1000;
+}
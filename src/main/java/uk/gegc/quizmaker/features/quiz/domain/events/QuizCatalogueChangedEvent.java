@@ -0,0 +1,34 @@
+package uk.gegc.quizmaker.features.quiz.domain.events;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published when quizzes are created, edited, deleted, or change status or visibility, i.e. when
+ * what the public catalogue or a public quiz detail shows may have changed. Listeners holding
+ * rendered quizzes must drop them.
+ */
+public class QuizCatalogueChangedEvent extends ApplicationEvent {
+
+    private final List<UUID> quizIds;
+
+    private QuizCatalogueChangedEvent(Object source, List<UUID> quizIds) {
+        super(source);
+        this.quizIds = quizIds;
+    }
+
+    public static QuizCatalogueChangedEvent forQuiz(Object source, UUID quizId) {
+        return new QuizCatalogueChangedEvent(source, List.of(quizId));
+    }
+
+    public static QuizCatalogueChangedEvent forQuizzes(Object source, Collection<UUID> quizIds) {
+        return new QuizCatalogueChangedEvent(source, List.copyOf(quizIds));
+    }
+
+    public List<UUID> getQuizIds() {
+        return quizIds;
+    }
+}
@@ -15,6 +15,7 @@ import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
 import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.tag.domain.model.Tag;
 import uk.gegc.quizmaker.features.user.domain.model.User;
+import uk.gegc.quizmaker.shared.persistence.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -32,7 +33,7 @@ import java.util.UUID;
 public class Quiz {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "quiz_id")
     private UUID id;
 
@@ -0,0 +1,71 @@
+package uk.gegc.quizmaker.features.quiz.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Questions generated for one chunk of a job that is still running. Unlike
+ * {@link QuizGenerationOutputCheckpoint}, these rows are not a finalization handoff: they only let a
+ * re-dispatched job skip chunks it already paid for, and are removed once the full output is checkpointed.
+ */
+@Entity
+@Table(name = "quiz_generation_chunk_checkpoints")
+@Getter
+@NoArgsConstructor
+public class QuizGenerationChunkCheckpoint {
+
+    @EmbeddedId
+    private QuizGenerationChunkCheckpointId id;
+
+    @Column(name = "schema_version", nullable = false, updatable = false)
+    private short schemaVersion;
+
+    @Column(name = "payload", nullable = false, updatable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Column(name = "question_count", nullable = false, updatable = false)
+    private int questionCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public QuizGenerationChunkCheckpoint(
+            UUID jobId,
+            int chunkIndex,
+            int schemaVersion,
+            String payload,
+            int questionCount,
+            LocalDateTime createdAt
+    ) {
+        Objects.requireNonNull(jobId, "jobId must not be null");
+        if (chunkIndex < 0) {
+            throw new IllegalArgumentException("chunkIndex must not be negative");
+        }
+        if (schemaVersion <= 0 || schemaVersion > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("schemaVersion must be a positive SMALLINT value");
+        }
+        if (payload == null || payload.isBlank()) {
+            throw new IllegalArgumentException("payload must not be blank");
+        }
+        if (questionCount <= 0) {
+            throw new IllegalArgumentException("questionCount must be positive");
+        }
+        this.id = new QuizGenerationChunkCheckpointId(jobId, chunkIndex);
+        this.schemaVersion = (short) schemaVersion;
+        this.payload = payload;
+        this.questionCount = questionCount;
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt must not be null");
+    }
+
+    public int getChunkIndex() {
+        return id.getChunkIndex();
+    }
+}
@@ -0,0 +1,25 @@
+package uk.gegc.quizmaker.features.quiz.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuizGenerationChunkCheckpointId implements Serializable {
+
+    @Column(name = "job_id", nullable = false, updatable = false)
+    private UUID jobId;
+
+    @Column(name = "chunk_index", nullable = false, updatable = false)
+    private int chunkIndex;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import uk.gegc.quizmaker.shared.persistence.UuidV7;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -54,7 +55,7 @@ public class ShareLinkAnalytics {
     @PrePersist
     protected void onCreate() {
         if (id == null) {
-            id = UUID.randomUUID();
+            id = UuidV7.generate();
         }
         if (createdAt == null) {
             createdAt = Instant.now();
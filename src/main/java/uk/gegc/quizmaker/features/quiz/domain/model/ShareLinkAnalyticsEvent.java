@@ -0,0 +1,21 @@
+package uk.gegc.quizmaker.features.quiz.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A share link analytics event waiting to be written. Values are already privacy-protected:
+ * the IP address is hashed and the user agent and referrer are truncated.
+ */
+public record ShareLinkAnalyticsEvent(
+        UUID id,
+        UUID shareLinkId,
+        ShareLinkEventType eventType,
+        String ipHash,
+        String userAgent,
+        String dateBucket,
+        String countryCode,
+        String referrer,
+        Instant createdAt
+) {
+}
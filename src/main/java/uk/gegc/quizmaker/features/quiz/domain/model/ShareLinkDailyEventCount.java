@@ -0,0 +1,41 @@
+package uk.gegc.quizmaker.features.quiz.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Number of analytics events of one type recorded for a share link on one UTC day. Rows are
+ * incremented as buffered events are flushed, so summaries read a handful of counters instead of
+ * every raw {@link ShareLinkAnalytics} event. Counters outlive the raw events removed by retention.
+ */
+@Entity
+@Table(name = "share_link_daily_event_counts")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShareLinkDailyEventCount {
+
+    @EmbeddedId
+    private ShareLinkDailyEventCountId id;
+
+    @Column(name = "quiz_id", nullable = false, updatable = false)
+    private UUID quizId;
+
+    @Column(name = "event_count", nullable = false)
+    private long eventCount;
+
+    public String getDateBucket() {
+        return id.getDateBucket();
+    }
+
+    public ShareLinkEventType getEventType() {
+        return id.getEventType();
+    }
+}
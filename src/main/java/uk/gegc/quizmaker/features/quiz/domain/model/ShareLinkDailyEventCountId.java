@@ -0,0 +1,31 @@
+package uk.gegc.quizmaker.features.quiz.domain.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShareLinkDailyEventCountId implements Serializable {
+
+    @Column(name = "share_link_id", nullable = false, updatable = false)
+    private UUID shareLinkId;
+
+    @Column(name = "date_bucket", length = 10, nullable = false, updatable = false)
+    private String dateBucket;
+
+    @Column(name = "event_type", length = 30, nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private ShareLinkEventType eventType;
+}
@@ -8,6 +8,7 @@ import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
+import uk.gegc.quizmaker.shared.persistence.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -21,7 +22,7 @@ import java.util.UUID;
 public class ShareLinkUsage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -0,0 +1,62 @@
+package uk.gegc.quizmaker.features.quiz.domain.model.export;
+
+import uk.gegc.quizmaker.features.quiz.api.dto.export.QuizExportDto;
+import uk.gegc.quizmaker.features.quiz.domain.model.PrintOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streaming counterpart of {@link ExportPayload}.
+ * Carries the same export metadata, but quizzes are produced lazily (typically page by page from the database),
+ * so renderers that write incrementally never hold the whole export in memory.
+ *
+ * @param quizzes Quizzes in export order; may be backed by paged reads and should be iterated only once
+ * @param printOptions Print formatting options (cover, metadata, hints, etc.)
+ * @param filenamePrefix Filename prefix without extension
+ * @param exportId Unique identifier for this export
+ * @param versionCode Human-readable version code displayed in footers
+ * @param shuffleSeed Seed used for deterministic shuffling of question content
+ */
+public record StreamingExportPayload(
+    Iterable<QuizExportDto> quizzes,
+    PrintOptions printOptions,
+    String filenamePrefix,
+    UUID exportId,
+    String versionCode,
+    Long shuffleSeed
+) {
+    public StreamingExportPayload {
+        if (quizzes == null) {
+            throw new IllegalArgumentException("Quizzes source cannot be null");
+        }
+        if (printOptions == null) {
+            printOptions = PrintOptions.defaults();
+        }
+    }
+
+    /**
+     * Wrap an already materialised payload.
+     */
+    public static StreamingExportPayload of(ExportPayload payload) {
+        return new StreamingExportPayload(
+                payload.quizzes(),
+                payload.printOptions(),
+                payload.filenamePrefix(),
+                payload.exportId(),
+                payload.versionCode(),
+                payload.shuffleSeed()
+        );
+    }
+
+    /**
+     * Drain the quiz source into a regular {@link ExportPayload}.
+     * Used by renderers whose layout needs every quiz up front (cover totals, grouping, answer keys).
+     */
+    public ExportPayload materialize() {
+        List<QuizExportDto> collected = new ArrayList<>();
+        quizzes.forEach(collected::add);
+        return new ExportPayload(collected, printOptions, filenamePrefix, exportId, versionCode, shuffleSeed);
+    }
+}
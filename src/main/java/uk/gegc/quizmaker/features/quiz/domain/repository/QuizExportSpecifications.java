@@ -8,10 +8,12 @@ import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.UUID;
 
 /**
  * Specifications for building quiz export queries.
@@ -102,5 +104,17 @@ public final class QuizExportSpecifications {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
 
+    /**
+     * Keyset predicate selecting quizzes strictly after the given (createdAt, id) position
+     */
+    public static Specification<Quiz> after(Instant createdAt, UUID id) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("createdAt"), createdAt),
+                cb.and(
+                        cb.equal(root.get("createdAt"), createdAt),
+                        cb.greaterThan(root.<UUID>get("id"), id)
+                )
+        );
+    }
+}
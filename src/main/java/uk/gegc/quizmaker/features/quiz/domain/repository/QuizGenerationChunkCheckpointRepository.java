@@ -0,0 +1,27 @@
+package uk.gegc.quizmaker.features.quiz.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationChunkCheckpoint;
+import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationChunkCheckpointId;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface QuizGenerationChunkCheckpointRepository
+        extends JpaRepository<QuizGenerationChunkCheckpoint, QuizGenerationChunkCheckpointId> {
+
+    @Query("""
+            SELECT c
+            FROM QuizGenerationChunkCheckpoint c
+            WHERE c.id.jobId = :jobId
+            ORDER BY c.id.chunkIndex
+            """)
+    List<QuizGenerationChunkCheckpoint> findByJobId(@Param("jobId") UUID jobId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM QuizGenerationChunkCheckpoint c WHERE c.id.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") UUID jobId);
+}
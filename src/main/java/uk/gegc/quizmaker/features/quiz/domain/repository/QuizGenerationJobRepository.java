@@ -54,6 +54,12 @@ public interface QuizGenerationJobRepository extends JpaRepository<QuizGeneratio
     @Query("SELECT j FROM QuizGenerationJob j WHERE j.status = 'PROCESSING' AND j.startedAt < :cutoffTime")
     List<QuizGenerationJob> findStuckJobs(@Param("cutoffTime") LocalDateTime cutoffTime);
 
+    /**
+     * Read only the status of a job, without loading the entity
+     */
+    @Query("SELECT j.status FROM QuizGenerationJob j WHERE j.id = :jobId")
+    Optional<GenerationStatus> findStatusById(@Param("jobId") UUID jobId);
+
     /**
      * Find jobs by status
      */
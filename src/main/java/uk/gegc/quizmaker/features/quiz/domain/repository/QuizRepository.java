@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
+import uk.gegc.quizmaker.features.quiz.domain.repository.projection.QuizSitemapProjection;
 
 import java.util.Collection;
 import java.util.List;
@@ -62,6 +63,15 @@ public interface QuizRepository extends JpaRepository<Quiz, UUID>, JpaSpecificat
 
     List<Quiz> findAllByStatusOrderByCreatedAtDesc(QuizStatus status);
 
+    @Query("""
+              SELECT q.id AS id, q.updatedAt AS updatedAt
+              FROM Quiz q
+              WHERE q.visibility = :visibility AND q.status = :status AND q.isDeleted = false
+              ORDER BY q.createdAt ASC, q.id ASC
+            """)
+    List<QuizSitemapProjection> findSitemapEntries(@Param("visibility") Visibility visibility,
+                                                   @Param("status") QuizStatus status);
+
     List<Quiz> findByCreatorId(UUID creatorId);
     boolean existsByCreatorIdAndTitle(UUID creatorId, String title);
 
@@ -0,0 +1,46 @@
+package uk.gegc.quizmaker.features.quiz.domain.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keyset position after the last quiz of a search page. Results are ordered by relevance
+ * (ranked searches only), then newest first, then id, so the next page starts strictly after
+ * these values and stays stable while quizzes are added.
+ * <p>
+ * The encoded form is opaque to clients: {@code base64url("v1|relevance|createdAt|id")}.
+ */
+public record QuizSearchCursor(Double relevance, Instant createdAt, UUID id) {
+
+    private static final String VERSION = "v1";
+
+    public QuizSearchCursor {
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+        Objects.requireNonNull(id, "id must not be null");
+    }
+
+    public String encode() {
+        String raw = VERSION + "|" + (relevance == null ? "" : relevance) + "|" + createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+     */
+    public static QuizSearchCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unsupported cursor format");
+            }
+            Double relevance = parts[1].isEmpty() ? null : Double.valueOf(parts[1]);
+            return new QuizSearchCursor(relevance, Instant.parse(parts[2]), UUID.fromString(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid search cursor", e);
+        }
+    }
+}
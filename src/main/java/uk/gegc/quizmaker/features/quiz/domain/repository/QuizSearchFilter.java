@@ -0,0 +1,29 @@
+package uk.gegc.quizmaker.features.quiz.domain.repository;
+
+import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Quiz search filters with names already resolved to ids, so the search query filters on foreign
+ * key columns instead of joining categories, tags and users. A {@code null} id set means the
+ * filter is not applied.
+ *
+ * @param fullTextQuery boolean-mode FULLTEXT expression; results are ranked by relevance when set
+ * @param containsText  lower-cased substring matched against title and description when full-text
+ *                      search is unavailable for the request
+ */
+public record QuizSearchFilter(
+        Set<UUID> categoryIds,
+        Set<UUID> tagIds,
+        Set<UUID> creatorIds,
+        Difficulty difficulty,
+        String fullTextQuery,
+        String containsText
+) {
+
+    public boolean isRanked() {
+        return fullTextQuery != null;
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gegc.quizmaker.features.quiz.domain.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One search result in result order: the quiz id and the sort key values needed to continue
+ * after it. {@code relevance} is {@code null} for unranked searches.
+ */
+public record QuizSearchHit(UUID id, Instant createdAt, Double relevance) {
+
+    public QuizSearchCursor toCursor() {
+        return new QuizSearchCursor(relevance, createdAt, id);
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gegc.quizmaker.features.quiz.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads quiz search results as ordered ids plus sort keys. Callers load the entities for one page
+ * by id afterwards, so the ranked query never fetches tag collections or sorts wide rows.
+ * Results are ordered by relevance (when a FULLTEXT query is given), then newest first, then id.
+ */
+@Repository
+public class QuizSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param spec          filters, including scope restrictions
+     * @param fullTextQuery boolean-mode FULLTEXT expression to rank by, or {@code null}
+     * @param after         keyset position to continue after, or {@code null} for the first page
+     * @param offset        rows to skip; {@code 0} for keyset pages
+     * @param limit         maximum number of hits
+     */
+    public List<QuizSearchHit> findHits(Specification<Quiz> spec, String fullTextQuery,
+                                        QuizSearchCursor after, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Quiz> root = query.from(Quiz.class);
+        Path<UUID> id = root.get("id");
+        Path<Instant> createdAt = root.get("createdAt");
+        Expression<Double> relevance = fullTextQuery == null ? null : QuizSpecifications.relevance(root, cb, fullTextQuery);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filter = spec.toPredicate(root, query, cb);
+        if (filter != null) {
+            predicates.add(filter);
+        }
+        if (after != null) {
+            predicates.add(after(cb, relevance, createdAt, id, after));
+        }
+
+        List<Order> orders = new ArrayList<>();
+        if (relevance != null) {
+            query.multiselect(id, createdAt, relevance);
+            orders.add(cb.desc(relevance));
+        } else {
+            query.multiselect(id, createdAt);
+        }
+        orders.add(cb.desc(createdAt));
+        orders.add(cb.desc(id));
+        query.where(predicates.toArray(new Predicate[0])).orderBy(orders);
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(row -> new QuizSearchHit(
+                        row.get(0, UUID.class),
+                        row.get(1, Instant.class),
+                        relevance == null ? null : row.get(2, Double.class)))
+                .toList();
+    }
+
+    private static Predicate after(CriteriaBuilder cb, Expression<Double> relevance, Path<Instant> createdAt,
+                                   Path<UUID> id, QuizSearchCursor cursor) {
+        Predicate olderOrLowerId = cb.or(
+                cb.lessThan(createdAt, cursor.createdAt()),
+                cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id())));
+        if (relevance == null) {
+            return olderOrLowerId;
+        }
+        return cb.or(
+                cb.lessThan(relevance, cursor.relevance()),
+                cb.and(cb.equal(relevance, cursor.relevance()), olderOrLowerId));
+    }
+}
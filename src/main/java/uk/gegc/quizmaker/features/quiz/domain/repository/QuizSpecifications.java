@@ -1,77 +1,116 @@
 package uk.gegc.quizmaker.features.quiz.domain.repository;
 
-import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
-import uk.gegc.quizmaker.features.quiz.api.dto.QuizSearchCriteria;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
+import uk.gegc.quizmaker.shared.persistence.MySqlFullTextFunctions;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
+import java.util.Set;
 
 public final class QuizSpecifications {
 
+    // InnoDB's default full-text stopword list; a required stopword would make every search miss
+    private static final Set<String> FULL_TEXT_STOPWORDS = Set.of(
+            "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from", "how",
+            "i", "in", "is", "it", "la", "of", "on", "or", "that", "the", "this", "to", "was", "what",
+            "when", "where", "who", "will", "with", "und", "www");
+
     private QuizSpecifications() {
     }
 
-    public static Specification<Quiz> build(QuizSearchCriteria criteria) {
+    /**
+     * Builds the search predicate from resolved id sets. Category and author filters compare the
+     * foreign key columns and tags are matched with a correlated EXISTS, so the query has no
+     * joins to fan out and needs no DISTINCT.
+     */
+    public static Specification<Quiz> build(QuizSearchFilter filter) {
         return (root, query, cb) -> {
-            // Prevent duplicates when joining tags/categories
-            if (query != null) {
-                query.distinct(true);
-            }
-
             List<Predicate> predicates = new ArrayList<>();
 
-            if (criteria == null) {
-                return cb.and(predicates.toArray(new Predicate[0]));
-            }
-
-            // Category by names (case-insensitive)
-            if (criteria.category() != null && !criteria.category().isEmpty()) {
-                var categoryJoin = root.join("category", JoinType.INNER);
-                List<String> lowered = criteria.category().stream()
-                        .filter(Objects::nonNull)
-                        .map(s -> s.toLowerCase(Locale.ROOT))
-                        .toList();
-                predicates.add(cb.lower(categoryJoin.get("name")).in(lowered));
+            if (filter.categoryIds() != null) {
+                predicates.add(root.get("category").get("id").in(filter.categoryIds()));
             }
 
-            // Tag by names (case-insensitive). Any matching tag qualifies
-            if (criteria.tag() != null && !criteria.tag().isEmpty()) {
-                var tagJoin = root.join("tags", JoinType.INNER);
-                List<String> lowered = criteria.tag().stream()
-                        .filter(Objects::nonNull)
-                        .map(s -> s.toLowerCase(Locale.ROOT))
-                        .toList();
-                predicates.add(cb.lower(tagJoin.get("name")).in(lowered));
+            if (filter.tagIds() != null) {
+                predicates.add(cb.exists(taggedWithAny(root, query, filter.tagIds())));
             }
 
-            // Author username exact match (case-insensitive)
-            if (criteria.authorName() != null && !criteria.authorName().isBlank()) {
-                var authorJoin = root.join("creator", JoinType.INNER);
-                predicates.add(cb.equal(cb.lower(authorJoin.get("username")),
-                        criteria.authorName().toLowerCase(Locale.ROOT)));
+            if (filter.creatorIds() != null) {
+                predicates.add(root.get("creator").get("id").in(filter.creatorIds()));
             }
 
-            // Full-text like on title or description (case-insensitive)
-            if (criteria.search() != null && !criteria.search().isBlank()) {
-                String like = "%" + criteria.search().toLowerCase(Locale.ROOT) + "%";
-                var titleLike = cb.like(cb.lower(root.get("title")), like);
-                var descLike = cb.like(cb.lower(root.get("description")), like);
-                predicates.add(cb.or(titleLike, descLike));
+            if (filter.fullTextQuery() != null) {
+                predicates.add(cb.greaterThan(relevance(root, cb, filter.fullTextQuery()), 0.0));
+            } else if (filter.containsText() != null) {
+                predicates.add(containsText(root, cb, filter.containsText()));
             }
 
-            // Difficulty exact match
-            if (criteria.difficulty() != null) {
-                predicates.add(cb.equal(root.get("difficulty"), criteria.difficulty()));
+            if (filter.difficulty() != null) {
+                predicates.add(cb.equal(root.get("difficulty"), filter.difficulty()));
             }
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
 
+    /**
+     * Relevance of a quiz for a boolean-mode query against the FULLTEXT index on
+     * {@code quizzes(title, description)}; {@code 0} when the quiz does not match.
+     */
+    public static Expression<Double> relevance(Root<Quiz> root, CriteriaBuilder cb, String booleanModeQuery) {
+        return cb.function(MySqlFullTextFunctions.MATCH_AGAINST, Double.class,
+                root.get("title"), root.get("description"), cb.literal(booleanModeQuery));
+    }
 
+    /**
+     * Turns free text into a boolean-mode query that requires every indexable word as a prefix,
+     * e.g. {@code "Java basics!"} becomes {@code "+java* +basics*"}. Operators typed by the user
+     * are discarded. Returns {@code null} when no word is long enough to be in the index.
+     */
+    public static String toBooleanModeQuery(String search, int minTokenLength) {
+        if (search == null) {
+            return null;
+        }
+        Set<String> words = new LinkedHashSet<>();
+        for (String word : search.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() >= minTokenLength && !FULL_TEXT_STOPWORDS.contains(word)) {
+                words.add(word);
+            }
+        }
+        if (words.isEmpty()) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        for (String word : words) {
+            if (!query.isEmpty()) {
+                query.append(' ');
+            }
+            query.append('+').append(word).append('*');
+        }
+        return query.toString();
+    }
+
+    private static Predicate containsText(Root<Quiz> root, CriteriaBuilder cb, String loweredText) {
+        String like = "%" + loweredText + "%";
+        var titleLike = cb.like(cb.lower(root.get("title")), like);
+        var descLike = cb.like(cb.lower(root.get("description")), like);
+        return cb.or(titleLike, descLike);
+    }
+
+    private static Subquery<Object> taggedWithAny(Root<Quiz> root, CriteriaQuery<?> query, Collection<?> tagIds) {
+        Subquery<Object> tagged = query.subquery(Object.class);
+        Join<Quiz, ?> tag = tagged.correlate(root).join("tags");
+        return tagged.select(tag.get("id")).where(tag.get("id").in(tagIds));
+    }
+}
@@ -0,0 +1,86 @@
+package uk.gegc.quizmaker.features.quiz.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkAnalyticsEvent;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkEventType;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC batch writes for share link analytics. Raw events and their daily counters are written in
+ * one transaction; events whose share link no longer exists are skipped rather than failing the
+ * batch, since both statements select the link row they reference.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ShareLinkAnalyticsBatchRepository {
+
+    private static final String INSERT_EVENT = """
+            INSERT INTO share_link_analytics
+                (id, share_link_id, event_type, ip_hash, user_agent, date_bucket, country_code, referrer, created_at)
+            SELECT ?, sl.id, ?, ?, ?, ?, ?, ?, ?
+            FROM share_links sl
+            WHERE sl.id = ?
+            """;
+
+    private static final String INCREMENT_DAILY_COUNT = """
+            INSERT INTO share_link_daily_event_counts
+                (share_link_id, quiz_id, date_bucket, event_type, event_count)
+            SELECT sl.id, sl.quiz_id, ?, ?, ?
+            FROM share_links sl
+            WHERE sl.id = ?
+            ON DUPLICATE KEY UPDATE event_count = event_count + VALUES(event_count)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void insertAll(List<ShareLinkAnalyticsEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> eventRows = new ArrayList<>(events.size());
+        Map<DailyCountKey, Long> dailyCounts = new LinkedHashMap<>();
+        for (ShareLinkAnalyticsEvent event : events) {
+            eventRows.add(new Object[]{
+                    toBytes(event.id()),
+                    event.eventType().name(),
+                    event.ipHash(),
+                    event.userAgent(),
+                    event.dateBucket(),
+                    event.countryCode(),
+                    event.referrer(),
+                    Timestamp.from(event.createdAt()),
+                    toBytes(event.shareLinkId())
+            });
+            dailyCounts.merge(new DailyCountKey(event.shareLinkId(), event.dateBucket(), event.eventType()), 1L, Long::sum);
+        }
+
+        List<Object[]> countRows = new ArrayList<>(dailyCounts.size());
+        dailyCounts.forEach((key, count) -> countRows.add(new Object[]{
+                key.dateBucket(), key.eventType().name(), count, toBytes(key.shareLinkId())
+        }));
+
+        jdbcTemplate.batchUpdate(INSERT_EVENT, eventRows);
+        jdbcTemplate.batchUpdate(INCREMENT_DAILY_COUNT, countRows);
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private record DailyCountKey(UUID shareLinkId, String dateBucket, ShareLinkEventType eventType) {
+    }
+}
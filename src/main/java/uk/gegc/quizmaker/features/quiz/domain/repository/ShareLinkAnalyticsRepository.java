@@ -42,6 +42,15 @@ public interface ShareLinkAnalyticsRepository extends JpaRepository<ShareLinkAna
      */
     long countByShareLink_IdAndEventType(UUID shareLinkId, ShareLinkEventType eventType);
 
+    /**
+     * Get unique visitor count (by IP hash) for a specific share link.
+     * 
+     * @param shareLinkId The share link ID
+     * @return Count of unique visitors
+     */
+    @Query("SELECT COUNT(DISTINCT sa.ipHash) FROM ShareLinkAnalytics sa WHERE sa.shareLink.id = :shareLinkId")
+    long countDistinctIpHashByShareLinkId(@Param("shareLinkId") UUID shareLinkId);
+
     /**
      * Find analytics events for a specific quiz within a date range.
      * 
@@ -0,0 +1,33 @@
+package uk.gegc.quizmaker.features.quiz.domain.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkDailyEventCount;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkDailyEventCountId;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ShareLinkDailyEventCountRepository
+        extends JpaRepository<ShareLinkDailyEventCount, ShareLinkDailyEventCountId> {
+
+    @Query("""
+            SELECT c
+            FROM ShareLinkDailyEventCount c
+            WHERE c.id.shareLinkId = :shareLinkId
+            """)
+    List<ShareLinkDailyEventCount> findByShareLinkId(@Param("shareLinkId") UUID shareLinkId);
+
+    @Query("""
+            SELECT c
+            FROM ShareLinkDailyEventCount c
+            WHERE c.quizId = :quizId
+              AND c.id.dateBucket BETWEEN :startDate AND :endDate
+            """)
+    List<ShareLinkDailyEventCount> findByQuizIdAndDateRange(
+            @Param("quizId") UUID quizId,
+            @Param("startDate") String startDate,
+            @Param("endDate") String endDate
+    );
+}
@@ -1,5 +1,6 @@
 package uk.gegc.quizmaker.features.quiz.domain.repository.export;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -55,5 +56,18 @@ public interface QuizExportRepository extends JpaRepository<Quiz, UUID>, JpaSpec
     @Override
     @EntityGraph(attributePaths = {"category", "creator", "tags", "questions"})
     List<Quiz> findAll(Specification<Quiz> spec);
+
+    /**
+     * Fetch one keyset page of quizzes matching the specification, ordered by createdAt then id.
+     * Combine with {@link uk.gegc.quizmaker.features.quiz.domain.repository.QuizExportSpecifications#after}
+     * to continue from the last row of the previous page. Relations are not fetched here; load them for the
+     * page with {@link #findAllByIdsWithCategoryTagsQuestions(List)}.
+     */
+    default List<Quiz> findExportPage(Specification<Quiz> spec, int limit) {
+        return findBy(spec, query -> query
+                .sortBy(Sort.by("createdAt", "id"))
+                .limit(limit)
+                .all());
+    }
 }
 
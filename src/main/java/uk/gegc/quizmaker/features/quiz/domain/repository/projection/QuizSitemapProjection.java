@@ -0,0 +1,13 @@
+package uk.gegc.quizmaker.features.quiz.domain.repository.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The two columns a sitemap needs for each public quiz.
+ */
+public interface QuizSitemapProjection {
+    UUID getId();
+
+    Instant getUpdatedAt();
+}
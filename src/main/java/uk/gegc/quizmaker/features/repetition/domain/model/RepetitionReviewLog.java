@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import uk.gegc.quizmaker.features.user.domain.model.User;
+import uk.gegc.quizmaker.shared.persistence.TimeOrderedUuid;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -22,7 +23,7 @@ import java.util.UUID;
 public class RepetitionReviewLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "repetition_review_id", nullable = false, updatable = false)
     private UUID id;
 
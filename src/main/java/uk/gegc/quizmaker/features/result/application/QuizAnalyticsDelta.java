@@ -0,0 +1,31 @@
+package uk.gegc.quizmaker.features.result.application;
+
+/**
+ * Change to a quiz analytics snapshot contributed by one or more completed attempts.
+ * <p>
+ * Deltas for the same quiz are merged with {@link #plus(QuizAnalyticsDelta)} before being
+ * applied, so a burst of completions turns into a single snapshot write.
+ * </p>
+ *
+ * @param attempts   number of completed attempts
+ * @param scoreSum   sum of their total scores
+ * @param bestScore  highest total score among them
+ * @param worstScore lowest total score among them
+ * @param passing    number of them that count as passing
+ */
+public record QuizAnalyticsDelta(long attempts, double scoreSum, double bestScore, double worstScore, long passing) {
+
+    public static QuizAnalyticsDelta of(double score, boolean passed) {
+        return new QuizAnalyticsDelta(1, score, score, score, passed ? 1 : 0);
+    }
+
+    public QuizAnalyticsDelta plus(QuizAnalyticsDelta other) {
+        return new QuizAnalyticsDelta(
+                attempts + other.attempts,
+                scoreSum + other.scoreSum,
+                Math.max(bestScore, other.bestScore),
+                Math.min(worstScore, other.worstScore),
+                passing + other.passing
+        );
+    }
+}
@@ -9,8 +9,9 @@ import java.util.UUID;
  * Service for managing quiz analytics snapshots.
  * <p>
  * Provides methods to compute, retrieve, and update analytics snapshots for quizzes.
- * Snapshots are updated event-driven when attempts are completed, with fallback
- * recomputation for consistency.
+ * Snapshots are maintained incrementally from completed attempts: each completion is
+ * buffered as a {@link QuizAnalyticsDelta}, coalesced per quiz and applied by a periodic
+ * flush. Full recomputation is reserved for missing snapshots and a scheduled repair job.
  * </p>
  */
 public interface QuizAnalyticsService {
@@ -45,12 +46,46 @@ public interface QuizAnalyticsService {
      * Handle attempt completion event by updating the quiz analytics snapshot.
      * <p>
      * This method is called when an {@link AttemptCompletedEvent} is published.
-     * It triggers a recomputation of the snapshot for the quiz associated with
-     * the completed attempt.
+     * Events carrying the attempt's score are buffered as a delta for the next
+     * {@link #flushPendingDeltas()}; events without it trigger a recomputation.
      * </p>
      *
      * @param event the attempt completed event
      */
     void handleAttemptCompleted(AttemptCompletedEvent event);
-}
 
+    /**
+     * Fold a delta into the quiz's snapshot without re-reading its attempts.
+     * <p>
+     * Runs in its own transaction. If the quiz has no snapshot yet, one is recomputed
+     * from scratch instead (the committed attempts already include the delta).
+     * </p>
+     *
+     * @param quizId the quiz ID
+     * @param delta  the change to apply
+     * @return the updated snapshot
+     */
+    QuizAnalyticsSnapshot applyDelta(UUID quizId, QuizAnalyticsDelta delta);
+
+    /**
+     * Apply all buffered deltas, one snapshot write per quiz.
+     * <p>
+     * Deltas that hit an optimistic locking conflict are kept for the next flush.
+     * </p>
+     *
+     * @return number of snapshots updated
+     */
+    int flushPendingDeltas();
+
+    /**
+     * Recompute every existing snapshot from raw attempt data, correcting any drift
+     * in the incrementally maintained values.
+     * <p>
+     * Each quiz's pending delta is dropped only if its recomputation is saved; a
+     * recomputation that loses an optimistic locking race is skipped until the next run.
+     * </p>
+     *
+     * @return number of snapshots recomputed
+     */
+    int repairAllSnapshots();
+}
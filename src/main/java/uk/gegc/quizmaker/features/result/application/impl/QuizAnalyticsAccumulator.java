@@ -0,0 +1,58 @@
+package uk.gegc.quizmaker.features.result.application.impl;
+
+import uk.gegc.quizmaker.features.result.application.QuizAnalyticsDelta;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory buffer of pending analytics deltas, coalesced per quiz.
+ * <p>
+ * Completion events add to it from async listener threads; the flush job drains it. Pending
+ * deltas are lost on shutdown, which the scheduled repair recomputation makes good.
+ * </p>
+ */
+class QuizAnalyticsAccumulator {
+
+    private final ConcurrentHashMap<UUID, QuizAnalyticsDelta> pending = new ConcurrentHashMap<>();
+
+    void record(UUID quizId, QuizAnalyticsDelta delta) {
+        pending.merge(quizId, delta, QuizAnalyticsDelta::plus);
+    }
+
+    /**
+     * Put back a delta that could not be applied, merging it with anything recorded meanwhile.
+     */
+    void requeue(UUID quizId, QuizAnalyticsDelta delta) {
+        record(quizId, delta);
+    }
+
+    /**
+     * Remove and return all pending deltas. Each quiz is removed atomically, so a concurrent
+     * {@link #record} either lands in the returned map or stays pending for the next drain.
+     */
+    Map<UUID, QuizAnalyticsDelta> drain() {
+        Map<UUID, QuizAnalyticsDelta> drained = new HashMap<>();
+        for (UUID quizId : pending.keySet()) {
+            QuizAnalyticsDelta delta = pending.remove(quizId);
+            if (delta != null) {
+                drained.put(quizId, delta);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Remove and return the pending delta for a quiz that is about to be recomputed from scratch,
+     * or {@code null} if there is none. Requeue it if the recomputation is not saved.
+     */
+    QuizAnalyticsDelta take(UUID quizId) {
+        return pending.remove(quizId);
+    }
+
+    int size() {
+        return pending.size();
+    }
+}
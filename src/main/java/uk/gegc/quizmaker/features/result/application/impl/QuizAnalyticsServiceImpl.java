@@ -3,6 +3,7 @@ package uk.gegc.quizmaker.features.result.application.impl;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -14,28 +15,35 @@ import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.attempt.domain.repository.AttemptRepository;
 import uk.gegc.quizmaker.features.question.domain.repository.QuestionRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
+import uk.gegc.quizmaker.features.result.application.QuizAnalyticsDelta;
 import uk.gegc.quizmaker.features.result.application.QuizAnalyticsService;
 import uk.gegc.quizmaker.features.result.domain.model.QuizAnalyticsSnapshot;
 import uk.gegc.quizmaker.features.result.domain.repository.QuizAnalyticsSnapshotRepository;
-import uk.gegc.quizmaker.shared.exception.ResourceNotFoundException;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Implementation of {@link QuizAnalyticsService}.
  * <p>
  * Manages quiz analytics snapshots by:
  * <ul>
- *   <li>Listening to {@link AttemptCompletedEvent} and triggering snapshot updates</li>
- *   <li>Recomputing snapshots from raw attempt/answer data</li>
+ *   <li>Listening to {@link AttemptCompletedEvent} and buffering the attempt as a per-quiz delta</li>
+ *   <li>Folding buffered deltas into snapshots on a periodic flush (running count, score sum,
+ *       min/max and passing count)</li>
+ *   <li>Recomputing snapshots from raw attempt/answer data when missing and in a scheduled repair</li>
  *   <li>Providing cached snapshots for fast reads</li>
  * </ul>
  * </p>
  * <p>
- * Uses optimistic locking (@Version) to handle concurrent updates safely.
+ * Uses optimistic locking (@Version) to handle concurrent updates safely. Recomputation loads the
+ * snapshot before reading attempts, so a delta committed while it runs fails its version check
+ * instead of being overwritten or counted twice.
  * </p>
  */
 @Slf4j
@@ -49,9 +57,15 @@ public class QuizAnalyticsServiceImpl implements QuizAnalyticsService {
     
     // Self-reference to call @Transactional(REQUIRES_NEW) methods through proxy
     private final QuizAnalyticsService self;
+
+    // Completion deltas waiting for the next flush, coalesced per quiz
+    private final QuizAnalyticsAccumulator accumulator = new QuizAnalyticsAccumulator();
+
+    // Held while deltas are drained and applied, so a repair never runs beside a drained, unapplied delta
+    private final ReentrantLock flushLock = new ReentrantLock();
     
     // Maximum age of snapshot in seconds before recomputation (0 = disabled)
-    @Value("${quizmaker.analytics.snapshot.max-age-seconds:600}")
+    @Value("${quizmaker.analytics.snapshot.max-age-seconds:0}")
     private long maxAgeSeconds;
 
     public QuizAnalyticsServiceImpl(
@@ -76,6 +90,11 @@ public class QuizAnalyticsServiceImpl implements QuizAnalyticsService {
         // Note: Quiz existence is enforced by FK constraint on quiz_analytics_snapshot.quiz_id
         // No need for explicit check here - simplifies transaction boundaries
 
+        // Load the snapshot first: its version then covers the attempt reads below, so a delta
+        // applied meanwhile makes this save fail instead of being folded in a second time
+        QuizAnalyticsSnapshot snapshot = snapshotRepository.findByQuizId(quizId)
+                .orElse(new QuizAnalyticsSnapshot());
+
         // Get aggregate data (count, avg, max, min) from completed attempts
         List<Object[]> rows = attemptRepository.getAttemptAggregateData(quizId);
         Object[] agg = rows.isEmpty()
@@ -109,16 +128,14 @@ public class QuizAnalyticsServiceImpl implements QuizAnalyticsService {
                 ? ((double) passing / attemptsCount) * 100.0
                 : 0.0;
 
-        // Find or create snapshot
-        QuizAnalyticsSnapshot snapshot = snapshotRepository.findByQuizId(quizId)
-                .orElse(new QuizAnalyticsSnapshot());
-
         snapshot.setQuizId(quizId);
         snapshot.setAttemptsCount(attemptsCount);
         snapshot.setAverageScore(averageScore);
         snapshot.setBestScore(bestScore);
         snapshot.setWorstScore(worstScore);
         snapshot.setPassRate(passRate);
+        snapshot.setScoreSum(averageScore * attemptsCount);
+        snapshot.setPassingCount(passing);
         snapshot.setUpdatedAt(Instant.now());
 
         QuizAnalyticsSnapshot saved = snapshotRepository.save(snapshot);
@@ -136,8 +153,7 @@ public class QuizAnalyticsServiceImpl implements QuizAnalyticsService {
                 .filter(snapshot -> !isStale(snapshot))
                 .orElseGet(() -> {
                     log.debug("Snapshot for quiz {} is missing or stale, triggering recomputation", quizId);
-                    // Call through proxy to start new transaction (REQUIRES_NEW)
-                    return self.recomputeSnapshot(quizId);
+                    return recomputeLocked(quizId);
                 });
     }
 
@@ -171,44 +187,122 @@ public class QuizAnalyticsServiceImpl implements QuizAnalyticsService {
         log.debug("Handling attempt completed event (after commit) for attempt {} on quiz {}",
                 event.getAttemptId(), event.getQuizId());
 
-        // Retry logic for concurrent updates (optimistic locking failures)
-        int maxRetries = 3;
-        int attempt = 0;
-        
-        while (attempt < maxRetries) {
-            try {
-                // Call through proxy to ensure REQUIRES_NEW transaction is applied
-                self.recomputeSnapshot(event.getQuizId());
-                log.debug("Successfully updated analytics snapshot for quiz {} on attempt {}",
-                        event.getQuizId(), attempt + 1);
-                return; // Success - exit
-                
-            } catch (org.springframework.dao.OptimisticLockingFailureException | 
-                     org.springframework.dao.DataIntegrityViolationException e) {
-                attempt++;
-                if (attempt < maxRetries) {
-                    log.debug("Optimistic locking conflict for quiz {} (attempt {}/{}), retrying...",
-                            event.getQuizId(), attempt, maxRetries);
-                    // Brief exponential backoff to reduce contention
-                    try {
-                        Thread.sleep(50L * attempt); // 50ms, 100ms, 150ms
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
-                        log.warn("Retry interrupted for quiz {}", event.getQuizId());
-                        return;
-                    }
-                } else {
-                    log.error("Failed to update analytics snapshot for quiz {} after {} attempts due to {}",
-                            event.getQuizId(), maxRetries, e.getClass().getSimpleName(), e);
+        if (event.hasScore()) {
+            accumulator.record(event.getQuizId(),
+                    QuizAnalyticsDelta.of(event.getTotalScore(), event.isPassing()));
+            return;
+        }
+
+        // Publisher did not supply the attempt's numbers - fall back to a full recomputation
+        try {
+            recomputeLocked(event.getQuizId());
+        } catch (Exception e) {
+            log.error("Failed to recompute analytics snapshot for quiz {} after attempt {} completion",
+                    event.getQuizId(), event.getAttemptId(), e);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public QuizAnalyticsSnapshot applyDelta(UUID quizId, QuizAnalyticsDelta delta) {
+        Optional<QuizAnalyticsSnapshot> existing = snapshotRepository.findByQuizId(quizId);
+        if (existing.isEmpty()) {
+            // Already inside a new transaction, so a direct call is fine here
+            return recomputeSnapshot(quizId);
+        }
+
+        QuizAnalyticsSnapshot snapshot = existing.get();
+        long previousCount = snapshot.getAttemptsCount();
+        long attemptsCount = previousCount + delta.attempts();
+        double scoreSum = snapshot.getScoreSum() + delta.scoreSum();
+        long passing = snapshot.getPassingCount() + delta.passing();
+
+        snapshot.setAttemptsCount(attemptsCount);
+        snapshot.setScoreSum(scoreSum);
+        snapshot.setPassingCount(passing);
+        snapshot.setAverageScore(attemptsCount > 0 ? scoreSum / attemptsCount : 0.0);
+        snapshot.setPassRate(attemptsCount > 0 ? ((double) passing / attemptsCount) * 100.0 : 0.0);
+        // An empty snapshot stores 0.0 for best/worst, which is not a real lower/upper bound
+        snapshot.setBestScore(previousCount > 0
+                ? Math.max(snapshot.getBestScore(), delta.bestScore())
+                : delta.bestScore());
+        snapshot.setWorstScore(previousCount > 0
+                ? Math.min(snapshot.getWorstScore(), delta.worstScore())
+                : delta.worstScore());
+        snapshot.setUpdatedAt(Instant.now());
+
+        return snapshotRepository.save(snapshot);
+    }
+
+    @Override
+    public int flushPendingDeltas() {
+        flushLock.lock();
+        try {
+            Map<UUID, QuizAnalyticsDelta> drained = accumulator.drain();
+            int flushed = 0;
+            for (Map.Entry<UUID, QuizAnalyticsDelta> entry : drained.entrySet()) {
+                UUID quizId = entry.getKey();
+                try {
+                    self.applyDelta(quizId, entry.getValue());
+                    flushed++;
+                } catch (OptimisticLockingFailureException e) {
+                    // Concurrent writer (another node) - retry on the next flush
+                    log.debug("Optimistic locking conflict for quiz {}, delta re-queued", quizId);
+                    accumulator.requeue(quizId, entry.getValue());
+                } catch (Exception e) {
+                    log.error("Failed to apply analytics delta for quiz {}; the repair job will reconcile it",
+                            quizId, e);
                 }
-                
+            }
+            return flushed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @Override
+    public int repairAllSnapshots() {
+        int repaired = 0;
+        for (UUID quizId : snapshotRepository.findAllQuizIds()) {
+            try {
+                recomputeLocked(quizId);
+                repaired++;
+            } catch (OptimisticLockingFailureException e) {
+                log.debug("Optimistic locking conflict repairing quiz {}, left for the next repair", quizId);
             } catch (Exception e) {
-                log.error("Unexpected error updating analytics snapshot for quiz {} after attempt {} completion",
-                        event.getQuizId(), event.getAttemptId(), e);
-                return; // Don't retry on unexpected errors
+                log.error("Failed to repair analytics snapshot for quiz {}", quizId, e);
             }
         }
-        // Note: Snapshot will be recomputed on next read if still stale
+        return repaired;
+    }
+
+    /**
+     * Recompute a quiz's snapshot with no buffered delta left to fold in afterwards.
+     * <p>
+     * The recomputation reads every committed attempt, including those whose deltas are still
+     * pending, so the pending delta is taken first and only put back if the snapshot is not saved.
+     * Holding {@code flushLock} keeps a flush from applying a delta it drained before the take.
+     * Every recomputation outside {@link #applyDelta} goes through here.
+     * </p>
+     */
+    private QuizAnalyticsSnapshot recomputeLocked(UUID quizId) {
+        flushLock.lock();
+        QuizAnalyticsDelta pending = accumulator.take(quizId);
+        try {
+            // Call through proxy to start new transaction (REQUIRES_NEW)
+            return self.recomputeSnapshot(quizId);
+        } catch (RuntimeException e) {
+            // Nothing was saved (e.g. another node applied a delta meanwhile), so keep ours too
+            if (pending != null) {
+                accumulator.requeue(quizId, pending);
+            }
+            throw e;
+        } finally {
+            flushLock.unlock();
+        }
     }
-}
 
+    int pendingDeltaCount() {
+        return accumulator.size();
+    }
+}
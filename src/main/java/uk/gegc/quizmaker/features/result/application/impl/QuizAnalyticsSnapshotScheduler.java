@@ -0,0 +1,29 @@
+package uk.gegc.quizmaker.features.result.application.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gegc.quizmaker.features.result.application.QuizAnalyticsService;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuizAnalyticsSnapshotScheduler {
+
+    private final QuizAnalyticsService quizAnalyticsService;
+
+    @Scheduled(fixedDelayString = "${quizmaker.analytics.snapshot.flush-interval-ms:5000}")
+    public void flushPendingDeltas() {
+        int flushed = quizAnalyticsService.flushPendingDeltas();
+        if (flushed > 0) {
+            log.debug("Applied pending analytics deltas to {} quiz snapshot(s)", flushed);
+        }
+    }
+
+    @Scheduled(cron = "${quizmaker.analytics.snapshot.repair-cron:0 30 3 * * *}")
+    public void repairSnapshots() {
+        int repaired = quizAnalyticsService.repairAllSnapshots();
+        log.info("Recomputed {} quiz analytics snapshot(s)", repaired);
+    }
+}
@@ -17,6 +17,10 @@ import java.util.UUID;
  * are completed, with fallback recomputation via scheduled jobs or on-demand refresh.
  * </p>
  * <p>
+ * {@code scoreSum} and {@code passingCount} hold the running totals that incremental updates add to,
+ * so a completed attempt can be folded in without re-reading the quiz's other attempts.
+ * </p>
+ * <p>
  * One snapshot per quiz (quiz_id is the primary key). Uses optimistic locking to prevent lost
  * updates during concurrent attempt completions.
  * </p>
@@ -48,6 +52,18 @@ public class QuizAnalyticsSnapshot {
     @Column(name = "pass_rate", nullable = false)
     private double passRate;
 
+    /**
+     * Running sum of attempt scores; {@code averageScore} is derived from it and {@code attemptsCount}.
+     */
+    @Column(name = "score_sum", nullable = false)
+    private double scoreSum;
+
+    /**
+     * Running count of passing attempts; {@code passRate} is derived from it and {@code attemptsCount}.
+     */
+    @Column(name = "passing_count", nullable = false)
+    private long passingCount;
+
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
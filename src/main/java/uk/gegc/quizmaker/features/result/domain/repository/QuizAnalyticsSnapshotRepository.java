@@ -1,9 +1,11 @@
 package uk.gegc.quizmaker.features.result.domain.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import uk.gegc.quizmaker.features.result.domain.model.QuizAnalyticsSnapshot;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,5 +26,12 @@ public interface QuizAnalyticsSnapshotRepository extends JpaRepository<QuizAnaly
      * @return Optional containing the snapshot if found
      */
     Optional<QuizAnalyticsSnapshot> findByQuizId(UUID quizId);
-}
 
+    /**
+     * IDs of all quizzes that have a snapshot, used by the scheduled repair job.
+     *
+     * @return list of quiz IDs
+     */
+    @Query("SELECT s.quizId FROM QuizAnalyticsSnapshot s")
+    List<UUID> findAllQuizIds();
+}
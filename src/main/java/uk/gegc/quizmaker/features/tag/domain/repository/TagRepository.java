@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gegc.quizmaker.features.tag.domain.model.Tag;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +14,7 @@ import java.util.UUID;
 public interface TagRepository extends JpaRepository<Tag, UUID> {
     @Query("SELECT t FROM Tag t WHERE LOWER(t.name) IN :lowerNames")
     List<Tag> findByNameInIgnoreCase(@Param("lowerNames") List<String> lowerNames);
+
+    @Query("SELECT t.id FROM Tag t WHERE LOWER(t.name) IN :lowerNames")
+    List<UUID> findIdsByNameInIgnoreCase(@Param("lowerNames") Collection<String> lowerNames);
 }
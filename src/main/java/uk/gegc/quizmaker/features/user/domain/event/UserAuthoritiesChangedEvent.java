@@ -0,0 +1,38 @@
+package uk.gegc.quizmaker.features.user.domain.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+/**
+ * Published when the roles or permissions that make up users' granted authorities change.
+ * <p>
+ * A {@code null} user ID means the change can affect any user, e.g. a permission added to or
+ * removed from a role. Listeners holding resolved authorities must drop them.
+ * </p>
+ */
+public class UserAuthoritiesChangedEvent extends ApplicationEvent {
+
+    private final UUID userId;
+
+    private UserAuthoritiesChangedEvent(Object source, UUID userId) {
+        super(source);
+        this.userId = userId;
+    }
+
+    public static UserAuthoritiesChangedEvent forUser(Object source, UUID userId) {
+        return new UserAuthoritiesChangedEvent(source, userId);
+    }
+
+    public static UserAuthoritiesChangedEvent forAllUsers(Object source) {
+        return new UserAuthoritiesChangedEvent(source, null);
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public boolean affectsAllUsers() {
+        return userId == null;
+    }
+}
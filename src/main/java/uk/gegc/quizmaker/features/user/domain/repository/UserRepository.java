@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -22,6 +23,9 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByEmail(String email);
 
+    @Query("SELECT u.id FROM User u WHERE LOWER(u.username) = :lowerUsername")
+    List<UUID> findIdsByUsernameIgnoreCase(@Param("lowerUsername") String lowerUsername);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
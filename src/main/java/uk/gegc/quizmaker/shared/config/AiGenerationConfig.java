@@ -0,0 +1,26 @@
+package uk.gegc.quizmaker.shared.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for how chunk questions are requested from the AI provider
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.generation")
+@Data
+public class AiGenerationConfig {
+
+    private CompositeCalls compositeCalls = new CompositeCalls();
+
+    @Data
+    public static class CompositeCalls {
+
+        /**
+         * Ask for every requested type of a chunk in one structured call; per-type calls then only
+         * top up the types that came back short.
+         */
+        private boolean enabled = true;
+    }
+}
@@ -0,0 +1,39 @@
+package uk.gegc.quizmaker.shared.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the structured generation response cache
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.response-cache")
+@Validated
+@Data
+public class AiResponseCacheConfig {
+
+    /**
+     * Serve repeated structured generation requests from the cache. Off by default: cached
+     * answers are reused verbatim, so re-running a generation on the same upload yields the
+     * same questions until the entry expires.
+     */
+    private boolean enabled = false;
+
+    /**
+     * How long a cached response may be served after it was stored
+     */
+    @NotNull
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Upper bound on stored responses; the least recently used entries are evicted beyond it
+     */
+    @Min(value = 1, message = "ai.response-cache.max-entries must be at least 1")
+    private int maxEntries = 10_000;
+}
@@ -97,7 +97,7 @@ public class OpenApiGroupConfig {
         return GroupedOpenApi.builder()
                 .group("seo")
                 .displayName("SEO & Sitemaps")
-                .pathsToMatch("/sitemap.xml", "/sitemap_articles.xml", "/robots.txt")
+                .pathsToMatch("/sitemap*.xml", "/robots.txt")
                 .build();
     }
 
@@ -43,11 +43,9 @@ public final class PublicApiRoutes {
             route(HttpMethod.GET, "/api/v1/categories/**"),
             route(HttpMethod.GET, "/api/v1/questions/schemas"),
             route(HttpMethod.GET, "/api/v1/questions/schemas/**"),
-            route(HttpMethod.GET, "/sitemap.xml"),
-            route(HttpMethod.GET, "/sitemap_articles.xml"),
+            route(HttpMethod.GET, "/sitemap*.xml"),
             route(HttpMethod.GET, "/robots.txt"),
-            route(HttpMethod.HEAD, "/sitemap.xml"),
-            route(HttpMethod.HEAD, "/sitemap_articles.xml"),
+            route(HttpMethod.HEAD, "/sitemap*.xml"),
             route(HttpMethod.HEAD, "/robots.txt"),
             route(HttpMethod.GET, "/v3/api-docs/**"),
             route(HttpMethod.GET, "/swagger-ui/**"),
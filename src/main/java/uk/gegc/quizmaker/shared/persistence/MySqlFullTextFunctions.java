@@ -0,0 +1,27 @@
+package uk.gegc.quizmaker.shared.persistence;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers MySQL full-text relevance as an HQL/criteria function. The column list must match a
+ * FULLTEXT index exactly, so callers pass the indexed columns in index order.
+ * <p>
+ * Usage: {@code match_against(title, description, '+java* +basics*')} renders
+ * {@code MATCH(title, description) AGAINST(? IN BOOLEAN MODE)} and returns the relevance score,
+ * which is {@code 0} for rows that do not match.
+ */
+public class MySqlFullTextFunctions implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1, ?2) against (?3 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gegc.quizmaker.shared.persistence;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a {@link UuidV7} identifier on insert. Use in place of
+ * {@code @GeneratedValue(strategy = GenerationType.UUID)} on write-heavy tables, where random
+ * version 4 keys scatter inserts across the clustered primary key index.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,62 @@
+package uk.gegc.quizmaker.shared.persistence;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562) source.
+ * <p>
+ * The first 48 bits are the Unix epoch millisecond and the next 12 bits a counter, so identifiers
+ * from this JVM sort in creation order and consecutive inserts land on the right-hand edge of a
+ * clustered {@code BINARY(16)} index. The remaining 62 bits are random.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+
+    // Millisecond timestamp and counter of the last identifier, packed as (millis << 12 | counter)
+    private static final AtomicLong LAST_TIMESTAMP = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static UUID generate(long epochMillis) {
+        long timestamp = nextTimestamp(epochMillis);
+        long mostSignificantBits = (timestamp >>> COUNTER_BITS) << 16
+                | 0x7000L
+                | (timestamp & 0xFFFL);
+        long leastSignificantBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Returns the epoch millisecond encoded in a version 7 identifier.
+     */
+    public static long epochMillis(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    /**
+     * Strictly increasing within the JVM: a repeated or earlier millisecond (clock step back)
+     * advances the counter, borrowing from the next millisecond if the counter overflows.
+     */
+    private static long nextTimestamp(long epochMillis) {
+        long candidate = (epochMillis & 0xFFFFFFFFFFFFL) << COUNTER_BITS;
+        while (true) {
+            long last = LAST_TIMESTAMP.get();
+            long next = Math.max(candidate, last + 1);
+            if (LAST_TIMESTAMP.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -1,44 +1,175 @@
 package uk.gegc.quizmaker.shared.rate_limit;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import uk.gegc.quizmaker.shared.exception.RateLimitExceededException;
 
-import java.time.LocalDateTime;
+import java.time.Clock;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Per-key token bucket rate limiter.
+ * <p>
+ * Each {@code operation:key} pair owns a bucket holding up to {@code limitPerMinute} tokens that
+ * refills continuously at {@code limitPerMinute} tokens per minute; a request spends one token. Unlike
+ * a fixed window there is no boundary at which a client can spend two minutes' allowance back to back.
+ * A check is a map lookup plus a short lock on that key's bucket only, so concurrent requests can
+ * never exceed the limit and unrelated keys never contend.
+ * </p>
+ * <p>
+ * A background sweep drops buckets that have refilled to capacity: such a bucket is indistinguishable
+ * from a new one, so eviction never resets a throttled key. Once the number of tracked keys reaches its
+ * cap, requests for keys that are not tracked yet are rejected until the sweep frees room.
+ * </p>
+ */
+@Slf4j
 @Service
 public class RateLimitService {
-    
-    private final Map<String, LocalDateTime> lastRequestTime = new ConcurrentHashMap<>();
-    private final Map<String, Integer> requestCount = new ConcurrentHashMap<>();
-    
+
+    private static final long WINDOW_MILLIS = 60_000L;
+    private static final int DEFAULT_MAX_TRACKED_KEYS = 100_000;
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> allowedCounters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int maxTrackedKeys;
+    private final Clock clock;
+
+    public RateLimitService() {
+        this(null, DEFAULT_MAX_TRACKED_KEYS, Clock.systemUTC());
+    }
+
+    @Autowired
+    public RateLimitService(ObjectProvider<MeterRegistry> meterRegistryProvider,
+                            @Value("${app.rate-limit.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this(meterRegistryProvider.getIfAvailable(), maxTrackedKeys, Clock.systemUTC());
+    }
+
+    public RateLimitService(MeterRegistry meterRegistry, int maxTrackedKeys, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.clock = clock;
+        if (meterRegistry != null) {
+            meterRegistry.gaugeMapSize("rate_limit.tracked_keys", Tags.empty(), buckets);
+        }
+    }
+
     public void checkRateLimit(String operation, String key) {
         checkRateLimit(operation, key, 5);
     }
 
     public void checkRateLimit(String operation, String key, int limitPerMinute) {
         String rateLimitKey = operation + ":" + key;
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneMinuteAgo = now.minusMinutes(1);
-        
-        // Clean up old entries
-        lastRequestTime.entrySet().removeIf(entry -> entry.getValue().isBefore(oneMinuteAgo));
-        requestCount.entrySet().removeIf(entry -> lastRequestTime.get(entry.getKey()) == null);
-        
-        // Check if we have a recent request
-        LocalDateTime firstInWindow = lastRequestTime.get(rateLimitKey);
-        if (firstInWindow != null && firstInWindow.isAfter(oneMinuteAgo)) {
-            int count = requestCount.getOrDefault(rateLimitKey, 0);
-            if (count >= limitPerMinute) {
-                long retryAfter = java.time.Duration.between(now, firstInWindow.plusMinutes(1)).getSeconds();
-                throw new RateLimitExceededException("Too many requests for " + operation, retryAfter);
+        long now = clock.millis();
+
+        while (true) {
+            Bucket bucket = buckets.get(rateLimitKey);
+            if (bucket == null) {
+                if (buckets.mappingCount() >= maxTrackedKeys) {
+                    log.debug("Rate limiter reached its cap of {} keys; rejecting a new {} key",
+                            maxTrackedKeys, operation);
+                    count(rejectedCounters, "rate_limit.rejected", operation);
+                    throw new RateLimitExceededException("Too many requests for " + operation);
+                }
+                bucket = buckets.computeIfAbsent(rateLimitKey, k -> new Bucket(limitPerMinute, now));
+            }
+            synchronized (bucket) {
+                if (bucket.evicted) {
+                    // The sweep dropped this bucket after the lookup; it was full, so start a fresh one
+                    continue;
+                }
+                bucket.refill(limitPerMinute, now);
+                if (bucket.credit < WINDOW_MILLIS) {
+                    reject(operation, bucket.retryAfterSeconds());
+                }
+                bucket.credit -= WINDOW_MILLIS;
             }
-            requestCount.put(rateLimitKey, count + 1);
-        } else {
-            // First request in this window
-            lastRequestTime.put(rateLimitKey, now);
-            requestCount.put(rateLimitKey, 1);
+            count(allowedCounters, "rate_limit.allowed", operation);
+            return;
+        }
+    }
+
+    /**
+     * Remove buckets that have refilled to capacity.
+     *
+     * @return number of buckets removed
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:30000}")
+    public int evictExpired() {
+        long now = clock.millis();
+        int evicted = 0;
+        for (Map.Entry<String, Bucket> entry : buckets.entrySet()) {
+            Bucket bucket = entry.getValue();
+            synchronized (bucket) {
+                bucket.refill(bucket.limitPerMinute, now);
+                if (bucket.isFull() && buckets.remove(entry.getKey(), bucket)) {
+                    bucket.evicted = true;
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    private void reject(String operation, long retryAfterSeconds) {
+        count(rejectedCounters, "rate_limit.rejected", operation);
+        throw new RateLimitExceededException("Too many requests for " + operation, retryAfterSeconds);
+    }
+
+    private void count(ConcurrentHashMap<String, Counter> counters, String name, String operation) {
+        if (meterRegistry == null) {
+            return;
+        }
+        counters.computeIfAbsent(operation, op -> meterRegistry.counter(name, "operation", op)).increment();
+    }
+
+    /**
+     * Token state for one key, guarded by the bucket's own monitor. Tokens are kept as integer credit
+     * where one token is {@code WINDOW_MILLIS} units, so each elapsed millisecond adds exactly
+     * {@code limitPerMinute} units and no rounding accumulates.
+     */
+    private static final class Bucket {
+
+        private int limitPerMinute;
+        private long credit;
+        private long updatedAtMillis;
+        private boolean evicted;
+
+        private Bucket(int limitPerMinute, long now) {
+            this.limitPerMinute = limitPerMinute;
+            this.credit = capacity();
+            this.updatedAtMillis = now;
+        }
+
+        private void refill(int limit, long now) {
+            limitPerMinute = limit;
+            if (now > updatedAtMillis) {
+                credit += (now - updatedAtMillis) * limit;
+                updatedAtMillis = now;
+            }
+            credit = Math.min(credit, capacity());
+        }
+
+        private boolean isFull() {
+            return credit >= capacity();
+        }
+
+        private long retryAfterSeconds() {
+            long missingMillis = (WINDOW_MILLIS - credit + limitPerMinute - 1) / limitPerMinute;
+            return (missingMillis + 999) / 1000;
+        }
+
+        private long capacity() {
+            return limitPerMinute * WINDOW_MILLIS;
         }
     }
 }
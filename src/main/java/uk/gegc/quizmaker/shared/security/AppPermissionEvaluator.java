@@ -10,7 +10,6 @@ import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
 
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,7 +22,8 @@ public class AppPermissionEvaluator {
      * Check if current user has the specified permission
      */
     public boolean hasPermission(PermissionName permission) {
-        return hasPermission(getCurrentUser(), permission);
+        EffectivePermissions effective = currentPermissions();
+        return effective != null && effective.hasPermission(permission);
     }
 
     /**
@@ -48,13 +48,13 @@ public class AppPermissionEvaluator {
      * Check if current user has any of the specified permissions
      */
     public boolean hasAnyPermission(PermissionName... permissions) {
-        User user = getCurrentUser();
-        if (user == null) {
+        EffectivePermissions effective = currentPermissions();
+        if (effective == null) {
             return false;
         }
 
         for (PermissionName permission : permissions) {
-            if (hasPermission(user, permission)) {
+            if (effective.hasPermission(permission)) {
                 return true;
             }
         }
@@ -65,13 +65,13 @@ public class AppPermissionEvaluator {
      * Check if current user has all of the specified permissions
      */
     public boolean hasAllPermissions(PermissionName... permissions) {
-        User user = getCurrentUser();
-        if (user == null) {
+        EffectivePermissions effective = currentPermissions();
+        if (effective == null) {
             return false;
         }
 
         for (PermissionName permission : permissions) {
-            if (!hasPermission(user, permission)) {
+            if (!effective.hasPermission(permission)) {
                 return false;
             }
         }
@@ -82,7 +82,8 @@ public class AppPermissionEvaluator {
      * Check if current user has the specified role
      */
     public boolean hasRole(RoleName roleName) {
-        return hasRole(getCurrentUser(), roleName);
+        EffectivePermissions effective = currentPermissions();
+        return effective != null && effective.hasRole(roleName);
     }
 
     /**
@@ -106,13 +107,13 @@ public class AppPermissionEvaluator {
      * Check if current user has any of the specified roles
      */
     public boolean hasAnyRole(RoleName... roleNames) {
-        User user = getCurrentUser();
-        if (user == null) {
+        EffectivePermissions effective = currentPermissions();
+        if (effective == null) {
             return false;
         }
 
         for (RoleName roleName : roleNames) {
-            if (hasRole(user, roleName)) {
+            if (effective.hasRole(roleName)) {
                 return true;
             }
         }
@@ -123,13 +124,13 @@ public class AppPermissionEvaluator {
      * Check if current user has all of the specified roles
      */
     public boolean hasAllRoles(RoleName... roleNames) {
-        User user = getCurrentUser();
-        if (user == null) {
+        EffectivePermissions effective = currentPermissions();
+        if (effective == null) {
             return false;
         }
 
         for (RoleName roleName : roleNames) {
-            if (!hasRole(user, roleName)) {
+            if (!effective.hasRole(roleName)) {
                 return false;
             }
         }
@@ -140,6 +141,10 @@ public class AppPermissionEvaluator {
      * Check if current user owns the specified resource
      */
     public boolean isResourceOwner(UUID resourceOwnerId) {
+        AuthenticatedUser principal = currentPrincipal();
+        if (principal != null) {
+            return principal.getUserId().equals(resourceOwnerId);
+        }
         User currentUser = getCurrentUser();
         return currentUser != null && currentUser.getId().equals(resourceOwnerId);
     }
@@ -177,39 +182,39 @@ public class AppPermissionEvaluator {
      * Get current user's permissions
      */
     public Set<String> getCurrentUserPermissions() {
-        User user = getCurrentUser();
-        if (user == null) {
-            return Set.of();
-        }
-
-        Set<Role> roles = user.getRoles();
-        if (roles == null || roles.isEmpty()) {
-            return Set.of();
-        }
-
-        return roles.stream()
-                .flatMap(role -> role.getPermissions().stream())
-                .map(Permission::getPermissionName)
-                .collect(Collectors.toSet());
+        EffectivePermissions effective = currentPermissions();
+        return effective == null ? Set.of() : effective.permissionNames();
     }
 
     /**
      * Get current user's roles
      */
     public Set<String> getCurrentUserRoles() {
-        User user = getCurrentUser();
-        if (user == null) {
-            return Set.of();
-        }
+        EffectivePermissions effective = currentPermissions();
+        return effective == null ? Set.of() : effective.roleNames();
+    }
 
-        Set<Role> roles = user.getRoles();
-        if (roles == null || roles.isEmpty()) {
-            return Set.of();
+    /**
+     * Permissions of the current user: taken from the {@link AuthenticatedUser} principal when the
+     * request was authenticated through {@code UserDetailsServiceImpl}, otherwise compiled from a
+     * database lookup. {@code null} when there is no authenticated user.
+     */
+    private EffectivePermissions currentPermissions() {
+        AuthenticatedUser principal = currentPrincipal();
+        if (principal != null) {
+            return principal.getEffectivePermissions();
         }
+        User user = getCurrentUser();
+        return user == null ? null : EffectivePermissions.of(user.getRoles());
+    }
 
-        return roles.stream()
-                .map(Role::getRoleName)
-                .collect(Collectors.toSet());
+    private AuthenticatedUser currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof AuthenticatedUser principal) {
+            return principal;
+        }
+        return null;
     }
 
     /**
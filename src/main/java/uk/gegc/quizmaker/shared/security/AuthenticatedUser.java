@@ -0,0 +1,36 @@
+package uk.gegc.quizmaker.shared.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Authentication principal carrying the user's ID and compiled {@link EffectivePermissions},
+ * so authorization checks during a request need no further database access.
+ */
+public class AuthenticatedUser extends User {
+
+    private final UUID userId;
+    private final EffectivePermissions effectivePermissions;
+
+    public AuthenticatedUser(UUID userId,
+                             String username,
+                             String password,
+                             boolean enabled,
+                             Collection<? extends GrantedAuthority> authorities,
+                             EffectivePermissions effectivePermissions) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.userId = userId;
+        this.effectivePermissions = effectivePermissions;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public EffectivePermissions getEffectivePermissions() {
+        return effectivePermissions;
+    }
+}
@@ -0,0 +1,101 @@
+package uk.gegc.quizmaker.shared.security;
+
+import uk.gegc.quizmaker.features.user.domain.model.Permission;
+import uk.gegc.quizmaker.features.user.domain.model.PermissionName;
+import uk.gegc.quizmaker.features.user.domain.model.Role;
+import uk.gegc.quizmaker.features.user.domain.model.RoleName;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A user's roles and permissions compiled into enum sets, so permission and role checks are
+ * bit tests instead of walks over role/permission entities.
+ * <p>
+ * Names stored in the database that have no enum constant are kept in the string views but can
+ * never satisfy a {@link PermissionName}/{@link RoleName} check.
+ * </p>
+ */
+public final class EffectivePermissions {
+
+    public static final EffectivePermissions NONE = new EffectivePermissions(
+            EnumSet.noneOf(PermissionName.class), EnumSet.noneOf(RoleName.class), Set.of(), Set.of());
+
+    private final EnumSet<PermissionName> permissions;
+    private final EnumSet<RoleName> roles;
+    private final Set<String> permissionNames;
+    private final Set<String> roleNames;
+
+    private EffectivePermissions(EnumSet<PermissionName> permissions, EnumSet<RoleName> roles,
+                                 Set<String> permissionNames, Set<String> roleNames) {
+        this.permissions = permissions;
+        this.roles = roles;
+        this.permissionNames = permissionNames;
+        this.roleNames = roleNames;
+    }
+
+    /**
+     * Compile from loaded role entities; their permissions must already be initialised.
+     */
+    public static EffectivePermissions of(Collection<Role> userRoles) {
+        if (userRoles == null || userRoles.isEmpty()) {
+            return NONE;
+        }
+
+        EnumSet<PermissionName> permissions = EnumSet.noneOf(PermissionName.class);
+        EnumSet<RoleName> roles = EnumSet.noneOf(RoleName.class);
+        Set<String> permissionNames = new HashSet<>();
+        Set<String> roleNames = new HashSet<>();
+
+        for (Role role : userRoles) {
+            if (role.getRoleName() != null) {
+                roleNames.add(role.getRoleName());
+                RoleName roleName = lookup(RoleName.class, role.getRoleName());
+                if (roleName != null) {
+                    roles.add(roleName);
+                }
+            }
+            if (role.getPermissions() == null) {
+                continue;
+            }
+            for (Permission permission : role.getPermissions()) {
+                if (permission.getPermissionName() == null) {
+                    continue;
+                }
+                permissionNames.add(permission.getPermissionName());
+                PermissionName permissionName = lookup(PermissionName.class, permission.getPermissionName());
+                if (permissionName != null) {
+                    permissions.add(permissionName);
+                }
+            }
+        }
+
+        return new EffectivePermissions(permissions, roles, Set.copyOf(permissionNames), Set.copyOf(roleNames));
+    }
+
+    public boolean hasPermission(PermissionName permission) {
+        return permissions.contains(permission);
+    }
+
+    public boolean hasRole(RoleName role) {
+        return roles.contains(role);
+    }
+
+    public Set<String> permissionNames() {
+        return permissionNames;
+    }
+
+    public Set<String> roleNames() {
+        return roleNames;
+    }
+
+    private static <E extends Enum<E>> E lookup(Class<E> type, String name) {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package uk.gegc.quizmaker.shared.seo.api;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gegc.quizmaker.shared.seo.service.SitemapDocument;
 import uk.gegc.quizmaker.shared.seo.service.SitemapService;
 
 @RestController
 @Tag(name = "SEO", description = "Sitemap and robots endpoints")
 public class SitemapController {
 
+    private static final String RETRY_AFTER_SECONDS = "60";
+
     private final SitemapService sitemapService;
 
     public SitemapController(SitemapService sitemapService) {
@@ -23,30 +34,48 @@ public class SitemapController {
 
     @Operation(
             summary = "Get XML sitemap",
-            description = "Returns the XML sitemap for static pages only. For articles, see /sitemap_articles.xml.",
+            description = """
+                    Returns a pre-rendered sitemap. /sitemap_index.xml lists every sitemap file; /sitemap.xml \
+                    holds static pages, /sitemap_articles.xml published articles and /sitemap_quizzes.xml public \
+                    quizzes. A section above 50,000 URLs is served as an index of numbered parts. Responses carry \
+                    ETag and Last-Modified and are gzip-encoded when the client accepts it.""",
             security = {}
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Sitemap XML",
-                    content = @Content(mediaType = "application/xml", schema = @Schema(implementation = String.class)))
+                    content = @Content(mediaType = "application/xml", schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "304", description = "Sitemap unchanged since the conditional request's validator"),
+            @ApiResponse(responseCode = "503", description = "Sitemaps not rendered yet after startup; retry later")
     })
-    @GetMapping(value = "/sitemap.xml", produces = MediaType.APPLICATION_XML_VALUE)
-    public String sitemapXml() {
-        return sitemapService.getSitemapXml();
+    @GetMapping(value = {"/sitemap_index.xml", "/sitemap.xml", "/sitemap_articles.xml", "/sitemap_quizzes.xml"},
+            produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<byte[]> sitemapXml(
+            HttpServletRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        String uri = request.getRequestURI();
+        return serve(uri.substring(uri.lastIndexOf('/') + 1), acceptEncoding);
     }
 
     @Operation(
-            summary = "Get XML article sitemap",
-            description = "Returns the XML sitemap for published articles only.",
+            summary = "Get part of a split XML sitemap",
+            description = "Returns one numbered part of a sitemap section that was split behind an index, e.g. /sitemap_quizzes-2.xml.",
             security = {}
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Article sitemap XML",
-                    content = @Content(mediaType = "application/xml", schema = @Schema(implementation = String.class)))
+            @ApiResponse(responseCode = "200", description = "Sitemap XML",
+                    content = @Content(mediaType = "application/xml", schema = @Schema(implementation = String.class))),
+            @ApiResponse(responseCode = "304", description = "Sitemap unchanged since the conditional request's validator"),
+            @ApiResponse(responseCode = "404", description = "No such sitemap part"),
+            @ApiResponse(responseCode = "503", description = "Sitemaps not rendered yet after startup; retry later")
     })
-    @GetMapping(value = "/sitemap_articles.xml", produces = MediaType.APPLICATION_XML_VALUE)
-    public String sitemapArticlesXml() {
-        return sitemapService.getArticleSitemapXml();
+    @GetMapping(value = "/sitemap{part:[a-z_]*-\\d+}.xml", produces = MediaType.APPLICATION_XML_VALUE)
+    public ResponseEntity<byte[]> sitemapPartXml(
+            @Parameter(description = "Section and part number", example = "_quizzes-2")
+            @PathVariable String part,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        return serve("sitemap" + part + ".xml", acceptEncoding);
     }
 
     @Operation(
@@ -62,4 +91,58 @@ public class SitemapController {
     public String robotsTxt() {
         return sitemapService.getRobotsTxt();
     }
+
+    private ResponseEntity<byte[]> serve(String fileName, String acceptEncoding) {
+        SitemapDocument document = sitemapService.getSitemap(fileName).orElse(null);
+        if (document == null) {
+            if (!sitemapService.isRendered()) {
+                // The first render runs in the background shortly after startup
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build();
+            }
+            return ResponseEntity.notFound().build();
+        }
+        boolean gzipped = acceptsGzip(acceptEncoding);
+        // Spring answers If-None-Match / If-Modified-Since with 304 from these headers
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .eTag(document.eTag(gzipped))
+                .lastModified(document.lastModified())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_XML);
+        if (gzipped) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(document.gzip());
+        }
+        return response.body(document.xml());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (!"gzip".equalsIgnoreCase(name) && !"x-gzip".equalsIgnoreCase(name)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=") && isZeroQuality(parameter.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String quality) {
+        try {
+            return Double.parseDouble(quality.trim()) == 0.0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
 }
@@ -16,6 +16,8 @@ public class SeoProperties {
 
     private Robots robots = new Robots();
 
+    private Sitemap sitemap = new Sitemap();
+
     @Data
     public static class Robots {
         private String userAgent;
@@ -23,6 +25,34 @@ public class SeoProperties {
         private List<String> disallow = new ArrayList<>();
     }
 
+    @Data
+    public static class Sitemap {
+        /**
+         * URLs per sitemap file before a section is split behind an index; capped at the protocol limit of 50,000.
+         */
+        private int maxUrlsPerFile = 50_000;
+
+        /**
+         * Rendered sitemaps are rebuilt at least this often, so changes made on other nodes are picked up.
+         */
+        private long maxAgeMillis = 3_600_000;
+
+        /**
+         * Lists public quizzes in {@code sitemap_quizzes.xml}. Off by default: robots.txt disallows
+         * {@code /quizzes}, so only enable it together with a crawlable {@code quizPath}.
+         */
+        private boolean includeQuizzes = false;
+
+        /**
+         * Frontend path of a public quiz page; {@code {id}} is replaced with the quiz id.
+         */
+        private String quizPath = "/quizzes/{id}";
+
+        private String quizChangefreq = "weekly";
+
+        private Double quizPriority = 0.6;
+    }
+
     @Data
     public static class SitemapEntry {
         private String path;
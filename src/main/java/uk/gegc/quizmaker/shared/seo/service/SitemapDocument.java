@@ -0,0 +1,22 @@
+package uk.gegc.quizmaker.shared.seo.service;
+
+import java.time.Instant;
+
+/**
+ * One pre-rendered sitemap file. The XML is rendered and gzipped once per content change and the
+ * same buffers are handed to every request; callers must not modify them.
+ *
+ * @param xml          UTF-8 encoded sitemap XML
+ * @param gzip         the same XML, gzip-compressed
+ * @param contentHash  hex SHA-256 of {@code xml}
+ * @param lastModified when this content was first rendered, truncated to seconds
+ */
+public record SitemapDocument(byte[] xml, byte[] gzip, String contentHash, Instant lastModified) {
+
+    /**
+     * Strong entity tag for the identity or gzip representation of this document.
+     */
+    public String eTag(boolean gzipped) {
+        return "\"" + contentHash + (gzipped ? "-gzip" : "") + "\"";
+    }
+}
@@ -1,10 +1,20 @@
 package uk.gegc.quizmaker.shared.seo.service;
 
+import java.util.Optional;
+
 public interface SitemapService {
 
-    String getSitemapXml();
+    /**
+     * Returns the pre-rendered sitemap with the given file name, e.g. {@code sitemap_index.xml},
+     * {@code sitemap_articles.xml} or a split part such as {@code sitemap_quizzes-2.xml}.
+     */
+    Optional<SitemapDocument> getSitemap(String fileName);
 
-    String getArticleSitemapXml();
+    /**
+     * Whether the sitemaps have been rendered; until the first background render completes no
+     * sitemap file is available.
+     */
+    boolean isRendered();
 
     String getRobotsTxt();
 }
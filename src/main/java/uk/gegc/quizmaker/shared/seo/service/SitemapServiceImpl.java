@@ -1,58 +1,99 @@
 package uk.gegc.quizmaker.shared.seo.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.util.StringUtils;
 import uk.gegc.quizmaker.features.article.application.ArticleService;
+import uk.gegc.quizmaker.features.article.domain.events.ArticleCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.article.domain.model.ArticleStatus;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
+import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
+import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
 import uk.gegc.quizmaker.shared.seo.config.SeoProperties;
+import uk.gegc.quizmaker.shared.seo.service.SitemapXmlWriter.SitemapIndexEntry;
+import uk.gegc.quizmaker.shared.seo.service.SitemapXmlWriter.SitemapUrl;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Serves sitemaps from pre-rendered, pre-gzipped buffers.
+ * <p>
+ * A scheduled job renders every sitemap file on its first tick at startup, then re-renders them
+ * in the background after an article or quiz change has committed, and at least every
+ * {@code seo.sitemap.max-age-millis} so changes made on other nodes are picked up. Requests never
+ * touch the database. A section with more URLs than fit in one file
+ * is split into numbered parts behind its own index, and {@code sitemap_index.xml} lists every
+ * file that holds URLs. A file whose content did not change keeps its ETag and Last-Modified.
+ * </p>
+ */
 @Service
+@Slf4j
 public class SitemapServiceImpl implements SitemapService {
 
+    static final String INDEX_FILE = "sitemap_index.xml";
+    static final String STATIC_FILE = "sitemap.xml";
+    static final String ARTICLES_FILE = "sitemap_articles.xml";
+    static final String QUIZZES_FILE = "sitemap_quizzes.xml";
+
+    private static final int PROTOCOL_MAX_URLS_PER_FILE = 50_000;
+
     private final ArticleService articleService;
+    private final QuizRepository quizRepository;
     private final SeoProperties seoProperties;
+    private final Clock clock;
     private final String baseUrl;
+    private final Timer renderTimer;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private volatile Map<String, SitemapDocument> documents;
+    private volatile Instant renderedAt;
 
     public SitemapServiceImpl(
             ArticleService articleService,
+            QuizRepository quizRepository,
             SeoProperties seoProperties,
+            @Qualifier("utcClock") Clock utcClock,
+            MeterRegistry meterRegistry,
             @Value("${app.frontend.base-url:http://localhost:3000}") String frontendBaseUrl
     ) {
         this.articleService = articleService;
+        this.quizRepository = quizRepository;
         this.seoProperties = seoProperties;
+        this.clock = utcClock;
         this.baseUrl = normalizeBaseUrl(frontendBaseUrl);
+        this.renderTimer = Timer.builder("seo.sitemap.render")
+                .description("Time spent rendering every sitemap file")
+                .register(meterRegistry);
     }
 
     @Override
-    public String getSitemapXml() {
-        // Main sitemap only includes static pages, not individual articles
-        // Articles are included in /sitemap_articles.xml via getArticleSitemapXml()
-        List<UrlEntry> entries = new ArrayList<>();
-        for (SeoProperties.SitemapEntry entry : safeStaticEntries()) {
-            String loc = toAbsoluteUrl(entry.getPath());
-            entries.add(new UrlEntry(loc, null, entry.getChangefreq(), entry.getPriority()));
-        }
-        return buildUrlSetXml(entries);
+    public Optional<SitemapDocument> getSitemap(String fileName) {
+        Map<String, SitemapDocument> current = documents;
+        return current != null ? Optional.ofNullable(current.get(fileName)) : Optional.empty();
     }
 
     @Override
-    public String getArticleSitemapXml() {
-        List<UrlEntry> entries = articleService.getSitemapEntries(ArticleStatus.PUBLISHED).stream()
-                .map(entry -> new UrlEntry(
-                        toAbsoluteUrl(entry.url()),
-                        entry.updatedAt(),
-                        entry.changefreq(),
-                        entry.priority()
-                ))
-                .toList();
-        return buildUrlSetXml(entries);
+    public boolean isRendered() {
+        return documents != null;
     }
 
     @Override
@@ -81,32 +122,139 @@ public class SitemapServiceImpl implements SitemapService {
         return builder.toString();
     }
 
-    private String buildUrlSetXml(List<UrlEntry> entries) {
-        StringBuilder builder = new StringBuilder();
-        builder.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-        builder.append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
-        for (UrlEntry entry : entries) {
-            builder.append("  <url>\n");
-            appendTag(builder, "loc", entry.loc());
-            if (entry.lastmod() != null) {
-                appendTag(builder, "lastmod", DateTimeFormatter.ISO_INSTANT.format(entry.lastmod()));
-            }
-            if (StringUtils.hasText(entry.changefreq())) {
-                appendTag(builder, "changefreq", entry.changefreq());
-            }
-            if (entry.priority() != null) {
-                appendTag(builder, "priority", formatPriority(entry.priority()));
-            }
-            builder.append("  </url>\n");
+    /**
+     * Renders the sitemaps on the first tick, then re-renders them once content changed or the
+     * rendered files reached their maximum age. A failed first render is retried on the next tick.
+     */
+    @Scheduled(fixedDelayString = "${seo.sitemap.refresh-interval-millis:60000}")
+    public void refreshIfStale() {
+        Instant lastRender = renderedAt;
+        boolean expired = lastRender == null
+                || !lastRender.plusMillis(seoProperties.getSitemap().getMaxAgeMillis()).isAfter(clock.instant());
+        if (!stale.get() && !expired) {
+            return;
         }
-        builder.append("</urlset>\n");
-        return builder.toString();
+        try {
+            render();
+        } catch (RuntimeException e) {
+            stale.set(true);
+            log.warn("Failed to render sitemaps; serving the previous render, if any: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQuizCatalogueChanged(QuizCatalogueChangedEvent event) {
+        stale.set(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArticleCatalogueChanged(ArticleCatalogueChangedEvent event) {
+        stale.set(true);
+    }
+
+    synchronized Map<String, SitemapDocument> render() {
+        // Changes committed from here on mark the next render
+        stale.set(false);
+        Map<String, SitemapDocument> rendered = renderTimer.record(this::renderAll);
+        documents = rendered;
+        renderedAt = clock.instant();
+        return rendered;
+    }
+
+    private Map<String, SitemapDocument> renderAll() {
+        Map<String, SitemapDocument> previous = documents != null ? documents : Map.of();
+        Instant now = clock.instant().truncatedTo(ChronoUnit.SECONDS);
+        Map<String, SitemapDocument> rendered = new LinkedHashMap<>();
+        List<String> urlSetFiles = new ArrayList<>();
+
+        renderSection(STATIC_FILE, staticUrls(), previous, rendered, urlSetFiles, now);
+        renderSection(ARTICLES_FILE, articleUrls(), previous, rendered, urlSetFiles, now);
+        if (seoProperties.getSitemap().isIncludeQuizzes()) {
+            renderSection(QUIZZES_FILE, quizUrls(), previous, rendered, urlSetFiles, now);
+        }
+
+        List<SitemapIndexEntry> index = urlSetFiles.stream()
+                .map(fileName -> new SitemapIndexEntry(toAbsoluteUrl(fileName), rendered.get(fileName).lastModified()))
+                .toList();
+        store(INDEX_FILE, SitemapXmlWriter.sitemapIndex(index), previous, rendered, now);
+        return Collections.unmodifiableMap(rendered);
     }
 
-    private void appendTag(StringBuilder builder, String name, String value) {
-        builder.append("    <").append(name).append(">")
-                .append(escapeXml(value))
-                .append("</").append(name).append(">\n");
+    private void renderSection(
+            String fileName,
+            List<SitemapUrl> urls,
+            Map<String, SitemapDocument> previous,
+            Map<String, SitemapDocument> rendered,
+            List<String> urlSetFiles,
+            Instant now
+    ) {
+        int maxUrls = maxUrlsPerFile();
+        if (urls.size() <= maxUrls) {
+            store(fileName, SitemapXmlWriter.urlSet(urls), previous, rendered, now);
+            urlSetFiles.add(fileName);
+            return;
+        }
+        String stem = fileName.substring(0, fileName.length() - ".xml".length());
+        List<SitemapIndexEntry> parts = new ArrayList<>();
+        for (int from = 0, part = 1; from < urls.size(); from += maxUrls, part++) {
+            String partName = stem + "-" + part + ".xml";
+            List<SitemapUrl> slice = urls.subList(from, Math.min(from + maxUrls, urls.size()));
+            SitemapDocument document = store(partName, SitemapXmlWriter.urlSet(slice), previous, rendered, now);
+            parts.add(new SitemapIndexEntry(toAbsoluteUrl(partName), document.lastModified()));
+            urlSetFiles.add(partName);
+        }
+        // Keeps the section's own URL valid for crawlers that were given it directly
+        store(fileName, SitemapXmlWriter.sitemapIndex(parts), previous, rendered, now);
+    }
+
+    private SitemapDocument store(
+            String fileName,
+            byte[] xml,
+            Map<String, SitemapDocument> previous,
+            Map<String, SitemapDocument> rendered,
+            Instant now
+    ) {
+        String contentHash = sha256Hex(xml);
+        SitemapDocument unchanged = previous.get(fileName);
+        SitemapDocument document = unchanged != null && unchanged.contentHash().equals(contentHash)
+                ? unchanged
+                : new SitemapDocument(xml, SitemapXmlWriter.gzip(xml), contentHash, now);
+        rendered.put(fileName, document);
+        return document;
+    }
+
+    private List<SitemapUrl> staticUrls() {
+        return safeStaticEntries().stream()
+                .map(entry -> new SitemapUrl(toAbsoluteUrl(entry.getPath()), null, entry.getChangefreq(), entry.getPriority()))
+                .toList();
+    }
+
+    private List<SitemapUrl> articleUrls() {
+        return articleService.getSitemapEntries(ArticleStatus.PUBLISHED).stream()
+                .map(entry -> new SitemapUrl(
+                        toAbsoluteUrl(entry.url()),
+                        entry.updatedAt(),
+                        entry.changefreq(),
+                        entry.priority()
+                ))
+                .toList();
+    }
+
+    private List<SitemapUrl> quizUrls() {
+        SeoProperties.Sitemap sitemap = seoProperties.getSitemap();
+        return quizRepository.findSitemapEntries(Visibility.PUBLIC, QuizStatus.PUBLISHED).stream()
+                .map(quiz -> new SitemapUrl(
+                        toAbsoluteUrl(sitemap.getQuizPath().replace("{id}", quiz.getId().toString())),
+                        quiz.getUpdatedAt(),
+                        sitemap.getQuizChangefreq(),
+                        sitemap.getQuizPriority()
+                ))
+                .toList();
+    }
+
+    private int maxUrlsPerFile() {
+        int configured = seoProperties.getSitemap().getMaxUrlsPerFile();
+        return Math.max(1, Math.min(configured, PROTOCOL_MAX_URLS_PER_FILE));
     }
 
     private String toAbsoluteUrl(String url) {
@@ -140,23 +288,11 @@ public class SitemapServiceImpl implements SitemapService {
         return candidate;
     }
 
-    private String formatPriority(Double priority) {
-        return String.format(Locale.US, "%.1f", priority);
-    }
-
-    private String escapeXml(String value) {
-        if (value == null) {
-            return "";
+    private static String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
-        String escaped = value;
-        escaped = escaped.replace("&", "&amp;");
-        escaped = escaped.replace("<", "&lt;");
-        escaped = escaped.replace(">", "&gt;");
-        escaped = escaped.replace("\"", "&quot;");
-        escaped = escaped.replace("'", "&apos;");
-        return escaped;
-    }
-
-    private record UrlEntry(String loc, Instant lastmod, String changefreq, Double priority) {
     }
 }
@@ -0,0 +1,121 @@
+package uk.gegc.quizmaker.shared.seo.service;
+
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes sitemap {@code urlset} and {@code sitemapindex} documents straight into byte buffers.
+ */
+final class SitemapXmlWriter {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+    private static final String SITEMAP_NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+    private static final int ESTIMATED_BYTES_PER_ENTRY = 160;
+
+    private SitemapXmlWriter() {
+    }
+
+    static byte[] urlSet(List<SitemapUrl> urls) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(estimateSize(urls.size()));
+        try (Writer writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8)) {
+            writer.write(XML_DECLARATION);
+            writer.write("<urlset xmlns=\"" + SITEMAP_NAMESPACE + "\">\n");
+            for (SitemapUrl url : urls) {
+                writer.write("  <url>\n");
+                writeTag(writer, "loc", url.loc());
+                if (url.lastmod() != null) {
+                    writeTag(writer, "lastmod", DateTimeFormatter.ISO_INSTANT.format(url.lastmod()));
+                }
+                if (StringUtils.hasText(url.changefreq())) {
+                    writeTag(writer, "changefreq", url.changefreq());
+                }
+                if (url.priority() != null) {
+                    writeTag(writer, "priority", String.format(Locale.US, "%.1f", url.priority()));
+                }
+                writer.write("  </url>\n");
+            }
+            writer.write("</urlset>\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static byte[] sitemapIndex(List<SitemapIndexEntry> sitemaps) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(estimateSize(sitemaps.size()));
+        try (Writer writer = new OutputStreamWriter(buffer, StandardCharsets.UTF_8)) {
+            writer.write(XML_DECLARATION);
+            writer.write("<sitemapindex xmlns=\"" + SITEMAP_NAMESPACE + "\">\n");
+            for (SitemapIndexEntry sitemap : sitemaps) {
+                writer.write("  <sitemap>\n");
+                writeTag(writer, "loc", sitemap.loc());
+                if (sitemap.lastmod() != null) {
+                    writeTag(writer, "lastmod", DateTimeFormatter.ISO_INSTANT.format(sitemap.lastmod()));
+                }
+                writer.write("  </sitemap>\n");
+            }
+            writer.write("</sitemapindex>\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(512, content.length / 8));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void writeTag(Writer writer, String name, String value) throws IOException {
+        writer.write("    <");
+        writer.write(name);
+        writer.write(">");
+        writeEscaped(writer, value);
+        writer.write("</");
+        writer.write(name);
+        writer.write(">\n");
+    }
+
+    private static void writeEscaped(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '"' -> writer.write("&quot;");
+                case '\'' -> writer.write("&apos;");
+                default -> writer.write(c);
+            }
+        }
+    }
+
+    private static int estimateSize(int entries) {
+        return 128 + entries * ESTIMATED_BYTES_PER_ENTRY;
+    }
+
+    record SitemapUrl(String loc, Instant lastmod, String changefreq, Double priority) {
+    }
+
+    record SitemapIndexEntry(String loc, Instant lastmod) {
+    }
+}
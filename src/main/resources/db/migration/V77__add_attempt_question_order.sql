@@ -0,0 +1,6 @@
+-- Question order frozen when an attempt starts: 16-byte question ids concatenated
+-- in presentation order, plus a cursor counting how many of them were answered.
+-- Attempts started before this migration keep a NULL order and use the live quiz order.
+ALTER TABLE attempts
+    ADD COLUMN question_order MEDIUMBLOB NULL,
+    ADD COLUMN question_cursor INT NOT NULL DEFAULT 0;
@@ -0,0 +1,9 @@
+-- Running totals for incremental analytics snapshot maintenance
+ALTER TABLE quiz_analytics_snapshot
+    ADD COLUMN score_sum     DOUBLE NOT NULL DEFAULT 0,
+    ADD COLUMN passing_count BIGINT NOT NULL DEFAULT 0;
+
+-- Backfill from the derived values of existing snapshots; the nightly repair job corrects rounding
+UPDATE quiz_analytics_snapshot
+SET score_sum     = average_score * attempts_count,
+    passing_count = ROUND(pass_rate * attempts_count / 100);
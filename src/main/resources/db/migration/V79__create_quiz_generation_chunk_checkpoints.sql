@@ -0,0 +1,39 @@
+-- Per-chunk generated questions for jobs that are still running. Rows are
+-- written as each chunk completes so a re-dispatched job can skip chunks it
+-- already generated; they are deleted once the full output checkpoint exists.
+SET @quiz_generation_jobs_exists := (
+    SELECT COUNT(*)
+    FROM information_schema.tables
+    WHERE table_schema = DATABASE()
+      AND table_name = 'quiz_generation_jobs'
+);
+
+SET @chunk_checkpoints_exist := (
+    SELECT COUNT(*)
+    FROM information_schema.tables
+    WHERE table_schema = DATABASE()
+      AND table_name = 'quiz_generation_chunk_checkpoints'
+);
+
+SET @create_chunk_checkpoints_sql := IF(
+    @quiz_generation_jobs_exists = 1 AND @chunk_checkpoints_exist = 0,
+    'CREATE TABLE quiz_generation_chunk_checkpoints (
+        job_id BINARY(16) NOT NULL,
+        chunk_index INT NOT NULL,
+        schema_version SMALLINT NOT NULL,
+        payload MEDIUMTEXT NOT NULL,
+        question_count INT NOT NULL,
+        created_at TIMESTAMP(6) NOT NULL,
+        PRIMARY KEY (job_id, chunk_index),
+        CONSTRAINT fk_qgcc_job FOREIGN KEY (job_id)
+            REFERENCES quiz_generation_jobs(id) ON DELETE CASCADE,
+        CONSTRAINT chk_qgcc_chunk_index CHECK (chunk_index >= 0),
+        CONSTRAINT chk_qgcc_schema_version CHECK (schema_version > 0),
+        CONSTRAINT chk_qgcc_question_count CHECK (question_count > 0)
+    ) ENGINE=InnoDB',
+    'SELECT 1'
+);
+
+PREPARE create_chunk_checkpoints_statement FROM @create_chunk_checkpoints_sql;
+EXECUTE create_chunk_checkpoints_statement;
+DEALLOCATE PREPARE create_chunk_checkpoints_statement;
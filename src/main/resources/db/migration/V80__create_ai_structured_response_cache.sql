@@ -0,0 +1,15 @@
+-- Validated structured generation responses, keyed by a SHA-256 digest of every
+-- input that shapes the provider answer. Rows expire after the configured TTL and
+-- the least recently used rows are evicted once the configured entry bound is hit.
+CREATE TABLE IF NOT EXISTS ai_structured_response_cache (
+    cache_key CHAR(64) NOT NULL,
+    payload MEDIUMTEXT NOT NULL,
+    question_count INT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    last_accessed_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (cache_key),
+    INDEX idx_asrc_expires_at (expires_at),
+    INDEX idx_asrc_last_accessed_at (last_accessed_at),
+    CONSTRAINT chk_asrc_question_count CHECK (question_count > 0)
+) ENGINE=InnoDB;
@@ -0,0 +1,18 @@
+-- Normalized text split into bounded segments so slices read only the segments they overlap.
+-- Offsets are Java char offsets, matching document_nodes.start_offset/end_offset.
+
+CREATE TABLE `normalized_document_text_segments` (
+  `document_id` BINARY(16) NOT NULL,
+  `segment_index` INT NOT NULL,
+  `start_offset` INT NOT NULL,
+  `end_offset` INT NOT NULL,
+  `content` MEDIUMTEXT NOT NULL,
+  PRIMARY KEY (`document_id`, `segment_index`),
+  KEY `ix_text_segments_range` (`document_id`, `start_offset`),
+  CONSTRAINT `fk_text_segments_document`
+    FOREIGN KEY (`document_id`) REFERENCES `normalized_documents`(`id`) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+-- NULL marks documents normalized before segmentation; they are sliced from normalized_text.
+ALTER TABLE `normalized_documents`
+  ADD COLUMN `text_segment_count` INT NULL AFTER `char_count`;
@@ -0,0 +1,24 @@
+-- Per-link, per-day event counters maintained as buffered analytics events are flushed.
+-- Summaries read these instead of scanning share_link_analytics; quiz_id is copied from the
+-- share link so quiz date-range summaries need no join.
+
+CREATE TABLE `share_link_daily_event_counts` (
+  `share_link_id` BINARY(16) NOT NULL,
+  `date_bucket` VARCHAR(10) NOT NULL,
+  `event_type` VARCHAR(30) NOT NULL,
+  `quiz_id` BINARY(16) NOT NULL,
+  `event_count` BIGINT NOT NULL,
+  PRIMARY KEY (`share_link_id`, `date_bucket`, `event_type`),
+  KEY `ix_sldec_quiz_date` (`quiz_id`, `date_bucket`),
+  CONSTRAINT `fk_sldec_share_link`
+    FOREIGN KEY (`share_link_id`) REFERENCES `share_links`(`id`) ON DELETE CASCADE
+) ENGINE=InnoDB;
+
+INSERT INTO `share_link_daily_event_counts` (`share_link_id`, `date_bucket`, `event_type`, `quiz_id`, `event_count`)
+SELECT sa.share_link_id, sa.date_bucket, sa.event_type, sl.quiz_id, COUNT(*)
+FROM share_link_analytics sa
+JOIN share_links sl ON sl.id = sa.share_link_id
+GROUP BY sa.share_link_id, sa.date_bucket, sa.event_type, sl.quiz_id;
+
+-- Unique visitor counts stay on the raw events; this index covers them per link and date range.
+CREATE INDEX `ix_sla_link_date_ip` ON `share_link_analytics` (`share_link_id`, `date_bucket`, `ip_hash`);
@@ -0,0 +1,5 @@
+-- Full-text index for ranked quiz search: MATCH(title, description) AGAINST (... IN BOOLEAN MODE).
+ALTER TABLE `quizzes` ADD FULLTEXT INDEX `ft_quizzes_title_description` (`title`, `description`);
+
+-- Public catalogue filter plus the newest-first order used to break relevance ties and page by cursor.
+CREATE INDEX `idx_quizzes_visibility_status_created` ON `quizzes` (`visibility`, `status`, `is_deleted`, `created_at`);
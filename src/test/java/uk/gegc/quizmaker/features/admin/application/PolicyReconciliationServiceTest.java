@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.features.admin.aplication.PermissionService;
 import uk.gegc.quizmaker.features.admin.application.impl.PolicyReconciliationServiceImpl;
 import uk.gegc.quizmaker.features.user.domain.model.Permission;
@@ -44,6 +45,9 @@ class PolicyReconciliationServiceTest {
     @Mock
     private XssSanitizer xssSanitizer;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PolicyReconciliationServiceImpl policyReconciliationService;
 
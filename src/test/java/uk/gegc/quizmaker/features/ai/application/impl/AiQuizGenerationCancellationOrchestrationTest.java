@@ -35,6 +35,8 @@ import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.features.quiz.api.dto.GenerateQuizFromDocumentRequest;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizScope;
 import uk.gegc.quizmaker.features.quiz.application.generation.ProviderUsageService;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCancellationRegistry;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCoverageException;
 import uk.gegc.quizmaker.features.quiz.domain.events.QuizGenerationCompletedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.events.QuizGenerationCoverageReconciledEvent;
@@ -45,10 +47,12 @@ import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationJob;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationJobRepository;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
+import uk.gegc.quizmaker.shared.config.AiGenerationConfig;
 import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
 import uk.gegc.quizmaker.shared.exception.AiServiceException;
 import uk.gegc.quizmaker.shared.testing.DirectAiProviderTaskScheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -121,7 +125,10 @@ class AiQuizGenerationCancellationOrchestrationTest {
                 new QuestionContentShuffler(objectMapper),
                 questionContentValidationService,
                 providerUsageService,
-                DirectAiProviderTaskScheduler.INSTANCE
+                DirectAiProviderTaskScheduler.INSTANCE,
+                mock(QuizGenerationCheckpointService.class),
+                new QuizGenerationCancellationRegistry(jobRepository, Duration.ZERO),
+                perTypeCallsOnly()
         ));
 
         lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
@@ -461,6 +468,15 @@ class AiQuizGenerationCancellationOrchestrationTest {
         verify(internalBillingService, never()).release(any(), anyString(), anyString(), anyString());
     }
 
+    /**
+     * These scenarios follow the per-type fallback path, so multi-type chunks skip the composite call.
+     */
+    private static AiGenerationConfig perTypeCallsOnly() {
+        AiGenerationConfig config = new AiGenerationConfig();
+        config.getCompositeCalls().setEnabled(false);
+        return config;
+    }
+
     private Fixture fixture(Map<QuestionType, Integer> questionsPerType) {
         UUID jobId = UUID.randomUUID();
         UUID documentId = UUID.randomUUID();
@@ -524,6 +540,7 @@ class AiQuizGenerationCancellationOrchestrationTest {
         );
 
         lenient().when(jobRepository.findById(jobId)).thenAnswer(invocation -> Optional.of(job));
+        lenient().when(jobRepository.findStatusById(jobId)).thenAnswer(invocation -> Optional.of(job.getStatus()));
         lenient().when(documentRepository.findByIdWithChunksAndUser(documentId))
                 .thenReturn(Optional.of(document));
         lenient().when(internalBillingService.renewReservationLease(
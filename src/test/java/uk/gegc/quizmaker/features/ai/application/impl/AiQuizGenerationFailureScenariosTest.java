@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -35,6 +37,8 @@ import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.features.quiz.api.dto.GenerateQuizFromDocumentRequest;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizScope;
 import uk.gegc.quizmaker.features.quiz.application.generation.ProviderUsageService;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCancellationRegistry;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
 import uk.gegc.quizmaker.features.quiz.domain.events.QuizGenerationCompletedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.events.QuizGenerationCoverageReconciledEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.GenerationCoverageOutcome;
@@ -43,11 +47,13 @@ import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationJob;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationJobRepository;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
+import uk.gegc.quizmaker.shared.config.AiGenerationConfig;
 import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
 import uk.gegc.quizmaker.shared.exception.AIResponseParseException;
 import uk.gegc.quizmaker.shared.exception.AiServiceException;
 import uk.gegc.quizmaker.shared.testing.DirectAiProviderTaskScheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -93,6 +99,8 @@ class AiQuizGenerationFailureScenariosTest {
     private QuestionContentValidationService questionContentValidationService;
     @Mock
     private ProviderUsageService providerUsageService;
+    @Mock
+    private QuizGenerationCheckpointService checkpointService;
 
     private AiQuizGenerationServiceImpl service;
 
@@ -116,7 +124,10 @@ class AiQuizGenerationFailureScenariosTest {
                 new uk.gegc.quizmaker.features.question.application.QuestionContentShuffler(objectMapper),
                 questionContentValidationService,
                 providerUsageService,
-                DirectAiProviderTaskScheduler.INSTANCE
+                DirectAiProviderTaskScheduler.INSTANCE,
+                checkpointService,
+                new QuizGenerationCancellationRegistry(jobRepository, Duration.ZERO),
+                new AiGenerationConfig()
         ));
         lenient().when(transactionTemplate.execute(any()))
                 .thenAnswer(invocation -> {
@@ -522,6 +533,101 @@ class AiQuizGenerationFailureScenariosTest {
                 eq(fixture.reservationId()), anyString(), anyString(), anyString());
     }
 
+    @Test
+    @Timeout(5)
+    @DisplayName("Chunk results are consumed and checkpointed in completion order")
+    void chunkResultsAreConsumedInCompletionOrder() {
+        Fixture fixture = prepareFixture(5, 2);
+        UUID jobId = fixture.job().getId();
+        CompletableFuture<List<Question>> slowFirstChunk = new CompletableFuture<>();
+        doAnswer(invocation -> {
+            DocumentChunk chunk = invocation.getArgument(0);
+            return chunk.getChunkIndex() == 0
+                    ? slowFirstChunk
+                    : CompletableFuture.completedFuture(questions(
+                            5, QuestionType.MCQ_SINGLE, Difficulty.MEDIUM, "chunk-1-"));
+        })
+                .when(service)
+                .generateQuestionsFromChunkWithJob(
+                        any(DocumentChunk.class), anyMap(), eq(Difficulty.MEDIUM), eq(jobId), eq("en"));
+        // Chunk 0 only finishes once chunk 1 has been consumed; index-order collection would never get here
+        doAnswer(invocation -> {
+            slowFirstChunk.complete(questions(5, QuestionType.MCQ_SINGLE, Difficulty.MEDIUM, "chunk-0-"));
+            return null;
+        }).when(checkpointService).saveChunk(eq(jobId), eq(1), anyList());
+
+        service.generateQuizFromDocumentAsync(fixture.job(), fixture.request());
+
+        InOrder inOrder = inOrder(checkpointService);
+        inOrder.verify(checkpointService).saveChunk(eq(jobId), eq(1), anyList());
+        inOrder.verify(checkpointService).saveChunk(eq(jobId), eq(0), anyList());
+        verify(service).updateJobChunkProgressSafely(jobId, 1, "Processing chunk 1/2");
+        verify(service).updateJobChunkProgressSafely(jobId, 2, "Processing chunk 2/2");
+        ArgumentCaptor<ApplicationEvent> eventCaptor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        QuizGenerationCompletedEvent completedEvent =
+                (QuizGenerationCompletedEvent) eventCaptor.getAllValues().get(1);
+        assertThat(completedEvent.getChunkQuestions()).containsOnlyKeys(0, 1);
+        assertThat(completedEvent.getAllQuestions()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Checkpointed chunks from an earlier run are reused instead of regenerated")
+    void checkpointedChunksAreNotRegenerated() {
+        Fixture fixture = prepareFixture(5, 2);
+        UUID jobId = fixture.job().getId();
+        when(checkpointService.findChunks(jobId)).thenReturn(Map.of(
+                0, questions(5, QuestionType.MCQ_SINGLE, Difficulty.MEDIUM, "chunk-0-")));
+        doReturn(CompletableFuture.completedFuture(questions(
+                5, QuestionType.MCQ_SINGLE, Difficulty.MEDIUM, "chunk-1-")))
+                .when(service)
+                .generateQuestionsFromChunkWithJob(
+                        any(DocumentChunk.class), anyMap(), eq(Difficulty.MEDIUM), eq(jobId), eq("en"));
+
+        service.generateQuizFromDocumentAsync(fixture.job(), fixture.request());
+
+        verify(service, times(1)).generateQuestionsFromChunkWithJob(
+                argThat(chunk -> chunk.getChunkIndex() == 1), anyMap(), eq(Difficulty.MEDIUM), eq(jobId), eq("en"));
+        verify(service, never()).generateQuestionsFromChunkWithJob(
+                argThat(chunk -> chunk.getChunkIndex() == 0), anyMap(), any(), any(), any());
+        verify(checkpointService, never()).saveChunk(eq(jobId), eq(0), anyList());
+        verify(checkpointService).saveChunk(eq(jobId), eq(1), anyList());
+        ArgumentCaptor<ApplicationEvent> eventCaptor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        QuizGenerationCompletedEvent completedEvent =
+                (QuizGenerationCompletedEvent) eventCaptor.getAllValues().get(1);
+        assertThat(completedEvent.getAllQuestions())
+                .extracting(Question::getQuestionText)
+                .anyMatch(text -> text.startsWith("chunk-0-"))
+                .anyMatch(text -> text.startsWith("chunk-1-"));
+    }
+
+    @Test
+    @DisplayName("A job whose chunks were all checkpointed resumes without calling the provider")
+    void fullyCheckpointedJobResumesWithoutRegenerating() {
+        Fixture fixture = prepareFixture(5, 2);
+        UUID jobId = fixture.job().getId();
+        when(checkpointService.findChunks(jobId)).thenReturn(Map.of(
+                0, questions(5, QuestionType.MCQ_SINGLE, Difficulty.MEDIUM, "chunk-0-"),
+                1, questions(5, QuestionType.MCQ_SINGLE, Difficulty.MEDIUM, "chunk-1-"),
+                // Left over from a differently chunked run; outside the current chunk range
+                7, questions(5, QuestionType.MCQ_SINGLE, Difficulty.MEDIUM, "stale-")));
+
+        service.generateQuizFromDocumentAsync(fixture.job(), fixture.request());
+
+        verify(service, never()).generateQuestionsFromChunkWithJob(any(), anyMap(), any(), any(), any());
+        verify(checkpointService, never()).saveChunk(any(), anyInt(), anyList());
+        verify(service).updateJobChunkProgressSafely(jobId, 2, "Resumed 2/2 checkpointed chunks");
+        ArgumentCaptor<ApplicationEvent> eventCaptor = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        QuizGenerationCompletedEvent completedEvent =
+                (QuizGenerationCompletedEvent) eventCaptor.getAllValues().get(1);
+        assertThat(completedEvent.getChunkQuestions()).containsOnlyKeys(0, 1);
+        assertThat(completedEvent.getAllQuestions())
+                .extracting(Question::getQuestionText)
+                .noneMatch(text -> text.startsWith("stale-"));
+    }
+
     private Fixture prepareFixture() {
         return prepareFixture(2);
     }
@@ -599,6 +705,7 @@ class AiQuizGenerationFailureScenariosTest {
 
         when(jobRepository.findAll()).thenReturn(List.of(job));
         when(jobRepository.findById(eq(jobId))).thenAnswer(invocation -> Optional.of(job));
+        lenient().when(jobRepository.findStatusById(eq(jobId))).thenAnswer(invocation -> Optional.of(job.getStatus()));
         when(jobRepository.save(any())).thenAnswer(invocation -> (QuizGenerationJob) invocation.getArgument(0));
         when(documentRepository.findByIdWithChunksAndUser(eq(documentId))).thenReturn(Optional.of(document));
         when(internalBillingService.renewReservationLease(user.getId(), reservationId, jobId))
@@ -28,6 +28,8 @@ import uk.gegc.quizmaker.features.question.infra.handler.McqSingleHandler;
 import uk.gegc.quizmaker.features.question.infra.handler.OpenQuestionHandler;
 import uk.gegc.quizmaker.features.question.infra.handler.OrderingHandler;
 import uk.gegc.quizmaker.features.question.infra.handler.TrueFalseHandler;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
+import uk.gegc.quizmaker.shared.config.AiGenerationConfig;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -347,7 +349,10 @@ class AiQuizGenerationRuntimeContentValidationTest {
                 shuffler,
                 validator,
                 null,
-                DirectAiProviderTaskScheduler.INSTANCE
+                DirectAiProviderTaskScheduler.INSTANCE,
+                mock(QuizGenerationCheckpointService.class),
+                null,
+                new AiGenerationConfig()
         );
     }
 
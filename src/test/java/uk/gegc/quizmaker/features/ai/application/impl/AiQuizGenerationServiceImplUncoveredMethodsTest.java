@@ -24,17 +24,21 @@ import uk.gegc.quizmaker.features.document.domain.repository.DocumentRepository;
 import uk.gegc.quizmaker.features.question.application.QuestionContentValidationService;
 import uk.gegc.quizmaker.features.quiz.api.dto.GenerateQuizFromDocumentRequest;
 import uk.gegc.quizmaker.features.quiz.application.generation.ProviderUsageService;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCancellationRegistry;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationJobRepository;
 import uk.gegc.quizmaker.features.quiz.domain.model.GenerationStatus;
 import uk.gegc.quizmaker.features.quiz.domain.model.BillingState;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationJob;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
 import uk.gegc.quizmaker.features.user.domain.model.User;
+import uk.gegc.quizmaker.shared.config.AiGenerationConfig;
 import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
 import uk.gegc.quizmaker.shared.exception.AiServiceException;
 import uk.gegc.quizmaker.shared.exception.ResourceNotFoundException;
 import uk.gegc.quizmaker.shared.testing.DirectAiProviderTaskScheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -119,7 +123,10 @@ class AiQuizGenerationServiceImplUncoveredMethodsTest {
                     new uk.gegc.quizmaker.features.question.application.QuestionContentShuffler(objectMapper),
                     questionContentValidationService,
                     providerUsageService,
-                    DirectAiProviderTaskScheduler.INSTANCE);
+                    DirectAiProviderTaskScheduler.INSTANCE,
+                    mock(QuizGenerationCheckpointService.class),
+                    new QuizGenerationCancellationRegistry(jobRepository, Duration.ZERO),
+                    new AiGenerationConfig());
         }
 
         @Override
@@ -321,7 +328,10 @@ class AiQuizGenerationServiceImplUncoveredMethodsTest {
                     new uk.gegc.quizmaker.features.question.application.QuestionContentShuffler(objectMapper),
                     questionContentValidationService,
                     providerUsageService,
-                    DirectAiProviderTaskScheduler.INSTANCE);
+                    DirectAiProviderTaskScheduler.INSTANCE,
+                    mock(QuizGenerationCheckpointService.class),
+                    new QuizGenerationCancellationRegistry(jobRepository, Duration.ZERO),
+                    new AiGenerationConfig());
             
             Thread.currentThread().interrupt(); // Interrupt current thread
 
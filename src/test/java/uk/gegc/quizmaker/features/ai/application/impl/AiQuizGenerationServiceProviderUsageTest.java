@@ -21,12 +21,16 @@ import uk.gegc.quizmaker.features.question.application.QuestionContentShuffler;
 import uk.gegc.quizmaker.features.question.application.QuestionContentValidationService;
 import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCancellationRegistry;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
 import uk.gegc.quizmaker.features.quiz.application.generation.ProviderUsageService;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationJobRepository;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
+import uk.gegc.quizmaker.shared.config.AiGenerationConfig;
 import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
 import uk.gegc.quizmaker.shared.testing.DirectAiProviderTaskScheduler;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletionException;
@@ -57,6 +61,7 @@ class AiQuizGenerationServiceProviderUsageTest {
     @Mock private QuestionContentShuffler questionContentShuffler;
     @Mock private QuestionContentValidationService questionContentValidationService;
     @Mock private ProviderUsageService providerUsageService;
+    @Mock private QuizGenerationCheckpointService checkpointService;
 
     private AiQuizGenerationServiceImpl service;
 
@@ -78,7 +83,10 @@ class AiQuizGenerationServiceProviderUsageTest {
                 questionContentShuffler,
                 questionContentValidationService,
                 providerUsageService,
-                DirectAiProviderTaskScheduler.INSTANCE
+                DirectAiProviderTaskScheduler.INSTANCE,
+                checkpointService,
+                new QuizGenerationCancellationRegistry(jobRepository, Duration.ZERO),
+                new AiGenerationConfig()
         );
     }
 
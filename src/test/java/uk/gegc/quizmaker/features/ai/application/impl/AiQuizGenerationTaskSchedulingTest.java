@@ -19,7 +19,11 @@ import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.features.question.infra.factory.QuestionHandlerFactory;
 import uk.gegc.quizmaker.features.question.infra.handler.McqSingleHandler;
+import uk.gegc.quizmaker.features.question.infra.handler.TrueFalseHandler;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
+import uk.gegc.quizmaker.shared.config.AiGenerationConfig;
 import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
+import uk.gegc.quizmaker.shared.exception.AiServiceException;
 
 import java.util.List;
 import java.util.Map;
@@ -33,6 +37,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -82,13 +87,110 @@ class AiQuizGenerationTaskSchedulingTest {
         verify(structuredAiClient, never()).generateQuestions(any());
     }
 
+    @Test
+    @DisplayName("Composite mode asks for every type in one call and tops up only the short type")
+    void compositeCallSplitsPerTypeAndTopsUpShortfall() {
+        StructuredAiClient structuredAiClient = mock(StructuredAiClient.class);
+        when(structuredAiClient.generateCompositeQuestions(any())).thenReturn(combine(
+                response(QuestionType.MCQ_SINGLE, 3),
+                response(QuestionType.TRUE_FALSE, 1)));
+        when(structuredAiClient.generateQuestions(any())).thenReturn(response(QuestionType.TRUE_FALSE, 1));
+        AiQuizGenerationServiceImpl service = service(structuredAiClient, new RecordingScheduler());
+
+        List<Question> questions = service.generateQuestionsFromChunk(
+                chunk(),
+                Map.of(QuestionType.MCQ_SINGLE, 2, QuestionType.TRUE_FALSE, 2),
+                Difficulty.MEDIUM
+        ).join();
+
+        ArgumentCaptor<StructuredQuestionRequest> composite = ArgumentCaptor.forClass(StructuredQuestionRequest.class);
+        verify(structuredAiClient).generateCompositeQuestions(composite.capture());
+        assertThat(composite.getValue().getQuestionsPerType())
+                .containsExactlyInAnyOrderEntriesOf(Map.of(QuestionType.MCQ_SINGLE, 2, QuestionType.TRUE_FALSE, 2));
+        ArgumentCaptor<StructuredQuestionRequest> topUp = ArgumentCaptor.forClass(StructuredQuestionRequest.class);
+        verify(structuredAiClient).generateQuestions(topUp.capture());
+        assertThat(topUp.getValue().getQuestionType()).isEqualTo(QuestionType.TRUE_FALSE);
+        assertThat(topUp.getValue().getQuestionCount()).isEqualTo(1);
+        assertThat(questions).extracting(Question::getType).containsExactlyInAnyOrder(
+                QuestionType.MCQ_SINGLE, QuestionType.MCQ_SINGLE, QuestionType.TRUE_FALSE, QuestionType.TRUE_FALSE);
+    }
+
+    @Test
+    @DisplayName("A failed composite call falls back to the per-type path for every type")
+    void failedCompositeCallFallsBackToPerTypeCalls() {
+        StructuredAiClient structuredAiClient = mock(StructuredAiClient.class);
+        when(structuredAiClient.generateCompositeQuestions(any()))
+                .thenThrow(new AiServiceException("composite schema rejected"));
+        when(structuredAiClient.generateQuestions(any())).thenAnswer(invocation -> {
+            StructuredQuestionRequest request = invocation.getArgument(0);
+            return response(request.getQuestionType(), request.getQuestionCount());
+        });
+        AiQuizGenerationServiceImpl service = service(structuredAiClient, new RecordingScheduler());
+
+        List<Question> questions = service.generateQuestionsFromChunk(
+                chunk(),
+                Map.of(QuestionType.MCQ_SINGLE, 2, QuestionType.TRUE_FALSE, 1),
+                Difficulty.MEDIUM
+        ).join();
+
+        verify(structuredAiClient, times(2)).generateQuestions(any());
+        assertThat(questions).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Composite mode keeps single-type chunks on the per-type path")
+    void singleTypeChunkSkipsCompositeCall() {
+        StructuredAiClient structuredAiClient = mock(StructuredAiClient.class);
+        when(structuredAiClient.generateQuestions(any())).thenReturn(response(3));
+        AiQuizGenerationServiceImpl service = service(structuredAiClient, new RecordingScheduler());
+
+        List<Question> questions = service.generateQuestionsFromChunk(
+                chunk(),
+                Map.of(QuestionType.MCQ_SINGLE, 3),
+                Difficulty.MEDIUM
+        ).join();
+
+        verify(structuredAiClient, never()).generateCompositeQuestions(any());
+        assertThat(questions).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("With composite calls disabled every requested type goes through the per-type path")
+    void disabledCompositeCallsUsePerTypePath() {
+        StructuredAiClient structuredAiClient = mock(StructuredAiClient.class);
+        when(structuredAiClient.generateQuestions(any())).thenAnswer(invocation -> {
+            StructuredQuestionRequest request = invocation.getArgument(0);
+            return response(request.getQuestionType(), request.getQuestionCount());
+        });
+        AiGenerationConfig generationConfig = new AiGenerationConfig();
+        generationConfig.getCompositeCalls().setEnabled(false);
+        AiQuizGenerationServiceImpl service = service(structuredAiClient, new RecordingScheduler(), generationConfig);
+
+        List<Question> questions = service.generateQuestionsFromChunk(
+                chunk(),
+                Map.of(QuestionType.MCQ_SINGLE, 2, QuestionType.TRUE_FALSE, 1),
+                Difficulty.MEDIUM
+        ).join();
+
+        verify(structuredAiClient, never()).generateCompositeQuestions(any());
+        verify(structuredAiClient, times(2)).generateQuestions(any());
+        assertThat(questions).hasSize(3);
+    }
+
     private AiQuizGenerationServiceImpl service(
             StructuredAiClient structuredAiClient,
             AiProviderTaskScheduler scheduler) {
+        return service(structuredAiClient, scheduler, new AiGenerationConfig());
+    }
+
+    private AiQuizGenerationServiceImpl service(
+            StructuredAiClient structuredAiClient,
+            AiProviderTaskScheduler scheduler,
+            AiGenerationConfig generationConfig) {
         QuestionContentShuffler shuffler = mock(QuestionContentShuffler.class);
         when(shuffler.shuffleContent(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
         QuestionContentValidationService validator = new QuestionContentValidationServiceImpl(
-                new QuestionHandlerFactory(List.of(new McqSingleHandler()))
+                new QuestionHandlerFactory(List.of(new McqSingleHandler(), new TrueFalseHandler()))
         );
         return new AiQuizGenerationServiceImpl(
                 null,
@@ -106,7 +208,10 @@ class AiQuizGenerationTaskSchedulingTest {
                 shuffler,
                 validator,
                 null,
-                scheduler
+                scheduler,
+                mock(QuizGenerationCheckpointService.class),
+                null,
+                generationConfig
         );
     }
 
@@ -118,19 +223,26 @@ class AiQuizGenerationTaskSchedulingTest {
     }
 
     private StructuredQuestionResponse response(int count) {
+        return response(QuestionType.MCQ_SINGLE, count);
+    }
+
+    private StructuredQuestionResponse response(QuestionType type, int count) {
+        String content = type == QuestionType.TRUE_FALSE
+                ? "{\"answer\": true}"
+                : """
+                {
+                  "options": [
+                    {"id": "a", "text": "Correct", "correct": true},
+                    {"id": "b", "text": "Incorrect", "correct": false}
+                  ]
+                }
+                """;
         List<StructuredQuestion> questions = java.util.stream.IntStream.range(0, count)
                 .mapToObj(index -> StructuredQuestion.builder()
                         .questionText("Question " + index)
-                        .type(QuestionType.MCQ_SINGLE)
+                        .type(type)
                         .difficulty(Difficulty.MEDIUM)
-                        .content("""
-                                {
-                                  "options": [
-                                    {"id": "a", "text": "Correct", "correct": true},
-                                    {"id": "b", "text": "Incorrect", "correct": false}
-                                  ]
-                                }
-                                """)
+                        .content(content)
                         .hint("Hint")
                         .explanation("Explanation")
                         .confidence(1.0)
@@ -141,6 +253,14 @@ class AiQuizGenerationTaskSchedulingTest {
                 .build();
     }
 
+    private StructuredQuestionResponse combine(StructuredQuestionResponse... responses) {
+        return StructuredQuestionResponse.builder()
+                .questions(java.util.Arrays.stream(responses)
+                        .flatMap(response -> response.getQuestions().stream())
+                        .toList())
+                .build();
+    }
+
     private static final class RecordingScheduler implements AiProviderTaskScheduler {
         private final AtomicInteger submissions = new AtomicInteger();
 
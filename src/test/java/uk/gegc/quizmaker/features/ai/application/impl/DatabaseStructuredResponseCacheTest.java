@@ -0,0 +1,161 @@
+package uk.gegc.quizmaker.features.ai.application.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestion;
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestionResponse;
+import uk.gegc.quizmaker.features.ai.application.StructuredResponseCacheKey;
+import uk.gegc.quizmaker.features.ai.domain.model.StructuredResponseCacheEntry;
+import uk.gegc.quizmaker.features.ai.domain.repository.StructuredResponseCacheEntryRepository;
+import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
+import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
+import uk.gegc.quizmaker.shared.config.AiResponseCacheConfig;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Database structured response cache")
+class DatabaseStructuredResponseCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T10:00:00Z");
+
+    private final StructuredResponseCacheEntryRepository repository = mock(StructuredResponseCacheEntryRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AiResponseCacheConfig config = new AiResponseCacheConfig();
+    private final StructuredResponseCacheKey key = StructuredResponseCacheKey.of(
+            "templates-v1", "{}", "model", "Chunk text", QuestionType.TRUE_FALSE, 1, Difficulty.EASY, "en");
+
+    private DatabaseStructuredResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        config.setTtl(Duration.ofHours(1));
+        config.setMaxEntries(2);
+        cache = new DatabaseStructuredResponseCache(
+                repository,
+                objectMapper,
+                config,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                Clock.fixed(NOW, ZoneOffset.UTC),
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("Stores responses with the configured TTL and serves them back on a later lookup")
+    void storesAndServesResponses() {
+        when(repository.findById(key.digest())).thenReturn(Optional.empty());
+
+        cache.put(key, response());
+
+        ArgumentCaptor<StructuredResponseCacheEntry> stored = ArgumentCaptor.forClass(StructuredResponseCacheEntry.class);
+        verify(repository).save(stored.capture());
+        assertThat(stored.getValue().getExpiresAt()).isEqualTo(now().plusHours(1));
+        assertThat(stored.getValue().getQuestionCount()).isEqualTo(1);
+
+        when(repository.findById(key.digest())).thenReturn(Optional.of(stored.getValue()));
+        Optional<StructuredQuestionResponse> cached = cache.get(key);
+
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getQuestions()).singleElement().satisfies(question -> {
+            assertThat(question.getType()).isEqualTo(QuestionType.TRUE_FALSE);
+            assertThat(question.getContent()).isEqualTo("{\"answer\":true}");
+        });
+        assertThat(cached.get().getTokensUsed()).isZero();
+        verify(repository).touch(key.digest(), now());
+    }
+
+    @Test
+    @DisplayName("Expired entries and unreadable payloads are misses and count towards the hit ratio")
+    void expiredAndUnreadableEntriesAreMisses() {
+        StructuredResponseCacheEntry expired = new StructuredResponseCacheEntry(
+                key.digest(), "[]", 1, now().minusHours(2), now().minusHours(1));
+        StructuredResponseCacheEntry unreadable = new StructuredResponseCacheEntry(
+                key.digest(), "not json", 1, now(), now().plusHours(1));
+        StructuredResponseCacheEntry valid = new StructuredResponseCacheEntry(
+                key.digest(), "[]", 1, now(), now().plusHours(1));
+        when(repository.findById(key.digest()))
+                .thenReturn(Optional.of(expired))
+                .thenReturn(Optional.of(unreadable))
+                .thenReturn(Optional.of(valid));
+
+        assertThat(cache.get(key)).isEmpty();
+        assertThat(cache.get(key)).isEmpty();
+        assertThat(cache.get(key)).isPresent();
+
+        assertThat(cache.hitRatio()).isEqualTo(1.0 / 3);
+        assertThat(meterRegistry.get("ai.response.cache.hit.ratio").gauge().value()).isEqualTo(1.0 / 3);
+        assertThat(meterRegistry.get("ai.response.cache.operations").tag("outcome", "miss").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("ai.response.cache.operations").tag("outcome", "error").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Repository failures never escape the cache")
+    void repositoryFailuresAreSwallowed() {
+        when(repository.findById(anyString())).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThat(cache.get(key)).isEmpty();
+        cache.put(key, response());
+        cache.put(key, StructuredQuestionResponse.builder().build());
+
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Eviction removes expired entries, then the least recently used entries beyond the bound")
+    void evictsExpiredThenLeastRecentlyUsed() {
+        when(repository.deleteExpired(now())).thenReturn(3);
+        when(repository.count()).thenReturn(5L);
+        when(repository.findLeastRecentlyUsedKeys(any(Pageable.class))).thenReturn(List.of("a", "b", "c"));
+
+        int removed = cache.evict();
+
+        ArgumentCaptor<Pageable> page = ArgumentCaptor.forClass(Pageable.class);
+        verify(repository).findLeastRecentlyUsedKeys(page.capture());
+        assertThat(page.getValue().getPageSize()).isEqualTo(3);
+        verify(repository).deleteAllByIdInBatch(List.of("a", "b", "c"));
+        assertThat(removed).isEqualTo(6);
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+    }
+
+    private static StructuredQuestionResponse response() {
+        return StructuredQuestionResponse.builder()
+                .questions(List.of(StructuredQuestion.builder()
+                        .questionText("Water boils at 100 degrees Celsius at sea level.")
+                        .type(QuestionType.TRUE_FALSE)
+                        .difficulty(Difficulty.EASY)
+                        .content("{\"answer\":true}")
+                        .hint("Sea level")
+                        .explanation("Standard boiling point")
+                        .confidence(0.95)
+                        .build()))
+                .tokensUsed(42L)
+                .build();
+    }
+}
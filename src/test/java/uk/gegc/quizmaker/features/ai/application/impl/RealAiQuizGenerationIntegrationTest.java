@@ -58,9 +58,12 @@ import uk.gegc.quizmaker.features.quiz.api.dto.GenerateQuizFromDocumentRequest;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizScope;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationJobRepository;
 import uk.gegc.quizmaker.features.quiz.application.generation.ProviderUsageService;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCancellationRegistry;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
 import uk.gegc.quizmaker.features.billing.application.InternalBillingService;
+import uk.gegc.quizmaker.shared.config.AiGenerationConfig;
 import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
 import uk.gegc.quizmaker.shared.exception.AiServiceException;
 import uk.gegc.quizmaker.shared.testing.DirectAiProviderTaskScheduler;
@@ -69,6 +72,7 @@ import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -201,7 +205,10 @@ class RealAiQuizGenerationIntegrationTest {
                 new uk.gegc.quizmaker.features.question.application.QuestionContentShuffler(objectMapper),
                 new QuestionContentValidationServiceImpl(handlerFactory),
                 mock(ProviderUsageService.class),
-                DirectAiProviderTaskScheduler.INSTANCE
+                DirectAiProviderTaskScheduler.INSTANCE,
+                mock(QuizGenerationCheckpointService.class),
+                new QuizGenerationCancellationRegistry(jobRepository, Duration.ZERO),
+                new AiGenerationConfig()
         );
 
         BillingProperties billingProperties = new BillingProperties();
@@ -0,0 +1,215 @@
+package uk.gegc.quizmaker.features.ai.application.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestion;
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestionRequest;
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestionResponse;
+import uk.gegc.quizmaker.features.ai.application.PromptTemplateService;
+import uk.gegc.quizmaker.features.ai.application.ProviderAttemptBudget;
+import uk.gegc.quizmaker.features.ai.infra.schema.QuestionSchemaRegistry;
+import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
+import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
+import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
+import uk.gegc.quizmaker.shared.exception.AiServiceException;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Spring AI structured client composite generation")
+class SpringAiStructuredClientCompositeGenerationTest {
+
+    @Mock private ChatClient chatClient;
+    @Mock private ChatClient.ChatClientRequestSpec requestSpec;
+    @Mock private ChatClient.CallResponseSpec callResponseSpec;
+    @Mock private PromptTemplateService promptTemplateService;
+    @Mock private AiRateLimitConfig rateLimitConfig;
+
+    private SpringAiStructuredClient client;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        client = new SpringAiStructuredClient(
+                chatClient,
+                new QuestionSchemaRegistry(objectMapper),
+                promptTemplateService,
+                objectMapper,
+                rateLimitConfig
+        );
+
+        lenient().when(rateLimitConfig.getMaxRetries()).thenReturn(3);
+        lenient().when(promptTemplateService.buildCompositePromptForChunk(anyString(), anyMap(), any(), anyString()))
+                .thenReturn("Generate true/false and open questions");
+        lenient().when(promptTemplateService.buildSystemPrompt()).thenReturn("Return JSON only");
+    }
+
+    @Test
+    @DisplayName("Splits one composite response into questions of each requested type, capped at the requested count")
+    void parsesEveryTypeFromOneCall() {
+        ProviderAttemptBudget budget = new ProviderAttemptBudget(3);
+        stubProviderCall();
+        when(callResponseSpec.chatResponse()).thenReturn(response("""
+                {
+                  "TRUE_FALSE": [%s, %s],
+                  "OPEN": [%s]
+                }
+                """.formatted(trueFalse(), trueFalse(), open())));
+
+        StructuredQuestionResponse response = client.generateCompositeQuestions(
+                request(Map.of(QuestionType.TRUE_FALSE, 1, QuestionType.OPEN, 2), budget));
+
+        assertThat(response.getQuestions()).extracting(StructuredQuestion::getType)
+                .containsExactlyInAnyOrder(QuestionType.TRUE_FALSE, QuestionType.OPEN);
+        assertThat(response.getTokensUsed()).isEqualTo(30L);
+        assertThat(budget.consumedAttempts()).isEqualTo(1);
+        verify(chatClient, times(1)).prompt(any(Prompt.class));
+        verify(promptTemplateService, never())
+                .buildPromptForChunk(anyString(), any(), anyInt(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("Sends the composite schema as the structured response format")
+    void sendsCompositeResponseFormat() {
+        stubProviderCall();
+        when(callResponseSpec.chatResponse()).thenReturn(response("""
+                {"TRUE_FALSE": [%s], "OPEN": [%s]}
+                """.formatted(trueFalse(), open())));
+
+        client.generateCompositeQuestions(request(Map.of(QuestionType.TRUE_FALSE, 1, QuestionType.OPEN, 1), null));
+
+        ArgumentCaptor<Prompt> prompt = ArgumentCaptor.forClass(Prompt.class);
+        verify(chatClient).prompt(prompt.capture());
+        OpenAiChatOptions options = (OpenAiChatOptions) prompt.getValue().getOptions();
+        assertThat(options.getResponseFormat().getJsonSchema().getName()).isEqualTo("composite_schema");
+        assertThat(options.getResponseFormat().getJsonSchema().getSchema())
+                .containsKey("properties");
+    }
+
+    @Test
+    @DisplayName("Missing or mismatched type arrays are reported as warnings, not failures")
+    void missingTypeArrayIsAWarning() {
+        stubProviderCall();
+        when(callResponseSpec.chatResponse()).thenReturn(response("""
+                {"TRUE_FALSE": [%s, %s]}
+                """.formatted(trueFalse(), open())));
+
+        StructuredQuestionResponse response = client.generateCompositeQuestions(
+                request(Map.of(QuestionType.TRUE_FALSE, 2, QuestionType.OPEN, 1), null));
+
+        assertThat(response.getQuestions()).singleElement()
+                .extracting(StructuredQuestion::getType).isEqualTo(QuestionType.TRUE_FALSE);
+        assertThat(response.getWarnings())
+                .contains("Response missing 'OPEN' array")
+                .contains("Question type mismatch: expected TRUE_FALSE but got OPEN");
+    }
+
+    @Test
+    @DisplayName("A response with no usable questions is retried like any other parse failure")
+    void emptyCompositeResponseIsRetried() {
+        stubProviderCall();
+        when(callResponseSpec.chatResponse()).thenReturn(response("{\"TRUE_FALSE\": [], \"OPEN\": []}"));
+
+        assertThatThrownBy(() -> client.generateCompositeQuestions(
+                request(Map.of(QuestionType.TRUE_FALSE, 1, QuestionType.OPEN, 1), null)))
+                .isInstanceOf(AiServiceException.class);
+
+        verify(chatClient, times(3)).prompt(any(Prompt.class));
+    }
+
+    @Test
+    @DisplayName("Rejects composite requests without positive per-type counts before dispatch")
+    void rejectsInvalidCompositeRequests() {
+        assertThatThrownBy(() -> client.generateCompositeQuestions(request(Map.of(), null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Questions per type cannot be empty");
+        assertThatThrownBy(() -> client.generateCompositeQuestions(
+                request(Map.of(QuestionType.TRUE_FALSE, 0), null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Question count must be positive");
+
+        verify(promptTemplateService, never())
+                .buildCompositePromptForChunk(anyString(), anyMap(), any(), eq("en"));
+        verify(chatClient, never()).prompt(any(Prompt.class));
+    }
+
+    private void stubProviderCall() {
+        when(chatClient.prompt(any(Prompt.class))).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callResponseSpec);
+    }
+
+    private StructuredQuestionRequest request(Map<QuestionType, Integer> questionsPerType, ProviderAttemptBudget budget) {
+        Map<QuestionType, Integer> plan = new EnumMap<>(QuestionType.class);
+        plan.putAll(questionsPerType);
+        return StructuredQuestionRequest.builder()
+                .chunkContent("Water freezes at zero degrees Celsius under standard pressure.")
+                .questionsPerType(plan)
+                .difficulty(Difficulty.MEDIUM)
+                .language("en")
+                .providerAttemptBudget(budget)
+                .build();
+    }
+
+    private static String trueFalse() {
+        return """
+                {
+                  "questionText": "Water freezes at zero degrees Celsius under standard pressure.",
+                  "type": "TRUE_FALSE",
+                  "difficulty": "MEDIUM",
+                  "content": {"answer": true},
+                  "hint": "Think about the freezing point of water.",
+                  "explanation": "Zero degrees Celsius is the standard freezing point.",
+                  "confidence": 0.98
+                }""";
+    }
+
+    private static String open() {
+        return """
+                {
+                  "questionText": "At what temperature does water freeze under standard pressure?",
+                  "type": "OPEN",
+                  "difficulty": "MEDIUM",
+                  "content": {"answer": "Zero degrees Celsius"},
+                  "hint": "Think about the Celsius scale.",
+                  "explanation": "The Celsius scale is anchored on the freezing point of water.",
+                  "confidence": 0.95
+                }""";
+    }
+
+    private static ChatResponse response(String content) {
+        ChatResponseMetadata metadata = ChatResponseMetadata.builder()
+                .model("fake-model")
+                .usage(new DefaultUsage(20, 10))
+                .build();
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(content))), metadata);
+    }
+}
@@ -89,15 +89,14 @@ class SpringAiStructuredClientMaxTokensIntegrationTest {
             SpringAiStructuredClient structuredClient = context.getBean(SpringAiStructuredClient.class);
             QuestionSchemaRegistry schemaRegistry = context.getBean(QuestionSchemaRegistry.class);
             ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
-            JsonNode schema = schemaRegistry.getSchemaForQuestionTypeAi(
+            QuestionSchemaRegistry.AiSchema aiSchema = schemaRegistry.getAiSchema(
                     QuestionType.MATCHING,
                     Difficulty.MEDIUM
             );
             OpenAiChatOptions runtimeOptions = ReflectionTestUtils.invokeMethod(
                     structuredClient,
                     "buildChatOptions",
-                    QuestionType.MATCHING,
-                    schema
+                    aiSchema
             );
             Prompt runtimePrompt = new Prompt(List.of(
                     new SystemMessage("Generate questions."),
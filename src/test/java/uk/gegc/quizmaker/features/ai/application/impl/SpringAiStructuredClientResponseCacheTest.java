@@ -0,0 +1,165 @@
+package uk.gegc.quizmaker.features.ai.application.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestion;
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestionRequest;
+import uk.gegc.quizmaker.features.ai.api.dto.StructuredQuestionResponse;
+import uk.gegc.quizmaker.features.ai.application.PromptTemplateService;
+import uk.gegc.quizmaker.features.ai.application.StructuredResponseCache;
+import uk.gegc.quizmaker.features.ai.application.StructuredResponseCacheKey;
+import uk.gegc.quizmaker.features.ai.infra.schema.QuestionSchemaRegistry;
+import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
+import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
+import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Spring AI structured client response cache")
+class SpringAiStructuredClientResponseCacheTest {
+
+    @Mock private ChatClient chatClient;
+    @Mock private ChatClient.ChatClientRequestSpec requestSpec;
+    @Mock private ChatClient.CallResponseSpec callResponseSpec;
+    @Mock private PromptTemplateService promptTemplateService;
+    @Mock private AiRateLimitConfig rateLimitConfig;
+    @Mock private StructuredResponseCache responseCache;
+
+    private SpringAiStructuredClient client;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        client = new SpringAiStructuredClient(
+                chatClient,
+                new QuestionSchemaRegistry(objectMapper),
+                promptTemplateService,
+                objectMapper,
+                rateLimitConfig
+        );
+        ReflectionTestUtils.setField(client, "responseCache", responseCache);
+        ReflectionTestUtils.setField(client, "model", "test-model");
+
+        lenient().when(rateLimitConfig.getMaxRetries()).thenReturn(3);
+        lenient().when(promptTemplateService.templateVersion(any())).thenReturn("templates-v1");
+        lenient().when(promptTemplateService.buildPromptForChunk(anyString(), any(), anyInt(), any(), anyString()))
+                .thenReturn("Generate a true/false question");
+        lenient().when(promptTemplateService.buildSystemPrompt()).thenReturn("Return JSON only");
+    }
+
+    @Test
+    @DisplayName("A cache hit skips the provider entirely")
+    void cacheHitSkipsProvider() {
+        StructuredQuestionResponse cached = StructuredQuestionResponse.builder()
+                .questions(List.of(StructuredQuestion.builder().type(QuestionType.TRUE_FALSE).build()))
+                .build();
+        when(responseCache.get(any())).thenReturn(Optional.of(cached));
+
+        StructuredQuestionResponse response = client.generateQuestions(request("Water freezes at zero degrees."));
+
+        assertThat(response).isSameAs(cached);
+        verify(chatClient, never()).prompt(any(Prompt.class));
+        verify(responseCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("A complete provider response is stored under the request key")
+    void completeResponseIsStored() {
+        when(responseCache.get(any())).thenReturn(Optional.empty());
+        stubProviderResponse(1);
+
+        StructuredQuestionResponse response = client.generateQuestions(request("Water freezes at zero degrees."));
+
+        ArgumentCaptor<StructuredResponseCacheKey> lookupKey = ArgumentCaptor.forClass(StructuredResponseCacheKey.class);
+        verify(responseCache).get(lookupKey.capture());
+        verify(responseCache).put(lookupKey.getValue(), response);
+    }
+
+    @Test
+    @DisplayName("Short responses are not stored, so a retry reaches the provider again")
+    void shortResponseIsNotStored() {
+        when(responseCache.get(any())).thenReturn(Optional.empty());
+        stubProviderResponse(1);
+        StructuredQuestionRequest request = request("Water freezes at zero degrees.");
+        request.setQuestionCount(2);
+
+        StructuredQuestionResponse response = client.generateQuestions(request);
+
+        assertThat(response.getQuestions()).hasSize(1);
+        verify(responseCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("Keys differ whenever the chunk, templates or requested count differ")
+    void keysCoverEveryInput() {
+        when(responseCache.get(any())).thenReturn(Optional.empty());
+        stubProviderResponse(1);
+        client.generateQuestions(request("Water freezes at zero degrees."));
+        client.generateQuestions(request("Water boils at one hundred degrees."));
+        when(promptTemplateService.templateVersion(any())).thenReturn("templates-v2");
+        client.generateQuestions(request("Water freezes at zero degrees."));
+
+        ArgumentCaptor<StructuredResponseCacheKey> keys = ArgumentCaptor.forClass(StructuredResponseCacheKey.class);
+        verify(responseCache, times(3)).get(keys.capture());
+        assertThat(keys.getAllValues()).doesNotHaveDuplicates();
+        assertThat(StructuredResponseCacheKey.of("v", "{}", "m", "chunk", QuestionType.OPEN, 1, Difficulty.EASY, "en"))
+                .isEqualTo(StructuredResponseCacheKey.of("v", "{}", "m", "chunk", QuestionType.OPEN, 1, Difficulty.EASY, "en"))
+                .isNotEqualTo(StructuredResponseCacheKey.of("v", "{}", "m", "chunk", QuestionType.OPEN, 2, Difficulty.EASY, "en"));
+    }
+
+    private void stubProviderResponse(int questionCount) {
+        when(chatClient.prompt(any(Prompt.class))).thenReturn(requestSpec);
+        when(requestSpec.call()).thenReturn(callResponseSpec);
+        String question = """
+                {
+                  "questionText": "Water freezes at zero degrees Celsius.",
+                  "type": "TRUE_FALSE",
+                  "difficulty": "MEDIUM",
+                  "content": {"answer": true},
+                  "hint": "Freezing point",
+                  "explanation": "Zero degrees Celsius is the freezing point of water.",
+                  "confidence": 0.97
+                }""";
+        String content = "{\"questions\": [" + String.join(",", Collections.nCopies(questionCount, question)) + "]}";
+        when(callResponseSpec.chatResponse()).thenAnswer(invocation -> new ChatResponse(
+                List.of(new Generation(new AssistantMessage(content))),
+                ChatResponseMetadata.builder().model("test-model").usage(new DefaultUsage(20, 10)).build()));
+    }
+
+    private StructuredQuestionRequest request(String chunkContent) {
+        return StructuredQuestionRequest.builder()
+                .chunkContent(chunkContent)
+                .questionType(QuestionType.TRUE_FALSE)
+                .questionCount(1)
+                .difficulty(Difficulty.MEDIUM)
+                .language("en")
+                .build();
+    }
+}
@@ -54,11 +54,10 @@ class SpringAiStructuredClientResponseParsingTest {
               ]
             }
             """;
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
         
         // When
         StructuredQuestionResponse response = invokeParseStructuredResponse(
-                validResponse, QuestionType.TRUE_FALSE, schema);
+                validResponse, QuestionType.TRUE_FALSE);
         
         // Then
         assertThat(response).isNotNull();
@@ -105,11 +104,10 @@ class SpringAiStructuredClientResponseParsingTest {
               ]
             }
             """;
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
         
         // When
         StructuredQuestionResponse response = invokeParseStructuredResponse(
-                validResponse, QuestionType.TRUE_FALSE, schema);
+                validResponse, QuestionType.TRUE_FALSE);
         
         // Then
         assertThat(response.getQuestions()).hasSize(3);
@@ -138,11 +136,10 @@ class SpringAiStructuredClientResponseParsingTest {
               ]
             }
             """;
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
         
         // When/Then
         assertThatThrownBy(() -> invokeParseStructuredResponse(
-                responseWithMismatch, QuestionType.TRUE_FALSE, schema))
+                responseWithMismatch, QuestionType.TRUE_FALSE))
                 .isInstanceOf(AIResponseParseException.class)
                 .hasMessageContaining("No valid questions parsed");
     }
@@ -182,11 +179,10 @@ class SpringAiStructuredClientResponseParsingTest {
               ]
             }
             """;
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
         
         // When
         StructuredQuestionResponse response = invokeParseStructuredResponse(
-                mixedResponse, QuestionType.TRUE_FALSE, schema);
+                mixedResponse, QuestionType.TRUE_FALSE);
         
         // Then - should have 2 valid questions and 1 warning
         assertThat(response.getQuestions()).hasSize(2);
@@ -205,10 +201,9 @@ class SpringAiStructuredClientResponseParsingTest {
               "data": []
             }
             """;
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
         
         // When/Then
-        assertThatThrownBy(() -> invokeParseStructuredResponse(invalidResponse, QuestionType.TRUE_FALSE, schema))
+        assertThatThrownBy(() -> invokeParseStructuredResponse(invalidResponse, QuestionType.TRUE_FALSE))
                 .isInstanceOf(AIResponseParseException.class)
                 .hasMessageContaining("missing 'questions' field");
     }
@@ -222,10 +217,9 @@ class SpringAiStructuredClientResponseParsingTest {
               "questions": "not an array"
             }
             """;
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
         
         // When/Then
-        assertThatThrownBy(() -> invokeParseStructuredResponse(invalidResponse, QuestionType.TRUE_FALSE, schema))
+        assertThatThrownBy(() -> invokeParseStructuredResponse(invalidResponse, QuestionType.TRUE_FALSE))
                 .isInstanceOf(AIResponseParseException.class)
                 .hasMessageContaining("'questions' field must be an array");
     }
@@ -235,10 +229,9 @@ class SpringAiStructuredClientResponseParsingTest {
     void shouldFailWhenResponseNotValidJson() throws Exception {
         // Given
         String invalidJson = "This is not JSON at all!";
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
         
         // When/Then
-        assertThatThrownBy(() -> invokeParseStructuredResponse(invalidJson, QuestionType.TRUE_FALSE, schema))
+        assertThatThrownBy(() -> invokeParseStructuredResponse(invalidJson, QuestionType.TRUE_FALSE))
                 .isInstanceOf(AIResponseParseException.class)
                 .hasMessageContaining("Invalid JSON");
     }
@@ -262,10 +255,9 @@ class SpringAiStructuredClientResponseParsingTest {
               ]
             }
             """;
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
         
         // When/Then
-        assertThatThrownBy(() -> invokeParseStructuredResponse(allInvalidResponse, QuestionType.TRUE_FALSE, schema))
+        assertThatThrownBy(() -> invokeParseStructuredResponse(allInvalidResponse, QuestionType.TRUE_FALSE))
                 .isInstanceOf(AIResponseParseException.class)
                 .hasMessageContaining("No valid questions parsed");
     }
@@ -293,11 +285,10 @@ class SpringAiStructuredClientResponseParsingTest {
             }
             ```
             """;
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
         
         // When
         StructuredQuestionResponse response = invokeParseStructuredResponse(
-                responseWithMarkdown, QuestionType.TRUE_FALSE, schema);
+                responseWithMarkdown, QuestionType.TRUE_FALSE);
         
         // Then - should parse successfully despite markdown
         assertThat(response.getQuestions()).hasSize(1);
@@ -329,11 +320,10 @@ class SpringAiStructuredClientResponseParsingTest {
             
             
             """;
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
         
         // When
         StructuredQuestionResponse response = invokeParseStructuredResponse(
-                messyResponse, QuestionType.TRUE_FALSE, schema);
+                messyResponse, QuestionType.TRUE_FALSE);
         
         // Then
         assertThat(response.getQuestions()).hasSize(1);
@@ -365,11 +355,10 @@ class SpringAiStructuredClientResponseParsingTest {
               ]
             }
             """;
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.MCQ_SINGLE);
         
         // When
         StructuredQuestionResponse parsedResponse = invokeParseStructuredResponse(
-                response, QuestionType.MCQ_SINGLE, schema);
+                response, QuestionType.MCQ_SINGLE);
         
         // Then - content should be valid JSON string
         String contentJson = parsedResponse.getQuestions().get(0).getContent();
@@ -388,12 +377,12 @@ class SpringAiStructuredClientResponseParsingTest {
      * Unwraps InvocationTargetException to get the actual exception.
      */
     private StructuredQuestionResponse invokeParseStructuredResponse(
-            String rawResponse, QuestionType expectedType, JsonNode schema) throws Exception {
+            String rawResponse, QuestionType expectedType) throws Exception {
         Method method = SpringAiStructuredClient.class.getDeclaredMethod(
-                "parseStructuredResponse", String.class, QuestionType.class, JsonNode.class);
+                "parseStructuredResponse", String.class, QuestionType.class);
         method.setAccessible(true);
         try {
-            return (StructuredQuestionResponse) method.invoke(client, rawResponse, expectedType, schema);
+            return (StructuredQuestionResponse) method.invoke(client, rawResponse, expectedType);
         } catch (java.lang.reflect.InvocationTargetException e) {
             // Unwrap the actual exception
             Throwable cause = e.getCause();
@@ -1,7 +1,5 @@
 package uk.gegc.quizmaker.features.ai.application.impl;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +11,7 @@ import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.ResponseFormat;
 import uk.gegc.quizmaker.features.ai.application.PromptTemplateService;
 import uk.gegc.quizmaker.features.ai.infra.schema.QuestionSchemaRegistry;
+import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
 
@@ -50,11 +49,11 @@ class SpringAiStructuredClientStructuredOutputTest {
     @Test
     @DisplayName("buildChatOptions should configure JSON_SCHEMA response format")
     void buildChatOptionsShouldConfigureJsonSchema() throws Exception {
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.MCQ_SINGLE);
-        Method method = SpringAiStructuredClient.class.getDeclaredMethod("buildChatOptions", QuestionType.class, JsonNode.class);
+        QuestionSchemaRegistry.AiSchema aiSchema = schemaRegistry.getAiSchema(QuestionType.MCQ_SINGLE, null);
+        Method method = SpringAiStructuredClient.class.getDeclaredMethod("buildChatOptions", QuestionSchemaRegistry.AiSchema.class);
         method.setAccessible(true);
 
-        OpenAiChatOptions options = (OpenAiChatOptions) method.invoke(client, QuestionType.MCQ_SINGLE, schema);
+        OpenAiChatOptions options = (OpenAiChatOptions) method.invoke(client, aiSchema);
 
         assertThat(options).isNotNull();
         ResponseFormat responseFormat = options.getResponseFormat();
@@ -67,30 +66,17 @@ class SpringAiStructuredClientStructuredOutputTest {
     }
 
     @Test
-    @DisplayName("buildChatOptions should return null when schema serialization fails")
-    void buildChatOptionsShouldReturnNullOnSerializationFailure() throws Exception {
-        ObjectMapper failingMapper = new ObjectMapper() {
-            @Override
-            public String writeValueAsString(Object value) throws JsonProcessingException {
-                throw new JsonProcessingException("boom") { };
-            }
-        };
-
-        SpringAiStructuredClient failingClient = new SpringAiStructuredClient(
-                chatClient,
-                schemaRegistry,
-                promptTemplateService,
-                failingMapper,
-                rateLimitConfig
-        );
-
-        JsonNode schema = schemaRegistry.getSchemaForQuestionType(QuestionType.TRUE_FALSE);
-        Method method = SpringAiStructuredClient.class.getDeclaredMethod("buildChatOptions", QuestionType.class, JsonNode.class);
+    @DisplayName("buildChatOptions should reuse the response format prebuilt by the registry")
+    void buildChatOptionsShouldReusePrebuiltResponseFormat() throws Exception {
+        QuestionSchemaRegistry.AiSchema aiSchema = schemaRegistry.getAiSchema(QuestionType.TRUE_FALSE, Difficulty.EASY);
+        Method method = SpringAiStructuredClient.class.getDeclaredMethod("buildChatOptions", QuestionSchemaRegistry.AiSchema.class);
         method.setAccessible(true);
 
-        OpenAiChatOptions options = (OpenAiChatOptions) method.invoke(failingClient, QuestionType.TRUE_FALSE, schema);
+        OpenAiChatOptions first = (OpenAiChatOptions) method.invoke(client, aiSchema);
+        OpenAiChatOptions second = (OpenAiChatOptions) method.invoke(client, aiSchema);
 
-        assertThat(options).isNull();
+        assertThat(first.getResponseFormat()).isSameAs(aiSchema.responseFormat());
+        assertThat(second.getResponseFormat()).isSameAs(aiSchema.responseFormat());
     }
 
     @Test
@@ -2,6 +2,7 @@ package uk.gegc.quizmaker.features.ai.infra.schema;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,13 +10,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.ai.openai.api.ResponseFormat;
 import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Unit tests for QuestionSchemaRegistry.
@@ -181,6 +185,69 @@ class QuestionSchemaRegistryTest {
                         .toArray(String[]::new));
     }
 
+    @ParameterizedTest(name = "{0} at {1}")
+    @MethodSource("aiRequestContracts")
+    @DisplayName("Precompiled AI schema is shared and its payload matches the schema tree")
+    void shouldServePrecompiledAiSchema(QuestionType questionType, Difficulty difficulty) throws Exception {
+        QuestionSchemaRegistry.AiSchema aiSchema = schemaRegistry.getAiSchema(questionType, difficulty);
+
+        assertThat(schemaRegistry.getAiSchema(questionType, difficulty)).isSameAs(aiSchema);
+        assertThat(aiSchema.questionType()).isEqualTo(questionType);
+        assertThat(aiSchema.difficulty()).isEqualTo(difficulty);
+        assertThat(objectMapper.readTree(aiSchema.json())).isEqualTo(aiSchema.schema());
+        assertThat(schemaRegistry.getSchemaForQuestionTypeAi(questionType, difficulty)).isEqualTo(aiSchema.schema());
+        assertThat(aiSchema.responseFormat().getType()).isEqualTo(ResponseFormat.Type.JSON_SCHEMA);
+        assertThat(aiSchema.responseFormat().getJsonSchema().getName())
+                .isEqualTo(questionType.name().toLowerCase() + "_schema");
+        assertThat(aiSchema.responseFormat().getJsonSchema().getStrict()).isTrue();
+        assertThat(objectMapper.readTree(objectMapper.writeValueAsString(
+                aiSchema.responseFormat().getJsonSchema().getSchema())))
+                .isEqualTo(aiSchema.schema());
+    }
+
+    @Test
+    @DisplayName("Schemas handed out by getSchemaForQuestionTypeAi and AiSchema.schema are copies of the cached tree")
+    void shouldNotExposeCachedAiSchemaTree() {
+        JsonNode handedOut = schemaRegistry.getSchemaForQuestionTypeAi(QuestionType.MCQ_SINGLE, Difficulty.EASY);
+        ((ObjectNode) handedOut).remove("properties");
+
+        QuestionSchemaRegistry.AiSchema cached = schemaRegistry.getAiSchema(QuestionType.MCQ_SINGLE, Difficulty.EASY);
+        ((ObjectNode) cached.schema()).remove("properties");
+        assertThat(cached.schema().has("properties")).isTrue();
+        assertThat(schemaRegistry.getSchemaForQuestionTypeAi(QuestionType.MCQ_SINGLE, Difficulty.EASY).has("properties"))
+                .isTrue();
+        // The type-only variant leaves difficulty unconstrained
+        assertThat(schemaRegistry.getAiSchema(QuestionType.MCQ_SINGLE, null).schema()
+                .path("properties").path("questions").path("items").path("properties")
+                .path("difficulty").path("enum").size())
+                .isEqualTo(Difficulty.values().length);
+    }
+
+    @Test
+    @DisplayName("Composite AI schemas hold one strict per-type question array and are shared per type set")
+    void shouldBuildCompositeAiSchemaFromPerTypeArrays() {
+        QuestionSchemaRegistry.AiSchema composite = schemaRegistry.getCompositeAiSchema(
+                List.of(QuestionType.TRUE_FALSE, QuestionType.MCQ_SINGLE), Difficulty.HARD);
+
+        assertThat(composite.questionType()).isNull();
+        assertThat(composite.difficulty()).isEqualTo(Difficulty.HARD);
+        assertThat(composite.responseFormat().getJsonSchema().getName()).isEqualTo("composite_schema");
+        JsonNode schema = composite.schema();
+        assertThat(schema.get("additionalProperties").asBoolean()).isFalse();
+        assertThat(schema.get("required")).extracting(JsonNode::asText)
+                .containsExactly("MCQ_SINGLE", "TRUE_FALSE");
+        for (QuestionType questionType : List.of(QuestionType.MCQ_SINGLE, QuestionType.TRUE_FALSE)) {
+            assertThat(schema.path("properties").path(questionType.name()))
+                    .isEqualTo(schemaRegistry.getAiSchema(questionType, Difficulty.HARD).schema()
+                            .path("properties").path("questions"));
+        }
+        assertThat(schemaRegistry.getCompositeAiSchema(
+                List.of(QuestionType.MCQ_SINGLE, QuestionType.TRUE_FALSE), Difficulty.HARD))
+                .isSameAs(composite);
+        assertThatThrownBy(() -> schemaRegistry.getCompositeAiSchema(List.of(), Difficulty.HARD))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private static Stream<Arguments> aiRequestContracts() {
         return Arrays.stream(QuestionType.values())
                 .flatMap(questionType -> Arrays.stream(Difficulty.values())
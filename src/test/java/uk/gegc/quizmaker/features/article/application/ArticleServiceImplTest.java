@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.BaseUnitTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -13,6 +14,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import uk.gegc.quizmaker.features.article.api.dto.*;
 import uk.gegc.quizmaker.features.article.application.impl.ArticleServiceImpl;
+import uk.gegc.quizmaker.features.article.domain.events.ArticleCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.article.domain.model.Article;
 import uk.gegc.quizmaker.features.article.domain.model.ArticleBlockType;
 import uk.gegc.quizmaker.features.article.domain.model.ArticleContentType;
@@ -51,6 +53,8 @@ class ArticleServiceImplTest extends BaseUnitTest {
     ArticleMapper articleMapper;
     @Mock
     AppPermissionEvaluator permissionEvaluator;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     ArticleServiceImpl service;
@@ -87,6 +91,7 @@ class ArticleServiceImplTest extends BaseUnitTest {
         assertThat(result).isEqualTo(dto);
         verify(articleRepository).findBySlug("slug-one");
         verify(articleRepository).save(entity);
+        verify(eventPublisher).publishEvent(any(ArticleCatalogueChangedEvent.class));
     }
 
     @Test
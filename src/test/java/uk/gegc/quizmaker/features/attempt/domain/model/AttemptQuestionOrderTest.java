@@ -0,0 +1,37 @@
+package uk.gegc.quizmaker.features.attempt.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Execution(ExecutionMode.CONCURRENT)
+class AttemptQuestionOrderTest {
+
+    @Test
+    void encode_roundTripsEveryPosition() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        byte[] order = AttemptQuestionOrder.encode(ids);
+
+        assertThat(order).hasSize(48);
+        assertThat(AttemptQuestionOrder.size(order)).isEqualTo(3);
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(AttemptQuestionOrder.idAt(order, i)).isEqualTo(ids.get(i));
+        }
+    }
+
+    @Test
+    void encode_emptyList_hasNoPositions() {
+        byte[] order = AttemptQuestionOrder.encode(List.of());
+
+        assertThat(AttemptQuestionOrder.size(order)).isZero();
+        assertThatThrownBy(() -> AttemptQuestionOrder.idAt(order, 0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+}
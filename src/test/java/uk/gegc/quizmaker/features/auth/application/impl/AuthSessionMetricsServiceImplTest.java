@@ -28,6 +28,9 @@ class AuthSessionMetricsServiceImplTest {
         metrics.recordAccessRejected(AuthSessionRejectionReason.INVALID_TOKEN);
         metrics.recordRefreshRejected(AuthSessionRejectionReason.REPLAYED_TOKEN);
         metrics.recordSessionStoreFailure();
+        metrics.recordSessionCacheHit();
+        metrics.recordSessionCacheHit();
+        metrics.recordSessionCacheMiss();
         metrics.recordExpiredSessionsPurged(3);
         metrics.recordExpiredSessionsPurged(0);
 
@@ -45,6 +48,10 @@ class AuthSessionMetricsServiceImplTest {
                 .counter()
                 .count()).isEqualTo(1.0);
         assertThat(meterRegistry.get("auth.sessions.store.failures").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("auth.sessions.cache.lookups").tag("result", "hit").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("auth.sessions.cache.lookups").tag("result", "miss").counter().count())
+                .isEqualTo(1.0);
         assertThat(meterRegistry.get("auth.sessions.expired.purged").counter().count()).isEqualTo(3.0);
     }
 }
@@ -15,6 +15,7 @@ import uk.gegc.quizmaker.features.auth.domain.model.AuthSession;
 import uk.gegc.quizmaker.features.auth.domain.model.AuthSessionRejectionReason;
 import uk.gegc.quizmaker.features.auth.domain.model.AuthSessionRevocationReason;
 import uk.gegc.quizmaker.features.auth.domain.repository.AuthSessionRepository;
+import uk.gegc.quizmaker.features.auth.infra.security.AuthenticatedSessionCache;
 import uk.gegc.quizmaker.features.auth.infra.security.JwtTokenService;
 import uk.gegc.quizmaker.features.auth.infra.security.ValidatedJwt;
 
@@ -60,6 +61,7 @@ class AuthSessionRefreshServiceImplTest {
         service = new AuthSessionRefreshServiceImpl(
                 authSessionRepository,
                 jwtTokenService,
+                new AuthenticatedSessionCache(5_000, 100, Clock.fixed(NOW, ZoneOffset.UTC)),
                 Clock.fixed(NOW, ZoneOffset.UTC)
         );
     }
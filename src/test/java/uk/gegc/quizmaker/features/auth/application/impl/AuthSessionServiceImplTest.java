@@ -8,7 +8,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import uk.gegc.quizmaker.features.auth.api.dto.JwtResponse;
 import uk.gegc.quizmaker.features.auth.application.AuthSessionRefreshService;
 import uk.gegc.quizmaker.features.auth.application.AuthSessionMetricsService;
@@ -17,6 +20,7 @@ import uk.gegc.quizmaker.features.auth.domain.model.AuthSession;
 import uk.gegc.quizmaker.features.auth.domain.model.AuthSessionRejectionReason;
 import uk.gegc.quizmaker.features.auth.domain.model.AuthSessionRevocationReason;
 import uk.gegc.quizmaker.features.auth.domain.repository.AuthSessionRepository;
+import uk.gegc.quizmaker.features.auth.infra.security.AuthenticatedSessionCache;
 import uk.gegc.quizmaker.features.auth.infra.security.JwtTokenService;
 import uk.gegc.quizmaker.features.auth.infra.security.ValidatedJwt;
 import uk.gegc.quizmaker.features.user.domain.model.User;
@@ -28,6 +32,7 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,6 +41,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -65,6 +71,7 @@ class AuthSessionServiceImplTest {
 
     private AuthSessionServiceImpl service;
     private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+    private final AuthenticatedSessionCache sessionCache = new AuthenticatedSessionCache(5_000, 100, clock);
     private final UUID userId = UUID.randomUUID();
     private final UUID sessionId = UUID.randomUUID();
     private final LocalDateTime now = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
@@ -77,6 +84,7 @@ class AuthSessionServiceImplTest {
                 jwtTokenService,
                 authSessionRefreshService,
                 authSessionMetricsService,
+                sessionCache,
                 clock
         );
     }
@@ -232,6 +240,42 @@ class AuthSessionServiceImplTest {
         verify(authSessionRepository, never()).saveAndFlush(any(AuthSession.class));
     }
 
+    @Test
+    @DisplayName("a cached session authenticates repeat requests without touching the session store")
+    void authenticateAccessToken_cachedSessionSkipsStoreLookups() {
+        ValidatedJwt claims = new ValidatedJwt("alice", userId, sessionId, now.plusHours(1).toInstant(ZoneOffset.UTC));
+        when(jwtTokenService.validateAccessToken("access-token")).thenReturn(Optional.of(claims));
+        when(authSessionRepository.existsActiveSession(sessionId, userId, now)).thenReturn(true);
+        when(jwtTokenService.getAuthentication(claims)).thenReturn(userAuthentication());
+
+        Authentication first = service.authenticateAccessToken("access-token");
+        Authentication second = service.authenticateAccessToken("access-token");
+
+        assertThat(second.getName()).isEqualTo("alice");
+        assertThat(second.getAuthorities()).isEqualTo(first.getAuthorities());
+        verify(authSessionRepository, times(1)).existsActiveSession(sessionId, userId, now);
+        verify(jwtTokenService, times(1)).getAuthentication(claims);
+        verify(authSessionMetricsService).recordSessionCacheMiss();
+        verify(authSessionMetricsService).recordSessionCacheHit();
+    }
+
+    @Test
+    @DisplayName("logout drops the cached session so the next request re-checks the session store")
+    void logout_invalidatesCachedSession() {
+        ValidatedJwt claims = new ValidatedJwt("alice", userId, sessionId, now.plusHours(1).toInstant(ZoneOffset.UTC));
+        when(jwtTokenService.validateAccessToken("access-token")).thenReturn(Optional.of(claims));
+        when(authSessionRepository.existsActiveSession(sessionId, userId, now)).thenReturn(true, false);
+        when(jwtTokenService.getAuthentication(claims)).thenReturn(userAuthentication());
+        AuthSession session = new AuthSession(sessionId, userId, "fingerprint", now.minusHours(1), now.plusDays(1));
+        when(authSessionRepository.findByIdForUpdate(sessionId)).thenReturn(Optional.of(session));
+
+        assertThat(service.authenticateAccessToken("access-token")).isNotNull();
+        service.logout("access-token");
+
+        assertThat(service.authenticateAccessToken("access-token")).isNull();
+        verify(authSessionRepository, times(2)).existsActiveSession(sessionId, userId, now);
+    }
+
     @Test
     @DisplayName("cleanup removes only sessions whose refresh lifetime has ended")
     void purgeExpiredSessions_delegatesWithUtcNow() {
@@ -241,4 +285,12 @@ class AuthSessionServiceImplTest {
         verify(authSessionRepository).deleteByExpiresAtBefore(now);
         verify(authSessionMetricsService).recordExpiredSessionsPurged(2);
     }
+
+    private Authentication userAuthentication() {
+        UserDetails userDetails = org.springframework.security.core.userdetails.User.withUsername("alice")
+                .password("hash")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build();
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
 }
@@ -0,0 +1,128 @@
+package uk.gegc.quizmaker.features.auth.infra.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import uk.gegc.quizmaker.features.user.domain.event.UserAuthoritiesChangedEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Authenticated Session Cache")
+class AuthenticatedSessionCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final AuthenticatedSessionCache cache = new AuthenticatedSessionCache(5_000, 2, clock);
+    private final UUID userId = UUID.randomUUID();
+    private final UUID sessionId = UUID.randomUUID();
+
+    @Test
+    @DisplayName("returns a fresh authentication for a cached session until the TTL passes")
+    void get_returnsFreshAuthenticationUntilExpiry() {
+        Authentication original = authentication("alice");
+        cache.put(sessionId, userId, original, cache.generation());
+
+        Authentication cached = cache.get(sessionId, userId).orElseThrow();
+        assertThat(cached).isNotSameAs(original);
+        assertThat(cached.getName()).isEqualTo("alice");
+        assertThat(cached.isAuthenticated()).isTrue();
+
+        clock.advanceMillis(5_000);
+        assertThat(cache.get(sessionId, userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("never serves a session to a different user")
+    void get_userMismatchMisses() {
+        cache.put(sessionId, userId, authentication("alice"), cache.generation());
+
+        assertThat(cache.get(sessionId, UUID.randomUUID())).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("an invalidation after the lookup started prevents caching what it read")
+    void put_staleGenerationIsIgnored() {
+        long generation = cache.generation();
+        cache.invalidateSession(sessionId);
+
+        cache.put(sessionId, userId, authentication("alice"), generation);
+
+        assertThat(cache.get(sessionId, userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("authority changes drop one user's sessions or all sessions")
+    void authorityChanges_invalidateEntries() {
+        UUID otherUser = UUID.randomUUID();
+        UUID otherSession = UUID.randomUUID();
+        cache.put(sessionId, userId, authentication("alice"), cache.generation());
+        cache.put(otherSession, otherUser, authentication("bob"), cache.generation());
+
+        cache.onUserAuthoritiesChanged(UserAuthoritiesChangedEvent.forUser(this, userId));
+        assertThat(cache.get(sessionId, userId)).isEmpty();
+        assertThat(cache.get(otherSession, otherUser)).isPresent();
+
+        cache.onUserAuthoritiesChanged(UserAuthoritiesChangedEvent.forAllUsers(this));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("stays within its entry cap by evicting the least recently used session")
+    void put_evictsLeastRecentlyUsedAtCap() {
+        UUID idleSession = UUID.randomUUID();
+        cache.put(sessionId, userId, authentication("alice"), cache.generation());
+        cache.put(idleSession, userId, authentication("alice"), cache.generation());
+        assertThat(cache.get(sessionId, userId)).isPresent();
+
+        UUID newSession = UUID.randomUUID();
+        cache.put(newSession, userId, authentication("alice"), cache.generation());
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(idleSession, userId)).isEmpty();
+        assertThat(cache.get(sessionId, userId)).isPresent();
+        assertThat(cache.get(newSession, userId)).isPresent();
+    }
+
+    private Authentication authentication(String username) {
+        UserDetails userDetails = User.withUsername(username)
+                .password("hash")
+                .authorities(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build();
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-08-05T00:00:00Z");
+
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -110,6 +110,28 @@ class DocumentProcessingLimitsTest {
                 });
     }
 
+    @Test
+    @DisplayName("Binds the standby parser pool and rejects a non-positive idle lifetime")
+    void bindsStandbyParserPool() {
+        contextRunner.run(context -> assertThat(context.getBean(DocumentProcessingLimits.class)
+                .getParserWorkerPoolSize()).isZero());
+        contextRunner.withPropertyValues(
+                        "quizmaker.document.processing.parser-worker-pool-size=3",
+                        "quizmaker.document.processing.parser-worker-pool-idle-lifetime=PT5M"
+                )
+                .run(context -> {
+                    assertThat(context.getStartupFailure()).isNull();
+                    DocumentProcessingLimits limits = context.getBean(DocumentProcessingLimits.class);
+                    assertThat(limits.getParserWorkerPoolSize()).isEqualTo(3);
+                    assertThat(limits.getParserWorkerPoolIdleLifetime()).isEqualTo(Duration.ofMinutes(5));
+                });
+        contextRunner.withPropertyValues(
+                        "quizmaker.document.processing.parser-worker-pool-idle-lifetime=PT0S"
+                )
+                .run(context -> assertThat(context.getStartupFailure())
+                        .hasStackTraceContaining("document parser isolation and retention durations must be positive"));
+    }
+
     @Test
     @DisplayName("Binds custom PDF memory, storage, and retention limits")
     void customConfigurationBindsPdfLimits() {
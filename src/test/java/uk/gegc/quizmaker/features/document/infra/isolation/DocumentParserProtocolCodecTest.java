@@ -6,8 +6,11 @@ import org.junit.jupiter.api.io.TempDir;
 import uk.gegc.quizmaker.features.document.application.ConvertedDocument;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -54,4 +57,84 @@ class DocumentParserProtocolCodecTest {
         assertThat(response).doesNotExist();
     }
 
+    @Test
+    @DisplayName("Round-trips documents with raw UTF-8 text, nested sections and absent values")
+    void roundTripsBinaryDocumentFrames() throws IOException {
+        ConvertedDocument document = new ConvertedDocument();
+        document.setOriginalFilename("notes.pdf");
+        document.setContentType("application/pdf");
+        document.setTotalPages(3);
+        document.setFileSize(2_048L);
+        document.setFullContent("Quotes \"escaped\" nowhere \u2014 na\u00efve \uD83D\uDCDA\n");
+        ConvertedDocument.Chapter chapter = new ConvertedDocument.Chapter();
+        chapter.setTitle("Chapter 1");
+        chapter.setContent("Body");
+        chapter.setStartPage(1);
+        ConvertedDocument.Section section = new ConvertedDocument.Section();
+        section.setTitle("1.1");
+        section.setContent("Section body");
+        section.setSectionNumber(1);
+        chapter.setSections(List.of(section));
+        document.setChapters(List.of(chapter));
+        Path response = operationDirectory.resolve(DocumentParserProtocolCodec.RESPONSE_FILE);
+        DocumentParserProtocolCodec codec = new DocumentParserProtocolCodec();
+
+        codec.writeResponse(response, DocumentParserWorkerResponse.success(document), 4_096);
+        DocumentParserWorkerResponse decoded = codec.readResponse(response, 4_096);
+
+        assertThat(decoded.protocolVersion()).isEqualTo(DocumentParserProtocolCodec.PROTOCOL_VERSION);
+        assertThat(decoded.error()).isNull();
+        assertThat(decoded.document()).isEqualTo(document);
+        assertThat(decoded.document().getTitle()).isNull();
+        assertThat(decoded.document().getChapters().get(0).getEndPage()).isNull();
+    }
+
+    @Test
+    @DisplayName("Round-trips typed worker failures")
+    void roundTripsErrorFrames() throws IOException {
+        Path response = operationDirectory.resolve(DocumentParserProtocolCodec.RESPONSE_FILE);
+        DocumentParserProtocolCodec codec = new DocumentParserProtocolCodec();
+
+        codec.writeResponse(response, DocumentParserWorkerResponse.failure(DocumentParserWorkerError.PDF_PAGE_LIMIT), 1_024);
+
+        assertThat(codec.readResponse(response, 1_024))
+                .isEqualTo(DocumentParserWorkerResponse.failure(DocumentParserWorkerError.PDF_PAGE_LIMIT));
+    }
+
+    @Test
+    @DisplayName("Rejects truncated frames, trailing bytes and forged segment lengths")
+    void rejectsMalformedBinaryFrames() throws IOException {
+        ConvertedDocument document = new ConvertedDocument();
+        document.setFullContent("Study notes");
+        Path response = operationDirectory.resolve(DocumentParserProtocolCodec.RESPONSE_FILE);
+        DocumentParserProtocolCodec codec = new DocumentParserProtocolCodec();
+        codec.writeResponse(response, DocumentParserWorkerResponse.success(document), 4_096);
+        byte[] valid = Files.readAllBytes(response);
+
+        Files.write(response, Arrays.copyOf(valid, valid.length - 6));
+        assertThatThrownBy(() -> codec.readResponse(response, 4_096)).isInstanceOf(IOException.class);
+
+        Files.write(response, Arrays.copyOf(valid, valid.length + 1));
+        assertThatThrownBy(() -> codec.readResponse(response, 4_096)).isInstanceOf(IOException.class);
+
+        byte[] forged = valid.clone();
+        // The title length follows the magic, version and frame type
+        ByteBuffer.wrap(forged).putInt(9, Integer.MAX_VALUE);
+        Files.write(response, forged);
+        assertThatThrownBy(() -> codec.readResponse(response, 4_096)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Surfaces a different protocol version without decoding the rest of the frame")
+    void reportsIncompatibleFrameVersion() throws IOException {
+        Path response = operationDirectory.resolve(DocumentParserProtocolCodec.RESPONSE_FILE);
+        DocumentParserProtocolCodec codec = new DocumentParserProtocolCodec();
+        codec.writeResponse(response, DocumentParserWorkerResponse.failure(DocumentParserWorkerError.TYPE_MISMATCH), 1_024);
+        byte[] frame = Files.readAllBytes(response);
+        ByteBuffer.wrap(frame).putInt(4, DocumentParserProtocolCodec.PROTOCOL_VERSION + 1);
+        Files.write(response, frame);
+
+        assertThat(codec.readResponse(response, 1_024).protocolVersion())
+                .isEqualTo(DocumentParserProtocolCodec.PROTOCOL_VERSION + 1);
+    }
 }
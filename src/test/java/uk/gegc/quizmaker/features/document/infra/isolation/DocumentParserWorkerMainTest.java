@@ -7,6 +7,7 @@ import uk.gegc.quizmaker.features.document.application.DocumentProcessingLimits;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -71,6 +72,76 @@ class DocumentParserWorkerMainTest {
         assertThat(operation.resolve(DocumentParserProtocolCodec.RESPONSE_FILE)).doesNotExist();
     }
 
+    @Test
+    @DisplayName("A standby worker exits without a response when no request is handed over in time")
+    void standbyWorkerExpiresWithoutRequest() throws Exception {
+        Path operation = Files.createDirectory(temporaryDirectory.resolve("operation"));
+
+        int exitCode = DocumentParserWorkerMain.run(new String[]{
+                DocumentParserWorkerMain.WORKER_ARGUMENT + operation,
+                DocumentParserWorkerMain.STANDBY_ARGUMENT + 50
+        });
+
+        assertThat(exitCode).isEqualTo(75);
+        assertThat(operation.resolve(DocumentParserProtocolCodec.RESPONSE_FILE)).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("A standby worker converts the handed-over request with a single parent monitor")
+    void standbyWorkerStartsOneParentMonitor() throws Exception {
+        Path operation = Files.createDirectory(temporaryDirectory.resolve("operation"));
+        Path source = Files.writeString(
+                operation.resolve(DocumentParserProtocolCodec.INPUT_FILE), "Private notes\n");
+        DocumentParserWorkerRequest request = new DocumentParserWorkerRequest(
+                DocumentParserProtocolCodec.PROTOCOL_VERSION,
+                ProcessHandle.current().pid(),
+                source.toString(),
+                operation.toString(),
+                "notes.txt",
+                "text/plain",
+                Files.size(source),
+                DocumentParserWorkerRequest.ParserLimits.from(limits(operation), operation)
+        );
+        new DocumentParserProtocolCodec().writeRequest(
+                operation.resolve(DocumentParserProtocolCodec.REQUEST_FILE), request);
+        long lastThreadId = newestParentMonitorId();
+
+        int exitCode = DocumentParserWorkerMain.run(new String[]{
+                DocumentParserWorkerMain.WORKER_ARGUMENT + operation,
+                DocumentParserWorkerMain.STANDBY_ARGUMENT + 5_000
+        });
+
+        assertThat(exitCode).isZero();
+        assertThat(operation.resolve(DocumentParserProtocolCodec.RESPONSE_FILE)).exists();
+        assertThat(parentMonitorsStartedAfter(lastThreadId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Rejects a non-positive standby window before waiting")
+    void rejectsInvalidStandbyWindow() throws Exception {
+        Path operation = Files.createDirectory(temporaryDirectory.resolve("operation"));
+
+        int exitCode = DocumentParserWorkerMain.run(new String[]{
+                DocumentParserWorkerMain.WORKER_ARGUMENT + operation,
+                DocumentParserWorkerMain.STANDBY_ARGUMENT + 0
+        });
+
+        assertThat(exitCode).isEqualTo(64);
+    }
+
+    private static long newestParentMonitorId() {
+        return parentMonitors().mapToLong(Thread::getId).max().orElse(0L);
+    }
+
+    private static long parentMonitorsStartedAfter(long threadId) {
+        return parentMonitors().filter(thread -> thread.getId() > threadId).count();
+    }
+
+    private static Stream<Thread> parentMonitors() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("document-parser-parent-monitor"));
+    }
+
     private DocumentProcessingLimits limits(Path operation) {
         DocumentProcessingLimits limits = DocumentProcessingLimits.defaults();
         limits.setStorageRoot(operation.toString());
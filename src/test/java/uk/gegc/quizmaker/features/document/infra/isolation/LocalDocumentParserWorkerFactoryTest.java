@@ -20,11 +20,13 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("Local document parser worker factory")
@@ -224,6 +226,108 @@ class LocalDocumentParserWorkerFactoryTest {
         assertThat(firstOperation).doesNotExist();
     }
 
+    @Test
+    @DisplayName("Hands uploads to a pre-started standby worker and replenishes the pool in the background")
+    void handsUploadsToStandbyWorker() throws IOException {
+        DocumentProcessingLimits limits = limits();
+        limits.setParserWorkerPoolSize(1);
+        Path source = Files.writeString(storageRoot.resolve("source.upload"), "Study notes");
+        List<ProcessBuilder> builders = new ArrayList<>();
+        LocalDocumentParserWorkerFactory factory = new LocalDocumentParserWorkerFactory(
+                limits,
+                new DocumentParserProtocolCodec(),
+                (operation, configuredLimits) -> List.of("/usr/bin/true", operation.toString()),
+                builder -> {
+                    builders.add(builder);
+                    return waitingProcess(new AtomicBoolean(true));
+                },
+                Clock.systemUTC()
+        );
+        factory.initialize();
+
+        assertThat(builders).singleElement().satisfies(builder -> assertThat(builder.command())
+                .anyMatch(argument -> argument.startsWith(DocumentParserWorkerMain.STANDBY_ARGUMENT)));
+        Path standbyOperation = builders.get(0).directory().toPath();
+        assertThat(standbyOperation.resolve(DocumentParserProtocolCodec.REQUEST_FILE)).doesNotExist();
+
+        factory.start(new DocumentParseRequest(source, "notes.txt", "text/plain", Files.size(source)));
+
+        assertThat(builders).hasSize(1);
+        assertThat(factory.standbyWorkerCount()).isZero();
+        assertThat(standbyOperation.resolve(DocumentParserProtocolCodec.INPUT_FILE)).hasContent("Study notes");
+        assertThat(standbyOperation.resolve(DocumentParserProtocolCodec.REQUEST_FILE)).isRegularFile();
+
+        factory.replenishStandbyWorkers();
+        assertThat(builders).hasSize(2);
+        assertThat(factory.standbyWorkerCount()).isEqualTo(1);
+
+        Path replacementOperation = builders.get(1).directory().toPath();
+        factory.shutdown();
+        factory.replenishStandbyWorkers();
+        assertThat(replacementOperation).doesNotExist();
+        assertThat(builders).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Retires dead or idle-expired standby workers and starts a fresh worker instead")
+    void retiresUnusableStandbyWorkers() throws IOException {
+        DocumentProcessingLimits limits = limits();
+        limits.setParserWorkerPoolSize(1);
+        limits.setParserWorkerPoolIdleLifetime(Duration.ofMinutes(1));
+        Path source = Files.writeString(storageRoot.resolve("source.upload"), "Study notes");
+        Instant started = Instant.parse("2026-08-12T10:00:00Z");
+        AtomicReference<Instant> now = new AtomicReference<>(started);
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        List<ProcessBuilder> builders = new ArrayList<>();
+        List<Process> processes = new ArrayList<>();
+        LocalDocumentParserWorkerFactory factory = new LocalDocumentParserWorkerFactory(
+                limits,
+                new DocumentParserProtocolCodec(),
+                (operation, configuredLimits) -> List.of("/usr/bin/true"),
+                builder -> {
+                    builders.add(builder);
+                    Process process = waitingProcess(new AtomicBoolean(true));
+                    processes.add(process);
+                    return process;
+                },
+                clock
+        );
+        factory.initialize();
+        Path expiredOperation = builders.get(0).directory().toPath();
+
+        now.set(started.plus(Duration.ofMinutes(2)));
+        factory.start(new DocumentParseRequest(source, "notes.txt", "text/plain", Files.size(source)));
+
+        verify(processes.get(0)).destroyForcibly();
+        assertThat(expiredOperation).doesNotExist();
+        assertThat(builders).hasSize(2);
+        assertThat(builders.get(1).command())
+                .noneMatch(argument -> argument.startsWith(DocumentParserWorkerMain.STANDBY_ARGUMENT));
+    }
+
+    @Test
+    @DisplayName("Builds standby commands with a bounded wait and an optional class data archive")
+    void standbyCommandCarriesWaitAndClassDataArchive() throws IOException {
+        DocumentProcessingLimits limits = limits();
+        Path archive = Files.write(storageRoot.resolve("parser.jsa"), new byte[]{1});
+        limits.setParserWorkerClassDataArchive(archive.toString());
+        Path operation = storageRoot.resolve("parse-operation").toAbsolutePath().normalize();
+
+        List<String> command = DocumentParserWorkerCommandFactory.currentApplication()
+                .createStandby(operation, limits, Duration.ofMinutes(20));
+
+        assertThat(command).contains(
+                "-XX:SharedArchiveFile=" + archive.toAbsolutePath().normalize(),
+                DocumentParserWorkerMain.WORKER_ARGUMENT + operation,
+                DocumentParserWorkerMain.STANDBY_ARGUMENT + Duration.ofMinutes(20).toMillis()
+        );
+
+        limits.setParserWorkerClassDataArchive(storageRoot.resolve("missing.jsa").toString());
+        assertThat(DocumentParserWorkerCommandFactory.currentApplication().create(operation, limits))
+                .noneMatch(argument -> argument.startsWith("-XX:SharedArchiveFile="));
+    }
+
     private DocumentProcessingLimits limits() {
         DocumentProcessingLimits limits = DocumentProcessingLimits.defaults();
         limits.setStorageRoot(storageRoot.toString());
@@ -240,6 +344,17 @@ class LocalDocumentParserWorkerFactoryTest {
         return process;
     }
 
+    private Process waitingProcess(AtomicBoolean alive) {
+        Process process = mock(Process.class);
+        when(process.getOutputStream()).thenReturn(OutputStream.nullOutputStream());
+        when(process.isAlive()).thenAnswer(invocation -> alive.get());
+        when(process.destroyForcibly()).thenAnswer(invocation -> {
+            alive.set(false);
+            return process;
+        });
+        return process;
+    }
+
     private void assertOwnerOnlyPermissions(
             Path path,
             java.util.Set<PosixFilePermission> expected
@@ -9,6 +9,7 @@ import uk.gegc.quizmaker.features.documentProcess.application.DocumentQueryServi
 import uk.gegc.quizmaker.features.documentProcess.domain.ValidationErrorException;
 import uk.gegc.quizmaker.features.documentProcess.domain.model.NormalizedDocument;
 import uk.gegc.quizmaker.features.documentProcess.infra.repository.NormalizedDocumentRepository;
+import uk.gegc.quizmaker.features.documentProcess.infra.repository.NormalizedDocumentTextSegmentRepository;
 import uk.gegc.quizmaker.shared.exception.ResourceNotFoundException;
 
 import java.time.Instant;
@@ -24,12 +25,14 @@ class DocumentQueryServiceTest {
 
     @Mock
     private NormalizedDocumentRepository documentRepository;
+    @Mock
+    private NormalizedDocumentTextSegmentRepository segmentRepository;
 
     private DocumentQueryService service;
 
     @BeforeEach
     void setUp() {
-        service = new DocumentQueryService(documentRepository);
+        service = new DocumentQueryService(documentRepository, segmentRepository);
     }
 
     @Test
@@ -0,0 +1,81 @@
+package uk.gegc.quizmaker.features.documentProcess.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gegc.quizmaker.features.documentProcess.application.AnchorIndex.View;
+import uk.gegc.quizmaker.features.documentProcess.domain.model.DocumentNode;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AnchorIndex Tests")
+class AnchorIndexTest {
+
+    @Test
+    @DisplayName("findAll: reports the same positions as String.indexOf for overlapping patterns")
+    void findAll_matchesIndexOf() {
+        String text = "abababa banana bandana abab";
+        List<String> patterns = List.of("aba", "ab", "ban", "ana", "bandana", "missing");
+        AnchorIndex index = AnchorIndex.of(text);
+
+        AnchorIndex.Occurrences occurrences = index.findAll(View.RAW, patterns);
+
+        for (String pattern : patterns) {
+            for (int from = -1; from <= text.length() + 1; from++) {
+                assertThat(occurrences.indexOf(pattern, from))
+                        .as("indexOf(%s, %d)", pattern, from)
+                        .isEqualTo(text.indexOf(pattern, from));
+            }
+        }
+        // Patterns outside the scan fall back to a plain search
+        assertThat(occurrences.indexOf("nan", 0)).isEqualTo(text.indexOf("nan"));
+    }
+
+    @Test
+    @DisplayName("toCollapsed/toSource: translate between whitespace-collapsed view and source text")
+    void offsetMaps_roundTripAcrossWhitespaceRuns() {
+        String text = "Alpha  \n\n beta\tgamma";
+        AnchorIndex index = AnchorIndex.of(text);
+        String collapsed = index.text(View.RAW_WS);
+
+        assertThat(collapsed).isEqualTo("Alpha beta gamma");
+        assertThat(index.toSource(View.RAW_WS, collapsed.indexOf("gamma"))).isEqualTo(text.indexOf("gamma"));
+        assertThat(index.toCollapsed(View.RAW_WS, text.indexOf("gamma"))).isEqualTo(collapsed.indexOf("gamma"));
+        // Positions after a multi-character run land inside the run, right after the character it collapsed to
+        int betaInSource = index.toSource(View.RAW_WS, collapsed.indexOf("beta"));
+        assertThat(betaInSource).isEqualTo(text.indexOf("  ") + 1);
+        assertThat(text.substring(betaInSource).stripLeading()).startsWith("beta");
+        assertThat(index.toCollapsed(View.RAW_WS, 0)).isZero();
+        assertThat(index.toSource(View.RAW_WS, collapsed.length() + 10)).isEqualTo(text.length());
+    }
+
+    @Test
+    @DisplayName("calculateOffsets: a shared index resolves several batches against the same document")
+    void calculateOffsets_sharedIndexAcrossBatches() {
+        String docText = "Chapter one starts right here in the text.\n\nIt keeps going until chapter one ends here. "
+                + "Chapter two starts right here in the text.\n\nIt keeps going until chapter two ends here.";
+        AnchorIndex index = AnchorIndex.of(docText);
+        AnchorOffsetCalculator calculator = new AnchorOffsetCalculator();
+
+        DocumentNode first = node("Chapter one starts right here", "until chapter one ends here.");
+        // Whitespace differs from the document, so this resolves through the collapsed view
+        DocumentNode second = node("Chapter two starts right here in the text. It keeps", "until chapter two ends here.");
+
+        calculator.calculateOffsets(List.of(first), index);
+        calculator.calculateOffsets(List.of(second), index);
+
+        assertThat(first.getStartOffset()).isZero();
+        assertThat(first.getEndOffset()).isEqualTo(docText.indexOf("until chapter one ends here.") + "until chapter one ends here.".length());
+        assertThat(second.getStartOffset()).isEqualTo(docText.indexOf("Chapter two"));
+        assertThat(second.getEndOffset()).isEqualTo(docText.length());
+    }
+
+    private static DocumentNode node(String startAnchor, String endAnchor) {
+        DocumentNode node = new DocumentNode();
+        node.setTitle("Node");
+        node.setStartAnchor(startAnchor);
+        node.setEndAnchor(endAnchor);
+        return node;
+    }
+}
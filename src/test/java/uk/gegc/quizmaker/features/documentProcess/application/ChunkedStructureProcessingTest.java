@@ -41,7 +41,7 @@ class ChunkedStructureProcessingTest {
     @BeforeEach
     void setUp() {
         chunkedStructureService = new ChunkedStructureService(
-                documentChunker, llmClient, tokenCounter, chunkingConfig);
+                documentChunker, llmClient, tokenCounter, chunkingConfig, new NodeMerger());
     }
 
     @Test
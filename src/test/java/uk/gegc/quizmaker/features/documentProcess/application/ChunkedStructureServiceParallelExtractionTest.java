@@ -0,0 +1,176 @@
+package uk.gegc.quizmaker.features.documentProcess.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gegc.quizmaker.features.documentProcess.application.DocumentChunker.DocumentChunk;
+import uk.gegc.quizmaker.features.documentProcess.config.DocumentChunkingConfig;
+import uk.gegc.quizmaker.features.documentProcess.domain.model.DocumentNode;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Chunked Structure Service Parallel Extraction Tests")
+class ChunkedStructureServiceParallelExtractionTest {
+
+    private static final String DOCUMENT_ID = "parallel-doc";
+
+    @Mock
+    private DocumentChunker documentChunker;
+
+    @Mock
+    private LlmClient llmClient;
+
+    @Mock
+    private TokenCounter tokenCounter;
+
+    @Mock
+    private DocumentChunkingConfig chunkingConfig;
+
+    private ExecutorService executor;
+    private ChunkedStructureService service;
+    private final LlmClient.StructureOptions options = LlmClient.StructureOptions.defaultOptions();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+        service = new ChunkedStructureService(documentChunker, llmClient, tokenCounter, chunkingConfig, new NodeMerger());
+        ReflectionTestUtils.setField(service, "structureExecutor", executor);
+        when(chunkingConfig.getStructureParallelism()).thenReturn(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should dispatch chunks concurrently and keep results in chunk order")
+    void shouldDispatchChunksConcurrently() {
+        // Given: every call waits until all three chunks have been dispatched
+        List<DocumentChunk> chunks = threeChunks("Opening text.", "Middle text.", "Closing text.");
+        when(documentChunker.chunkDocument(anyString(), eq(DOCUMENT_ID))).thenReturn(chunks);
+        CountDownLatch allDispatched = new CountDownLatch(3);
+        when(llmClient.generateStructureWithContext(anyString(), any(), anyList(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    allDispatched.countDown();
+                    if (!allDispatched.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Chunks were not dispatched concurrently");
+                    }
+                    int chunkIndex = invocation.getArgument(3);
+                    return List.of(node("Part " + (chunkIndex + 1), 0, 100, "Part " + (chunkIndex + 1), "end"));
+                });
+
+        // When
+        List<DocumentNode> nodes = service.processLargeDocument("document", options, DOCUMENT_ID);
+
+        // Then: offsets are in document coordinates and chunk order is preserved
+        assertThat(nodes).extracting(DocumentNode::getTitle).containsExactly("Part 1", "Part 2", "Part 3");
+        assertThat(nodes).extracting(DocumentNode::getStartOffset).containsExactly(0, 1000, 2000);
+    }
+
+    @Test
+    @DisplayName("Should seed each chunk with headings from the previous chunk's tail")
+    void shouldSeedChunksFromPreviousTail() {
+        // Given
+        List<DocumentChunk> chunks = threeChunks(
+                "Introduction text.\n\nCHAPTER TWO\n\nThe story continues",
+                "and carries on without any heading at all",
+                "Closing text.");
+        when(documentChunker.chunkDocument(anyString(), eq(DOCUMENT_ID))).thenReturn(chunks);
+        Map<Integer, List<DocumentNode>> contexts = new ConcurrentHashMap<>();
+        when(llmClient.generateStructureWithContext(anyString(), any(), anyList(), anyInt(), anyInt()))
+                .thenAnswer(invocation -> {
+                    int chunkIndex = invocation.getArgument(3);
+                    contexts.put(chunkIndex, invocation.getArgument(2));
+                    return List.of(node("Part " + (chunkIndex + 1), 0, 100, "Part " + (chunkIndex + 1), "end"));
+                });
+
+        // When
+        service.processLargeDocument("document", options, DOCUMENT_ID);
+
+        // Then
+        assertThat(contexts.get(0)).isEmpty();
+        assertThat(contexts.get(1)).extracting(DocumentNode::getTitle).containsExactly("CHAPTER TWO");
+        assertThat(contexts.get(2)).extracting(DocumentNode::getTitle).containsExactly("Continuation of chunk 2");
+    }
+
+    @Test
+    @DisplayName("Should fold a node repeated across a chunk overlap into the earlier node")
+    void shouldReconcileBoundaryDuplicates() {
+        // Given: chunk 2 starts inside chunk 1 and both report the chapter that opens in the overlap
+        DocumentChunk first = new DocumentChunk("Opening text. Chapter 2 begins here", 0, 1200, 0);
+        DocumentChunk second = new DocumentChunk("Chapter 2 begins here and ends much later", 1000, 2200, 1);
+        when(documentChunker.chunkDocument(anyString(), eq(DOCUMENT_ID))).thenReturn(List.of(first, second));
+        when(llmClient.generateStructureWithContext(anyString(), any(), anyList(), eq(0), anyInt()))
+                .thenReturn(List.of(
+                        node("Chapter 1", null, null, "Opening text", "Opening text."),
+                        node("Chapter 2", null, null, "Chapter 2 begins here", "begins here")));
+        when(llmClient.generateStructureWithContext(anyString(), any(), anyList(), eq(1), anyInt()))
+                .thenReturn(List.of(node("Chapter 2", null, null, "Chapter 2 begins here", "ends much later")));
+
+        // When
+        List<DocumentNode> nodes = service.processLargeDocument("document", options, DOCUMENT_ID);
+
+        // Then
+        assertThat(nodes).extracting(DocumentNode::getTitle).containsExactly("Chapter 1", "Chapter 2");
+        assertThat(nodes.get(1).getEndAnchor()).isEqualTo("ends much later");
+    }
+
+    @Test
+    @DisplayName("Should fail the document when any chunk fails")
+    void shouldPropagateChunkFailure() {
+        // Given
+        List<DocumentChunk> chunks = threeChunks("Opening text.", "Middle text.", "Closing text.");
+        when(documentChunker.chunkDocument(anyString(), eq(DOCUMENT_ID))).thenReturn(chunks);
+        when(llmClient.generateStructureWithContext(anyString(), any(), anyList(), anyInt(), anyInt()))
+                .thenThrow(new LlmClient.LlmException("Provider unavailable"));
+
+        // When / Then
+        assertThatThrownBy(() -> service.processLargeDocument("document", options, DOCUMENT_ID))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Chunk processing failed")
+                .hasCauseInstanceOf(LlmClient.LlmException.class);
+    }
+
+    private List<DocumentChunk> threeChunks(String first, String second, String third) {
+        return List.of(
+                new DocumentChunk(first, 0, 1200, 0),
+                new DocumentChunk(second, 1000, 2200, 1),
+                new DocumentChunk(third, 2000, 3000, 2));
+    }
+
+    private DocumentNode node(String title, Integer start, Integer end, String startAnchor, String endAnchor) {
+        DocumentNode node = new DocumentNode();
+        node.setType(DocumentNode.NodeType.CHAPTER);
+        node.setTitle(title);
+        node.setStartOffset(start);
+        node.setEndOffset(end);
+        node.setStartAnchor(startAnchor);
+        node.setEndAnchor(endAnchor);
+        node.setDepth((short) 0);
+        node.setAiConfidence(BigDecimal.valueOf(0.9));
+        return node;
+    }
+}
@@ -141,7 +141,7 @@ class ComprehensiveStructureServiceTest {
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
         
         // Mock anchorOffsetCalculator to return invalid offsets
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -166,7 +166,7 @@ class ComprehensiveStructureServiceTest {
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
         
         // Mock anchorOffsetCalculator to return offsets exceeding document length
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -191,7 +191,7 @@ class ComprehensiveStructureServiceTest {
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
         
         // Mock anchorOffsetCalculator to return invalid offset ranges
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -215,7 +215,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -259,7 +259,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenThrow(new RuntimeException("Anchor calculation failed"));
 
         // When & Then
@@ -275,7 +275,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -299,7 +299,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -324,7 +324,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -354,7 +354,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -386,7 +386,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(singleLevelNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -417,7 +417,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(deepNestedNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -463,7 +463,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -497,7 +497,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(testNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -528,7 +528,7 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(specialCharNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -558,7 +558,7 @@ class ComprehensiveStructureServiceTest {
         lenient().when(chunkedStructureService.needsChunking(largeText)).thenReturn(true);
         lenient().when(chunkedStructureService.processLargeDocument(eq(largeText), any(), eq(documentId.toString())))
             .thenReturn(testNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -612,10 +612,10 @@ class ComprehensiveStructureServiceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(smallText)).thenReturn(false);
         lenient().when(llmClient.generateStructure(eq(smallText), any())).thenReturn(testNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
-                String documentText = invocation.getArgument(1);
+                String documentText = invocation.<AnchorIndex>getArgument(1).documentText();
                 nodes.forEach(node -> {
                     node.setStartOffset(0);
                     node.setEndOffset(documentText.length());
@@ -18,6 +18,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +50,11 @@ class DocumentChunkerTest {
             return text.length() / 3; // 1 token per 3 chars
         });
         
+        lenient().when(tokenCounter.estimateTokensForChars(anyInt())).thenAnswer(invocation -> {
+            int chars = invocation.getArgument(0);
+            return chars / 3;
+        });
+        
         lenient().when(tokenCounter.exceedsTokenLimit(anyString(), anyInt())).thenAnswer(invocation -> {
             String text = invocation.getArgument(0);
             int limit = invocation.getArgument(1);
@@ -293,6 +300,29 @@ class DocumentChunkerTest {
             DocumentChunk lastChunk = chunks.get(chunks.size() - 1);
             assertThat(lastChunk.getEndOffset()).isEqualTo(text.length());
         }
+
+        @Test
+        @DisplayName("when tail is above the safety-adjusted char minimum but below the token minimum then drops it")
+        void chunkDocument_tailBelowMinimumTokens_isDropped() {
+            // Given - a 20,000 char chunk followed by a 14,000 char tail (~4,666 tokens < 5,000)
+            String filler = "Sample text. ".repeat(2_000);
+            String text = filler.substring(0, 19_998) + "\n\n" + filler.substring(0, 14_000);
+            when(tokenCounter.getConfiguredSafeChunkSize()).thenReturn(20_000);
+            when(chunkingConfig.getOverlapTokens()).thenReturn(0);
+            when(tokenCounter.exceedsTokenLimit(anyString(), anyInt())).thenReturn(true);
+            // Mirror the real 0.9 safety factor: 5,000 tokens -> 13,500 chars
+            when(tokenCounter.estimateMaxCharsForTokens(anyInt())).thenAnswer(invocation -> {
+                int tokens = invocation.getArgument(0);
+                return tokens * 27 / 10;
+            });
+
+            // When
+            List<DocumentChunk> chunks = documentChunker.chunkDocument(text, "doc-id");
+
+            // Then - the tail clears 13,500 chars but not 5,000 tokens
+            assertThat(chunks).hasSize(1);
+            assertThat(chunks.get(0).getEndOffset()).isEqualTo(20_000);
+        }
     }
 
     @Nested
@@ -447,6 +477,58 @@ class DocumentChunkerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Streaming Scan Tests")
+    class StreamingScanTests {
+
+        @Test
+        @DisplayName("when document chunked then each chunk's text matches its offsets")
+        void chunkDocument_chunkText_matchesOffsets() {
+            // Given
+            String text = generateTextWithParagraphs(300_000);
+
+            // When
+            List<DocumentChunk> chunks = documentChunker.chunkDocument(text, "doc-id");
+
+            // Then
+            assertThat(chunks).hasSizeGreaterThan(1);
+            for (DocumentChunk chunk : chunks) {
+                assertThat(chunk.getLength()).isEqualTo(chunk.getEndOffset() - chunk.getStartOffset());
+                assertThat(chunk.getText()).isEqualTo(text.substring(chunk.getStartOffset(), chunk.getEndOffset()));
+                assertThat(chunk.getText()).isSameAs(chunk.getText());
+            }
+        }
+
+        @Test
+        @DisplayName("when several back-matter headings present then truncates at the earliest, ignoring case")
+        void chunkDocument_severalBackMatterHeadings_truncatesAtEarliest() {
+            // Given
+            String text = "  Main content here.\n\nAbout the Authors\n\nBios.\n\nGlossary\n\nTerms.\n\nINDEX";
+
+            // When
+            List<DocumentChunk> chunks = documentChunker.chunkDocument(text, "doc-id");
+
+            // Then
+            assertThat(chunks).singleElement()
+                    .extracting(DocumentChunk::getText)
+                    .isEqualTo("Main content here.");
+        }
+
+        @Test
+        @DisplayName("when document chunked then tokens are estimated per document, not per chunk")
+        void chunkDocument_multipleChunks_estimatesTokensOncePerDocument() {
+            // Given
+            String text = generateText(400_000);
+
+            // When
+            List<DocumentChunk> chunks = documentChunker.chunkDocument(text, "doc-id");
+
+            // Then - the input and the filtered text only
+            assertThat(chunks).hasSizeGreaterThan(2);
+            verify(tokenCounter, times(2)).estimateTokens(anyString());
+        }
+    }
+
     @Nested
     @DisplayName("DocumentChunk Tests")
     class DocumentChunkTests {
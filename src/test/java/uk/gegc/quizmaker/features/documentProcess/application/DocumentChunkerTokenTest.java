@@ -43,6 +43,10 @@ class DocumentChunkerTokenTest {
         when(chunkingConfig.getOverlapTokens()).thenReturn(5_000);
         when(chunkingConfig.isAggressiveChunking()).thenReturn(true);
         when(chunkingConfig.isEnableEmergencyChunking()).thenReturn(true);
+        when(tokenCounter.estimateTokensForChars(anyInt())).thenAnswer(invocation -> {
+            int chars = invocation.getArgument(0);
+            return chars / 3; // Same 1 token per 3 chars rule as the text estimates below
+        });
         
         documentChunker = new DocumentChunker(tokenCounter, chunkingConfig);
     }
@@ -48,6 +48,11 @@ class DocumentChunkingIntegrationTest {
             return text.length() / 3; // Simplified: 1 token per 3 chars
         });
         
+        when(tokenCounter.estimateTokensForChars(anyInt())).thenAnswer(invocation -> {
+            int chars = invocation.getArgument(0);
+            return chars / 3;
+        });
+        
         when(tokenCounter.exceedsTokenLimit(anyString(), anyInt())).thenAnswer(invocation -> {
             String text = invocation.getArgument(0);
             int limit = invocation.getArgument(1);
@@ -8,14 +8,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gegc.quizmaker.features.documentProcess.domain.ValidationErrorException;
 import uk.gegc.quizmaker.features.documentProcess.domain.model.NormalizedDocument;
+import uk.gegc.quizmaker.features.documentProcess.domain.model.NormalizedDocumentTextSegment;
 import uk.gegc.quizmaker.features.documentProcess.infra.repository.NormalizedDocumentRepository;
+import uk.gegc.quizmaker.features.documentProcess.infra.repository.NormalizedDocumentTextSegmentRepository;
 import uk.gegc.quizmaker.shared.exception.ResourceNotFoundException;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +30,9 @@ class DocumentQueryServiceTest {
     @Mock
     private NormalizedDocumentRepository documentRepository;
 
+    @Mock
+    private NormalizedDocumentTextSegmentRepository segmentRepository;
+
     @InjectMocks
     private DocumentQueryService queryService;
 
@@ -195,4 +204,75 @@ class DocumentQueryServiceTest {
         
         assertEquals("", result);
     }
+
+    @Test
+    void getTextSlice_segmentedDocument_readsOnlyOverlappingSegments() {
+        String text = "abcdefghij".repeat(4_000);
+        document.setNormalizedText(text);
+        document.setCharCount(text.length());
+        List<NormalizedDocumentTextSegment> segments = document.getTextSegments();
+        assertEquals(3, segments.size());
+        assertEquals(3, document.getTextSegmentCount());
+        when(documentRepository.findTextLayoutById(documentId))
+                .thenReturn(Optional.of(layout(text.length(), segments.size())));
+        when(segmentRepository.findOverlapping(documentId, 16_000, 17_000))
+                .thenReturn(segments.subList(0, 2));
+
+        String result = queryService.getTextSlice(documentId, 16_000, 17_000);
+
+        assertEquals(text.substring(16_000, 17_000), result);
+        verify(documentRepository, never()).findById(documentId);
+    }
+
+    @Test
+    void getTextSlice_segmentedDocument_clampsEndAndValidatesWithoutLoadingText() {
+        when(documentRepository.findTextLayoutById(documentId)).thenReturn(Optional.of(layout(47, 1)));
+
+        assertThrows(ValidationErrorException.class, () -> queryService.getTextSlice(documentId, 48, 50));
+        assertEquals("", queryService.getTextSlice(documentId, 47, 60));
+        verify(documentRepository, never()).findById(documentId);
+        verifyNoInteractions(segmentRepository);
+    }
+
+    @Test
+    void getTextSlice_missingSegments_throwsIllegalState() {
+        when(documentRepository.findTextLayoutById(documentId)).thenReturn(Optional.of(layout(47, 1)));
+        when(segmentRepository.findOverlapping(documentId, 0, 10)).thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> queryService.getTextSlice(documentId, 0, 10));
+    }
+
+    @Test
+    void setNormalizedText_neverSplitsSurrogatePairsAndRewritesSegments() {
+        String text = "a".repeat(NormalizedDocumentTextSegment.SEGMENT_CHARS - 1) + "\uD83D\uDCDA" + "tail";
+        document.setNormalizedText(text);
+
+        List<NormalizedDocumentTextSegment> segments = document.getTextSegments();
+        assertEquals(2, segments.size());
+        assertEquals(NormalizedDocumentTextSegment.SEGMENT_CHARS - 1, segments.get(0).getEndOffset());
+        assertEquals(text, segments.get(0).getContent() + segments.get(1).getContent());
+
+        document.setNormalizedText("short");
+        assertEquals(1, document.getTextSegments().size());
+        assertEquals("short", document.getTextSegments().get(0).getContent());
+        assertEquals(1, document.getTextSegmentCount());
+
+        document.setNormalizedText(null);
+        assertTrue(document.getTextSegments().isEmpty());
+        assertNull(document.getTextSegmentCount());
+    }
+
+    private static NormalizedDocumentRepository.TextLayout layout(int charCount, int segmentCount) {
+        return new NormalizedDocumentRepository.TextLayout() {
+            @Override
+            public Integer getCharCount() {
+                return charCount;
+            }
+
+            @Override
+            public Integer getTextSegmentCount() {
+                return segmentCount;
+            }
+        };
+    }
 }
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -88,7 +89,7 @@ class LayerByLayerResilienceTest {
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(multiLevelNodes);
         
         // Mock anchorOffsetCalculator to work normally for depth 0 and 1, but fail for depth 2
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 Short depth = nodes.get(0).getDepth();
@@ -142,6 +143,12 @@ class LayerByLayerResilienceTest {
         assertThat(savedLayers.get(1)).hasSize(2);
         assertThat(savedLayers.get(1).get(0).getDepth()).isEqualTo((short) 1);
         assertThat(savedLayers.get(1).get(1).getDepth()).isEqualTo((short) 1);
+
+        // Every level resolves anchors against the one index built for the document
+        ArgumentCaptor<AnchorIndex> indexCaptor = ArgumentCaptor.forClass(AnchorIndex.class);
+        verify(anchorOffsetCalculator, times(3)).calculateOffsets(anyList(), indexCaptor.capture());
+        assertThat(indexCaptor.getAllValues()).containsOnly(indexCaptor.getValue());
+        assertThat(indexCaptor.getValue().documentText()).isEqualTo(document.getNormalizedText());
     }
 
     @Test
@@ -151,7 +158,7 @@ class LayerByLayerResilienceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(multiLevelNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -192,7 +199,7 @@ class LayerByLayerResilienceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(multiLevelNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -223,7 +230,7 @@ class LayerByLayerResilienceTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(multiLevelNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
@@ -282,7 +289,7 @@ class LayerByLayerResilienceTest {
         lenient().when(chunkedStructureService.needsChunking(largeText)).thenReturn(true);
         lenient().when(chunkedStructureService.processLargeDocument(eq(largeText), any(), eq(documentId.toString())))
             .thenReturn(multiLevelNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
                 nodes.forEach(node -> {
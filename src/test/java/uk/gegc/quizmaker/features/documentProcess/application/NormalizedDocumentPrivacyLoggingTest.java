@@ -17,6 +17,7 @@ import uk.gegc.quizmaker.features.documentProcess.domain.model.NormalizedDocumen
 import uk.gegc.quizmaker.features.documentProcess.infra.mapper.DocumentNodeMapper;
 import uk.gegc.quizmaker.features.documentProcess.infra.repository.DocumentNodeRepository;
 import uk.gegc.quizmaker.features.documentProcess.infra.repository.NormalizedDocumentRepository;
+import uk.gegc.quizmaker.features.documentProcess.infra.repository.NormalizedDocumentTextSegmentRepository;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 
 import java.util.List;
@@ -39,6 +40,8 @@ class NormalizedDocumentPrivacyLoggingTest {
     @Mock
     private NormalizedDocumentRepository documentRepository;
     @Mock
+    private NormalizedDocumentTextSegmentRepository segmentRepository;
+    @Mock
     private DocumentNodeRepository nodeRepository;
     @Mock
     private DocumentNodeMapper nodeMapper;
@@ -113,7 +116,7 @@ class NormalizedDocumentPrivacyLoggingTest {
     @DisplayName("text-query failure omits private source content from logs and public error detail")
     void queryFailureOmitsSourceText() {
         capture(DocumentQueryService.class);
-        DocumentQueryService service = new DocumentQueryService(documentRepository);
+        DocumentQueryService service = new DocumentQueryService(documentRepository, segmentRepository);
         UUID documentId = UUID.randomUUID();
         NormalizedDocument document = new NormalizedDocument();
         document.setId(documentId);
@@ -90,7 +90,7 @@ class RealAiResponseStructureTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdAndDepthLessThanOrderByStartOffset(any(), anyShort()))
             .thenReturn(Collections.emptyList());
@@ -112,7 +112,7 @@ class RealAiResponseStructureTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdAndDepthLessThanOrderByStartOffset(any(), anyShort()))
             .thenReturn(Collections.emptyList());
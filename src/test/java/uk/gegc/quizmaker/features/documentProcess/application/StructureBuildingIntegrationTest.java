@@ -91,7 +91,7 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdOrderByStartOffset(documentId)).thenReturn(aiNodes);
 
@@ -111,7 +111,7 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdAndDepthLessThanOrderByStartOffset(any(), anyShort()))
             .thenReturn(Collections.emptyList());
@@ -133,7 +133,7 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenThrow(new RuntimeException("Anchor not found"));
 
         // When & Then
@@ -150,7 +150,7 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
 
         // When & Then
         assertThatThrownBy(() -> service.buildStructure(documentId))
@@ -181,7 +181,7 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdAndDepthLessThanOrderByStartOffset(any(), anyShort()))
             .thenReturn(Collections.emptyList());
@@ -203,7 +203,7 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdAndDepthLessThanOrderByStartOffset(any(), anyShort()))
             .thenReturn(Collections.emptyList());
@@ -225,7 +225,7 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdOrderByStartOffset(documentId)).thenReturn(aiNodes);
 
@@ -245,7 +245,7 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdOrderByStartOffset(documentId)).thenReturn(aiNodes);
 
@@ -265,7 +265,7 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdOrderByStartOffset(documentId)).thenReturn(aiNodes);
 
@@ -285,7 +285,7 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(anyString())).thenReturn(false);
         lenient().when(llmClient.generateStructure(any(), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdOrderByStartOffset(documentId)).thenReturn(aiNodes);
 
@@ -310,7 +310,7 @@ class StructureBuildingIntegrationTest {
         lenient().when(chunkedStructureService.needsChunking(largeText)).thenReturn(true);
         lenient().when(chunkedStructureService.processLargeDocument(eq(largeText), any(), eq(documentId.toString())))
             .thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString())).thenReturn(aiNodes);
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class))).thenReturn(aiNodes);
         lenient().when(nodeRepository.saveAll(anyList())).thenReturn(aiNodes);
         lenient().when(nodeRepository.findByDocument_IdAndDepthLessThanOrderByStartOffset(any(), anyShort()))
             .thenReturn(Collections.emptyList());
@@ -360,10 +360,10 @@ class StructureBuildingIntegrationTest {
         when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
         lenient().when(chunkedStructureService.needsChunking(smallText)).thenReturn(false);
         lenient().when(llmClient.generateStructure(eq(smallText), any())).thenReturn(aiNodes);
-        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+        lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
             .thenAnswer(invocation -> {
                 List<DocumentNode> nodes = invocation.getArgument(0);
-                String documentText = invocation.getArgument(1);
+                String documentText = invocation.<AnchorIndex>getArgument(1).documentText();
                 nodes.forEach(node -> {
                     node.setStartOffset(0);
                     node.setEndOffset(Math.min(100, documentText.length()));
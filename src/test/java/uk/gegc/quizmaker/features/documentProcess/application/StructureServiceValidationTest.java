@@ -99,7 +99,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes); // Return as-is with offsets already set
 
             // When & Then - Line 460-461 covered
@@ -120,7 +120,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
 
             // When & Then - Line 460-461 covered
@@ -140,7 +140,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
 
             // When & Then - Line 465-466 covered
@@ -157,7 +157,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             lenient().when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            lenient().when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenAnswer(inv -> {
                         List<DocumentNode> n = inv.getArgument(0);
                         n.forEach(node -> {
@@ -184,7 +184,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
 
             // When & Then - Line 471-472 covered
@@ -209,7 +209,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenAnswer(inv -> {
                         List<DocumentNode> fresh = inv.getArgument(0);
                         // Copy offsets from original nodes to fresh copies
@@ -256,7 +256,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenAnswer(inv -> {
                         List<DocumentNode> fresh = inv.getArgument(0);
                         fresh.get(0).setStartOffset(0);
@@ -303,7 +303,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
             
             DocumentNode savedDepth0 = createValidNode("Level 0", 0, 100, (short) 0);
@@ -347,7 +347,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
             
             DocumentNode savedRoot = createValidNode("Root", 0, 50, (short) 0);
@@ -384,7 +384,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
             when(nodeRepository.saveAll(anyList())).thenAnswer(inv -> {
                 List<DocumentNode> saved = inv.getArgument(0);
@@ -413,7 +413,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
             
             DocumentNode savedRoot1 = createValidNode("Root 1", 0, 40, (short) 0);
@@ -456,7 +456,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
             
             DocumentNode savedRoot = createValidNode("Root", 0, 100, (short) 0);
@@ -493,7 +493,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
             
             DocumentNode savedRoot = createValidNode("Root", 0, 100, (short) 0);
@@ -530,7 +530,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
             
             DocumentNode savedDepth0 = createValidNode("Level 0", 0, 100, (short) 0);
@@ -579,7 +579,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
             
             DocumentNode savedRoot = createValidNode("Root", 0, 100, (short) 0);
@@ -616,7 +616,7 @@ class StructureServiceValidationTest {
             
             when(documentRepository.findById(documentId)).thenReturn(Optional.of(document));
             when(llmClient.generateStructure(anyString(), any())).thenReturn(nodes);
-            when(anchorOffsetCalculator.calculateOffsets(anyList(), anyString()))
+            when(anchorOffsetCalculator.calculateOffsets(anyList(), any(AnchorIndex.class)))
                     .thenReturn(nodes);
             
             DocumentNode savedTree1 = createValidNode("Tree 1", 0, 40, (short) 0);
@@ -126,6 +126,20 @@ class TokenCounterTest {
         assertThat(maxChars).isLessThan(40_000);
     }
 
+    @Test
+    @DisplayName("Should estimate tokens from length without the safety margin")
+    void shouldEstimateTokensForCharsWithoutSafetyMargin() {
+        // 4,999 tokens * 3.8 = 18,996.2 chars, so 18,997 chars is the first length estimated at 5,000 tokens
+        assertThat(tokenCounter.estimateTokensForChars(18_996)).isEqualTo(4_999);
+        assertThat(tokenCounter.estimateTokensForChars(18_997)).isEqualTo(5_000);
+        assertThat(tokenCounter.estimateTokensForChars(18_997))
+                .isEqualTo(tokenCounter.estimateTokens("x".repeat(18_997)));
+        assertThat(tokenCounter.estimateTokensForChars(0)).isZero();
+
+        // The safety-adjusted char budget for 5,000 tokens sits well below that boundary
+        assertThat(tokenCounter.estimateMaxCharsForTokens(5_000)).isEqualTo(17_100);
+    }
+
     @Test
     @DisplayName("Should demonstrate fix for 400k token document issue")
     void shouldDemonstrateFixForLargeDocumentIssue() {
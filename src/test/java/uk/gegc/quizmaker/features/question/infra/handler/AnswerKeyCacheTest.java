@@ -0,0 +1,131 @@
+package uk.gegc.quizmaker.features.question.infra.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import uk.gegc.quizmaker.features.attempt.api.dto.AnswerSubmissionRequest;
+import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
+import uk.gegc.quizmaker.features.question.domain.model.Answer;
+import uk.gegc.quizmaker.features.question.domain.model.Question;
+import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Execution(ExecutionMode.CONCURRENT)
+class AnswerKeyCacheTest {
+
+    private static final AnswerKey KEY = new AnswerKey() {
+    };
+
+    private AtomicInteger compilations;
+
+    @BeforeEach
+    void setUp() {
+        compilations = new AtomicInteger();
+    }
+
+    @Test
+    void get_sameVersion_compilesOnce() {
+        AnswerKeyCache cache = new AnswerKeyCache(10);
+        Question question = question(Instant.parse("2025-01-01T00:00:00Z"));
+
+        cache.get(question, this::compile);
+        cache.get(question, this::compile);
+
+        assertEquals(1, compilations.get());
+    }
+
+    @Test
+    void get_newVersion_recompiles() {
+        AnswerKeyCache cache = new AnswerKeyCache(10);
+        Question question = question(Instant.parse("2025-01-01T00:00:00Z"));
+
+        cache.get(question, this::compile);
+        question.setUpdatedAt(Instant.parse("2025-01-02T00:00:00Z"));
+        cache.get(question, this::compile);
+
+        assertEquals(2, compilations.get());
+    }
+
+    @Test
+    void evict_forcesRecompile() {
+        AnswerKeyCache cache = new AnswerKeyCache(10);
+        Question question = question(Instant.parse("2025-01-01T00:00:00Z"));
+
+        cache.get(question, this::compile);
+        cache.evict(question.getId());
+        cache.get(question, this::compile);
+
+        assertEquals(2, compilations.get());
+    }
+
+    @Test
+    void get_unsavedQuestion_isNotCached() {
+        AnswerKeyCache cache = new AnswerKeyCache(10);
+        Question question = question(null);
+        question.setId(null);
+
+        cache.get(question, this::compile);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_overCapacity_evictsLeastRecentlyUsed() {
+        AnswerKeyCache cache = new AnswerKeyCache(2);
+        Question first = question(Instant.EPOCH);
+        Question second = question(Instant.EPOCH);
+        Question third = question(Instant.EPOCH);
+
+        cache.get(first, this::compile);
+        cache.get(second, this::compile);
+        cache.get(first, this::compile);
+        cache.get(third, this::compile);
+        cache.get(second, this::compile);
+
+        assertEquals(2, cache.size());
+        assertEquals(4, compilations.get());
+    }
+
+    @Test
+    void handle_scoresAgainstCachedKey() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        McqSingleHandler handler = new McqSingleHandler();
+        Question question = question(Instant.EPOCH);
+        question.setType(QuestionType.MCQ_SINGLE);
+        question.setContent("""
+                {"options":[
+                  {"id":"a","text":"A","correct":false},
+                  {"id":"b","text":"B","correct":true}
+                ]}
+                """);
+        Attempt attempt = new Attempt();
+
+        Answer correct = handler.handle(attempt, question, new AnswerSubmissionRequest(
+                question.getId(), mapper.readTree("{\"selectedOptionId\":\"b\"}"), null, null, null));
+        Answer wrong = handler.handle(attempt, question, new AnswerSubmissionRequest(
+                question.getId(), mapper.readTree("{\"selectedOptionId\":\"a\"}"), null, null, null));
+
+        assertTrue(correct.getIsCorrect());
+        assertFalse(wrong.getIsCorrect());
+        assertSame(handler.answerKeyFor(question), handler.answerKeyFor(question));
+    }
+
+    private AnswerKey compile(Question question) {
+        compilations.incrementAndGet();
+        return KEY;
+    }
+
+    private static Question question(Instant updatedAt) {
+        Question question = new Question();
+        question.setId(UUID.randomUUID());
+        question.setUpdatedAt(updatedAt);
+        return question;
+    }
+}
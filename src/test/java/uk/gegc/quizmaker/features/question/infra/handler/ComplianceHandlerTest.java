@@ -193,9 +193,9 @@ class ComplianceHandlerTest {
         assertTrue(ex.getMessage().contains("duplicate ID: 1"));
     }
 
-    // Answer Validation Tests (doHandle method)
+    // Answer Validation Tests (score method)
     @Test
-    void doHandle_correctAnswer_returnsCorrect() throws Exception {
+    void score_correctAnswer_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -206,7 +206,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedStatementIds\":[1]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -214,7 +214,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_incorrectAnswer_returnsIncorrect() throws Exception {
+    void score_incorrectAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -225,7 +225,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedStatementIds\":[2]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -233,7 +233,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_multipleCompliantStatements_correctAnswer() throws Exception {
+    void score_multipleCompliantStatements_correctAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -245,7 +245,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedStatementIds\":[1,2]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -253,7 +253,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_multipleCompliantStatements_partialAnswer() throws Exception {
+    void score_multipleCompliantStatements_partialAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -265,7 +265,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedStatementIds\":[1]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -273,7 +273,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_multipleCompliantStatements_extraAnswer() throws Exception {
+    void score_multipleCompliantStatements_extraAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -285,7 +285,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedStatementIds\":[1,2,3]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -293,7 +293,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_emptyResponse_returnsIncorrect() throws Exception {
+    void score_emptyResponse_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -304,7 +304,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedStatementIds\":[]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -312,7 +312,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_missingSelectedStatementIds_returnsIncorrect() throws Exception {
+    void score_missingSelectedStatementIds_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -323,7 +323,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.createObjectNode();
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -331,7 +331,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_nonexistentStatementId_returnsIncorrect() throws Exception {
+    void score_nonexistentStatementId_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -342,7 +342,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedStatementIds\":[999]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -350,7 +350,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_duplicateStatementIds_returnsIncorrect() throws Exception {
+    void score_duplicateStatementIds_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -361,7 +361,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedStatementIds\":[1,1]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -369,7 +369,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_orderDoesNotMatter() throws Exception {
+    void score_orderDoesNotMatter() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -382,8 +382,8 @@ class ComplianceHandlerTest {
         JsonNode response2 = mapper.readTree("{\"selectedStatementIds\":[2,1]}");
         
         // When
-        Answer answer1 = handler.doHandle(testAttempt, testQuestion, content, response1);
-        Answer answer2 = handler.doHandle(testAttempt, testQuestion, content, response2);
+        Answer answer1 = handler.score(handler.compileAnswerKey(content), response1);
+        Answer answer2 = handler.score(handler.compileAnswerKey(content), response2);
         
         // Then
         assertTrue(answer1.getIsCorrect());
@@ -393,7 +393,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_twoStatements_correctAnswer() throws Exception {
+    void score_twoStatements_correctAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -404,7 +404,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedStatementIds\":[1]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -412,7 +412,7 @@ class ComplianceHandlerTest {
     }
 
     @Test
-    void doHandle_twoStatements_incorrectAnswer() throws Exception {
+    void score_twoStatements_incorrectAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"statements":[
@@ -423,7 +423,7 @@ class ComplianceHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedStatementIds\":[2]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -196,9 +196,9 @@ class FillGapHandlerTest {
         assertTrue(ex.getMessage().contains("sequential integers"));
     }
 
-    // Answer Validation Tests (doHandle method)
+    // Answer Validation Tests (score method)
     @Test
-    void doHandle_correctAnswer_returnsCorrect() throws Exception {
+    void score_correctAnswer_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"sky"}]}
@@ -206,7 +206,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":1,\"answer\":\"sky\"}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -214,7 +214,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_contentWithOptions_usesGapsForScoringAndIgnoresOptions() throws Exception {
+    void score_contentWithOptions_usesGapsForScoringAndIgnoresOptions() throws Exception {
         JsonNode content = mapper.readTree("""
                 {
                   "text":"The {1} is blue",
@@ -224,14 +224,14 @@ class FillGapHandlerTest {
                 """);
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":1,\"answer\":\"sky\"}]}");
 
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
 
         assertTrue(answer.getIsCorrect());
         assertEquals(1.0, answer.getScore());
     }
 
     @Test
-    void doHandle_incorrectAnswer_returnsIncorrect() throws Exception {
+    void score_incorrectAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"sky"}]}
@@ -239,7 +239,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":1,\"answer\":\"ocean\"}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -247,7 +247,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_caseInsensitiveMatch_returnsCorrect() throws Exception {
+    void score_caseInsensitiveMatch_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"Sky"}]}
@@ -255,7 +255,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":1,\"answer\":\"sky\"}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -263,7 +263,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_whitespaceInsensitiveMatch_returnsCorrect() throws Exception {
+    void score_whitespaceInsensitiveMatch_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"sky"}]}
@@ -271,7 +271,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":1,\"answer\":\"  sky  \"}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -279,7 +279,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_multipleGaps_allCorrect() throws Exception {
+    void score_multipleGaps_allCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is {2}","gaps":[{"id":1,"answer":"sky"},{"id":2,"answer":"blue"}]}
@@ -287,7 +287,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":1,\"answer\":\"sky\"},{\"gapId\":2,\"answer\":\"blue\"}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -295,7 +295,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_multipleGaps_partialCorrect() throws Exception {
+    void score_multipleGaps_partialCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is {2}","gaps":[{"id":1,"answer":"sky"},{"id":2,"answer":"blue"}]}
@@ -303,7 +303,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":1,\"answer\":\"sky\"},{\"gapId\":2,\"answer\":\"red\"}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -311,7 +311,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_missingAnswer_returnsIncorrect() throws Exception {
+    void score_missingAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"sky"}]}
@@ -319,7 +319,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -327,7 +327,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_missingAnswersField_returnsIncorrect() throws Exception {
+    void score_missingAnswersField_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"sky"}]}
@@ -335,7 +335,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.createObjectNode();
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -343,7 +343,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_nonexistentGapId_returnsIncorrect() throws Exception {
+    void score_nonexistentGapId_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"sky"}]}
@@ -351,7 +351,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":999,\"answer\":\"sky\"}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -359,7 +359,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_emptyAnswer_returnsIncorrect() throws Exception {
+    void score_emptyAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"sky"}]}
@@ -367,7 +367,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":1,\"answer\":\"\"}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -375,7 +375,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_blankAnswer_returnsIncorrect() throws Exception {
+    void score_blankAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"sky"}]}
@@ -383,7 +383,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":1,\"answer\":\"   \"}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -391,7 +391,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_missingGapId_returnsIncorrect() throws Exception {
+    void score_missingGapId_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"sky"}]}
@@ -399,7 +399,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"answer\":\"sky\"}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -407,7 +407,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_missingAnswerField_returnsIncorrect() throws Exception {
+    void score_missingAnswerField_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is blue","gaps":[{"id":1,"answer":"sky"}]}
@@ -415,7 +415,7 @@ class FillGapHandlerTest {
         JsonNode response = mapper.readTree("{\"answers\":[{\"gapId\":1}]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -423,7 +423,7 @@ class FillGapHandlerTest {
     }
 
     @Test
-    void doHandle_orderDoesNotMatter() throws Exception {
+    void score_orderDoesNotMatter() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"text":"The {1} is {2}","gaps":[{"id":1,"answer":"sky"},{"id":2,"answer":"blue"}]}
@@ -432,8 +432,8 @@ class FillGapHandlerTest {
         JsonNode response2 = mapper.readTree("{\"answers\":[{\"gapId\":2,\"answer\":\"blue\"},{\"gapId\":1,\"answer\":\"sky\"}]}");
         
         // When
-        Answer answer1 = handler.doHandle(testAttempt, testQuestion, content, response1);
-        Answer answer2 = handler.doHandle(testAttempt, testQuestion, content, response2);
+        Answer answer1 = handler.score(handler.compileAnswerKey(content), response1);
+        Answer answer2 = handler.score(handler.compileAnswerKey(content), response2);
         
         // Then
         assertTrue(answer1.getIsCorrect());
@@ -193,9 +193,9 @@ class HotspotHandlerTest {
                 () -> handler.validateContent(new FakeReq(p)));
     }
 
-    // Answer Validation Tests (doHandle method)
+    // Answer Validation Tests (score method)
     @Test
-    void doHandle_correctRegion_returnsCorrect() throws Exception {
+    void score_correctRegion_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -206,7 +206,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":1}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -214,7 +214,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_incorrectRegion_returnsIncorrect() throws Exception {
+    void score_incorrectRegion_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -225,7 +225,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":2}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -233,7 +233,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_multipleCorrectRegions_correctAnswer() throws Exception {
+    void score_multipleCorrectRegions_correctAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -245,7 +245,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":1}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -253,7 +253,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_multipleCorrectRegions_anotherCorrectAnswer() throws Exception {
+    void score_multipleCorrectRegions_anotherCorrectAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -265,7 +265,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":2}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -273,7 +273,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_missingResponse_returnsIncorrect() throws Exception {
+    void score_missingResponse_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -284,7 +284,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.createObjectNode();
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -292,7 +292,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_nonexistentRegionId_returnsIncorrect() throws Exception {
+    void score_nonexistentRegionId_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -303,7 +303,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":999}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -311,7 +311,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_nullSelectedRegionId_returnsIncorrect() throws Exception {
+    void score_nullSelectedRegionId_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -322,7 +322,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":null}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -330,7 +330,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_nonIntegerSelectedRegionId_returnsIncorrect() throws Exception {
+    void score_nonIntegerSelectedRegionId_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -341,7 +341,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":\"not_a_number\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -349,7 +349,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_twoRegions_correctAnswer() throws Exception {
+    void score_twoRegions_correctAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -360,7 +360,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":1}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -368,7 +368,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_twoRegions_incorrectAnswer() throws Exception {
+    void score_twoRegions_incorrectAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -379,7 +379,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":2}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -387,7 +387,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_fiveRegions_correctAnswer() throws Exception {
+    void score_fiveRegions_correctAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -401,7 +401,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":2}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -409,7 +409,7 @@ class HotspotHandlerTest {
     }
 
     @Test
-    void doHandle_fiveRegions_incorrectAnswer() throws Exception {
+    void score_fiveRegions_incorrectAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"imageUrl":"http://x","regions":[
@@ -423,7 +423,7 @@ class HotspotHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedRegionId\":1}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -103,7 +103,7 @@ class MatchingHandlerTest {
     }
 
     @Test
-    void doHandle_allCorrect_returnsCorrect() throws Exception {
+    void score_allCorrect_returnsCorrect() throws Exception {
         JsonNode content = mapper.readTree("""
                 {
                   "left": [
@@ -119,13 +119,13 @@ class MatchingHandlerTest {
         JsonNode response = mapper.readTree("""
                 {"matches":[{"leftId":1,"rightId":10},{"leftId":2,"rightId":11}]}
                 """);
-        Answer ans = handler.doHandle(attempt, question, content, response);
+        Answer ans = handler.score(handler.compileAnswerKey(content), response);
         assertTrue(ans.getIsCorrect());
         assertEquals(1.0, ans.getScore());
     }
 
     @Test
-    void doHandle_partialOrWrong_returnsIncorrect() throws Exception {
+    void score_partialOrWrong_returnsIncorrect() throws Exception {
         JsonNode content = mapper.readTree("""
                 {
                   "left": [
@@ -141,7 +141,7 @@ class MatchingHandlerTest {
         JsonNode response = mapper.readTree("""
                 {"matches":[{"leftId":1,"rightId":11}]}
                 """);
-        Answer ans = handler.doHandle(attempt, question, content, response);
+        Answer ans = handler.score(handler.compileAnswerKey(content), response);
         assertFalse(ans.getIsCorrect());
         assertEquals(0.0, ans.getScore());
     }
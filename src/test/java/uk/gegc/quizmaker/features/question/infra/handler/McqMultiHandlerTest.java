@@ -191,9 +191,9 @@ class McqMultiHandlerTest {
         assertTrue(ex.getMessage().contains("duplicate ID: a"));
     }
 
-    // Answer Validation Tests (doHandle method)
+    // Answer Validation Tests (score method)
     @Test
-    void doHandle_correctAnswer_returnsCorrect() throws Exception {
+    void score_correctAnswer_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -205,7 +205,7 @@ class McqMultiHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionIds\":[\"a\",\"c\"]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -213,7 +213,7 @@ class McqMultiHandlerTest {
     }
 
     @Test
-    void doHandle_incorrectAnswer_returnsIncorrect() throws Exception {
+    void score_incorrectAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -225,7 +225,7 @@ class McqMultiHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionIds\":[\"a\",\"b\"]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -233,7 +233,7 @@ class McqMultiHandlerTest {
     }
 
     @Test
-    void doHandle_partialAnswer_returnsIncorrect() throws Exception {
+    void score_partialAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -245,7 +245,7 @@ class McqMultiHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionIds\":[\"a\"]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -253,7 +253,7 @@ class McqMultiHandlerTest {
     }
 
     @Test
-    void doHandle_extraAnswer_returnsIncorrect() throws Exception {
+    void score_extraAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -265,7 +265,7 @@ class McqMultiHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionIds\":[\"a\",\"c\",\"b\"]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -273,7 +273,7 @@ class McqMultiHandlerTest {
     }
 
     @Test
-    void doHandle_emptyResponse_returnsIncorrect() throws Exception {
+    void score_emptyResponse_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -284,7 +284,7 @@ class McqMultiHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionIds\":[]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -292,7 +292,7 @@ class McqMultiHandlerTest {
     }
 
     @Test
-    void doHandle_missingSelectedOptionIds_returnsIncorrect() throws Exception {
+    void score_missingSelectedOptionIds_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -303,7 +303,7 @@ class McqMultiHandlerTest {
         JsonNode response = mapper.createObjectNode();
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -311,7 +311,7 @@ class McqMultiHandlerTest {
     }
 
     @Test
-    void doHandle_nonexistentOptionId_returnsIncorrect() throws Exception {
+    void score_nonexistentOptionId_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -322,7 +322,7 @@ class McqMultiHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionIds\":[\"nonexistent\"]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -330,7 +330,7 @@ class McqMultiHandlerTest {
     }
 
     @Test
-    void doHandle_singleCorrectAnswer() throws Exception {
+    void score_singleCorrectAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -342,7 +342,7 @@ class McqMultiHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionIds\":[\"a\"]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -350,7 +350,7 @@ class McqMultiHandlerTest {
     }
 
     @Test
-    void doHandle_noCorrectAnswers_selected() throws Exception {
+    void score_noCorrectAnswers_selected() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -362,7 +362,7 @@ class McqMultiHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionIds\":[\"b\",\"c\"]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -370,7 +370,7 @@ class McqMultiHandlerTest {
     }
 
     @Test
-    void doHandle_orderDoesNotMatter() throws Exception {
+    void score_orderDoesNotMatter() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -383,8 +383,8 @@ class McqMultiHandlerTest {
         JsonNode response2 = mapper.readTree("{\"selectedOptionIds\":[\"c\",\"a\"]}");
         
         // When
-        Answer answer1 = handler.doHandle(testAttempt, testQuestion, content, response1);
-        Answer answer2 = handler.doHandle(testAttempt, testQuestion, content, response2);
+        Answer answer1 = handler.score(handler.compileAnswerKey(content), response1);
+        Answer answer2 = handler.score(handler.compileAnswerKey(content), response2);
         
         // Then
         assertTrue(answer1.getIsCorrect());
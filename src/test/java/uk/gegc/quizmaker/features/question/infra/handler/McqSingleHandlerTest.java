@@ -208,9 +208,9 @@ class McqSingleHandlerTest {
                 () -> handler.validateContent(new FakeReq(null)));
     }
 
-    // Answer Validation Tests (doHandle method)
+    // Answer Validation Tests (score method)
     @Test
-    void doHandle_correctAnswer_returnsCorrect() throws Exception {
+    void score_correctAnswer_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -221,7 +221,7 @@ class McqSingleHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionId\":\"b\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -229,7 +229,7 @@ class McqSingleHandlerTest {
     }
 
     @Test
-    void doHandle_incorrectAnswer_returnsIncorrect() throws Exception {
+    void score_incorrectAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -240,7 +240,7 @@ class McqSingleHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionId\":\"a\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -248,7 +248,7 @@ class McqSingleHandlerTest {
     }
 
     @Test
-    void doHandle_emptyResponse_returnsIncorrect() throws Exception {
+    void score_emptyResponse_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -259,7 +259,7 @@ class McqSingleHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionId\":\"\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -267,7 +267,7 @@ class McqSingleHandlerTest {
     }
 
     @Test
-    void doHandle_missingSelectedOptionId_returnsIncorrect() throws Exception {
+    void score_missingSelectedOptionId_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -278,7 +278,7 @@ class McqSingleHandlerTest {
         JsonNode response = mapper.createObjectNode();
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -286,7 +286,7 @@ class McqSingleHandlerTest {
     }
 
     @Test
-    void doHandle_nonexistentOptionId_returnsIncorrect() throws Exception {
+    void score_nonexistentOptionId_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -297,7 +297,7 @@ class McqSingleHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionId\":\"nonexistent\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -305,7 +305,7 @@ class McqSingleHandlerTest {
     }
 
     @Test
-    void doHandle_caseInsensitiveComparison_returnsCorrect() throws Exception {
+    void score_caseInsensitiveComparison_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -316,7 +316,7 @@ class McqSingleHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionId\":\"b\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect()); // Should be false because "b" != "B"
@@ -324,7 +324,7 @@ class McqSingleHandlerTest {
     }
 
     @Test
-    void doHandle_multipleOptions_correctAnswer() throws Exception {
+    void score_multipleOptions_correctAnswer() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"options":[
@@ -337,7 +337,7 @@ class McqSingleHandlerTest {
         JsonNode response = mapper.readTree("{\"selectedOptionId\":\"c\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
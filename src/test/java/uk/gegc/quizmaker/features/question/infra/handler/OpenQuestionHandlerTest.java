@@ -79,15 +79,15 @@ class OpenQuestionHandlerTest {
                 () -> handler.validateContent(new FakeReq(null)));
     }
 
-    // Answer Validation Tests (doHandle method)
+    // Answer Validation Tests (score method)
     @Test
-    void doHandle_exactMatch_returnsCorrect() throws Exception {
+    void score_exactMatch_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The correct answer\"}");
         JsonNode response = mapper.readTree("{\"answer\":\"The correct answer\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -95,13 +95,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_caseInsensitiveMatch_returnsCorrect() throws Exception {
+    void score_caseInsensitiveMatch_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The Correct Answer\"}");
         JsonNode response = mapper.readTree("{\"answer\":\"the correct answer\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -109,13 +109,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_whitespaceInsensitiveMatch_returnsCorrect() throws Exception {
+    void score_whitespaceInsensitiveMatch_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The correct answer\"}");
         JsonNode response = mapper.readTree("{\"answer\":\"  The correct answer  \"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -123,13 +123,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_incorrectAnswer_returnsIncorrect() throws Exception {
+    void score_incorrectAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The correct answer\"}");
         JsonNode response = mapper.readTree("{\"answer\":\"Wrong answer\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -137,13 +137,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_partialMatch_returnsIncorrect() throws Exception {
+    void score_partialMatch_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The correct answer\"}");
         JsonNode response = mapper.readTree("{\"answer\":\"correct answer\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -151,13 +151,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_emptyResponse_returnsIncorrect() throws Exception {
+    void score_emptyResponse_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The correct answer\"}");
         JsonNode response = mapper.readTree("{\"answer\":\"\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -165,13 +165,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_blankResponse_returnsIncorrect() throws Exception {
+    void score_blankResponse_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The correct answer\"}");
         JsonNode response = mapper.readTree("{\"answer\":\"   \"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -179,13 +179,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_missingAnswerField_returnsIncorrect() throws Exception {
+    void score_missingAnswerField_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The correct answer\"}");
         JsonNode response = mapper.createObjectNode();
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -193,13 +193,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_nullAnswer_returnsIncorrect() throws Exception {
+    void score_nullAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The correct answer\"}");
         JsonNode response = mapper.readTree("{\"answer\":null}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -207,13 +207,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_nonStringAnswer_returnsIncorrect() throws Exception {
+    void score_nonStringAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The correct answer\"}");
         JsonNode response = mapper.readTree("{\"answer\":123}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -221,14 +221,14 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_longAnswer() throws Exception {
+    void score_longAnswer() throws Exception {
         // Given
         String longAnswer = "This is a very long answer that contains many words and should be handled correctly by the system. It includes various punctuation marks and different types of content.";
         JsonNode content = mapper.readTree("{\"answer\":\"" + longAnswer + "\"}");
         JsonNode response = mapper.readTree("{\"answer\":\"" + longAnswer + "\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -236,13 +236,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_specialCharacters() throws Exception {
+    void score_specialCharacters() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"Answer with special chars: !@#$%^&*()_+-=[]{}|;':\\\",./<>?\"}");
         JsonNode response = mapper.readTree("{\"answer\":\"Answer with special chars: !@#$%^&*()_+-=[]{}|;':\\\",./<>?\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -250,13 +250,13 @@ class OpenQuestionHandlerTest {
     }
 
     @Test
-    void doHandle_numbersAndText() throws Exception {
+    void score_numbersAndText() throws Exception {
         // Given
         JsonNode content = mapper.readTree("{\"answer\":\"The answer is 42\"}");
         JsonNode response = mapper.readTree("{\"answer\":\"The answer is 42\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -154,9 +154,9 @@ class OrderingHandlerTest {
         assertTrue(ex.getMessage().contains("duplicate ID: 1"));
     }
 
-    // Answer Validation Tests (doHandle method)
+    // Answer Validation Tests (score method)
     @Test
-    void doHandle_correctOrder_returnsCorrect() throws Exception {
+    void score_correctOrder_returnsCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -168,7 +168,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[1,2,3]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -176,7 +176,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_incorrectOrder_returnsIncorrect() throws Exception {
+    void score_incorrectOrder_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -188,7 +188,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[3,1,2]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -196,7 +196,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_partialOrder_returnsIncorrect() throws Exception {
+    void score_partialOrder_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -208,7 +208,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[1,2]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -216,7 +216,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_extraItems_returnsIncorrect() throws Exception {
+    void score_extraItems_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -227,7 +227,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[1,2,999]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -235,7 +235,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_emptyResponse_returnsIncorrect() throws Exception {
+    void score_emptyResponse_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -246,7 +246,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -254,7 +254,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_missingOrderedItemIds_returnsIncorrect() throws Exception {
+    void score_missingOrderedItemIds_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -265,7 +265,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.createObjectNode();
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -273,7 +273,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_nonexistentItemId_returnsIncorrect() throws Exception {
+    void score_nonexistentItemId_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -284,7 +284,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[999]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -292,7 +292,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_duplicateItemIds_returnsIncorrect() throws Exception {
+    void score_duplicateItemIds_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -303,7 +303,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[1,1]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -311,7 +311,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_reverseOrder_returnsIncorrect() throws Exception {
+    void score_reverseOrder_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -323,7 +323,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[3,2,1]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -331,7 +331,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_twoItems_correctOrder() throws Exception {
+    void score_twoItems_correctOrder() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -342,7 +342,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[1,2]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -350,7 +350,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_twoItems_incorrectOrder() throws Exception {
+    void score_twoItems_incorrectOrder() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -361,7 +361,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[2,1]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -369,7 +369,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_fiveItems_correctOrder() throws Exception {
+    void score_fiveItems_correctOrder() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -383,7 +383,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[1,2,3,4,5]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -391,7 +391,7 @@ class OrderingHandlerTest {
     }
 
     @Test
-    void doHandle_fiveItems_partialCorrect() throws Exception {
+    void score_fiveItems_partialCorrect() throws Exception {
         // Given
         JsonNode content = mapper.readTree("""
                 {"items":[
@@ -405,7 +405,7 @@ class OrderingHandlerTest {
         JsonNode response = mapper.readTree("{\"orderedItemIds\":[1,2,4,3,5]}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
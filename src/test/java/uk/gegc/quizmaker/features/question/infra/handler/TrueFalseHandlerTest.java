@@ -68,15 +68,15 @@ public class TrueFalseHandlerTest {
                 () -> handler.validateContent(new FakeRequest(node)));
     }
 
-    // Answer Validation Tests (doHandle method)
+    // Answer Validation Tests (score method)
     @Test
-    void doHandle_correctTrueAnswer_returnsCorrect() throws Exception {
+    void score_correctTrueAnswer_returnsCorrect() throws Exception {
         // Given
         JsonNode content = objectMapper.readTree("{\"answer\":true}");
         JsonNode response = objectMapper.readTree("{\"answer\":true}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -84,13 +84,13 @@ public class TrueFalseHandlerTest {
     }
 
     @Test
-    void doHandle_correctFalseAnswer_returnsCorrect() throws Exception {
+    void score_correctFalseAnswer_returnsCorrect() throws Exception {
         // Given
         JsonNode content = objectMapper.readTree("{\"answer\":false}");
         JsonNode response = objectMapper.readTree("{\"answer\":false}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -98,13 +98,13 @@ public class TrueFalseHandlerTest {
     }
 
     @Test
-    void doHandle_incorrectAnswer_returnsIncorrect() throws Exception {
+    void score_incorrectAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = objectMapper.readTree("{\"answer\":true}");
         JsonNode response = objectMapper.readTree("{\"answer\":false}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -112,13 +112,13 @@ public class TrueFalseHandlerTest {
     }
 
     @Test
-    void doHandle_missingAnswerField_returnsIncorrect() throws Exception {
+    void score_missingAnswerField_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = objectMapper.readTree("{\"answer\":true}");
         JsonNode response = objectMapper.createObjectNode();
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // When
         assertFalse(answer.getIsCorrect());
@@ -126,13 +126,13 @@ public class TrueFalseHandlerTest {
     }
 
     @Test
-    void doHandle_nonBooleanAnswer_returnsIncorrect() throws Exception {
+    void score_nonBooleanAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = objectMapper.readTree("{\"answer\":true}");
         JsonNode response = objectMapper.readTree("{\"answer\":\"maybe\"}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -140,13 +140,13 @@ public class TrueFalseHandlerTest {
     }
 
     @Test
-    void doHandle_nullAnswer_returnsIncorrect() throws Exception {
+    void score_nullAnswer_returnsIncorrect() throws Exception {
         // Given
         JsonNode content = objectMapper.readTree("{\"answer\":true}");
         JsonNode response = objectMapper.readTree("{\"answer\":null}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -154,13 +154,13 @@ public class TrueFalseHandlerTest {
     }
 
     @Test
-    void doHandle_oppositeAnswers() throws Exception {
+    void score_oppositeAnswers() throws Exception {
         // Given
         JsonNode content = objectMapper.readTree("{\"answer\":true}");
         JsonNode response = objectMapper.readTree("{\"answer\":false}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertFalse(answer.getIsCorrect());
@@ -168,13 +168,13 @@ public class TrueFalseHandlerTest {
     }
 
     @Test
-    void doHandle_bothFalse() throws Exception {
+    void score_bothFalse() throws Exception {
         // Given
         JsonNode content = objectMapper.readTree("{\"answer\":false}");
         JsonNode response = objectMapper.readTree("{\"answer\":false}");
         
         // When
-        Answer answer = handler.doHandle(testAttempt, testQuestion, content, response);
+        Answer answer = handler.score(handler.compileAnswerKey(content), response);
         
         // Then
         assertTrue(answer.getIsCorrect());
@@ -9,6 +9,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.features.category.domain.model.Category;
 import uk.gegc.quizmaker.features.category.domain.repository.CategoryRepository;
 import uk.gegc.quizmaker.features.quiz.api.dto.*;
@@ -81,6 +82,9 @@ class QuizCommandServiceImplTest {
     @Mock
     private QuizHashCalculator quizHashCalculator;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private QuizCommandServiceImpl quizCommandService;
     
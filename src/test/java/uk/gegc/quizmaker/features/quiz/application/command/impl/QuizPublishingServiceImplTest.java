@@ -8,6 +8,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
 import uk.gegc.quizmaker.features.question.domain.model.Question;
 import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
@@ -67,6 +68,9 @@ class QuizPublishingServiceImplTest {
     @Mock
     private QuizPublishValidator publishValidator;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private QuizPublishingServiceImpl publishingService;
     
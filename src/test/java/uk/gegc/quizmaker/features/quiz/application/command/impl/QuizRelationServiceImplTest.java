@@ -8,6 +8,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.features.category.domain.model.Category;
 import uk.gegc.quizmaker.features.category.domain.repository.CategoryRepository;
 import uk.gegc.quizmaker.features.question.domain.model.Question;
@@ -64,6 +65,9 @@ class QuizRelationServiceImplTest {
     @Mock
     private AccessPolicy accessPolicy;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private QuizRelationServiceImpl relationService;
     
@@ -9,7 +9,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizDto;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
@@ -26,6 +28,7 @@ import uk.gegc.quizmaker.shared.exception.ResourceNotFoundException;
 import uk.gegc.quizmaker.shared.security.AccessPolicy;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -60,6 +63,9 @@ class QuizVisibilityServiceImplTest {
     @Mock
     private QuizMapper quizMapper;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private QuizVisibilityServiceImpl visibilityService;
     
@@ -112,6 +118,8 @@ class QuizVisibilityServiceImplTest {
             assertThat(result).isNotNull();
             assertThat(quiz.getVisibility()).isEqualTo(Visibility.PRIVATE);
             verify(quizRepository).save(quiz);
+            verify(eventPublisher).publishEvent(argThat((QuizCatalogueChangedEvent event) ->
+                    event.getQuizIds().equals(List.of(quiz.getId()))));
         }
         
         @Test
@@ -18,12 +18,16 @@ import uk.gegc.quizmaker.features.quiz.domain.model.PrintOptions;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportFile;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportPayload;
+import uk.gegc.quizmaker.features.quiz.domain.model.export.StreamingExportPayload;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -889,6 +893,32 @@ class JsonExportRendererTest {
 
     // Helper Methods
 
+    // Streaming Tests
+
+    @Test
+    @DisplayName("renderTo: streams the same document as render and leaves the output open")
+    void renderTo_matchesRenderAndLeavesOutputOpen() throws Exception {
+        // Given
+        List<QuizExportDto> quizzes = List.of(createMinimalQuiz(), createFullQuiz());
+        ExportPayload payload = ExportPayload.of(quizzes, PrintOptions.defaults(), "quizzes_test");
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        // When
+        renderer.renderTo(StreamingExportPayload.of(payload), output);
+
+        // Then
+        try (InputStream is = renderer.render(payload).contentSupplier().get()) {
+            assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(new String(is.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertThat(closed).isFalse();
+    }
+
     private QuizExportDto createMinimalQuiz() {
         return new QuizExportDto(
                 UUID.randomUUID(),
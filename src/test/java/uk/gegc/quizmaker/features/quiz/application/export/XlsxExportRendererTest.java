@@ -18,10 +18,14 @@ import uk.gegc.quizmaker.features.quiz.domain.model.PrintOptions;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportFile;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportPayload;
+import uk.gegc.quizmaker.features.quiz.domain.model.export.StreamingExportPayload;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
 
@@ -539,6 +543,34 @@ class XlsxExportRendererTest {
 
     // Helper Methods
 
+    // Streaming Tests
+
+    @Test
+    @DisplayName("renderTo: consumes the quiz source once and writes an XLSX package")
+    void renderTo_streamsWorkbookFromLazySource() throws Exception {
+        // Given: a one-shot source, as produced by paged database reads
+        List<QuizExportDto> quizzes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            quizzes.add(createQuizWithQuestions(List.of(
+                    createTrueFalseQuestion("Q" + i, i % 2 == 0),
+                    createMcqSingleQuestion("MCQ " + i))));
+        }
+        Iterator<QuizExportDto> source = quizzes.iterator();
+        StreamingExportPayload payload = new StreamingExportPayload(
+                () -> source, PrintOptions.defaults(), "stream", null, null, null);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        renderer.renderTo(payload, output);
+
+        // Then
+        assertThat(source.hasNext()).isFalse();
+        byte[] bytes = output.toByteArray();
+        assertThat(bytes.length).isGreaterThan(4);
+        // XLSX is a ZIP container
+        assertThat(new String(bytes, 0, 2, StandardCharsets.US_ASCII)).isEqualTo("PK");
+    }
+
     private QuizExportDto createMinimalQuiz() {
         return new QuizExportDto(
                 UUID.randomUUID(), "Test Quiz", "Description",
@@ -0,0 +1,152 @@
+package uk.gegc.quizmaker.features.quiz.application.generation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gegc.quizmaker.features.quiz.domain.model.GenerationStatus;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationJobRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Quiz generation cancellation registry")
+class QuizGenerationCancellationRegistryTest {
+
+    private final QuizGenerationJobRepository jobRepository = mock(QuizGenerationJobRepository.class);
+    private final UUID jobId = UUID.randomUUID();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("A local cancel is visible immediately and runs listeners without a status query")
+    void localCancelFlipsTokenAndRunsListeners() {
+        QuizGenerationCancellationRegistry registry = new QuizGenerationCancellationRegistry(jobRepository, Duration.ofHours(1));
+        AtomicInteger listenerRuns = new AtomicInteger();
+        registry.open(jobId).onCancel(listenerRuns::incrementAndGet);
+        // The first check on a fresh token polls once; after that the interval applies
+        assertThat(registry.isCancelled(jobId)).isFalse();
+
+        registry.cancel(jobId);
+        registry.cancel(jobId);
+
+        assertThat(registry.isCancelled(jobId)).isTrue();
+        assertThat(listenerRuns).hasValue(1);
+        verify(jobRepository, times(1)).findStatusById(jobId);
+    }
+
+    @Test
+    @DisplayName("Listeners registered after cancellation run straight away")
+    void lateListenerRunsImmediately() {
+        QuizGenerationCancellationRegistry registry = new QuizGenerationCancellationRegistry(jobRepository, Duration.ZERO);
+        QuizGenerationCancellationRegistry.CancellationToken token = registry.open(jobId);
+        registry.cancel(jobId);
+
+        AtomicInteger listenerRuns = new AtomicInteger();
+        token.onCancel(listenerRuns::incrementAndGet);
+
+        assertThat(listenerRuns).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Cancellation from another node is picked up by the throttled status poll")
+    void remoteCancelIsObservedThroughStatusPoll() {
+        QuizGenerationCancellationRegistry registry = new QuizGenerationCancellationRegistry(jobRepository, Duration.ZERO);
+        AtomicInteger listenerRuns = new AtomicInteger();
+        registry.open(jobId).onCancel(listenerRuns::incrementAndGet);
+        when(jobRepository.findStatusById(jobId))
+                .thenReturn(Optional.of(GenerationStatus.PROCESSING))
+                .thenReturn(Optional.of(GenerationStatus.CANCELLED));
+
+        assertThat(registry.isCancelled(jobId)).isFalse();
+        assertThat(registry.isCancelled(jobId)).isTrue();
+        // Once observed, the token answers without further queries
+        assertThat(registry.isCancelled(jobId)).isTrue();
+
+        assertThat(listenerRuns).hasValue(1);
+        verify(jobRepository, times(2)).findStatusById(jobId);
+    }
+
+    @Test
+    @DisplayName("Status polls are throttled per job while a token is open")
+    void statusPollIsThrottled() {
+        QuizGenerationCancellationRegistry registry = new QuizGenerationCancellationRegistry(jobRepository, Duration.ofHours(1));
+        registry.open(jobId);
+        when(jobRepository.findStatusById(jobId)).thenReturn(Optional.of(GenerationStatus.PROCESSING));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(registry.isCancelled(jobId)).isFalse();
+        }
+
+        verify(jobRepository, times(1)).findStatusById(jobId);
+    }
+
+    @Test
+    @DisplayName("The persisted check always queries and flips the local token when cancelled")
+    void persistedCheckBypassesThrottle() {
+        QuizGenerationCancellationRegistry registry = new QuizGenerationCancellationRegistry(jobRepository, Duration.ofHours(1));
+        AtomicInteger listenerRuns = new AtomicInteger();
+        registry.open(jobId).onCancel(listenerRuns::incrementAndGet);
+        when(jobRepository.findStatusById(jobId))
+                .thenReturn(Optional.of(GenerationStatus.PROCESSING))
+                .thenReturn(Optional.of(GenerationStatus.CANCELLED));
+
+        assertThat(registry.isCancelledPersisted(jobId)).isFalse();
+        assertThat(registry.isCancelledPersisted(jobId)).isTrue();
+
+        assertThat(registry.isCancelled(jobId)).isTrue();
+        assertThat(listenerRuns).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Jobs without a local token fall back to the status query; query failures do not cancel")
+    void unknownJobsAndQueryFailures() {
+        QuizGenerationCancellationRegistry registry = new QuizGenerationCancellationRegistry(jobRepository, Duration.ofHours(1));
+        UUID failingJobId = UUID.randomUUID();
+        when(jobRepository.findStatusById(jobId)).thenReturn(Optional.of(GenerationStatus.CANCELLED));
+        when(jobRepository.findStatusById(failingJobId)).thenThrow(new IllegalStateException("connection lost"));
+
+        assertThat(registry.isCancelled(jobId)).isTrue();
+        assertThat(registry.isCancelled(failingJobId)).isFalse();
+        assertThat(registry.isCancelled(null)).isFalse();
+        verify(jobRepository, never()).findStatusById(null);
+    }
+
+    @Test
+    @DisplayName("Cancel after commit waits for the transaction to commit")
+    void cancelAfterCommitWaitsForCommit() {
+        QuizGenerationCancellationRegistry registry = new QuizGenerationCancellationRegistry(jobRepository, Duration.ofHours(1));
+        QuizGenerationCancellationRegistry.CancellationToken token = registry.open(jobId);
+        TransactionSynchronizationManager.initSynchronization();
+
+        registry.cancelAfterCommit(jobId);
+        assertThat(token.isCancelled()).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(token.isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Closing a job drops its token")
+    void closeDropsToken() {
+        QuizGenerationCancellationRegistry registry = new QuizGenerationCancellationRegistry(jobRepository, Duration.ofHours(1));
+        registry.open(jobId);
+        registry.cancel(jobId);
+        registry.close(jobId);
+        when(jobRepository.findStatusById(jobId)).thenReturn(Optional.of(GenerationStatus.PROCESSING));
+
+        assertThat(registry.isCancelled(jobId)).isFalse();
+        assertThat(registry.open(jobId).isCancelled()).isFalse();
+    }
+}
@@ -19,9 +19,11 @@ import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationChec
 import uk.gegc.quizmaker.features.quiz.config.QuizJobProperties;
 import uk.gegc.quizmaker.features.quiz.domain.model.BillingState;
 import uk.gegc.quizmaker.features.quiz.domain.model.GenerationStatus;
+import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationChunkCheckpoint;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationFinalizationState;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationJob;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizGenerationOutputCheckpoint;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationChunkCheckpointRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationJobRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizGenerationOutputCheckpointRepository;
 
@@ -52,6 +54,9 @@ class QuizGenerationCheckpointServiceImplTest {
     @Mock
     private QuizGenerationOutputCheckpointRepository checkpointRepository;
 
+    @Mock
+    private QuizGenerationChunkCheckpointRepository chunkCheckpointRepository;
+
     @Mock
     private QuizGenerationJobRepository jobRepository;
 
@@ -66,6 +71,7 @@ class QuizGenerationCheckpointServiceImplTest {
         properties = new QuizJobProperties();
         service = new QuizGenerationCheckpointServiceImpl(
                 checkpointRepository,
+                chunkCheckpointRepository,
                 jobRepository,
                 codec,
                 properties,
@@ -95,6 +101,56 @@ class QuizGenerationCheckpointServiceImplTest {
         assertThat(saved.getCreatedAt()).isEqualTo(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC));
         assertThat(saved.getPayload()).contains("Durable question");
         assertThat(saved.getPayload()).doesNotContain("quizId", "tags", "createdAt");
+        verify(chunkCheckpointRepository).deleteByJobId(job.getId());
+    }
+
+    @Test
+    @DisplayName("Chunk checkpoint persists one chunk while the job is still generating")
+    void saveChunkPersistsChunkForGeneratingJob() {
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        service.saveChunk(job.getId(), 3, List.of(question()));
+
+        ArgumentCaptor<QuizGenerationChunkCheckpoint> captor =
+                ArgumentCaptor.forClass(QuizGenerationChunkCheckpoint.class);
+        verify(chunkCheckpointRepository).save(captor.capture());
+        QuizGenerationChunkCheckpoint saved = captor.getValue();
+        assertThat(saved.getId().getJobId()).isEqualTo(job.getId());
+        assertThat(saved.getChunkIndex()).isEqualTo(3);
+        assertThat(saved.getQuestionCount()).isEqualTo(1);
+        assertThat(saved.getPayload()).contains("Durable question");
+        verify(checkpointRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Chunk checkpoint is rejected once finalization has started")
+    void saveChunkRejectedAfterFinalizationStarted() {
+        job.setFinalizationState(QuizGenerationFinalizationState.FINALIZING);
+        when(jobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+
+        assertThatThrownBy(() -> service.saveChunk(job.getId(), 0, List.of(question())))
+                .isInstanceOf(QuizGenerationCheckpointException.class)
+                .hasMessageContaining("no longer eligible");
+
+        verify(chunkCheckpointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Chunk lookup decodes readable chunks and skips unreadable ones")
+    void findChunksDecodesReadableChunks() {
+        QuizGenerationCheckpointCodec.EncodedCheckpoint encoded = codec.encode(
+                Map.of(2, List.of(question())), properties.getFinalization().getCheckpointMaxBytes());
+        LocalDateTime createdAt = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+        when(chunkCheckpointRepository.findByJobId(job.getId())).thenReturn(List.of(
+                new QuizGenerationChunkCheckpoint(job.getId(), 2, encoded.schemaVersion(), encoded.payload(),
+                        encoded.questionCount(), createdAt),
+                new QuizGenerationChunkCheckpoint(job.getId(), 5, encoded.schemaVersion(), "{\"broken\"",
+                        encoded.questionCount(), createdAt)));
+
+        Map<Integer, List<Question>> chunks = service.findChunks(job.getId());
+
+        assertThat(chunks).containsOnlyKeys(2);
+        assertThat(chunks.get(2).get(0).getQuestionText()).isEqualTo("Durable question");
     }
 
     @Test
@@ -188,6 +244,7 @@ class QuizGenerationCheckpointServiceImplTest {
         SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
         service = new QuizGenerationCheckpointServiceImpl(
                 checkpointRepository,
+                chunkCheckpointRepository,
                 jobRepository,
                 codec,
                 properties,
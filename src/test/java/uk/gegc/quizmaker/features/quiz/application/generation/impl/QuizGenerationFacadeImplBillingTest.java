@@ -30,6 +30,7 @@ import uk.gegc.quizmaker.features.quiz.api.dto.GenerateQuizFromDocumentRequest;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizScope;
 import uk.gegc.quizmaker.features.quiz.application.QuizGenerationJobService;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizAssemblyService;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCancellationRegistry;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationFinalizationClaim;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationIdempotencyService;
@@ -121,6 +122,9 @@ class QuizGenerationFacadeImplBillingTest {
 
     @Mock
     private QuizGenerationCheckpointService checkpointService;
+
+    @Mock
+    private QuizGenerationCancellationRegistry cancellationRegistry;
     
     @Spy
     private ObjectMapper objectMapper = new ObjectMapper();
@@ -997,7 +1001,8 @@ class QuizGenerationFacadeImplBillingTest {
                     documentProcessingService, billingService, internalBillingService,
                     estimationService, generationTariffService, featureFlags, applicationEventPublisher,
                     transactionTemplate, quizAssemblyService,
-                    idempotencyService, requestCanonicalizer, quizJobProperties, checkpointService
+                    idempotencyService, requestCanonicalizer, quizJobProperties, checkpointService,
+                    cancellationRegistry
             );
             
             job.setBillingIdempotencyKeys(null); // Start with null to test creation path
@@ -34,6 +34,7 @@ import uk.gegc.quizmaker.features.quiz.api.dto.QuizScope;
 import uk.gegc.quizmaker.features.quiz.application.QuizGenerationJobService;
 import uk.gegc.quizmaker.features.quiz.application.generation.GenerationRequestFingerprint;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizAssemblyService;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCancellationRegistry;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationIdempotencyService;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationRequestCanonicalizer;
@@ -127,6 +128,9 @@ class QuizGenerationFacadeImplComplexFlowsTest {
     @Mock
     private QuizGenerationCheckpointService checkpointService;
 
+    @Mock
+    private QuizGenerationCancellationRegistry cancellationRegistry;
+
     @Mock
     private QuizGenerationOperation generationOperation;
     
@@ -37,6 +37,7 @@ import uk.gegc.quizmaker.features.quiz.api.dto.QuizScope;
 import uk.gegc.quizmaker.features.quiz.application.QuizGenerationJobService;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizAssemblyService;
 import uk.gegc.quizmaker.features.quiz.application.generation.GenerationRequestFingerprint;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCancellationRegistry;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationIdempotencyService;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationRequestCanonicalizer;
@@ -130,6 +131,9 @@ class QuizGenerationFacadeImplTest {
     @Mock
     private QuizGenerationCheckpointService checkpointService;
 
+    @Mock
+    private QuizGenerationCancellationRegistry cancellationRegistry;
+
     @Mock
     private QuizGenerationOperation generationOperation;
     
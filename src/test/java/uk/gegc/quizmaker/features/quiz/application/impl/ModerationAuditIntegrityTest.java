@@ -10,6 +10,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.features.quiz.domain.model.*;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizModerationAuditRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
@@ -57,6 +58,9 @@ class ModerationAuditIntegrityTest {
     @Mock
     private AppPermissionEvaluator appPermissionEvaluator;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ModerationServiceImpl moderationService;
 
@@ -1,5 +1,6 @@
 package uk.gegc.quizmaker.features.quiz.application.impl;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,7 +8,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import uk.gegc.quizmaker.features.quiz.api.dto.export.QuizExportDto;
 import uk.gegc.quizmaker.features.quiz.api.dto.export.QuizExportFilter;
 import uk.gegc.quizmaker.features.quiz.application.export.ExportRenderer;
 import uk.gegc.quizmaker.features.quiz.domain.model.ExportFormat;
@@ -15,17 +17,22 @@ import uk.gegc.quizmaker.features.quiz.domain.model.PrintOptions;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportFile;
 import uk.gegc.quizmaker.features.quiz.domain.model.export.ExportPayload;
+import uk.gegc.quizmaker.features.quiz.domain.model.export.StreamingExportPayload;
 import uk.gegc.quizmaker.features.quiz.domain.repository.export.QuizExportRepository;
 import uk.gegc.quizmaker.features.quiz.infra.mapping.QuizExportAssembler;
 import uk.gegc.quizmaker.shared.security.AppPermissionEvaluator;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -185,6 +192,72 @@ class QuizExportServiceImplTest {
         assertThat(payload.shuffleSeed()).isNotNull();
     }
 
+    @Test
+    @DisplayName("streamExport: walks keyset pages in order and detaches each page")
+    void streamExport_walksKeysetPages() throws Exception {
+        // Given: one full page followed by a partial one
+        EntityManager entityManager = mock(EntityManager.class);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+
+        Instant base = Instant.parse("2025-01-01T00:00:00Z");
+        List<Quiz> firstPage = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            firstPage.add(quiz(base.plusSeconds(i)));
+        }
+        List<Quiz> secondPage = List.of(quiz(base.plusSeconds(100)));
+        List<Quiz> all = new ArrayList<>(firstPage);
+        all.addAll(secondPage);
+
+        when(exportRepository.findExportPage(any(), eq(100))).thenReturn(firstPage, secondPage);
+        // Relation fetch returns rows in an arbitrary order; the service must restore keyset order
+        when(exportRepository.findAllByIdsWithCategoryTagsQuestions(anyList())).thenAnswer(inv -> {
+            List<UUID> ids = inv.getArgument(0);
+            List<Quiz> loaded = new ArrayList<>(all.stream().filter(q -> ids.contains(q.getId())).toList());
+            Collections.reverse(loaded);
+            return loaded;
+        });
+        when(assembler.toExportDtos(anyList(), any(Random.class))).thenAnswer(inv -> {
+            List<Quiz> quizzes = inv.getArgument(0);
+            return quizzes.stream().map(QuizExportServiceImplTest::dto).toList();
+        });
+        when(mockRenderer.supports(ExportFormat.JSON_EDITABLE)).thenReturn(true);
+
+        List<UUID> rendered = new ArrayList<>();
+        doAnswer(inv -> {
+            StreamingExportPayload payload = inv.getArgument(0);
+            payload.quizzes().forEach(dto -> rendered.add(dto.id()));
+            OutputStream out = inv.getArgument(1);
+            out.write('x');
+            return null;
+        }).when(mockRenderer).renderTo(any(StreamingExportPayload.class), any(OutputStream.class));
+
+        QuizExportFilter filter = new QuizExportFilter(null, null, null, null, "public", null, null);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        service.streamExport(filter, ExportFormat.JSON_EDITABLE, PrintOptions.defaults(), output, null);
+
+        // Then
+        assertThat(rendered).containsExactlyElementsOf(all.stream().map(Quiz::getId).toList());
+        assertThat(output.toByteArray()).hasSize(1);
+        verify(exportRepository, times(2)).findExportPage(any(), eq(100));
+        verify(exportRepository, never()).findAll(any(org.springframework.data.jpa.domain.Specification.class));
+        verify(mockRenderer, never()).render(any());
+        verify(entityManager, times(2)).clear();
+    }
+
+    private static Quiz quiz(Instant createdAt) {
+        Quiz quiz = new Quiz();
+        quiz.setId(UUID.randomUUID());
+        quiz.setCreatedAt(createdAt);
+        return quiz;
+    }
+
+    private static QuizExportDto dto(Quiz quiz) {
+        return new QuizExportDto(quiz.getId(), null, null, null, null, null, List.of(), null, null,
+                List.of(), quiz.getCreatedAt(), null);
+    }
+
     private ExportFile createMockExportFile() {
         return new ExportFile(
                 "test.pdf",
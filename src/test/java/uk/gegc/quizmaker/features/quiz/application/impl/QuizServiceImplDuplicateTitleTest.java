@@ -9,6 +9,7 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.features.category.domain.repository.CategoryRepository;
 import uk.gegc.quizmaker.features.quiz.application.generation.impl.QuizAssemblyServiceImpl;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
@@ -42,6 +43,9 @@ class QuizServiceImplDuplicateTitleTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private QuizAssemblyServiceImpl assemblyService;
 
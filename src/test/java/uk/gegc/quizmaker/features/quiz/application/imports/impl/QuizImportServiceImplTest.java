@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -106,6 +107,8 @@ class QuizImportServiceImplTest extends BaseUnitTest {
     QuizHashCalculator quizHashCalculator;
     @Mock
     QuizMapper quizMapper;
+    @Mock
+    ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     QuizImportServiceImpl service;
@@ -0,0 +1,144 @@
+package uk.gegc.quizmaker.features.quiz.application.query.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
+import uk.gegc.quizmaker.features.quiz.api.dto.QuizDto;
+import uk.gegc.quizmaker.features.quiz.config.PublicQuizCacheProperties;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
+import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
+import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Public quiz cache")
+class PublicQuizCacheTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-06-01T10:00:00Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PublicQuizCacheProperties properties = new PublicQuizCacheProperties();
+    private final Pageable firstPage = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private PublicQuizCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties.setTtlMillis(30_000);
+        properties.setMaxPages(2);
+        cache = new PublicQuizCache(properties, clock, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Serves stored pages and details until the TTL passes, and reports the hit ratio")
+    void servesEntriesWithinTtl() {
+        QuizDto quiz = quiz(Visibility.PUBLIC, QuizStatus.PUBLISHED);
+        Page<QuizDto> page = new PageImpl<>(List.of(quiz), firstPage, 1);
+        cache.putPage(firstPage, page, cache.generation());
+        cache.putDetail(quiz, cache.generation());
+
+        assertThat(cache.getPage(firstPage)).containsSame(page);
+        assertThat(cache.getPage(PageRequest.of(1, 20, firstPage.getSort()))).isEmpty();
+        assertThat(cache.getDetail(quiz.id())).containsSame(quiz);
+
+        now.set(now.get().plus(Duration.ofSeconds(31)));
+        assertThat(cache.getPage(firstPage)).isEmpty();
+
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("quiz.public.cache.operations")
+                .tag("cache", "page").tag("outcome", "miss").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("quiz.public.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("A catalogue change retires every page and the changed quiz's detail")
+    void catalogueChangeInvalidates() {
+        QuizDto changed = quiz(Visibility.PUBLIC, QuizStatus.PUBLISHED);
+        QuizDto untouched = quiz(Visibility.PUBLIC, QuizStatus.PUBLISHED);
+        cache.putPage(firstPage, new PageImpl<>(List.of(changed, untouched)), cache.generation());
+        cache.putDetail(changed, cache.generation());
+        cache.putDetail(untouched, cache.generation());
+
+        cache.onQuizCatalogueChanged(QuizCatalogueChangedEvent.forQuiz(this, changed.id()));
+
+        assertThat(cache.getPage(firstPage)).isEmpty();
+        assertThat(cache.getDetail(changed.id())).isEmpty();
+        assertThat(cache.getDetail(untouched.id())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Results loaded before a change are not cached after it")
+    void racingLoadIsDropped() {
+        long observed = cache.generation();
+        cache.invalidate(List.of());
+
+        cache.putPage(firstPage, Page.empty(), observed);
+
+        assertThat(cache.getPage(firstPage)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Only public, published quizzes are cached, and pages are bounded")
+    void cachesOnlyPublicDetailsAndBoundsPages() {
+        QuizDto privateQuiz = quiz(Visibility.PRIVATE, QuizStatus.PUBLISHED);
+        QuizDto draft = quiz(Visibility.PUBLIC, QuizStatus.DRAFT);
+        cache.putDetail(privateQuiz, cache.generation());
+        cache.putDetail(draft, cache.generation());
+
+        for (int page = 0; page < 3; page++) {
+            cache.putPage(PageRequest.of(page, 20), Page.empty(), cache.generation());
+        }
+
+        assertThat(cache.getDetail(privateQuiz.id())).isEmpty();
+        assertThat(cache.getDetail(draft.id())).isEmpty();
+        assertThat(cache.getPage(PageRequest.of(0, 20))).isEmpty();
+        assertThat(cache.getPage(PageRequest.of(2, 20))).isPresent();
+    }
+
+    @Test
+    @DisplayName("A disabled cache never serves entries")
+    void disabledCacheIsBypassed() {
+        properties.setEnabled(false);
+        QuizDto quiz = quiz(Visibility.PUBLIC, QuizStatus.PUBLISHED);
+
+        cache.putDetail(quiz, cache.generation());
+
+        assertThat(cache.getDetail(quiz.id())).isEmpty();
+    }
+
+    private static QuizDto quiz(Visibility visibility, QuizStatus status) {
+        return new QuizDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Title", "Description",
+                visibility, Difficulty.EASY, status, 10, false, false, 5, List.of(), 3,
+                Instant.parse("2026-05-01T10:00:00Z"), Instant.parse("2026-05-02T10:00:00Z"));
+    }
+}
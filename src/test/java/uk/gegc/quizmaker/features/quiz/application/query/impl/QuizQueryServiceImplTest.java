@@ -6,22 +6,32 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
+import uk.gegc.quizmaker.features.category.domain.repository.CategoryRepository;
+import uk.gegc.quizmaker.features.quiz.api.dto.QuizCursorPageResponse;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizDto;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizGenerationStatus;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizSearchCriteria;
 import uk.gegc.quizmaker.features.quiz.application.QuizGenerationJobService;
 import uk.gegc.quizmaker.features.quiz.application.generation.GenerationCoverageSnapshot;
 import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCoverageService;
+import uk.gegc.quizmaker.features.quiz.config.QuizSearchProperties;
 import uk.gegc.quizmaker.features.quiz.domain.model.*;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchCursor;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchHit;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchRepository;
+import uk.gegc.quizmaker.features.tag.domain.repository.TagRepository;
 import uk.gegc.quizmaker.features.quiz.infra.mapping.QuizMapper;
 import uk.gegc.quizmaker.features.user.domain.model.PermissionName;
 import uk.gegc.quizmaker.features.user.domain.model.User;
@@ -33,6 +43,7 @@ import uk.gegc.quizmaker.shared.exception.ResourceNotFoundException;
 import uk.gegc.quizmaker.shared.exception.ValidationException;
 import uk.gegc.quizmaker.shared.security.AppPermissionEvaluator;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -83,6 +94,21 @@ class QuizQueryServiceImplTest {
 
     @Mock
     private QuizGenerationCoverageService generationCoverageService;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private QuizSearchRepository quizSearchRepository;
+
+    @Spy
+    private QuizSearchProperties quizSearchProperties = new QuizSearchProperties();
+
+    @Mock
+    private PublicQuizCache publicQuizCache;
     
     @Mock
     private Authentication authentication;
@@ -96,6 +122,7 @@ class QuizQueryServiceImplTest {
     private Quiz privateQuiz;
     private QuizDto quizDto;
     private Pageable pageable;
+    private Pageable newestFirst;
     
     @BeforeEach
     void setUp() {
@@ -107,6 +134,7 @@ class QuizQueryServiceImplTest {
         
         quizDto = mock(QuizDto.class);
         pageable = PageRequest.of(0, 10);
+        newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
         
         // Setup default mocks for question count queries (lenient for tests that don't use them)
         lenient().when(questionRepository.countByQuizId_Id(any(UUID.class))).thenReturn(5L);
@@ -315,6 +343,41 @@ class QuizQueryServiceImplTest {
     @DisplayName("getPublicQuizzes() Tests")
     class GetPublicQuizzesTests {
         
+        @Test
+        @DisplayName("Serves a cached page without querying and caches freshly loaded pages")
+        void usesPublicQuizCache() {
+            // Given
+            Page<QuizDto> cachedPage = new PageImpl<>(List.of(quizDto), pageable, 1);
+            when(publicQuizCache.getPage(pageable)).thenReturn(Optional.of(cachedPage)).thenReturn(Optional.empty());
+            when(publicQuizCache.generation()).thenReturn(7L);
+            when(quizRepository.findAllByVisibilityAndStatus(Visibility.PUBLIC, QuizStatus.PUBLISHED, pageable))
+                .thenReturn(new PageImpl<>(List.of(publicQuiz)));
+            when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
+
+            // When
+            Page<QuizDto> hit = queryService.getPublicQuizzes(pageable);
+            Page<QuizDto> loaded = queryService.getPublicQuizzes(pageable);
+
+            // Then
+            assertThat(hit).isSameAs(cachedPage);
+            verify(quizRepository, times(1)).findAllByVisibilityAndStatus(Visibility.PUBLIC, QuizStatus.PUBLISHED, pageable);
+            verify(publicQuizCache).putPage(pageable, loaded, 7L);
+        }
+
+        @Test
+        @DisplayName("A cached quiz detail is returned without loading the quiz or the caller")
+        void cachedDetail_skipsLookups() {
+            // Given
+            when(publicQuizCache.getDetail(publicQuiz.getId())).thenReturn(Optional.of(quizDto));
+
+            // When
+            QuizDto result = queryService.getQuizById(publicQuiz.getId(), authentication);
+
+            // Then
+            assertThat(result).isSameAs(quizDto);
+            verifyNoInteractions(quizRepository, questionRepository, userRepository);
+        }
+
         @Test
         @DisplayName("Returns only public published quizzes")
         void returnsOnlyPublicPublishedQuizzes() {
@@ -455,7 +518,7 @@ class QuizQueryServiceImplTest {
             QuizSearchCriteria criteria = new QuizSearchCriteria(null, null, null, null, null);
             Page<Quiz> quizPage = new PageImpl<>(List.of(publicQuiz));
             
-            when(quizRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(quizPage);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(quizPage);
                     when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
             
             // When
@@ -476,7 +539,7 @@ class QuizQueryServiceImplTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("testuser");
             when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-            when(quizRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(quizPage);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(quizPage);
                     when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
             
             // When
@@ -493,7 +556,7 @@ class QuizQueryServiceImplTest {
             QuizSearchCriteria criteria = new QuizSearchCriteria(null, null, null, null, null);
             Page<Quiz> quizPage = new PageImpl<>(List.of(publicQuiz));
             
-            when(quizRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(quizPage);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(quizPage);
                     when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
             
             // When
@@ -518,7 +581,7 @@ class QuizQueryServiceImplTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("testuser");
             when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-            when(quizRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(quizPage);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(quizPage);
                     when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
             
             // When
@@ -552,7 +615,7 @@ class QuizQueryServiceImplTest {
             when(authentication.getName()).thenReturn("test@example.com");
             when(userRepository.findByUsername("test@example.com")).thenReturn(Optional.empty());
             when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
-            when(quizRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(quizPage);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(quizPage);
                     when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
             
             // When
@@ -573,7 +636,7 @@ class QuizQueryServiceImplTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("testuser");
             when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
-            when(quizRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(quizPage);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(quizPage);
                     when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
             
             // When
@@ -599,7 +662,7 @@ class QuizQueryServiceImplTest {
             when(authentication.getName()).thenReturn("moderator");
             when(userRepository.findByUsername("moderator")).thenReturn(Optional.of(moderatorUser));
             when(appPermissionEvaluator.hasPermission(moderatorUser, PermissionName.QUIZ_MODERATE)).thenReturn(true);
-            when(quizRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(quizPage);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(quizPage);
                     when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
             
             // When
@@ -622,7 +685,7 @@ class QuizQueryServiceImplTest {
             when(userRepository.findByUsername("moderator")).thenReturn(Optional.of(moderatorUser));
             when(appPermissionEvaluator.hasPermission(moderatorUser, PermissionName.QUIZ_MODERATE)).thenReturn(false);
             when(appPermissionEvaluator.hasPermission(moderatorUser, PermissionName.QUIZ_ADMIN)).thenReturn(true);
-            when(quizRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(quizPage);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(quizPage);
                     when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
             
             // When
@@ -673,7 +736,7 @@ class QuizQueryServiceImplTest {
             when(authentication.getName()).thenReturn("moderator");
             when(userRepository.findByUsername("moderator")).thenReturn(Optional.of(moderatorUser));
             when(appPermissionEvaluator.hasPermission(moderatorUser, PermissionName.QUIZ_MODERATE)).thenReturn(true);
-            when(quizRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(quizPage);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(quizPage);
                     when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
             
             // When
@@ -684,6 +747,158 @@ class QuizQueryServiceImplTest {
         }
     }
     
+    @Nested
+    @DisplayName("getQuizzes() and searchQuizzes() search Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Search text is ranked by relevance and only the page's quizzes are loaded")
+        void searchText_rankedByRelevance() {
+            // Given
+            QuizSearchCriteria criteria = new QuizSearchCriteria(null, null, null, "Java basics", null);
+            when(quizRepository.count(any(Specification.class))).thenReturn(2L);
+            when(quizSearchRepository.findHits(any(Specification.class), eq("+java* +basics*"), isNull(), eq(0L), eq(10)))
+                    .thenReturn(List.of(hit(privateQuiz, 2.5), hit(publicQuiz, 1.0)));
+            when(quizRepository.findByIdIn(any())).thenReturn(List.of(publicQuiz, privateQuiz));
+            when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
+
+            // When
+            Page<QuizDto> result = queryService.getQuizzes(pageable, criteria, "public", null);
+
+            // Then: hit order is kept even though the entities came back in another order
+            assertThat(result.getTotalElements()).isEqualTo(2);
+            var order = inOrder(quizMapper);
+            order.verify(quizMapper).toDto(eq(privateQuiz), anyInt());
+            order.verify(quizMapper).toDto(eq(publicQuiz), anyInt());
+            verify(quizRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("An explicit sort on createdAt is honoured even with search text")
+        void searchTextWithExplicitSort_skipsRanking() {
+            // Given
+            QuizSearchCriteria criteria = new QuizSearchCriteria(null, null, null, "Java basics", null);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(new PageImpl<>(List.of(publicQuiz)));
+            when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
+
+            // When
+            Page<QuizDto> result = queryService.getQuizzes(newestFirst, criteria, "public", null);
+
+            // Then
+            assertThat(result.getContent()).hasSize(1);
+            verifyNoInteractions(quizSearchRepository);
+        }
+
+        @Test
+        @DisplayName("Search text falls back to substring matching when full-text search is disabled")
+        void fullTextDisabled_fallsBackToFindAll() {
+            // Given
+            quizSearchProperties.setFullTextEnabled(false);
+            QuizSearchCriteria criteria = new QuizSearchCriteria(null, null, null, "Java", null);
+            when(quizRepository.findAll(any(Specification.class), eq(newestFirst))).thenReturn(new PageImpl<>(List.of(publicQuiz)));
+            when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
+
+            // When
+            Page<QuizDto> result = queryService.getQuizzes(pageable, criteria, "public", null);
+
+            // Then
+            assertThat(result.getContent()).hasSize(1);
+            verifyNoInteractions(quizSearchRepository);
+        }
+
+        @Test
+        @DisplayName("A sort on relevance without search text falls back to newest first")
+        void relevanceSortWithoutSearch_sortsByNewest() {
+            // Given
+            QuizSearchCriteria criteria = new QuizSearchCriteria(null, null, null, null, null);
+            Pageable byRelevance = PageRequest.of(1, 10, Sort.by("relevance"));
+            when(quizRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+
+            // When
+            queryService.getQuizzes(byRelevance, criteria, "public", null);
+
+            // Then
+            ArgumentCaptor<Pageable> used = ArgumentCaptor.forClass(Pageable.class);
+            verify(quizRepository).findAll(any(Specification.class), used.capture());
+            assertThat(used.getValue().getPageNumber()).isEqualTo(1);
+            assertThat(used.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "createdAt"));
+        }
+
+        @Test
+        @DisplayName("Unknown category names short-circuit to an empty page without querying quizzes")
+        void unknownCategory_returnsEmptyPage() {
+            // Given
+            QuizSearchCriteria criteria = new QuizSearchCriteria(List.of("Nope"), null, null, null, null);
+            when(categoryRepository.findIdsByNameInIgnoreCase(List.of("nope"))).thenReturn(List.of());
+
+            // When
+            Page<QuizDto> result = queryService.getQuizzes(pageable, criteria, "public", null);
+
+            // Then
+            assertThat(result).isEmpty();
+            verify(quizRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Cursor search fetches one extra hit and returns a cursor after the last quiz")
+        void cursorSearch_returnsNextCursor() {
+            // Given
+            QuizSearchCriteria criteria = new QuizSearchCriteria(null, null, null, "algebra", null);
+            QuizSearchHit first = hit(publicQuiz, 3.0);
+            when(quizSearchRepository.findHits(any(Specification.class), eq("+algebra*"), isNull(), eq(0L), eq(2)))
+                    .thenReturn(List.of(first, hit(privateQuiz, 1.0)));
+            when(quizRepository.findByIdIn(List.of(publicQuiz.getId()))).thenReturn(List.of(publicQuiz));
+            when(quizMapper.toDto(any(Quiz.class), anyInt())).thenReturn(quizDto);
+
+            // When
+            QuizCursorPageResponse result = queryService.searchQuizzes(criteria, "public", null, 1, null);
+
+            // Then
+            assertThat(result.content()).containsExactly(quizDto);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(QuizSearchCursor.decode(result.nextCursor())).isEqualTo(first.toCursor());
+        }
+
+        @Test
+        @DisplayName("Cursor search caps the page size")
+        void cursorSearch_capsPageSize() {
+            // Given
+            quizSearchProperties.setMaxPageSize(5);
+            QuizSearchCriteria criteria = new QuizSearchCriteria(null, null, null, null, null);
+            when(quizSearchRepository.findHits(any(Specification.class), isNull(), isNull(), anyLong(), anyInt()))
+                    .thenReturn(List.of());
+
+            // When
+            QuizCursorPageResponse result = queryService.searchQuizzes(criteria, "public", null, 1000, null);
+
+            // Then
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+            verify(quizSearchRepository).findHits(any(Specification.class), isNull(), isNull(), eq(0L), eq(6));
+        }
+
+        @Test
+        @DisplayName("Cursor search rejects malformed cursors and cursors from an unranked search")
+        void cursorSearch_rejectsForeignCursors() {
+            // Given
+            QuizSearchCriteria ranked = new QuizSearchCriteria(null, null, null, "algebra", null);
+            String unrankedCursor = new QuizSearchCursor(null, Instant.now(), UUID.randomUUID()).encode();
+
+            // When / Then
+            assertThatThrownBy(() -> queryService.searchQuizzes(ranked, "public", "not-a-cursor", 10, null))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Invalid search cursor");
+            assertThatThrownBy(() -> queryService.searchQuizzes(ranked, "public", unrankedCursor, 10, null))
+                    .isInstanceOf(ValidationException.class)
+                    .hasMessage("Search cursor does not belong to this search");
+            verifyNoInteractions(quizSearchRepository);
+        }
+
+        private QuizSearchHit hit(Quiz quiz, double relevance) {
+            return new QuizSearchHit(quiz.getId(), Instant.parse("2026-05-01T10:00:00Z"), relevance);
+        }
+    }
+
     // =============== Generation Job Tests ===============
     
     @Nested
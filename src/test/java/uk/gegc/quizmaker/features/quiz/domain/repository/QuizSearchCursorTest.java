@@ -0,0 +1,54 @@
+package uk.gegc.quizmaker.features.quiz.domain.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Quiz search cursor")
+class QuizSearchCursorTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-05-01T10:15:30.123456Z");
+
+    @Test
+    @DisplayName("Ranked and unranked cursors survive an encode/decode round trip")
+    void roundTrips() {
+        QuizSearchCursor ranked = new QuizSearchCursor(0.6931471805599453, CREATED_AT, UUID.randomUUID());
+        QuizSearchCursor unranked = new QuizSearchCursor(null, CREATED_AT, UUID.randomUUID());
+
+        assertThat(QuizSearchCursor.decode(ranked.encode())).isEqualTo(ranked);
+        assertThat(QuizSearchCursor.decode(unranked.encode())).isEqualTo(unranked);
+        assertThat(ranked.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("Values not produced by encode are rejected")
+    void rejectsForeignValues() {
+        String wrongVersion = Base64.getUrlEncoder().encodeToString(
+                ("v0||" + CREATED_AT + "|" + UUID.randomUUID()).getBytes());
+
+        assertThatThrownBy(() -> QuizSearchCursor.decode("%%%"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuizSearchCursor.decode(wrongVersion))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> QuizSearchCursor.decode(
+                Base64.getUrlEncoder().encodeToString("v1|x|y|z".getBytes())))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Search text becomes a boolean-mode query of required word prefixes")
+    void buildsBooleanModeQuery() {
+        assertThat(QuizSpecifications.toBooleanModeQuery("Java basics!", 3)).isEqualTo("+java* +basics*");
+        assertThat(QuizSpecifications.toBooleanModeQuery("-spring +boot* \"boot\"", 3)).isEqualTo("+spring* +boot*");
+        assertThat(QuizSpecifications.toBooleanModeQuery("The history of Rome", 3)).isEqualTo("+history* +rome*");
+        assertThat(QuizSpecifications.toBooleanModeQuery("Économie générale", 3)).isEqualTo("+économie* +générale*");
+        assertThat(QuizSpecifications.toBooleanModeQuery("C# is it", 3)).isNull();
+        assertThat(QuizSpecifications.toBooleanModeQuery(null, 3)).isNull();
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -20,6 +21,7 @@ import uk.gegc.quizmaker.features.question.domain.model.Answer;
 import uk.gegc.quizmaker.features.question.domain.repository.QuestionRepository;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
+import uk.gegc.quizmaker.features.result.application.QuizAnalyticsDelta;
 import uk.gegc.quizmaker.features.result.application.QuizAnalyticsService;
 import uk.gegc.quizmaker.features.result.domain.model.QuizAnalyticsSnapshot;
 import uk.gegc.quizmaker.features.result.domain.repository.QuizAnalyticsSnapshotRepository;
@@ -31,10 +33,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -297,6 +301,47 @@ class QuizAnalyticsServiceImplTest {
         verifyNoInteractions(self); // No recompute
     }
 
+    @Test
+    @DisplayName("getOrComputeSnapshot: recompute takes the buffered delta so the next flush does not count it again")
+    void getOrComputeSnapshot_bufferedCompletion_countedOnce() {
+        // Given: one completion is buffered and its attempt is already committed
+        AtomicReference<QuizAnalyticsSnapshot> stored = new AtomicReference<>();
+        when(snapshotRepository.findByQuizId(quizId)).thenAnswer(inv -> Optional.ofNullable(stored.get()));
+        when(snapshotRepository.save(any(QuizAnalyticsSnapshot.class))).thenAnswer(inv -> {
+            stored.set(inv.getArgument(0));
+            return stored.get();
+        });
+        when(attemptRepository.getAttemptAggregateData(quizId))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 5.0, 5.0, 5.0}));
+        when(attemptRepository.findCompletedWithAnswersByQuizId(quizId)).thenReturn(List.of());
+        when(questionRepository.countByQuizId_Id(quizId)).thenReturn(10L);
+        when(self.recomputeSnapshot(quizId)).thenAnswer(inv -> service.recomputeSnapshot(quizId));
+        service.handleAttemptCompleted(scoredEvent(5.0, 5, 10));
+
+        // When
+        service.getOrComputeSnapshot(quizId);
+        int flushed = service.flushPendingDeltas();
+
+        // Then
+        assertThat(flushed).isZero();
+        assertThat(stored.get().getAttemptsCount()).isEqualTo(1);
+        verify(self, never()).applyDelta(any(), any());
+    }
+
+    @Test
+    @DisplayName("getOrComputeSnapshot: failed recompute keeps the buffered delta")
+    void getOrComputeSnapshot_recomputeFails_keepsDelta() {
+        // Given
+        service.handleAttemptCompleted(scoredEvent(5.0, 5, 10));
+        when(snapshotRepository.findByQuizId(quizId)).thenReturn(Optional.empty());
+        when(self.recomputeSnapshot(quizId)).thenThrow(new OptimisticLockingFailureException("Version conflict"));
+
+        // When / Then
+        assertThatThrownBy(() -> service.getOrComputeSnapshot(quizId))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(service.pendingDeltaCount()).isEqualTo(1);
+    }
+
     // ============ handleAttemptCompleted Tests ============
 
     @Test
@@ -429,102 +474,196 @@ class QuizAnalyticsServiceImplTest {
         return attempt;
     }
 
-    // ============ Event Handler Retry Tests ============
+    // ============ Incremental Update Tests ============
 
     @Test
-    @DisplayName("handleAttemptCompleted: succeeds on retry after OptimisticLockingFailureException")
-    void handleAttemptCompleted_retriesOnOptimisticLockingFailure() {
+    @DisplayName("handleAttemptCompleted: event with score is buffered, not recomputed")
+    void handleAttemptCompleted_withScore_buffersDelta() {
         // Given
-        UUID attemptId = UUID.randomUUID();
-        UUID userId = UUID.randomUUID();
-        AttemptCompletedEvent event = new AttemptCompletedEvent(this, attemptId, quizId, userId, Instant.now());
+        AttemptCompletedEvent event = scoredEvent(7.0, 7, 10);
+
+        // When
+        service.handleAttemptCompleted(event);
 
-        QuizAnalyticsService mockSelf = mock(QuizAnalyticsService.class);
-        ReflectionTestUtils.setField(service, "self", mockSelf);
+        // Then
+        assertThat(service.pendingDeltaCount()).isEqualTo(1);
+        verifyNoInteractions(self, snapshotRepository, attemptRepository);
+    }
+
+    @Test
+    @DisplayName("flushPendingDeltas: coalesces completions for the same quiz into one delta")
+    void flushPendingDeltas_coalescesPerQuiz() {
+        // Given
+        service.handleAttemptCompleted(scoredEvent(8.0, 8, 10));
+        service.handleAttemptCompleted(scoredEvent(2.0, 2, 10));
+        service.handleAttemptCompleted(scoredEvent(6.0, 6, 10));
 
-        QuizAnalyticsSnapshot snapshot = new QuizAnalyticsSnapshot();
-        snapshot.setQuizId(quizId);
+        // When
+        int flushed = service.flushPendingDeltas();
 
-        // First call fails with OptimisticLockingFailureException, second succeeds
-        when(mockSelf.recomputeSnapshot(quizId))
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        verify(self).applyDelta(quizId, new QuizAnalyticsDelta(3, 16.0, 8.0, 2.0, 2));
+        assertThat(service.pendingDeltaCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("flushPendingDeltas: optimistic locking conflict keeps the delta for the next flush")
+    void flushPendingDeltas_optimisticLockingFailure_requeues() {
+        // Given
+        service.handleAttemptCompleted(scoredEvent(5.0, 5, 10));
+        when(self.applyDelta(eq(quizId), any(QuizAnalyticsDelta.class)))
                 .thenThrow(new OptimisticLockingFailureException("Version conflict"))
-                .thenReturn(snapshot);
+                .thenReturn(new QuizAnalyticsSnapshot());
 
         // When
-        service.handleAttemptCompleted(event);
+        int first = service.flushPendingDeltas();
+        int second = service.flushPendingDeltas();
 
-        // Then - should retry and succeed on second attempt
-        verify(mockSelf, times(2)).recomputeSnapshot(quizId);
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        verify(self, times(2)).applyDelta(quizId, QuizAnalyticsDelta.of(5.0, true));
+        assertThat(service.pendingDeltaCount()).isZero();
     }
 
     @Test
-    @DisplayName("handleAttemptCompleted: succeeds on retry after DataIntegrityViolationException")
-    void handleAttemptCompleted_retriesOnDataIntegrityViolation() {
+    @DisplayName("flushPendingDeltas: unexpected error drops the delta")
+    void flushPendingDeltas_unexpectedError_dropsDelta() {
         // Given
-        UUID attemptId = UUID.randomUUID();
-        UUID userId = UUID.randomUUID();
-        AttemptCompletedEvent event = new AttemptCompletedEvent(this, attemptId, quizId, userId, Instant.now());
+        service.handleAttemptCompleted(scoredEvent(5.0, 5, 10));
+        when(self.applyDelta(eq(quizId), any(QuizAnalyticsDelta.class)))
+                .thenThrow(new DataIntegrityViolationException("Quiz deleted"));
 
-        QuizAnalyticsService mockSelf = mock(QuizAnalyticsService.class);
-        ReflectionTestUtils.setField(service, "self", mockSelf);
+        // When
+        int flushed = service.flushPendingDeltas();
 
-        QuizAnalyticsSnapshot snapshot = new QuizAnalyticsSnapshot();
-        snapshot.setQuizId(quizId);
+        // Then
+        assertThat(flushed).isZero();
+        assertThat(service.pendingDeltaCount()).isZero();
+    }
 
-        // First call fails with DataIntegrityViolationException, second succeeds
-        when(mockSelf.recomputeSnapshot(quizId))
-                .thenThrow(new DataIntegrityViolationException("Duplicate key"))
-                .thenReturn(snapshot);
+    @Test
+    @DisplayName("applyDelta: folds delta into running totals and derives average and pass rate")
+    void applyDelta_existingSnapshot_updatesRunningTotals() {
+        // Given
+        QuizAnalyticsSnapshot existing = new QuizAnalyticsSnapshot();
+        existing.setQuizId(quizId);
+        existing.setAttemptsCount(2);
+        existing.setScoreSum(10.0);
+        existing.setPassingCount(1);
+        existing.setBestScore(7.0);
+        existing.setWorstScore(3.0);
+        when(snapshotRepository.findByQuizId(quizId)).thenReturn(Optional.of(existing));
+        when(snapshotRepository.save(any(QuizAnalyticsSnapshot.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When
-        service.handleAttemptCompleted(event);
+        QuizAnalyticsSnapshot result = service.applyDelta(quizId, new QuizAnalyticsDelta(2, 10.0, 9.0, 1.0, 2));
 
-        // Then - should retry and succeed on second attempt
-        verify(mockSelf, times(2)).recomputeSnapshot(quizId);
+        // Then
+        assertThat(result.getAttemptsCount()).isEqualTo(4);
+        assertThat(result.getScoreSum()).isEqualTo(20.0);
+        assertThat(result.getAverageScore()).isEqualTo(5.0);
+        assertThat(result.getPassingCount()).isEqualTo(3);
+        assertThat(result.getPassRate()).isEqualTo(75.0);
+        assertThat(result.getBestScore()).isEqualTo(9.0);
+        assertThat(result.getWorstScore()).isEqualTo(1.0);
+        verifyNoInteractions(attemptRepository);
     }
 
     @Test
-    @DisplayName("handleAttemptCompleted: gives up after max retries and logs error")
-    void handleAttemptCompleted_givesUpAfterMaxRetries() {
+    @DisplayName("applyDelta: empty snapshot takes best/worst from the delta")
+    void applyDelta_emptySnapshot_takesBoundsFromDelta() {
         // Given
-        UUID attemptId = UUID.randomUUID();
-        UUID userId = UUID.randomUUID();
-        AttemptCompletedEvent event = new AttemptCompletedEvent(this, attemptId, quizId, userId, Instant.now());
+        QuizAnalyticsSnapshot existing = new QuizAnalyticsSnapshot();
+        existing.setQuizId(quizId);
+        when(snapshotRepository.findByQuizId(quizId)).thenReturn(Optional.of(existing));
+        when(snapshotRepository.save(any(QuizAnalyticsSnapshot.class))).thenAnswer(inv -> inv.getArgument(0));
 
-        QuizAnalyticsService mockSelf = mock(QuizAnalyticsService.class);
-        ReflectionTestUtils.setField(service, "self", mockSelf);
+        // When
+        QuizAnalyticsSnapshot result = service.applyDelta(quizId, QuizAnalyticsDelta.of(4.0, false));
 
-        // Always fail with OptimisticLockingFailureException
-        doThrow(new OptimisticLockingFailureException("Version conflict"))
-                .when(mockSelf).recomputeSnapshot(quizId);
+        // Then
+        assertThat(result.getBestScore()).isEqualTo(4.0);
+        assertThat(result.getWorstScore()).isEqualTo(4.0);
+        assertThat(result.getPassRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("applyDelta: missing snapshot falls back to a full recompute")
+    void applyDelta_missingSnapshot_recomputes() {
+        // Given
+        when(snapshotRepository.findByQuizId(quizId)).thenReturn(Optional.empty());
+        when(attemptRepository.getAttemptAggregateData(quizId)).thenReturn(List.of());
+        when(attemptRepository.findCompletedWithAnswersByQuizId(quizId)).thenReturn(List.of());
+        when(questionRepository.countByQuizId_Id(quizId)).thenReturn(10L);
+        when(snapshotRepository.save(any(QuizAnalyticsSnapshot.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When
-        service.handleAttemptCompleted(event);
+        QuizAnalyticsSnapshot result = service.applyDelta(quizId, QuizAnalyticsDelta.of(4.0, false));
 
-        // Then - should retry 3 times and give up
-        verify(mockSelf, times(3)).recomputeSnapshot(quizId);
+        // Then
+        assertThat(result.getQuizId()).isEqualTo(quizId);
+        verify(attemptRepository).getAttemptAggregateData(quizId);
     }
 
     @Test
-    @DisplayName("handleAttemptCompleted: doesn't retry on unexpected exceptions")
-    void handleAttemptCompleted_noRetryOnUnexpectedException() {
+    @DisplayName("repairAllSnapshots: discards pending deltas and recomputes every snapshot")
+    void repairAllSnapshots_recomputesAll() {
         // Given
-        UUID attemptId = UUID.randomUUID();
-        UUID userId = UUID.randomUUID();
-        AttemptCompletedEvent event = new AttemptCompletedEvent(this, attemptId, quizId, userId, Instant.now());
+        UUID otherQuizId = UUID.randomUUID();
+        service.handleAttemptCompleted(scoredEvent(5.0, 5, 10));
+        when(snapshotRepository.findAllQuizIds()).thenReturn(List.of(quizId, otherQuizId));
+        when(self.recomputeSnapshot(otherQuizId)).thenThrow(new RuntimeException("DB connection failed"));
+
+        // When
+        int repaired = service.repairAllSnapshots();
 
-        QuizAnalyticsService mockSelf = mock(QuizAnalyticsService.class);
-        ReflectionTestUtils.setField(service, "self", mockSelf);
+        // Then
+        assertThat(repaired).isEqualTo(1);
+        verify(self).recomputeSnapshot(quizId);
+        assertThat(service.pendingDeltaCount()).isZero();
+    }
 
-        // Fail with unexpected exception
-        doThrow(new RuntimeException("Unexpected error"))
-                .when(mockSelf).recomputeSnapshot(quizId);
+    @Test
+    @DisplayName("repairAllSnapshots: a recomputation that loses a version race keeps the pending delta")
+    void repairAllSnapshots_optimisticLockingFailure_keepsDelta() {
+        // Given
+        service.handleAttemptCompleted(scoredEvent(5.0, 5, 10));
+        when(snapshotRepository.findAllQuizIds()).thenReturn(List.of(quizId));
+        when(self.recomputeSnapshot(quizId)).thenThrow(new OptimisticLockingFailureException("Version conflict"));
 
         // When
-        service.handleAttemptCompleted(event);
+        int repaired = service.repairAllSnapshots();
+        service.flushPendingDeltas();
 
-        // Then - should NOT retry, only 1 attempt
-        verify(mockSelf, times(1)).recomputeSnapshot(quizId);
+        // Then
+        assertThat(repaired).isZero();
+        verify(self).applyDelta(quizId, QuizAnalyticsDelta.of(5.0, true));
     }
-}
 
+    @Test
+    @DisplayName("recomputeSnapshot: loads the versioned snapshot before reading attempts")
+    void recomputeSnapshot_loadsSnapshotBeforeAttempts() {
+        // Given
+        when(snapshotRepository.findByQuizId(quizId)).thenReturn(Optional.of(new QuizAnalyticsSnapshot()));
+        when(attemptRepository.getAttemptAggregateData(quizId)).thenReturn(List.of());
+        when(attemptRepository.findCompletedWithAnswersByQuizId(quizId)).thenReturn(List.of());
+        when(questionRepository.countByQuizId_Id(quizId)).thenReturn(10L);
+        when(snapshotRepository.save(any(QuizAnalyticsSnapshot.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        service.recomputeSnapshot(quizId);
+
+        // Then
+        InOrder inOrder = inOrder(snapshotRepository, attemptRepository);
+        inOrder.verify(snapshotRepository).findByQuizId(quizId);
+        inOrder.verify(attemptRepository).getAttemptAggregateData(quizId);
+        inOrder.verify(snapshotRepository).save(any(QuizAnalyticsSnapshot.class));
+    }
+
+    private AttemptCompletedEvent scoredEvent(double totalScore, long correctCount, int totalQuestions) {
+        return new AttemptCompletedEvent(this, UUID.randomUUID(), quizId, UUID.randomUUID(), Instant.now(),
+                totalScore, correctCount, totalQuestions);
+    }
+}
@@ -6,19 +6,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import uk.gegc.quizmaker.features.category.domain.model.Category;
 import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
-import uk.gegc.quizmaker.features.quiz.api.dto.QuizSearchCriteria;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchFilter;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchHit;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchRepository;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSpecifications;
 import uk.gegc.quizmaker.features.tag.domain.model.Tag;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -31,11 +37,15 @@ import static org.assertj.core.api.Assertions.assertThat;
         "spring.jpa.hibernate.ddl-auto=none"
 })
 @org.junit.jupiter.api.Tag("db-serial") // Prevents data pollution from parallel tests
+@Import(QuizSearchRepository.class)
 class QuizRepositorySearchTest {
 
     @Autowired
     private QuizRepository quizRepository;
 
+    @Autowired
+    private QuizSearchRepository quizSearchRepository;
+
     @Autowired
     private TestEntityManager em;
 
@@ -123,52 +133,74 @@ class QuizRepositorySearchTest {
     }
 
     @Test
-    @DisplayName("filter by category names (case-insensitive)")
-    void categoryFilter_byNames() {
-        var spec = QuizSpecifications.build(new QuizSearchCriteria(List.of("science"), null, null, null, null));
+    @DisplayName("filter by resolved category ids")
+    void categoryFilter_byIds() {
+        var spec = QuizSpecifications.build(filter(Set.of(catScience.getId()), null, null, null, null));
         var result = quizRepository.findAll(spec);
         assertThat(result).extracting(Quiz::getTitle).containsExactlyInAnyOrder("Advanced Math", "Science Facts");
     }
 
     @Test
-    @DisplayName("no criteria returns all quizzes")
-    void noCriteria_returnsAll() {
-        var spec = QuizSpecifications.build(new QuizSearchCriteria(null, null, null, null, null));
+    @DisplayName("no filters returns all quizzes")
+    void noFilters_returnsAll() {
+        var spec = QuizSpecifications.build(filter(null, null, null, null, null));
         var result = quizRepository.findAll(spec);
         assertThat(result).hasSize(4);
     }
 
     @Test
-    @DisplayName("filter by tag names (any match)")
-    void tagFilter_byNames_anyMatch() {
-        var spec = QuizSpecifications.build(new QuizSearchCriteria(null, List.of("java"), null, null, null));
-        var result = quizRepository.findAll(spec);
-        assertThat(result).extracting(Quiz::getTitle).contains("Java Basics", "Mixed Bag");
+    @DisplayName("filter by tag ids (any match) returns each quiz once")
+    void tagFilter_byIds_anyMatch() {
+        var spec = QuizSpecifications.build(filter(null, Set.of(tagJava.getId()), null, null, null));
+        assertThat(quizRepository.findAll(spec)).extracting(Quiz::getTitle)
+                .containsExactlyInAnyOrder("Java Basics", "Mixed Bag");
+
+        var both = QuizSpecifications.build(filter(null, Set.of(tagJava.getId(), tagMath.getId()), null, null, null));
+        assertThat(quizRepository.findAll(both)).hasSize(4);
     }
 
     @Test
-    @DisplayName("filter by author username (case-insensitive exact)")
+    @DisplayName("filter by resolved creator ids")
     void authorFilter() {
-        var spec = QuizSpecifications.build(new QuizSearchCriteria(null, null, "ALICE", null, null));
+        var spec = QuizSpecifications.build(filter(null, null, Set.of(alice.getId()), null, null));
         var result = quizRepository.findAll(spec);
-        assertThat(result).allMatch(q -> q.getCreator().getUsername().equals("alice"));
+        assertThat(result).hasSize(2).allMatch(q -> q.getCreator().getUsername().equals("alice"));
     }
 
     @Test
-    @DisplayName("full-text search on title/description")
-    void fullTextSearch_onTitleOrDescription() {
-        var spec = QuizSpecifications.build(new QuizSearchCriteria(null, null, null, "java", null));
+    @DisplayName("substring search on title/description when full-text search is unavailable")
+    void containsText_onTitleOrDescription() {
+        var spec = QuizSpecifications.build(filter(null, null, null, null, "java"));
         var result = quizRepository.findAll(spec);
-        assertThat(result).extracting(Quiz::getTitle).contains("Java Basics", "Mixed Bag");
+        assertThat(result).extracting(Quiz::getTitle).containsExactlyInAnyOrder("Java Basics", "Mixed Bag");
     }
 
     @Test
     @DisplayName("difficulty exact match")
     void difficultyFilter() {
-        var spec = QuizSpecifications.build(new QuizSearchCriteria(null, null, null, null, Difficulty.HARD));
+        var spec = QuizSpecifications.build(filter(null, null, null, Difficulty.HARD, null));
         var result = quizRepository.findAll(spec);
         assertThat(result).extracting(Quiz::getTitle).containsExactly("Advanced Math");
     }
-}
 
+    @Test
+    @DisplayName("unranked hits page newest first by keyset without gaps or repeats")
+    void findHits_unranked_pagesByKeyset() {
+        var spec = QuizSpecifications.build(filter(null, null, null, null, null));
+
+        List<QuizSearchHit> first = quizSearchRepository.findHits(spec, null, null, 0, 3);
+        List<QuizSearchHit> second = quizSearchRepository.findHits(spec, null, first.get(2).toCursor(), 0, 3);
+
+        assertThat(first).hasSize(3).allMatch(hit -> hit.relevance() == null);
+        assertThat(second).hasSize(1);
+        List<QuizSearchHit> all = new ArrayList<>(first);
+        all.addAll(second);
+        assertThat(all).extracting(QuizSearchHit::id).doesNotHaveDuplicates().hasSize(4);
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(QuizSearchHit::createdAt).reversed());
+    }
 
+    private static QuizSearchFilter filter(Set<UUID> categoryIds, Set<UUID> tagIds, Set<UUID> creatorIds,
+                                           Difficulty difficulty, String containsText) {
+        return new QuizSearchFilter(categoryIds, tagIds, creatorIds, difficulty, null, containsText);
+    }
+}
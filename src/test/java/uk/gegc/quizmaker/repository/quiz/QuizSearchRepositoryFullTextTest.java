@@ -0,0 +1,167 @@
+package uk.gegc.quizmaker.repository.quiz;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gegc.quizmaker.features.category.domain.model.Category;
+import uk.gegc.quizmaker.features.category.domain.repository.CategoryRepository;
+import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
+import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
+import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchFilter;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchHit;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSearchRepository;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizSpecifications;
+import uk.gegc.quizmaker.features.user.domain.model.User;
+import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the ranked search against MySQL's FULLTEXT index. InnoDB only indexes committed rows, so
+ * this test commits its data instead of rolling back, and filters on its own creator so rows left
+ * by other tests do not show up.
+ */
+@Tag("db-serial")
+@DataJpaTest
+@ActiveProfiles("test-mysql")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@Import(QuizSearchRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QuizSearchRepositoryFullTextTest {
+
+    @Autowired
+    private QuizSearchRepository quizSearchRepository;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User creator;
+    private Category category;
+    private Quiz javaBasics;
+    private Quiz javaStreams;
+    private Quiz algebraDrills;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        creator = new User();
+        creator.setUsername("fulltext-" + suffix);
+        creator.setEmail("fulltext-" + suffix + "@example.com");
+        creator.setHashedPassword("pw");
+        creator.setActive(true);
+        creator.setDeleted(false);
+        creator = userRepository.save(creator);
+
+        category = new Category();
+        category.setName("Full-text " + suffix);
+        category.setDescription("Full-text search test");
+        category = categoryRepository.save(category);
+
+        javaBasics = quizRepository.save(quiz("Java Basics", "Intro to programming"));
+        javaStreams = quizRepository.save(quiz("Java Streams", "Java collectors and Java pipelines"));
+        algebraDrills = quizRepository.save(quiz("Algebra Drills", "Equations and inequalities"));
+        quizRepository.save(quiz("World Capitals", "Cities of every continent"));
+        quizRepository.save(quiz("Chemistry Basics", "Atoms and molecules"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Quiz q WHERE q.creator.id = :creatorId")
+                    .setParameter("creatorId", creator.getId())
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM Category c WHERE c.id = :id")
+                    .setParameter("id", category.getId())
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM User u WHERE u.id = :id")
+                    .setParameter("id", creator.getId())
+                    .executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("match_against keeps only matching quizzes and ranks the denser match first")
+    void findHits_rankedByRelevance() {
+        List<QuizSearchHit> hits = search("+java*", null, 10);
+
+        assertThat(hits).extracting(QuizSearchHit::id).containsExactly(javaStreams.getId(), javaBasics.getId());
+        assertThat(hits.get(0).relevance()).isGreaterThan(hits.get(1).relevance()).isGreaterThan(0.0);
+    }
+
+    @Test
+    @DisplayName("Required word prefixes match the start of indexed words")
+    void findHits_matchesWordPrefixes() {
+        assertThat(search(QuizSpecifications.toBooleanModeQuery("alg equation", 3), null, 10))
+                .extracting(QuizSearchHit::id)
+                .containsExactly(algebraDrills.getId());
+        assertThat(search("+java* +algebra*", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Ranked keyset pages continue after the cursor's relevance, date and id")
+    void findHits_rankedKeysetPages() {
+        List<QuizSearchHit> first = search("+java*", null, 1);
+        List<QuizSearchHit> second = search("+java*", first.get(0), 1);
+        List<QuizSearchHit> third = search("+java*", second.get(0), 1);
+
+        assertThat(first).extracting(QuizSearchHit::id).containsExactly(javaStreams.getId());
+        assertThat(second).extracting(QuizSearchHit::id).containsExactly(javaBasics.getId());
+        assertThat(third).isEmpty();
+    }
+
+    private List<QuizSearchHit> search(String fullTextQuery, QuizSearchHit after, int limit) {
+        QuizSearchFilter filter = new QuizSearchFilter(null, null, Set.of(creator.getId()), null, fullTextQuery, null);
+        return new TransactionTemplate(transactionManager).execute(status -> quizSearchRepository.findHits(
+                QuizSpecifications.build(filter), fullTextQuery, after != null ? after.toCursor() : null, 0, limit));
+    }
+
+    private Quiz quiz(String title, String description) {
+        Quiz quiz = new Quiz();
+        quiz.setCreator(creator);
+        quiz.setCategory(category);
+        quiz.setTitle(title);
+        quiz.setDescription(description);
+        quiz.setVisibility(Visibility.PUBLIC);
+        quiz.setDifficulty(Difficulty.MEDIUM);
+        quiz.setEstimatedTime(10);
+        quiz.setIsRepetitionEnabled(false);
+        quiz.setIsTimerEnabled(false);
+        quiz.setTimerDuration(5);
+        return quiz;
+    }
+}
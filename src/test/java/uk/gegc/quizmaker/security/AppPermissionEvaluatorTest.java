@@ -13,12 +13,16 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import uk.gegc.quizmaker.features.user.domain.model.*;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
 import uk.gegc.quizmaker.shared.security.AppPermissionEvaluator;
+import uk.gegc.quizmaker.shared.security.AuthenticatedUser;
+import uk.gegc.quizmaker.shared.security.EffectivePermissions;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -455,4 +459,43 @@ class AppPermissionEvaluatorTest {
         // Then
         assertTrue(result);
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("permission and role checks use the compiled principal without database access")
+    void authenticatedUserPrincipal_checksWithoutDatabase() {
+        // Given
+        AuthenticatedUser principal = new AuthenticatedUser(
+                testUser.getId(), "testuser", "hash", true, List.of(), EffectivePermissions.of(Set.of(testRole)));
+        when(securityContext.getAuthentication()).thenReturn(authentication);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal()).thenReturn(principal);
+
+        // When / Then
+        assertTrue(appPermissionEvaluator.hasPermission(PermissionName.QUIZ_READ));
+        assertFalse(appPermissionEvaluator.hasPermission(PermissionName.QUIZ_ADMIN));
+        assertTrue(appPermissionEvaluator.hasAnyPermission(PermissionName.QUIZ_MODERATE, PermissionName.QUIZ_READ));
+        assertFalse(appPermissionEvaluator.hasAllPermissions(PermissionName.QUIZ_READ, PermissionName.QUIZ_ADMIN));
+        assertTrue(appPermissionEvaluator.hasRole(RoleName.ROLE_USER));
+        assertFalse(appPermissionEvaluator.isSuperAdmin());
+        assertTrue(appPermissionEvaluator.isResourceOwner(testUser.getId()));
+        assertEquals(Set.of(PermissionName.QUIZ_READ.name()), appPermissionEvaluator.getCurrentUserPermissions());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("EffectivePermissions ignores names without an enum constant in checks but keeps them in views")
+    void effectivePermissions_unknownNames() {
+        // Given
+        Permission legacy = Permission.builder().permissionId(2L).permissionName("LEGACY_PERMISSION").build();
+        Role role = Role.builder().roleId(2L).roleName("ROLE_LEGACY").permissions(Set.of(legacy, testPermission)).build();
+
+        // When
+        EffectivePermissions effective = EffectivePermissions.of(Set.of(role));
+
+        // Then
+        assertTrue(effective.hasPermission(PermissionName.QUIZ_READ));
+        assertEquals(Set.of("LEGACY_PERMISSION", PermissionName.QUIZ_READ.name()), effective.permissionNames());
+        assertEquals(Set.of("ROLE_LEGACY"), effective.roleNames());
+        assertFalse(effective.hasRole(RoleName.ROLE_USER));
+    }
+}
@@ -12,8 +12,10 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import uk.gegc.quizmaker.features.auth.infra.security.UserDetailsServiceImpl;
 import uk.gegc.quizmaker.features.user.domain.model.Role;
+import uk.gegc.quizmaker.features.user.domain.model.RoleName;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
+import uk.gegc.quizmaker.shared.security.AuthenticatedUser;
 
 import java.util.HashSet;
 import java.util.Optional;
@@ -57,6 +59,8 @@ public class UserDetailsServiceImplTest {
                         .stream()
                         .anyMatch(authority -> authority.getAuthority().equals("ROLE_USER"))
         );
+        assertTrue(userDetails instanceof AuthenticatedUser authenticatedUser
+                && authenticatedUser.getEffectivePermissions().hasRole(RoleName.ROLE_USER));
 
         verify(userRepository).findByUsernameWithRolesAndPermissions("johndoe");
         verify(userRepository, never()).findByEmailWithRolesAndPermissions(any());
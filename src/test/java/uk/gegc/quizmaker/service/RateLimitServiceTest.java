@@ -1,11 +1,25 @@
 package uk.gegc.quizmaker.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import uk.gegc.quizmaker.shared.exception.RateLimitExceededException;
 import uk.gegc.quizmaker.shared.rate_limit.RateLimitService;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("RateLimitService Tests")
@@ -116,25 +130,197 @@ class RateLimitServiceTest {
     @DisplayName("Retry-after should be calculated correctly")
     void retryAfter_ShouldBeCalculatedCorrectly() {
         // Given
-        String operation = "test-operation";
-        String key = "test-key";
+        MutableClock clock = new MutableClock();
+        RateLimitService service = new RateLimitService(null, 100, clock);
 
-        // When - Make 5 requests to hit the limit
+        // When - Make 5 requests to empty the bucket
         for (int i = 0; i < 5; i++) {
-            rateLimitService.checkRateLimit(operation, key);
+            service.checkRateLimit("test-operation", "test-key");
         }
 
         // Then - 6th request should throw exception with retry-after
         RateLimitExceededException exception = assertThrows(RateLimitExceededException.class, () ->
-            rateLimitService.checkRateLimit(operation, key)
+            service.checkRateLimit("test-operation", "test-key")
+        );
+
+        // 5 tokens per minute refill one token every 12 seconds
+        assertEquals(12, exception.getRetryAfterSeconds());
+
+        clock.advanceMillis(11_000);
+        exception = assertThrows(RateLimitExceededException.class, () ->
+            service.checkRateLimit("test-operation", "test-key")
         );
+        assertEquals(1, exception.getRetryAfterSeconds());
+
+        clock.advanceMillis(1_000);
+        assertDoesNotThrow(() -> service.checkRateLimit("test-operation", "test-key"));
+    }
+
+    @Test
+    @DisplayName("Concurrent requests should never exceed the limit")
+    void concurrentRequests_ShouldNotExceedLimit() throws Exception {
+        // Given
+        int threads = 16;
+        int requestsPerThread = 50;
+        int limit = 100;
+        RateLimitService service = new RateLimitService(null, 100, new MutableClock());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < requestsPerThread; i++) {
+                    try {
+                        service.checkRateLimit("concurrent", "shared-key", limit);
+                        allowed.incrementAndGet();
+                    } catch (RateLimitExceededException ignored) {
+                        // expected once the limit is reached
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(limit, allowed.get());
+    }
+
+    @Test
+    @DisplayName("Limit should reset once the window has passed")
+    void limitResetsAfterWindow() {
+        // Given
+        MutableClock clock = new MutableClock();
+        RateLimitService service = new RateLimitService(null, 100, clock);
+        for (int i = 0; i < 5; i++) {
+            service.checkRateLimit("op", "key");
+        }
+        assertThrows(RateLimitExceededException.class, () -> service.checkRateLimit("op", "key"));
+
+        // When
+        clock.advanceMillis(60_000);
+
+        // Then - the bucket has refilled to its full capacity, and no further
+        for (int i = 0; i < 5; i++) {
+            assertDoesNotThrow(() -> service.checkRateLimit("op", "key"));
+        }
+        assertThrows(RateLimitExceededException.class, () -> service.checkRateLimit("op", "key"));
+    }
+
+    @Test
+    @DisplayName("Limit should not double up around a minute boundary")
+    void limitHoldsAcrossMinuteBoundary() {
+        // Given - the whole allowance is spent at the end of one minute
+        MutableClock clock = new MutableClock();
+        RateLimitService service = new RateLimitService(null, 100, clock);
+        clock.advanceMillis(59_900);
+        for (int i = 0; i < 5; i++) {
+            service.checkRateLimit("op", "key");
+        }
 
-        long retryAfter = exception.getRetryAfterSeconds();
-        assertTrue(retryAfter > 0, "Retry-after should be positive");
-        assertTrue(retryAfter <= 60, "Retry-after should not exceed 60 seconds");
-        
-        // The retry-after should be close to 60 seconds (within 5 seconds tolerance)
-        // since we just hit the limit and the window should reset in about 1 minute
-        assertTrue(retryAfter >= 55, "Retry-after should be close to 60 seconds");
+        // When - the next minute starts
+        clock.advanceMillis(200);
+
+        // Then - nothing has been refilled yet
+        assertThrows(RateLimitExceededException.class, () -> service.checkRateLimit("op", "key"));
+    }
+
+    @Test
+    @DisplayName("Background eviction should drop only fully refilled buckets")
+    void evictExpired_ShouldDropOnlyRefilledBuckets() {
+        // Given - "old" has refilled by the sweep, "recent" is still empty
+        MutableClock clock = new MutableClock();
+        RateLimitService service = new RateLimitService(null, 100, clock);
+        service.checkRateLimit("op", "old");
+        clock.advanceMillis(30_000);
+        for (int i = 0; i < 5; i++) {
+            service.checkRateLimit("op", "recent");
+        }
+        clock.advanceMillis(30_000);
+
+        // When
+        int evicted = service.evictExpired();
+
+        // Then - "recent" keeps its state and stays throttled
+        assertEquals(1, evicted);
+        for (int i = 0; i < 2; i++) {
+            assertDoesNotThrow(() -> service.checkRateLimit("op", "recent"));
+        }
+        assertThrows(RateLimitExceededException.class, () -> service.checkRateLimit("op", "recent"));
+    }
+
+    @Test
+    @DisplayName("Reaching the tracked-key cap should reject new keys and keep throttled keys throttled")
+    void trackedKeyCap_ShouldKeepThrottledKeysThrottled() {
+        // Given - "a" is exhausted, then "b" fills the table
+        MutableClock clock = new MutableClock();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RateLimitService service = new RateLimitService(registry, 2, clock);
+        service.checkRateLimit("op", "a", 1);
+        assertThrows(RateLimitExceededException.class, () -> service.checkRateLimit("op", "a", 1));
+        clock.advanceMillis(1_000);
+        service.checkRateLimit("op", "b", 1);
+
+        // When - a new key arrives at the cap
+        assertThrows(RateLimitExceededException.class, () -> service.checkRateLimit("op", "c", 1));
+
+        // Then - nothing was pushed out: the table stays at its cap and "a" is still throttled
+        assertEquals(2.0, registry.get("rate_limit.tracked_keys").gauge().value());
+        assertThrows(RateLimitExceededException.class, () -> service.checkRateLimit("op", "a", 1));
+        assertThrows(RateLimitExceededException.class, () -> service.checkRateLimit("op", "b", 1));
+
+        // Once "a" has refilled, the sweep frees its slot for the new key
+        clock.advanceMillis(59_500);
+        assertEquals(1, service.evictExpired());
+        assertDoesNotThrow(() -> service.checkRateLimit("op", "c", 1));
+    }
+
+    @Test
+    @DisplayName("Allowed and rejected requests should be counted per operation")
+    void metrics_ShouldCountAllowedAndRejected() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RateLimitService service = new RateLimitService(registry, 100, Clock.systemUTC());
+
+        // When
+        service.checkRateLimit("search", "ip", 1);
+        assertThrows(RateLimitExceededException.class, () -> service.checkRateLimit("search", "ip", 1));
+
+        // Then
+        assertEquals(1.0, registry.counter("rate_limit.allowed", "operation", "search").count());
+        assertEquals(1.0, registry.counter("rate_limit.rejected", "operation", "search").count());
+        assertEquals(1.0, registry.get("rate_limit.tracked_keys").gauge().value());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
     }
 }
@@ -6,7 +6,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.features.admin.aplication.impl.PermissionServiceImpl;
+import uk.gegc.quizmaker.features.user.domain.event.UserAuthoritiesChangedEvent;
 import uk.gegc.quizmaker.features.user.domain.model.Permission;
 import uk.gegc.quizmaker.features.user.domain.model.PermissionName;
 import uk.gegc.quizmaker.features.user.domain.model.Role;
@@ -18,6 +21,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +33,9 @@ class PermissionServiceImplTest {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PermissionServiceImpl permissionService;
 
@@ -190,6 +197,8 @@ class PermissionServiceImplTest {
         verify(roleRepository).findByIdWithPermissions(roleId);
         verify(permissionRepository).findById(permissionId);
         verify(roleRepository).save(role);
+        verify(eventPublisher).publishEvent(argThat((ApplicationEvent event) ->
+                event instanceof UserAuthoritiesChangedEvent changed && changed.affectsAllUsers()));
     }
 
     @Test
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.features.admin.api.dto.CreateRoleRequest;
 import uk.gegc.quizmaker.features.admin.api.dto.RoleDto;
 import uk.gegc.quizmaker.features.admin.api.dto.UpdateRoleRequest;
@@ -13,6 +15,7 @@ import uk.gegc.quizmaker.features.admin.aplication.PermissionService;
 import uk.gegc.quizmaker.features.admin.aplication.impl.RoleServiceImpl;
 import uk.gegc.quizmaker.features.admin.application.RolePermissionAuditService;
 import uk.gegc.quizmaker.features.admin.application.PolicyReconciliationService;
+import uk.gegc.quizmaker.features.user.domain.event.UserAuthoritiesChangedEvent;
 import uk.gegc.quizmaker.features.user.domain.model.Permission;
 import uk.gegc.quizmaker.features.user.domain.model.Role;
 import uk.gegc.quizmaker.features.user.domain.model.RoleName;
@@ -28,6 +31,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +61,9 @@ class RoleServiceImplTest {
     @Mock
     private PermissionUtil permissionUtil;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RoleServiceImpl roleService;
 
@@ -350,6 +357,8 @@ class RoleServiceImplTest {
         verify(userRepository).findByIdWithRoles(userId);
         verify(roleRepository).findById(roleId);
         verify(userRepository).save(user);
+        verify(eventPublisher).publishEvent(argThat((ApplicationEvent event) ->
+                event instanceof UserAuthoritiesChangedEvent changed && userId.equals(changed.getUserId())));
     }
 
     @Test
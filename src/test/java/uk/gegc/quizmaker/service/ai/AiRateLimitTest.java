@@ -10,6 +10,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gegc.quizmaker.features.ai.application.StructuredAiClient;
 import uk.gegc.quizmaker.features.ai.application.impl.AiQuizGenerationServiceImpl;
 import uk.gegc.quizmaker.features.billing.application.InternalBillingService;
+import uk.gegc.quizmaker.features.quiz.application.generation.QuizGenerationCheckpointService;
+import uk.gegc.quizmaker.shared.config.AiGenerationConfig;
 import uk.gegc.quizmaker.shared.config.AiRateLimitConfig;
 import uk.gegc.quizmaker.shared.testing.DirectAiProviderTaskScheduler;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -36,6 +38,9 @@ class AiRateLimitTest {
     @Mock
     private StructuredAiClient structuredAiClient;
 
+    @Mock
+    private QuizGenerationCheckpointService checkpointService;
+
     @Test
     void testIsRateLimitError_With429Error() {
         AiQuizGenerationServiceImpl aiService = createService();
@@ -164,7 +169,10 @@ class AiRateLimitTest {
                         new com.fasterxml.jackson.databind.ObjectMapper()),
                 null,
                 null,
-                DirectAiProviderTaskScheduler.INSTANCE
+                DirectAiProviderTaskScheduler.INSTANCE,
+                checkpointService,
+                null,
+                new AiGenerationConfig()
         );
     }
 }
@@ -14,6 +14,7 @@ import uk.gegc.quizmaker.features.attempt.api.dto.CurrentQuestionDto;
 import uk.gegc.quizmaker.features.attempt.api.dto.QuestionForAttemptDto;
 import uk.gegc.quizmaker.features.attempt.application.impl.AttemptServiceImpl;
 import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
+import uk.gegc.quizmaker.features.attempt.domain.model.AttemptQuestionOrder;
 import uk.gegc.quizmaker.features.attempt.domain.model.AttemptStatus;
 import uk.gegc.quizmaker.features.attempt.domain.repository.AttemptRepository;
 import uk.gegc.quizmaker.features.question.domain.model.Difficulty;
@@ -38,6 +39,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -534,4 +537,85 @@ class AttemptServiceCurrentQuestionTest {
         assertEquals(3, result.totalQuestions());
         assertEquals(AttemptStatus.IN_PROGRESS, result.attemptStatus());
     }
+
+    @Test
+    void getCurrentQuestion_WithOrderSnapshot_FetchesOnlyQuestionAtCursor() {
+        // Arrange - order frozen at start differs from the live quiz order
+        testAttempt.setQuestionOrder(AttemptQuestionOrder.encode(
+                List.of(question3.getId(), question1.getId(), question2.getId())));
+        testAttempt.setQuestionCursor(1);
+        UUID attemptId = testAttempt.getId();
+        when(attemptRepository.findFullyLoadedById(attemptId))
+                .thenReturn(Optional.of(testAttempt));
+        when(questionRepository.findById(question1.getId()))
+                .thenReturn(Optional.of(question1));
+        when(safeQuestionMapper.toSafeDto(question1))
+                .thenReturn(safeQuestionDto1);
+
+        // Act
+        CurrentQuestionDto result = attemptService.getCurrentQuestion("testuser", attemptId);
+
+        // Assert
+        assertEquals(question1.getId(), result.question().getId());
+        assertEquals(2, result.questionNumber());
+        assertEquals(3, result.totalQuestions());
+        verify(questionRepository, never()).findAllByQuizId_IdOrderById(any());
+        verify(answerRepository, never()).countByAttemptId(any());
+    }
+
+    @Test
+    void getCurrentQuestion_WithOrderSnapshot_SkipsQuestionDeletedMidAttempt() {
+        // Arrange - question3 was deleted after the attempt froze its order
+        testAttempt.setQuestionOrder(AttemptQuestionOrder.encode(
+                List.of(question3.getId(), question1.getId(), question2.getId())));
+        testAttempt.setQuestionCursor(0);
+        UUID attemptId = testAttempt.getId();
+        when(attemptRepository.findFullyLoadedById(attemptId))
+                .thenReturn(Optional.of(testAttempt));
+        when(questionRepository.findById(question3.getId()))
+                .thenReturn(Optional.empty());
+        when(questionRepository.findById(question1.getId()))
+                .thenReturn(Optional.of(question1));
+        when(safeQuestionMapper.toSafeDto(question1))
+                .thenReturn(safeQuestionDto1);
+
+        // Act
+        CurrentQuestionDto result = attemptService.getCurrentQuestion("testuser", attemptId);
+
+        // Assert
+        assertEquals(question1.getId(), result.question().getId());
+        assertEquals(2, result.questionNumber());
+        assertEquals(3, result.totalQuestions());
+    }
+
+    @Test
+    void getCurrentQuestion_WithOrderSnapshot_RemainingQuestionsDeleted_ThrowsIllegalStateException() {
+        // Arrange
+        testAttempt.setQuestionOrder(AttemptQuestionOrder.encode(
+                List.of(question1.getId(), question2.getId())));
+        testAttempt.setQuestionCursor(1);
+        UUID attemptId = testAttempt.getId();
+        when(attemptRepository.findFullyLoadedById(attemptId))
+                .thenReturn(Optional.of(testAttempt));
+        when(questionRepository.findById(question2.getId()))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () ->
+                attemptService.getCurrentQuestion("testuser", attemptId));
+    }
+
+    @Test
+    void getCurrentQuestion_WithOrderSnapshot_AllAnswered_ThrowsIllegalStateException() {
+        // Arrange
+        testAttempt.setQuestionOrder(AttemptQuestionOrder.encode(List.of(question1.getId())));
+        testAttempt.setQuestionCursor(1);
+        UUID attemptId = testAttempt.getId();
+        when(attemptRepository.findFullyLoadedById(attemptId))
+                .thenReturn(Optional.of(testAttempt));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () ->
+                attemptService.getCurrentQuestion("testuser", attemptId));
+    }
 }
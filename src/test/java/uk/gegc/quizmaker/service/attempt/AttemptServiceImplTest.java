@@ -1,5 +1,6 @@
 package uk.gegc.quizmaker.service.attempt;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,17 +14,28 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
+import uk.gegc.quizmaker.features.attempt.api.dto.AnswerSubmissionDto;
+import uk.gegc.quizmaker.features.attempt.api.dto.AnswerSubmissionRequest;
 import uk.gegc.quizmaker.features.attempt.api.dto.AttemptDto;
+import uk.gegc.quizmaker.features.attempt.api.dto.BatchAnswerSubmissionRequest;
+import uk.gegc.quizmaker.features.attempt.api.dto.QuestionForAttemptDto;
 import uk.gegc.quizmaker.features.attempt.api.dto.StartAttemptResponse;
 import uk.gegc.quizmaker.features.attempt.application.ScoringService;
 import uk.gegc.quizmaker.features.attempt.application.impl.AttemptServiceImpl;
 import uk.gegc.quizmaker.features.attempt.domain.model.Attempt;
 import uk.gegc.quizmaker.features.attempt.domain.model.AttemptMode;
+import uk.gegc.quizmaker.features.attempt.domain.model.AttemptQuestionOrder;
+import uk.gegc.quizmaker.features.attempt.domain.model.AttemptStatus;
 import uk.gegc.quizmaker.features.attempt.domain.repository.AttemptRepository;
+import uk.gegc.quizmaker.features.attempt.domain.repository.projection.QuestionAnswerStatsProjection;
 import uk.gegc.quizmaker.features.attempt.infra.mapping.AttemptMapper;
+import uk.gegc.quizmaker.features.question.domain.model.Answer;
+import uk.gegc.quizmaker.features.question.domain.model.Question;
+import uk.gegc.quizmaker.features.question.domain.model.QuestionType;
 import uk.gegc.quizmaker.features.question.domain.repository.AnswerRepository;
 import uk.gegc.quizmaker.features.question.domain.repository.QuestionRepository;
 import uk.gegc.quizmaker.features.question.infra.factory.QuestionHandlerFactory;
+import uk.gegc.quizmaker.features.question.infra.handler.QuestionHandler;
 import uk.gegc.quizmaker.features.question.infra.mapping.AnswerMapper;
 import uk.gegc.quizmaker.features.question.infra.mapping.QuestionMediaResolver;
 import uk.gegc.quizmaker.features.question.infra.mapping.SafeQuestionMapper;
@@ -32,6 +44,9 @@ import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
 import uk.gegc.quizmaker.features.result.api.dto.LeaderboardEntryDto;
+import uk.gegc.quizmaker.features.result.api.dto.QuizResultSummaryDto;
+import uk.gegc.quizmaker.features.result.application.QuizAnalyticsService;
+import uk.gegc.quizmaker.features.result.domain.model.QuizAnalyticsSnapshot;
 import uk.gegc.quizmaker.features.user.domain.model.PermissionName;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 import uk.gegc.quizmaker.features.user.domain.repository.UserRepository;
@@ -40,6 +55,7 @@ import uk.gegc.quizmaker.shared.security.AppPermissionEvaluator;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
@@ -74,6 +90,8 @@ class AttemptServiceImplTest {
     QuestionMediaResolver questionMediaResolver;
     @Mock
     AppPermissionEvaluator appPermissionEvaluator;
+    @Mock
+    QuizAnalyticsService quizAnalyticsService;
 
     @InjectMocks
     AttemptServiceImpl service;
@@ -241,4 +259,186 @@ class AttemptServiceImplTest {
         assertThat(response.timeLimitMinutes()).isEqualTo(30);
         assertThat(response.startedAt()).isNotNull();
     }
+
+    @Test
+    @DisplayName("submitBatch loads questions once and persists all answers in one saveAll")
+    void submitBatch_loadsQuestionsOnceAndSavesAll() {
+        Attempt attempt = batchAttempt();
+        Question q1 = question(QuestionType.TRUE_FALSE);
+        Question q2 = question(QuestionType.TRUE_FALSE);
+        QuestionHandler handler = mock(QuestionHandler.class);
+
+        when(attemptRepository.findFullyLoadedById(attempt.getId())).thenReturn(Optional.of(attempt));
+        when(questionRepository.findAllById(anyCollection())).thenReturn(List.of(q1, q2));
+        when(questionRepository.findIdsByQuizId(attempt.getQuiz().getId())).thenReturn(Set.of(q1.getId(), q2.getId()));
+        when(handlerFactory.getHandler(QuestionType.TRUE_FALSE)).thenReturn(handler);
+        when(handler.handle(eq(attempt), any(Question.class), any(AnswerSubmissionRequest.class)))
+                .thenAnswer(inv -> {
+                    Answer answer = new Answer();
+                    answer.setQuestion(inv.getArgument(1));
+                    return answer;
+                });
+        when(answerRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+        when(answerMapper.toDto(any(Answer.class))).thenAnswer(inv -> {
+            Answer answer = inv.getArgument(0);
+            return new AnswerSubmissionDto(null, answer.getQuestion().getId(), true, 1.0, null, null, null, null);
+        });
+
+        List<AnswerSubmissionDto> result = service.submitBatch("owner", attempt.getId(),
+                new BatchAnswerSubmissionRequest(List.of(submission(q1), submission(q2))));
+
+        assertThat(result).extracting(AnswerSubmissionDto::questionId).containsExactly(q1.getId(), q2.getId());
+        verify(questionRepository).findAllById(anyCollection());
+        verify(questionRepository, never()).findById(any());
+        verify(questionRepository, never()).existsByIdAndQuizId_Id(any(), any());
+        verify(answerRepository).saveAll(argThat(answers -> ((List<?>) answers).size() == 2));
+        verify(answerRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("submitBatch rejects a question outside the quiz before scoring anything")
+    void submitBatch_questionNotInQuiz_throwsBeforeScoring() {
+        Attempt attempt = batchAttempt();
+        Question q1 = question(QuestionType.TRUE_FALSE);
+        Question foreign = question(QuestionType.TRUE_FALSE);
+
+        when(attemptRepository.findFullyLoadedById(attempt.getId())).thenReturn(Optional.of(attempt));
+        when(questionRepository.findAllById(anyCollection())).thenReturn(List.of(q1, foreign));
+        when(questionRepository.findIdsByQuizId(attempt.getQuiz().getId())).thenReturn(Set.of(q1.getId()));
+
+        assertThatThrownBy(() -> service.submitBatch("owner", attempt.getId(),
+                new BatchAnswerSubmissionRequest(List.of(submission(q1), submission(foreign)))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("is not part of Quiz");
+        verifyNoInteractions(handlerFactory);
+        verify(answerRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("submitBatch rejects the same question twice in one batch")
+    void submitBatch_duplicateQuestion_throws() {
+        Attempt attempt = batchAttempt();
+        Question q1 = question(QuestionType.TRUE_FALSE);
+
+        when(attemptRepository.findFullyLoadedById(attempt.getId())).thenReturn(Optional.of(attempt));
+        when(questionRepository.findAllById(anyCollection())).thenReturn(List.of(q1));
+        when(questionRepository.findIdsByQuizId(attempt.getQuiz().getId())).thenReturn(Set.of(q1.getId()));
+
+        assertThatThrownBy(() -> service.submitBatch("owner", attempt.getId(),
+                new BatchAnswerSubmissionRequest(List.of(submission(q1), submission(q1)))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Already answered question");
+        verify(answerRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("submitAnswer steps over a snapshotted question deleted mid-attempt")
+    void submitAnswer_snapshotQuestionDeleted_advancesPastIt() {
+        Attempt attempt = batchAttempt();
+        attempt.setMode(AttemptMode.ONE_BY_ONE);
+        Question deleted = question(QuestionType.TRUE_FALSE);
+        Question q2 = question(QuestionType.TRUE_FALSE);
+        Question q3 = question(QuestionType.TRUE_FALSE);
+        attempt.setQuestionOrder(AttemptQuestionOrder.encode(List.of(deleted.getId(), q2.getId(), q3.getId())));
+        attempt.setQuestionCursor(0);
+        QuestionHandler handler = mock(QuestionHandler.class);
+        QuestionForAttemptDto nextDto = new QuestionForAttemptDto();
+        nextDto.setId(q3.getId());
+
+        when(attemptRepository.findFullyLoadedById(attempt.getId())).thenReturn(Optional.of(attempt));
+        when(questionRepository.findById(q2.getId())).thenReturn(Optional.of(q2));
+        when(questionRepository.existsById(deleted.getId())).thenReturn(false);
+        when(questionRepository.findById(q3.getId())).thenReturn(Optional.of(q3));
+        when(safeQuestionMapper.toSafeDto(q3)).thenReturn(nextDto);
+        when(handlerFactory.getHandler(QuestionType.TRUE_FALSE)).thenReturn(handler);
+        when(handler.handle(eq(attempt), eq(q2), any(AnswerSubmissionRequest.class))).thenReturn(new Answer());
+        when(answerRepository.save(any(Answer.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(answerMapper.toDto(any(Answer.class)))
+                .thenReturn(new AnswerSubmissionDto(null, q2.getId(), true, 1.0, null, null, null, null));
+
+        AnswerSubmissionDto result = service.submitAnswer("owner", attempt.getId(), submission(q2));
+
+        assertThat(result.questionId()).isEqualTo(q2.getId());
+        assertThat(result.nextQuestion().getId()).isEqualTo(q3.getId());
+        assertThat(attempt.getQuestionCursor()).isEqualTo(2);
+    }
+
+    private static Attempt batchAttempt() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername("owner");
+        Quiz quiz = new Quiz();
+        quiz.setId(UUID.randomUUID());
+
+        Attempt attempt = new Attempt();
+        attempt.setId(UUID.randomUUID());
+        attempt.setUser(user);
+        attempt.setQuiz(quiz);
+        attempt.setMode(AttemptMode.ALL_AT_ONCE);
+        attempt.setStatus(AttemptStatus.IN_PROGRESS);
+        return attempt;
+    }
+
+    private static Question question(QuestionType type) {
+        Question question = new Question();
+        question.setId(UUID.randomUUID());
+        question.setType(type);
+        return question;
+    }
+
+    private static AnswerSubmissionRequest submission(Question question) {
+        return new AnswerSubmissionRequest(question.getId(), JsonNodeFactory.instance.objectNode().put("answer", true),
+                null, null, null);
+    }
+
+    @Test
+    @DisplayName("getQuizResultSummary uses per-question aggregates without loading attempts")
+    void getQuizResultSummary_usesAggregateQuery() {
+        UUID quizId = UUID.randomUUID();
+        Quiz quiz = new Quiz();
+        quiz.setVisibility(Visibility.PUBLIC);
+        quiz.setStatus(QuizStatus.PUBLISHED);
+        when(quizRepository.findById(quizId)).thenReturn(Optional.of(quiz));
+
+        QuizAnalyticsSnapshot snapshot = new QuizAnalyticsSnapshot();
+        snapshot.setAttemptsCount(4);
+        when(quizAnalyticsService.getOrComputeSnapshot(quizId)).thenReturn(snapshot);
+
+        UUID answeredId = UUID.randomUUID();
+        UUID unansweredId = UUID.randomUUID();
+        when(questionRepository.findIdsByQuizIdOrderById(quizId)).thenReturn(List.of(answeredId, unansweredId));
+        when(attemptRepository.getQuestionAnswerStats(quizId)).thenReturn(List.of(stats(answeredId, 4, 3)));
+
+        QuizResultSummaryDto result = service.getQuizResultSummary(quizId, null);
+
+        assertThat(result.attemptsCount()).isEqualTo(4L);
+        assertThat(result.questionStats()).hasSize(2);
+        assertThat(result.questionStats().get(0).questionId()).isEqualTo(answeredId);
+        assertThat(result.questionStats().get(0).timesAsked()).isEqualTo(4);
+        assertThat(result.questionStats().get(0).timesCorrect()).isEqualTo(3);
+        assertThat(result.questionStats().get(0).correctRate()).isEqualTo(75.0);
+        assertThat(result.questionStats().get(1).questionId()).isEqualTo(unansweredId);
+        assertThat(result.questionStats().get(1).timesAsked()).isZero();
+        assertThat(result.questionStats().get(1).correctRate()).isZero();
+        verify(attemptRepository, never()).findCompletedWithAnswersByQuizId(any());
+    }
+
+    private static QuestionAnswerStatsProjection stats(UUID questionId, long asked, long correct) {
+        return new QuestionAnswerStatsProjection() {
+            @Override
+            public UUID getQuestionId() {
+                return questionId;
+            }
+
+            @Override
+            public Long getAskedCount() {
+                return asked;
+            }
+
+            @Override
+            public Long getCorrectCount() {
+                return correct;
+            }
+        };
+    }
 }
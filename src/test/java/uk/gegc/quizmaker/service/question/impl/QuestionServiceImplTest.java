@@ -10,6 +10,7 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -26,6 +27,7 @@ import uk.gegc.quizmaker.features.question.infra.mapping.QuestionMediaResolver;
 import uk.gegc.quizmaker.features.question.domain.repository.QuestionRepository;
 import uk.gegc.quizmaker.features.question.infra.factory.QuestionHandlerFactory;
 import uk.gegc.quizmaker.features.question.infra.handler.QuestionHandler;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
@@ -78,6 +80,8 @@ class QuestionServiceImplTest {
     private QuestionMediaResolver questionMediaResolver;
     @Mock
     private MediaAssetService mediaAssetService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private QuestionServiceImpl questionService;
@@ -200,6 +204,7 @@ class QuestionServiceImplTest {
         assertThat(id).isNotNull();
         verify(handler).validateContent(req);
         verify(questionRepository).save(any(Question.class));
+        verify(handler).answerKeyFor(argThat(q -> id.equals(q.getId())));
     }
 
     @Test
@@ -294,6 +299,8 @@ class QuestionServiceImplTest {
         questionService.deleteQuestion(DUMMY_USER, id);
 
         verify(questionRepository).delete(q);
+        verify(eventPublisher).publishEvent(argThat((QuizCatalogueChangedEvent event) ->
+                event.getQuizIds().equals(List.of(quizId))));
     }
 
     @Test
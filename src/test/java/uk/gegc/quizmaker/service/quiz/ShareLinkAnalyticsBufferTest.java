@@ -0,0 +1,112 @@
+package uk.gegc.quizmaker.service.quiz;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import uk.gegc.quizmaker.features.quiz.application.impl.ShareLinkAnalyticsBuffer;
+import uk.gegc.quizmaker.features.quiz.config.ShareLinkAnalyticsProperties;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkAnalyticsEvent;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkEventType;
+import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkAnalyticsBatchRepository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("Share link analytics buffer")
+class ShareLinkAnalyticsBufferTest {
+
+    private final ShareLinkAnalyticsBatchRepository batchRepository = mock(ShareLinkAnalyticsBatchRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ShareLinkAnalyticsProperties properties = new ShareLinkAnalyticsProperties();
+
+    private ShareLinkAnalyticsBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        properties.setBufferCapacity(5);
+        properties.setBatchSize(2);
+        buffer = new ShareLinkAnalyticsBuffer(batchRepository, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Recording only queues; a flush writes everything in batches of the configured size")
+    void flushWritesQueuedEventsInBatches() {
+        for (int i = 0; i < 5; i++) {
+            buffer.record(event());
+        }
+        verifyNoInteractions(batchRepository);
+        assertThat(meterRegistry.get("share.link.analytics.buffer.size").gauge().value()).isEqualTo(5.0);
+
+        int written = buffer.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ShareLinkAnalyticsEvent>> batches = ArgumentCaptor.forClass(List.class);
+        verify(batchRepository, times(3)).insertAll(batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(written).isEqualTo(5);
+        assertThat(outcome("flushed")).isEqualTo(5.0);
+        assertThat(meterRegistry.get("share.link.analytics.buffer.size").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("A full buffer drops new events and counts them instead of blocking")
+    void fullBufferDropsEvents() {
+        for (int i = 0; i < 7; i++) {
+            buffer.record(event());
+        }
+
+        assertThat(outcome("buffered")).isEqualTo(5.0);
+        assertThat(outcome("dropped")).isEqualTo(2.0);
+        assertThat(buffer.flush()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("A failed batch is counted and discarded without stopping the flush")
+    void failedBatchIsCountedAndDiscarded() {
+        doThrow(new IllegalStateException("database unavailable"))
+                .doNothing()
+                .when(batchRepository).insertAll(anyList());
+        for (int i = 0; i < 3; i++) {
+            buffer.record(event());
+        }
+
+        int written = buffer.flush();
+
+        assertThat(written).isEqualTo(1);
+        assertThat(outcome("failed")).isEqualTo(2.0);
+        assertThat(outcome("flushed")).isEqualTo(1.0);
+        assertThat(buffer.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("With buffering disabled each event is written on the calling thread")
+    void unbufferedWritesImmediately() {
+        properties.setBuffered(false);
+        ShareLinkAnalyticsEvent event = event();
+
+        buffer.record(event);
+
+        verify(batchRepository).insertAll(List.of(event));
+        assertThat(outcome("buffered")).isZero();
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("share.link.analytics.events").tag("outcome", outcome).counter().count();
+    }
+
+    private static ShareLinkAnalyticsEvent event() {
+        return new ShareLinkAnalyticsEvent(UUID.randomUUID(), UUID.randomUUID(), ShareLinkEventType.VIEW,
+                "hash", "agent", "2026-03-01", null, null, Instant.parse("2026-03-01T10:00:00Z"));
+    }
+}
@@ -4,27 +4,33 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gegc.quizmaker.features.quiz.api.dto.ShareLinkAnalyticsDto;
 import uk.gegc.quizmaker.features.quiz.api.dto.ShareLinkAnalyticsSummaryDto;
+import uk.gegc.quizmaker.features.quiz.application.impl.ShareLinkAnalyticsBuffer;
 import uk.gegc.quizmaker.features.quiz.application.impl.ShareLinkAnalyticsServiceImpl;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.ShareLink;
 import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkAnalytics;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkAnalyticsEvent;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkDailyEventCount;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkDailyEventCountId;
 import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkEventType;
 import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkAnalyticsRepository;
-import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkRepository;
+import uk.gegc.quizmaker.features.quiz.domain.repository.ShareLinkDailyEventCountRepository;
 import uk.gegc.quizmaker.features.user.domain.model.User;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -35,7 +41,10 @@ class ShareLinkAnalyticsServiceTest {
     private ShareLinkAnalyticsRepository analyticsRepository;
 
     @Mock
-    private ShareLinkRepository shareLinkRepository;
+    private ShareLinkDailyEventCountRepository dailyEventCountRepository;
+
+    @Mock
+    private ShareLinkAnalyticsBuffer analyticsBuffer;
 
     @InjectMocks
     private ShareLinkAnalyticsServiceImpl analyticsService;
@@ -66,35 +75,40 @@ class ShareLinkAnalyticsServiceTest {
     }
 
     @Test
-    @DisplayName("recordEvent: records analytics event successfully")
-    void recordEvent_recordsEventSuccessfully() {
-        when(shareLinkRepository.findById(shareLinkId)).thenReturn(Optional.of(shareLink));
-        when(analyticsRepository.save(any(ShareLinkAnalytics.class))).thenAnswer(inv -> inv.getArgument(0));
-
+    @DisplayName("recordEvent: queues a privacy-protected event without touching the database")
+    void recordEvent_queuesEvent() {
         analyticsService.recordEvent(shareLinkId, ShareLinkEventType.VIEW, "User-Agent", "127.0.0.1", "https://example.com", "US");
 
-        verify(analyticsRepository).save(any(ShareLinkAnalytics.class));
+        ArgumentCaptor<ShareLinkAnalyticsEvent> event = ArgumentCaptor.forClass(ShareLinkAnalyticsEvent.class);
+        verify(analyticsBuffer).record(event.capture());
+        assertThat(event.getValue().shareLinkId()).isEqualTo(shareLinkId);
+        assertThat(event.getValue().eventType()).isEqualTo(ShareLinkEventType.VIEW);
+        assertThat(event.getValue().ipHash()).hasSize(64).isNotEqualTo("127.0.0.1");
+        assertThat(event.getValue().dateBucket()).isEqualTo(LocalDate.now(ZoneOffset.UTC).toString());
+        assertThat(event.getValue().countryCode()).isEqualTo("US");
+        verifyNoInteractions(analyticsRepository);
     }
 
     @Test
-    @DisplayName("recordEvent: handles missing share link gracefully")
-    void recordEvent_handlesMissingShareLink() {
-        when(shareLinkRepository.findById(shareLinkId)).thenReturn(Optional.empty());
+    @DisplayName("recordEvent: swallows buffer failures")
+    void recordEvent_swallowsBufferFailures() {
+        doThrow(new IllegalStateException("buffer unavailable")).when(analyticsBuffer).record(any());
 
         analyticsService.recordEvent(shareLinkId, ShareLinkEventType.VIEW, "User-Agent", "127.0.0.1", null, null);
 
-        verify(analyticsRepository, never()).save(any());
+        verify(analyticsBuffer).record(any(ShareLinkAnalyticsEvent.class));
     }
 
     @Test
     @DisplayName("recordEvent: handles null values gracefully")
     void recordEvent_handlesNullValues() {
-        when(shareLinkRepository.findById(shareLinkId)).thenReturn(Optional.of(shareLink));
-        when(analyticsRepository.save(any(ShareLinkAnalytics.class))).thenAnswer(inv -> inv.getArgument(0));
-
         analyticsService.recordEvent(shareLinkId, ShareLinkEventType.VIEW, null, null, null, null);
 
-        verify(analyticsRepository).save(any(ShareLinkAnalytics.class));
+        ArgumentCaptor<ShareLinkAnalyticsEvent> event = ArgumentCaptor.forClass(ShareLinkAnalyticsEvent.class);
+        verify(analyticsBuffer).record(event.capture());
+        assertThat(event.getValue().ipHash()).isEmpty();
+        assertThat(event.getValue().userAgent()).isNull();
+        assertThat(event.getValue().referrer()).isNull();
     }
 
     @Test
@@ -127,24 +141,25 @@ class ShareLinkAnalyticsServiceTest {
     @Test
     @DisplayName("getShareLinkSummary: returns summary with correct counts")
     void getShareLinkSummary_returnsCorrectCounts() {
-        ShareLinkAnalytics analytics = createAnalyticsEvent();
-        when(analyticsRepository.findByShareLink_IdOrderByCreatedAtDesc(shareLinkId))
-                .thenReturn(List.of(analytics));
-        when(analyticsRepository.countByShareLink_IdAndEventType(shareLinkId, ShareLinkEventType.VIEW))
-                .thenReturn(1L);
-        when(analyticsRepository.countByShareLink_IdAndEventType(shareLinkId, ShareLinkEventType.ATTEMPT_START))
-                .thenReturn(0L);
-        when(analyticsRepository.countByShareLink_IdAndEventType(shareLinkId, ShareLinkEventType.CONSUMED))
-                .thenReturn(0L);
+        String today = LocalDate.now().toString();
+        String yesterday = LocalDate.now().minusDays(1).toString();
+        when(dailyEventCountRepository.findByShareLinkId(shareLinkId)).thenReturn(List.of(
+                dailyCount(yesterday, ShareLinkEventType.VIEW, 3),
+                dailyCount(today, ShareLinkEventType.VIEW, 1),
+                dailyCount(today, ShareLinkEventType.ATTEMPT_START, 2)));
+        when(analyticsRepository.countDistinctIpHashByShareLinkId(shareLinkId)).thenReturn(2L);
 
         ShareLinkAnalyticsSummaryDto result = analyticsService.getShareLinkSummary(shareLinkId);
 
         assertThat(result.shareLinkId()).isEqualTo(shareLinkId);
         assertThat(result.quizId()).isEqualTo(quizId);
-        assertThat(result.totalViews()).isEqualTo(1);
-        assertThat(result.totalAttempts()).isEqualTo(0);
+        assertThat(result.totalViews()).isEqualTo(4);
+        assertThat(result.totalAttempts()).isEqualTo(2);
         assertThat(result.totalConsumptions()).isEqualTo(0);
-        assertThat(result.uniqueVisitors()).isEqualTo(1);
+        assertThat(result.uniqueVisitors()).isEqualTo(2);
+        assertThat(result.eventCounts()).containsEntry(ShareLinkEventType.CREATED, 0L).hasSize(ShareLinkEventType.values().length);
+        assertThat(result.dailyViews()).containsOnly(entry(yesterday, 3L), entry(today, 1L));
+        verify(analyticsRepository, never()).findByShareLink_IdOrderByCreatedAtDesc(any());
     }
 
     @Test
@@ -166,18 +181,21 @@ class ShareLinkAnalyticsServiceTest {
     @Test
     @DisplayName("getQuizSummary: returns summary for quiz in date range")
     void getQuizSummary_returnsSummaryInDateRange() {
-        ShareLinkAnalytics analytics = createAnalyticsEvent();
         LocalDate startDate = LocalDate.now().minusDays(7);
         LocalDate endDate = LocalDate.now();
         
-        when(analyticsRepository.findByQuizIdAndDateRange(quizId, startDate.toString(), endDate.toString()))
-                .thenReturn(List.of(analytics));
+        when(dailyEventCountRepository.findByQuizIdAndDateRange(quizId, startDate.toString(), endDate.toString()))
+                .thenReturn(List.of(dailyCount(endDate.toString(), ShareLinkEventType.VIEW, 1)));
+        when(analyticsRepository.getUniqueVisitorCount(quizId, startDate.toString(), endDate.toString()))
+                .thenReturn(1L);
 
         ShareLinkAnalyticsSummaryDto result = analyticsService.getQuizSummary(quizId, startDate, endDate);
 
+        assertThat(result.shareLinkId()).isNull();
         assertThat(result.quizId()).isEqualTo(quizId);
         assertThat(result.totalViews()).isEqualTo(1);
         assertThat(result.uniqueVisitors()).isEqualTo(1);
+        verify(analyticsRepository, never()).findByQuizIdAndDateRange(any(), any(), any());
     }
 
     @Test
@@ -186,7 +204,7 @@ class ShareLinkAnalyticsServiceTest {
         LocalDate startDate = LocalDate.now().minusDays(7);
         LocalDate endDate = LocalDate.now();
         
-        when(analyticsRepository.findByQuizIdAndDateRange(quizId, startDate.toString(), endDate.toString()))
+        when(dailyEventCountRepository.findByQuizIdAndDateRange(quizId, startDate.toString(), endDate.toString()))
                 .thenReturn(List.of());
 
         ShareLinkAnalyticsSummaryDto result = analyticsService.getQuizSummary(quizId, startDate, endDate);
@@ -224,6 +242,11 @@ class ShareLinkAnalyticsServiceTest {
         verify(analyticsRepository).deleteEventsOlderThan(cutoffDate.toString());
     }
 
+    private ShareLinkDailyEventCount dailyCount(String dateBucket, ShareLinkEventType eventType, long count) {
+        return new ShareLinkDailyEventCount(
+                new ShareLinkDailyEventCountId(shareLinkId, dateBucket, eventType), quizId, count);
+    }
+
     private ShareLinkAnalytics createAnalyticsEvent() {
         return ShareLinkAnalytics.builder()
                 .id(UUID.randomUUID())
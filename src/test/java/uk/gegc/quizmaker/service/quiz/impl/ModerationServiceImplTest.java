@@ -11,9 +11,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gegc.quizmaker.features.quiz.api.dto.PendingReviewQuizDto;
 import uk.gegc.quizmaker.features.quiz.api.dto.QuizModerationAuditDto;
 import uk.gegc.quizmaker.features.quiz.application.impl.ModerationServiceImpl;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizModerationAudit;
 import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
@@ -54,6 +56,8 @@ class ModerationServiceImplTest {
     private AppPermissionEvaluator appPermissionEvaluator;
     @Mock
     private java.time.Clock clock;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ModerationServiceImpl moderationService;
@@ -149,6 +153,9 @@ class ModerationServiceImplTest {
         assertThat(quiz.getReviewedBy()).isEqualTo(moderator);
         assertThat(quiz.getRejectionReason()).isNull();
         verify(quizRepository).saveAndFlush(quiz);
+        // Retires the cached public detail and catalogue pages that still list the quiz
+        verify(eventPublisher).publishEvent(argThat((QuizCatalogueChangedEvent event) ->
+                event.getQuizIds().equals(List.of(quizId))));
     }
 
     @Test
@@ -9,9 +9,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gegc.quizmaker.features.quiz.api.dto.CreateShareLinkRequest;
 import uk.gegc.quizmaker.features.quiz.api.dto.CreateShareLinkResponse;
 import uk.gegc.quizmaker.features.quiz.api.dto.ShareLinkDto;
+import uk.gegc.quizmaker.features.quiz.application.impl.ShareLinkAnalyticsBuffer;
 import uk.gegc.quizmaker.features.quiz.application.impl.ShareLinkServiceImpl;
 import uk.gegc.quizmaker.features.quiz.domain.model.Quiz;
 import uk.gegc.quizmaker.features.quiz.domain.model.ShareLink;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkAnalyticsEvent;
+import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkEventType;
 import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkScope;
 import uk.gegc.quizmaker.features.quiz.domain.model.ShareLinkUsage;
 import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
@@ -50,6 +53,7 @@ class ShareLinkServiceImplTest {
     @Mock private QuizRepository quizRepository;
     @Mock private UserRepository userRepository;
     @Mock private AppPermissionEvaluator appPermissionEvaluator;
+    @Mock private ShareLinkAnalyticsBuffer analyticsBuffer;
 
     @InjectMocks private ShareLinkServiceImpl service;
 
@@ -828,6 +832,34 @@ class ShareLinkServiceImplTest {
                 .isInstanceOf(ResourceNotFoundException.class);
         verify(shareLinkRepository, never()).save(any());
     }
-}
 
+    @Test
+    @DisplayName("recordShareLinkEventById: queues a privacy-protected event instead of saving it")
+    void recordShareLinkEventById_queuesEvent() {
+        UUID linkId = UUID.randomUUID();
+        ShareLink link = new ShareLink();
+        link.setId(linkId);
+        when(shareLinkRepository.findById(linkId)).thenReturn(Optional.of(link));
+
+        service.recordShareLinkEventById(linkId, ShareLinkEventType.VIEW, "x".repeat(300), "203.0.113.7", null);
+
+        var event = forClass(ShareLinkAnalyticsEvent.class);
+        verify(analyticsBuffer).record(event.capture());
+        assertThat(event.getValue().shareLinkId()).isEqualTo(linkId);
+        assertThat(event.getValue().eventType()).isEqualTo(ShareLinkEventType.VIEW);
+        assertThat(event.getValue().userAgent()).hasSize(256);
+        assertThat(event.getValue().ipHash()).hasSize(64).doesNotContain("203.0.113.7");
+        assertThat(event.getValue().id().version()).isEqualTo(7);
+    }
 
+    @Test
+    @DisplayName("recordShareLinkEventById: unknown link throws ResourceNotFoundException and records nothing")
+    void recordShareLinkEventById_unknownLink() {
+        UUID linkId = UUID.randomUUID();
+        when(shareLinkRepository.findById(linkId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.recordShareLinkEventById(linkId, ShareLinkEventType.VIEW, null, null, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(analyticsBuffer);
+    }
+}
@@ -0,0 +1,125 @@
+package uk.gegc.quizmaker.shared.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares random (v4) and time-ordered (v7) {@code BINARY(16)} primary keys on MySQL: batch insert
+ * throughput and the size of the clustered index afterwards. Excluded from the default suite; run
+ * it on its own against the test-mysql database:
+ * <pre>
+ * ./mvnw test -Dtest=UuidPrimaryKeyInsertBenchmarkTest -Dquizmaker.benchmark.uuid-rows=500000
+ * </pre>
+ */
+@Tag("db-serial")
+@JdbcTest
+@ActiveProfiles("test-mysql")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UuidPrimaryKeyInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidPrimaryKeyInsertBenchmarkTest.class);
+
+    private static final int ROWS = Integer.getInteger("quizmaker.benchmark.uuid-rows", 200_000);
+    private static final int BATCH_SIZE = 1_000;
+    private static final String RANDOM_TABLE = "uuid_v4_insert_benchmark";
+    private static final String TIME_ORDERED_TABLE = "uuid_v7_insert_benchmark";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + RANDOM_TABLE);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TIME_ORDERED_TABLE);
+    }
+
+    @Test
+    @DisplayName("Time-ordered keys insert at least as fast and leave a denser clustered index than random keys")
+    void comparesRandomAndTimeOrderedKeys() {
+        Result random = run(RANDOM_TABLE, UUID::randomUUID);
+        Result timeOrdered = run(TIME_ORDERED_TABLE, UuidV7::generate);
+
+        log.info("UUID primary key benchmark, {} rows shaped like answers:", ROWS);
+        log.info("  v4 random:       {} rows/s, clustered index {} KiB", random.rowsPerSecond(), random.dataKib());
+        log.info("  v7 time-ordered: {} rows/s, clustered index {} KiB", timeOrdered.rowsPerSecond(), timeOrdered.dataKib());
+
+        // Appending to the right edge of the index fills pages instead of splitting them half-empty
+        assertThat(timeOrdered.dataKib()).isLessThanOrEqualTo(random.dataKib());
+    }
+
+    private Result run(String table, Supplier<UUID> ids) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+        jdbcTemplate.execute("""
+                CREATE TABLE %s (
+                  id BINARY(16) NOT NULL,
+                  attempt_id BINARY(16) NOT NULL,
+                  response JSON NOT NULL,
+                  is_correct BIT(1) NULL,
+                  answered_at DATETIME(6) NOT NULL,
+                  PRIMARY KEY (id)
+                ) ENGINE=InnoDB""".formatted(table));
+
+        byte[] attemptId = toBytes(UUID.randomUUID());
+        String insert = "INSERT INTO " + table + " (id, attempt_id, response, is_correct, answered_at) "
+                + "VALUES (?, ?, '{\"selectedOptionId\": \"a\"}', 1, NOW(6))";
+        long started = System.nanoTime();
+        for (int inserted = 0; inserted < ROWS; inserted += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < Math.min(BATCH_SIZE, ROWS - inserted); i++) {
+                batch.add(new Object[]{toBytes(ids.get()), attemptId});
+            }
+            jdbcTemplate.batchUpdate(insert, batch);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+
+        long dataBytes = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION information_schema_stats_expiry = 0");
+                statement.execute("ANALYZE TABLE " + table);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT data_length FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?")) {
+                statement.setString(1, table);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getLong(1);
+                }
+            }
+        });
+        return new Result(ROWS * 1_000_000_000L / Math.max(1, elapsedNanos), dataBytes / 1024);
+    }
+
+    private static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    private record Result(long rowsPerSecond, long dataKib) {
+    }
+}
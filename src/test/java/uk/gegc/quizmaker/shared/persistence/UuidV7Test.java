@@ -0,0 +1,59 @@
+package uk.gegc.quizmaker.shared.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UUIDv7 generation")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Sets the version and variant bits and encodes the creation millisecond")
+    void encodesVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+
+        UUID uuid = UuidV7.generate();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.epochMillis(uuid)).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Identifiers sort in creation order, even within one millisecond")
+    void identifiersAreStrictlyIncreasing() {
+        Set<UUID> seen = new HashSet<>();
+        UUID previous = UuidV7.generate();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = UuidV7.generate();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            assertThat(seen.add(next)).isTrue();
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("A clock stepping backwards never produces an earlier identifier")
+    void clockStepBackKeepsOrder() {
+        UUID current = UuidV7.generate();
+
+        UUID afterStepBack = UuidV7.generate(UuidV7.epochMillis(current) - 60_000);
+
+        assertThat(Long.compareUnsigned(afterStepBack.getMostSignificantBits(), current.getMostSignificantBits()))
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Rejects timestamps from other UUID versions")
+    void rejectsOtherVersions() {
+        assertThatThrownBy(() -> UuidV7.epochMillis(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
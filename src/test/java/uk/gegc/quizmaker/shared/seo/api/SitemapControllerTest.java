@@ -5,15 +5,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import uk.gegc.quizmaker.shared.seo.service.SitemapDocument;
 import uk.gegc.quizmaker.shared.seo.service.SitemapService;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(SitemapController.class)
@@ -21,6 +31,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("SitemapController")
 class SitemapControllerTest {
 
+    private static final String URLSET = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
+              <url>
+                <loc>http://localhost:3000/blog/sample-slug</loc>
+              </url>
+            </urlset>
+            """;
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-06-01T10:00:00Z");
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -28,49 +48,89 @@ class SitemapControllerTest {
     private SitemapService sitemapService;
 
     @Test
-    @DisplayName("GET /sitemap.xml returns XML sitemap")
+    @DisplayName("GET /sitemap.xml returns XML sitemap with validators")
     void sitemapXml_returnsUrlset() throws Exception {
-        when(sitemapService.getSitemapXml()).thenReturn("""
-                <?xml version="1.0" encoding="UTF-8"?>
-                <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
-                  <url>
-                    <loc>http://localhost:3000/blog/sample-slug</loc>
-                  </url>
-                </urlset>
-                """);
+        SitemapDocument document = document(URLSET);
+        when(sitemapService.getSitemap("sitemap.xml")).thenReturn(Optional.of(document));
 
         mockMvc.perform(get("/sitemap.xml"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_XML))
+                .andExpect(header().string(HttpHeaders.ETAG, document.eTag(false)))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, LAST_MODIFIED.toEpochMilli()))
                 .andExpect(content().string(containsString("<urlset")))
                 .andExpect(content().string(containsString("<loc>http://localhost:3000/blog/sample-slug</loc>")));
     }
 
     @Test
-    @DisplayName("GET /sitemap_articles.xml returns article sitemap")
-    void sitemapArticlesXml_returnsUrlset() throws Exception {
-        when(sitemapService.getArticleSitemapXml()).thenReturn("""
-                <?xml version="1.0" encoding="UTF-8"?>
-                <urlset xmlns="http://www.sitemaps.org/schemas/sitemap/0.9">
-                </urlset>
-                """);
-
-        mockMvc.perform(get("/sitemap_articles.xml"))
+    @DisplayName("GET /sitemap_quizzes.xml serves the gzip buffer when the client accepts gzip")
+    void sitemapXml_servesGzip() throws Exception {
+        SitemapDocument document = document(URLSET);
+        when(sitemapService.getSitemap("sitemap_quizzes.xml")).thenReturn(Optional.of(document));
+
+        mockMvc.perform(get("/sitemap_quizzes.xml").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, document.eTag(true)))
+                .andExpect(content().bytes(document.gzip()));
+    }
+
+    @Test
+    @DisplayName("Conditional requests with a matching ETag or date get 304")
+    void sitemapXml_notModified() throws Exception {
+        SitemapDocument document = document(URLSET);
+        when(sitemapService.getSitemap("sitemap_index.xml")).thenReturn(Optional.of(document));
+
+        mockMvc.perform(get("/sitemap_index.xml").header(HttpHeaders.IF_NONE_MATCH, document.eTag(false)))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/sitemap_index.xml").header(HttpHeaders.IF_MODIFIED_SINCE, "Mon, 01 Jun 2026 10:00:00 GMT"))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("GET of a split part resolves the part's file name; unknown parts are 404")
+    void sitemapPart_resolvesFileName() throws Exception {
+        when(sitemapService.getSitemap("sitemap_articles-2.xml")).thenReturn(Optional.of(document(URLSET)));
+        when(sitemapService.getSitemap("sitemap_articles-3.xml")).thenReturn(Optional.empty());
+        when(sitemapService.isRendered()).thenReturn(true);
+
+        mockMvc.perform(get("/sitemap_articles-2.xml"))
                 .andExpect(status().isOk())
-                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_XML))
                 .andExpect(content().string(containsString("<urlset")));
+        mockMvc.perform(get("/sitemap_articles-3.xml"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Before the first background render a sitemap request gets 503 with Retry-After")
+    void sitemapXml_notRenderedYet() throws Exception {
+        when(sitemapService.getSitemap("sitemap_index.xml")).thenReturn(Optional.empty());
+        when(sitemapService.isRendered()).thenReturn(false);
+
+        mockMvc.perform(get("/sitemap_index.xml"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"));
     }
 
     @Test
     @DisplayName("GET /robots.txt returns robots content")
     void robotsTxt_returnsContent() throws Exception {
-        when(sitemapService.getRobotsTxt()).thenReturn("User-agent: *\nSitemap: http://localhost:3000/sitemap.xml\n");
+        when(sitemapService.getRobotsTxt()).thenReturn("User-agent: *\nSitemap: http://localhost:3000/sitemap_index.xml\n");
 
         mockMvc.perform(get("/robots.txt"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
                 .andExpect(content().string(containsString("User-agent: *")))
                 .andExpect(content().string(containsString("Sitemap: ")))
-                .andExpect(content().string(containsString("/sitemap.xml")));
+                .andExpect(content().string(containsString("/sitemap_index.xml")));
+    }
+
+    private static SitemapDocument document(String xml) throws IOException {
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+            out.write(bytes);
+        }
+        return new SitemapDocument(bytes, gzip.toByteArray(), Integer.toHexString(xml.hashCode()), LAST_MODIFIED);
     }
 }
@@ -1,5 +1,6 @@
 package uk.gegc.quizmaker.shared.seo.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,13 +9,32 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gegc.quizmaker.features.article.api.dto.SitemapEntryDto;
 import uk.gegc.quizmaker.features.article.application.ArticleService;
+import uk.gegc.quizmaker.features.article.domain.events.ArticleCatalogueChangedEvent;
 import uk.gegc.quizmaker.features.article.domain.model.ArticleStatus;
+import uk.gegc.quizmaker.features.quiz.domain.events.QuizCatalogueChangedEvent;
+import uk.gegc.quizmaker.features.quiz.domain.model.QuizStatus;
+import uk.gegc.quizmaker.features.quiz.domain.model.Visibility;
+import uk.gegc.quizmaker.features.quiz.domain.repository.QuizRepository;
+import uk.gegc.quizmaker.features.quiz.domain.repository.projection.QuizSitemapProjection;
 import uk.gegc.quizmaker.shared.seo.config.SeoProperties;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,32 +44,54 @@ class SitemapServiceImplTest {
     @Mock
     private ArticleService articleService;
 
+    @Mock
+    private QuizRepository quizRepository;
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-06-01T10:00:00.250Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    private SeoProperties seoProperties;
     private SitemapServiceImpl sitemapService;
 
     @BeforeEach
     void setUp() {
-        SeoProperties seoProperties = new SeoProperties();
+        seoProperties = new SeoProperties();
         seoProperties.setStaticEntries(List.of(new SeoProperties.SitemapEntry("/", "weekly", 1.0)));
-        seoProperties.setSitemapPaths(List.of("/sitemap.xml"));
-        sitemapService = new SitemapServiceImpl(articleService, seoProperties, "https://www.quizzence.com/");
+        seoProperties.setSitemapPaths(List.of("/sitemap_index.xml"));
+        sitemapService = new SitemapServiceImpl(articleService, quizRepository, seoProperties, clock,
+                new SimpleMeterRegistry(), "https://www.quizzence.com/");
     }
 
     @Test
-    @DisplayName("getSitemapXml includes only static entries")
-    void getSitemapXml_includesStaticEntries() {
-        // Note: getSitemapXml() only includes static entries, not articles
-        // Articles are included in getArticleSitemapXml()
+    @DisplayName("sitemap.xml includes only static entries")
+    void staticSitemap_includesStaticEntries() {
+        sitemapService.refreshIfStale();
 
-        String xml = sitemapService.getSitemapXml();
+        String xml = xml("sitemap.xml");
 
+        assertThat(xml).contains("<urlset");
         assertThat(xml).contains("<loc>https://www.quizzence.com/</loc>");
-        // Articles should NOT be in getSitemapXml() - they're in getArticleSitemapXml()
-        assertThat(xml).doesNotContain("<loc>https://www.quizzence.com/blog/sample-slug</loc>");
+        assertThat(xml).doesNotContain("/blog/sample-slug");
     }
 
     @Test
-    @DisplayName("getArticleSitemapXml preserves absolute URLs")
-    void getArticleSitemapXml_preservesAbsoluteUrl() {
+    @DisplayName("sitemap_articles.xml preserves absolute URLs")
+    void articleSitemap_preservesAbsoluteUrl() {
         SitemapEntryDto entry = new SitemapEntryDto(
                 "https://blog.example.com/custom",
                 Instant.parse("2025-02-01T00:00:00Z"),
@@ -57,10 +99,137 @@ class SitemapServiceImplTest {
                 0.8
         );
         when(articleService.getSitemapEntries(ArticleStatus.PUBLISHED)).thenReturn(List.of(entry));
+        sitemapService.refreshIfStale();
 
-        String xml = sitemapService.getArticleSitemapXml();
+        String xml = xml("sitemap_articles.xml");
 
         assertThat(xml).contains("<loc>https://blog.example.com/custom</loc>");
+        assertThat(xml).contains("<lastmod>2025-02-01T00:00:00Z</lastmod>");
+    }
+
+    @Test
+    @DisplayName("sitemap_quizzes.xml lists public quizzes and the index lists every sitemap file")
+    void quizSitemap_listedInIndex() {
+        seoProperties.getSitemap().setIncludeQuizzes(true);
+        UUID quizId = UUID.randomUUID();
+        when(quizRepository.findSitemapEntries(Visibility.PUBLIC, QuizStatus.PUBLISHED))
+                .thenReturn(List.of(quiz(quizId)));
+        sitemapService.refreshIfStale();
+
+        String quizzes = xml("sitemap_quizzes.xml");
+        String index = xml("sitemap_index.xml");
+
+        assertThat(quizzes).contains("<loc>https://www.quizzence.com/quizzes/" + quizId + "</loc>");
+        assertThat(quizzes).contains("<priority>0.6</priority>");
+        assertThat(index).contains("<sitemapindex");
+        assertThat(index).contains(
+                "<loc>https://www.quizzence.com/sitemap.xml</loc>",
+                "<loc>https://www.quizzence.com/sitemap_articles.xml</loc>",
+                "<loc>https://www.quizzence.com/sitemap_quizzes.xml</loc>",
+                "<lastmod>2026-06-01T10:00:00Z</lastmod>");
+    }
+
+    @Test
+    @DisplayName("Quizzes are left out by default, since robots.txt disallows their pages")
+    void quizSitemap_offByDefault() {
+        sitemapService.refreshIfStale();
+
+        assertThat(sitemapService.getSitemap("sitemap_quizzes.xml")).isEmpty();
+        assertThat(xml("sitemap_index.xml")).doesNotContain("sitemap_quizzes");
+        verify(quizRepository, never()).findSitemapEntries(Visibility.PUBLIC, QuizStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("A section above the per-file limit is split into parts behind an index")
+    void largeSection_isSplit() {
+        seoProperties.getSitemap().setIncludeQuizzes(true);
+        seoProperties.getSitemap().setMaxUrlsPerFile(2);
+        UUID first = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(quizRepository.findSitemapEntries(Visibility.PUBLIC, QuizStatus.PUBLISHED))
+                .thenReturn(List.of(quiz(first), quiz(UUID.randomUUID()), quiz(third)));
+        sitemapService.refreshIfStale();
+
+        String section = xml("sitemap_quizzes.xml");
+        String index = xml("sitemap_index.xml");
+
+        assertThat(section).contains("<sitemapindex");
+        assertThat(section).contains("<loc>https://www.quizzence.com/sitemap_quizzes-1.xml</loc>",
+                "<loc>https://www.quizzence.com/sitemap_quizzes-2.xml</loc>");
+        assertThat(xml("sitemap_quizzes-1.xml")).contains(first.toString()).doesNotContain(third.toString());
+        assertThat(xml("sitemap_quizzes-2.xml")).contains(third.toString());
+        assertThat(sitemapService.getSitemap("sitemap_quizzes-3.xml")).isEmpty();
+        assertThat(index).contains("<loc>https://www.quizzence.com/sitemap_quizzes-2.xml</loc>")
+                .doesNotContain("<loc>https://www.quizzence.com/sitemap_quizzes.xml</loc>");
+    }
+
+    @Test
+    @DisplayName("Requests are served from memory; a committed change re-renders in the background")
+    void rendersOnceAndRefreshesAfterChange() {
+        sitemapService.refreshIfStale();
+        SitemapDocument first = sitemapService.getSitemap("sitemap_articles.xml").orElseThrow();
+        sitemapService.getSitemap("sitemap_index.xml");
+        sitemapService.refreshIfStale();
+        verify(articleService, times(1)).getSitemapEntries(ArticleStatus.PUBLISHED);
+
+        now.set(now.get().plus(Duration.ofMinutes(5)));
+        sitemapService.onQuizCatalogueChanged(QuizCatalogueChangedEvent.forQuiz(this, UUID.randomUUID()));
+        sitemapService.refreshIfStale();
+        verify(articleService, times(2)).getSitemapEntries(ArticleStatus.PUBLISHED);
+        assertThat(sitemapService.getSitemap("sitemap_articles.xml")).containsSame(first);
+
+        when(articleService.getSitemapEntries(ArticleStatus.PUBLISHED)).thenReturn(List.of(
+                new SitemapEntryDto("/blog/new", null, "weekly", 0.8)));
+        sitemapService.onArticleCatalogueChanged(new ArticleCatalogueChangedEvent(this));
+        sitemapService.refreshIfStale();
+
+        SitemapDocument changed = sitemapService.getSitemap("sitemap_articles.xml").orElseThrow();
+        assertThat(changed.eTag(false)).isNotEqualTo(first.eTag(false));
+        assertThat(changed.lastModified()).isEqualTo(Instant.parse("2026-06-01T10:05:00Z"));
+        assertThat(first.lastModified()).isEqualTo(Instant.parse("2026-06-01T10:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Requests never render; the first scheduled tick does, and renders are refreshed once they reach their maximum age")
+    void rendersOnFirstTickAndOnMaxAge() {
+        assertThat(sitemapService.getSitemap("sitemap.xml")).isEmpty();
+        assertThat(sitemapService.isRendered()).isFalse();
+        verify(articleService, never()).getSitemapEntries(ArticleStatus.PUBLISHED);
+
+        sitemapService.refreshIfStale();
+        sitemapService.refreshIfStale();
+        assertThat(sitemapService.isRendered()).isTrue();
+        verify(articleService, times(1)).getSitemapEntries(ArticleStatus.PUBLISHED);
+
+        now.set(now.get().plus(Duration.ofMillis(seoProperties.getSitemap().getMaxAgeMillis())));
+        sitemapService.refreshIfStale();
+
+        verify(articleService, times(2)).getSitemapEntries(ArticleStatus.PUBLISHED);
+    }
+
+    @Test
+    @DisplayName("A failed first render is retried on the next tick")
+    void failedFirstRender_isRetried() {
+        when(articleService.getSitemapEntries(ArticleStatus.PUBLISHED))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of());
+
+        sitemapService.refreshIfStale();
+        assertThat(sitemapService.isRendered()).isFalse();
+
+        sitemapService.refreshIfStale();
+        assertThat(sitemapService.getSitemap("sitemap.xml")).isPresent();
+    }
+
+    @Test
+    @DisplayName("The gzip buffer holds the same XML")
+    void gzipMatchesXml() throws IOException {
+        sitemapService.refreshIfStale();
+        SitemapDocument document = sitemapService.getSitemap("sitemap.xml").orElseThrow();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(document.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(document.xml());
+        }
     }
 
     @Test
@@ -68,6 +237,24 @@ class SitemapServiceImplTest {
     void getRobotsTxt_includesSitemap() {
         String robots = sitemapService.getRobotsTxt();
 
-        assertThat(robots).contains("Sitemap: https://www.quizzence.com/sitemap.xml");
+        assertThat(robots).contains("Sitemap: https://www.quizzence.com/sitemap_index.xml");
+    }
+
+    private String xml(String fileName) {
+        return new String(sitemapService.getSitemap(fileName).orElseThrow().xml(), StandardCharsets.UTF_8);
+    }
+
+    private static QuizSitemapProjection quiz(UUID id) {
+        return new QuizSitemapProjection() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public Instant getUpdatedAt() {
+                return Instant.parse("2026-05-01T10:00:00Z");
+            }
+        };
     }
 }
@@ -0,0 +1,14 @@
+-- The test-mysql schema comes from Hibernate, which cannot declare FULLTEXT indexes.
+-- Adds the index from V83 once the quizzes table exists, so ranked search runs against it.
+SET @add_quiz_fulltext := (
+    SELECT IF(
+        EXISTS (SELECT 1 FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = 'quizzes')
+        AND NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                        WHERE table_schema = DATABASE() AND table_name = 'quizzes'
+                          AND index_name = 'ft_quizzes_title_description'),
+        'ALTER TABLE `quizzes` ADD FULLTEXT INDEX `ft_quizzes_title_description` (`title`, `description`)',
+        'DO 0'));
+PREPARE add_quiz_fulltext FROM @add_quiz_fulltext;
+EXECUTE add_quiz_fulltext;
+DEALLOCATE PREPARE add_quiz_fulltext;